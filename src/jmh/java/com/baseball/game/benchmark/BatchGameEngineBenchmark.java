@@ -0,0 +1,97 @@
+package com.baseball.game.benchmark;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.simulation.BatchGameEngine;
+import com.baseball.game.simulation.BatchGameResult;
+import com.baseball.game.simulation.GameSimulator;
+import com.baseball.game.simulation.PlateAppearanceEngine;
+import com.baseball.game.simulation.SimulatedGame;
+import com.baseball.game.simulation.SimulationLineup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경기별 객체 엔진(GameSimulator), 구조체 배열 배치 엔진(BatchGameEngine), 타석 단위 엔진(PlateAppearanceEngine)의
+ * 경기당 처리량 비교
+ * 모든 벤치마크가 같은 대진으로 GAMES 경기를 진행하며, 점수 합계를 반환하여 결과가 제거되지 않게 합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchGameEngineBenchmark {
+
+    private static final int GAMES = 4096;
+
+    private final GameSimulator simulator = new GameSimulator();
+    private final BatchGameEngine engine = new BatchGameEngine();
+    private final PlateAppearanceEngine plateAppearanceEngine = new PlateAppearanceEngine();
+
+    private SimulationLineup home;
+    private SimulationLineup away;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        home = lineup(BenchmarkFixtures.HOME_TEAM);
+        away = lineup(BenchmarkFixtures.AWAY_TEAM);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public long perObjectEngine() {
+        long base = seed++;
+        long total = 0;
+        for (int game = 0; game < GAMES; game++) {
+            SimulatedGame result = simulator.simulate(home, away, 9, GameSimulator.seedFor(base, 0L, game));
+            total += result.getHomeScore() + result.getAwayScore();
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public long batchEngine() {
+        BatchGameResult result = engine.simulate(home, away, 9, GAMES, seed++);
+        long total = 0;
+        for (int game = 0; game < GAMES; game++) {
+            total += result.getHomeScore(game) + result.getAwayScore(game);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public long plateAppearanceEngine() {
+        long base = seed++;
+        long total = 0;
+        for (int game = 0; game < GAMES; game++) {
+            SimulatedGame result = plateAppearanceEngine.simulate(home, away, 9, GameSimulator.seedFor(base, 0L, game));
+            total += result.getHomeScore() + result.getAwayScore();
+        }
+        return total;
+    }
+
+    private static SimulationLineup lineup(String team) {
+        List<Batter> battingOrder = new ArrayList<>();
+        for (int order = 1; order <= 9; order++) {
+            battingOrder.add(BenchmarkFixtures.batter(team, order));
+        }
+        return new SimulationLineup(team, battingOrder, BenchmarkFixtures.pitcher(team));
+    }
+}
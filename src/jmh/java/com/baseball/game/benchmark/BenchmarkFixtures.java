@@ -0,0 +1,177 @@
+package com.baseball.game.benchmark;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.GameDto;
+import com.baseball.game.dto.Pitcher;
+import com.baseball.game.mapper.BatterMapper;
+import com.baseball.game.mapper.PitcherMapper;
+import com.baseball.game.util.GameLogicUtil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 벤치마크용 고정 로스터와 DB 없이 동작하는 매퍼 구현
+ * 능력치는 고정 시드로 생성하여 실행마다 같은 분포를 사용합니다.
+ */
+public final class BenchmarkFixtures {
+
+    public static final String HOME_TEAM = "HOME";
+    public static final String AWAY_TEAM = "AWAY";
+
+    private static final Map<String, Batter> BATTERS = new HashMap<>();
+    private static final Map<String, Pitcher> PITCHERS = new HashMap<>();
+
+    static {
+        java.util.Random random = new java.util.Random(42L);
+        for (String team : new String[]{HOME_TEAM, AWAY_TEAM}) {
+            for (int i = 1; i <= 9; i++) {
+                Batter batter = new Batter();
+                batter.setName(team + "-B" + i);
+                batter.setTeam(team);
+                batter.setContact(40 + random.nextInt(50));
+                batter.setPower(40 + random.nextInt(50));
+                batter.setSpeed(40 + random.nextInt(50));
+                batter.setEye(40 + random.nextInt(50));
+                batter.setBattingOrder(i);
+                BATTERS.put(batter.getName(), batter);
+            }
+            Pitcher pitcher = new Pitcher();
+            pitcher.setName(team + "-P1");
+            pitcher.setTeam(team);
+            pitcher.setControl(40 + random.nextInt(50));
+            pitcher.setSpeed(40 + random.nextInt(50));
+            pitcher.setStamina(40 + random.nextInt(50));
+            pitcher.setMovement(40 + random.nextInt(50));
+            PITCHERS.put(pitcher.getName(), pitcher);
+        }
+    }
+
+    private BenchmarkFixtures() {
+    }
+
+    public static List<String> battingOrderNames(String team) {
+        List<String> names = new ArrayList<>();
+        for (int i = 1; i <= 9; i++) {
+            names.add(team + "-B" + i);
+        }
+        return names;
+    }
+
+    public static String startingPitcherName(String team) {
+        return team + "-P1";
+    }
+
+    public static Batter batter(String team, int order) {
+        return BATTERS.get(team + "-B" + order);
+    }
+
+    public static Pitcher pitcher(String team) {
+        return PITCHERS.get(startingPitcherName(team));
+    }
+
+    /**
+     * 이름 목록 순서를 유지하는 타자 매퍼 (MyBatis/MySQL 대체)
+     */
+    public static BatterMapper batterMapper() {
+        return new BatterMapper() {
+            @Override
+            public List<Batter> findByTeam(String team) {
+                return BATTERS.values().stream().filter(b -> team.equals(b.getTeam())).collect(Collectors.toList());
+            }
+
+            @Override
+            public List<Batter> findByNames(List<String> names) {
+                return names.stream().map(BATTERS::get).filter(b -> b != null).collect(Collectors.toList());
+            }
+
+            @Override
+            public List<Batter> findByTeams(List<String> teams) {
+                return BATTERS.values().stream().filter(b -> teams.contains(b.getTeam())).collect(Collectors.toList());
+            }
+        };
+    }
+
+    public static PitcherMapper pitcherMapper() {
+        return new PitcherMapper() {
+            @Override
+            public List<Pitcher> findByTeam(String team) {
+                return PITCHERS.values().stream().filter(p -> team.equals(p.getTeam())).collect(Collectors.toList());
+            }
+
+            @Override
+            public Pitcher findByName(String name) {
+                return PITCHERS.get(name);
+            }
+
+            @Override
+            public List<Pitcher> findByNames(List<String> names) {
+                return names.stream().map(PITCHERS::get).filter(p -> p != null).collect(Collectors.toList());
+            }
+
+            @Override
+            public List<Pitcher> findByTeams(List<String> teams) {
+                return PITCHERS.values().stream().filter(p -> teams.contains(p.getTeam())).collect(Collectors.toList());
+            }
+        };
+    }
+
+    /**
+     * 종료된 게임을 같은 객체 그대로 1회 초 상태로 되돌림
+     * (서비스의 메모리 맵에 게임이 계속 쌓이지 않도록 재사용)
+     */
+    public static void restart(GameDto game) {
+        game.setInning(1);
+        game.setTop(true);
+        game.setOut(0);
+        game.setStrike(0);
+        game.setBall(0);
+        game.setHomeScore(0);
+        game.setAwayScore(0);
+        game.setGameOver(false);
+        game.setWinner(null);
+        GameLogicUtil.resetBases(game);
+        game.setCurrentPitcher(game.getHomeStartingPitcher());
+        game.setBattingOrder(game.getAwayBattingOrder());
+        game.setCurrentBatterIndex(0);
+        game.setCurrentBatter(game.getAwayBattingOrder().get(0));
+    }
+
+    /**
+     * 직렬화 벤치마크용 진행 중 게임 (5회 말, 1·3루, 풀카운트)
+     */
+    public static GameDto midGame() {
+        GameDto game = new GameDto();
+        game.setGameId("00000000-0000-0000-0000-000000000000");
+        game.setHomeTeam(HOME_TEAM);
+        game.setAwayTeam(AWAY_TEAM);
+        game.setMaxInning(9);
+        game.setInning(5);
+        game.setTop(false);
+        game.setOut(1);
+        game.setStrike(2);
+        game.setBall(3);
+        game.setHomeScore(3);
+        game.setAwayScore(4);
+        List<Batter> home = new ArrayList<>();
+        List<Batter> away = new ArrayList<>();
+        for (int i = 1; i <= 9; i++) {
+            home.add(batter(HOME_TEAM, i));
+            away.add(batter(AWAY_TEAM, i));
+        }
+        game.setHomeBattingOrder(home);
+        game.setAwayBattingOrder(away);
+        game.setHomeStartingPitcher(pitcher(HOME_TEAM));
+        game.setAwayStartingPitcher(pitcher(AWAY_TEAM));
+        game.setBattingOrder(home);
+        game.setCurrentBatterIndex(4);
+        game.setCurrentBatter(home.get(4));
+        game.setCurrentPitcher(pitcher(AWAY_TEAM));
+        GameLogicUtil.addRunnerToBase(game, 1, home.get(3));
+        GameLogicUtil.addRunnerToBase(game, 3, home.get(1));
+        return game;
+    }
+}
@@ -0,0 +1,34 @@
+package com.baseball.game.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 게임 엔진 벤치마크 실행기
+ * 모든 벤치마크를 단일 스레드와 전체 코어 수 스레드로 각각 실행하고,
+ * GC 프로파일러로 연산당 할당량(gc.alloc.rate.norm, bytes/op)을 함께 보고합니다.
+ *
+ * 사용법: BenchmarkRunner [벤치마크 정규식] (기본값: com.baseball.game.benchmark)
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : BenchmarkRunner.class.getPackage().getName();
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        for (int threads : new int[]{1, cores}) {
+            Options options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .build();
+            new Runner(options).run();
+            if (cores == 1) {
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.baseball.game.benchmark;
+
+import com.baseball.game.dto.GameCommandResponse;
+import com.baseball.game.dto.GameDto;
+import com.baseball.game.dto.PitchRequest;
+import com.baseball.game.dto.SwingRequest;
+import com.baseball.game.util.ValidationUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스윙/투구 요청 디코딩 + 응답 직렬화 경로의 요청당 할당량 비교
+ * legacy*: 기존 Map 요청/Map 응답 방식, typed*: SwingRequest/PitchRequest와 GameCommandResponse 방식
+ * BenchmarkRunner(GC 프로파일러)로 실행하면 gc.alloc.rate.norm 차이가 요청당 절감된 바이트입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CommandDecodeAllocationBenchmark {
+
+    private static final String GAME_ID = "3f2b6c1e-8d4a-4b7e-9c0f-1a2b3c4d5e6f";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ObjectReader mapReader;
+    private ObjectReader swingReader;
+    private ObjectReader pitchReader;
+    private ObjectWriter writer;
+    private byte[] swingBody;
+    private byte[] pitchBody;
+    private GameDto game;
+
+    @Setup
+    public void setUp() {
+        mapReader = objectMapper.readerFor(Map.class);
+        swingReader = objectMapper.readerFor(SwingRequest.class);
+        pitchReader = objectMapper.readerFor(PitchRequest.class);
+        writer = objectMapper.writer();
+        swingBody = "{\"swing\":true,\"timing\":0.5}".getBytes(StandardCharsets.UTF_8);
+        pitchBody = "{\"pitchType\":\"strike\"}".getBytes(StandardCharsets.UTF_8);
+        game = BenchmarkFixtures.midGame();
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public byte[] legacySwing() throws Exception {
+        if (!GAME_ID.matches("^[a-zA-Z0-9-]+$")) {
+            throw new IllegalStateException();
+        }
+        Map<String, Object> request = mapReader.readValue(swingBody);
+        Boolean swing = (Boolean) request.get("swing");
+        Double timing = null;
+        if (request.containsKey("timing")) {
+            Object timingObj = request.get("timing");
+            if (timingObj instanceof Integer) {
+                timing = ((Integer) timingObj).doubleValue();
+            } else if (timingObj instanceof Double) {
+                timing = (Double) timingObj;
+            }
+        }
+        String result = swing && timing != null ? "안타" : "스트라이크";
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("result", result);
+        response.put("game", game);
+        response.put("message", "스윙/노스윙 처리 완료: " + result);
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] typedSwing() throws Exception {
+        ValidationUtil.validateGameId(GAME_ID);
+        SwingRequest request = swingReader.readValue(swingBody);
+        if (request.validate() != null) {
+            throw new IllegalStateException();
+        }
+        String result = request.getSwing() && request.getTiming() != null ? "안타" : "스트라이크";
+        return writer.writeValueAsBytes(GameCommandResponse.ok(result, game, "스윙/노스윙 처리 완료: " + result));
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public byte[] legacyPitch() throws Exception {
+        Map<String, String> request = mapReader.readValue(pitchBody);
+        String pitchType = request.get("pitchType");
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("result", pitchType);
+        response.put("game", game);
+        response.put("message", "투구 처리 완료: " + pitchType);
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] typedPitch() throws Exception {
+        ValidationUtil.validateGameId(GAME_ID);
+        PitchRequest request = pitchReader.readValue(pitchBody);
+        if (request.validate() != null) {
+            throw new IllegalStateException();
+        }
+        String pitchType = request.getPitchType();
+        return writer.writeValueAsBytes(GameCommandResponse.ok(pitchType, game, "투구 처리 완료: " + pitchType));
+    }
+
+    @Benchmark
+    public boolean legacyGameIdValidation() {
+        return GAME_ID.matches("^[a-zA-Z0-9-]+$");
+    }
+
+    @Benchmark
+    public boolean precompiledGameIdValidation() {
+        return ValidationUtil.isValidGameIdFormat(GAME_ID);
+    }
+}
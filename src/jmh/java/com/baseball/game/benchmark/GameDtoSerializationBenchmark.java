@@ -0,0 +1,57 @@
+package com.baseball.game.benchmark;
+
+import com.baseball.game.dto.GameDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameDto Jackson 직렬화 벤치마크
+ * GameController 응답(Map 래핑)과 GameDto 단독 직렬화를 각각 측정합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameDtoSerializationBenchmark {
+
+    private ObjectWriter writer;
+    private GameDto game;
+
+    @Setup
+    public void setUp() {
+        writer = new ObjectMapper().writer();
+        game = BenchmarkFixtures.midGame();
+    }
+
+    @Benchmark
+    public byte[] serializeGame() throws JsonProcessingException {
+        return writer.writeValueAsBytes(game);
+    }
+
+    @Benchmark
+    public byte[] serializeSwingResponse() throws JsonProcessingException {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("result", "스트라이크");
+        response.put("game", game);
+        response.put("message", "스윙/노스윙 처리 완료: 스트라이크");
+        return writer.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,82 @@
+package com.baseball.game.benchmark;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.GameDto;
+import com.baseball.game.dto.Pitcher;
+import com.baseball.game.util.GameLogicUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameLogicUtil 판정 로직 단위 벤치마크
+ * 상태는 스레드별(Scope.Thread)이므로 BenchmarkRunner의 멀티스레드 실행에서도 공유 경합이 없습니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GameLogicBenchmark {
+
+    private Batter batter;
+    private Pitcher pitcher;
+    private GameDto game;
+    private Batter runner1;
+    private Batter runner2;
+
+    @Setup
+    public void setUp() {
+        batter = BenchmarkFixtures.batter(BenchmarkFixtures.HOME_TEAM, 3);
+        pitcher = BenchmarkFixtures.pitcher(BenchmarkFixtures.AWAY_TEAM);
+        game = BenchmarkFixtures.midGame();
+        runner1 = BenchmarkFixtures.batter(BenchmarkFixtures.HOME_TEAM, 1);
+        runner2 = BenchmarkFixtures.batter(BenchmarkFixtures.HOME_TEAM, 2);
+    }
+
+    @Benchmark
+    public String determinePitchResult() {
+        return GameLogicUtil.determinePitchResult(pitcher, "strike");
+    }
+
+    @Benchmark
+    public String determineHitResult() {
+        return GameLogicUtil.determineHitResult(batter, pitcher, ThreadLocalRandom.current().nextDouble());
+    }
+
+    @Benchmark
+    public String determineHitResultWithTiming() {
+        return GameLogicUtil.determineHitResultWithTiming(true, pitcher, "strike",
+                ThreadLocalRandom.current().nextDouble(), batter);
+    }
+
+    @Benchmark
+    public String determineHitResultWithTimingOnBall() {
+        return GameLogicUtil.determineHitResultWithTiming(true, pitcher, "ball",
+                ThreadLocalRandom.current().nextDouble(), batter);
+    }
+
+    /**
+     * 1·2루 주자를 다시 배치한 뒤 1베이스 진루 (배치 비용 포함)
+     */
+    @Benchmark
+    public int advanceRunners() {
+        Batter[] bases = game.getBases();
+        bases[1] = runner1;
+        bases[2] = runner2;
+        bases[3] = null;
+        GameLogicUtil.advanceRunners(game, 1);
+        return game.getHomeScore();
+    }
+}
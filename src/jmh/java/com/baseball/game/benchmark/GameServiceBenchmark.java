@@ -0,0 +1,86 @@
+package com.baseball.game.benchmark;
+
+import com.baseball.game.dto.GameDto;
+import com.baseball.game.metrics.MetricsRegistry;
+import com.baseball.game.service.GameCommandExecutor;
+import com.baseball.game.service.GameServiceImpl;
+import com.baseball.game.service.IdempotencyCache;
+import com.baseball.game.service.RosterCache;
+import com.baseball.game.service.ScoreboardIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameServiceImpl 투구/스윙 한 사이클 벤치마크 (메모리 게임, DB/Redis 없음)
+ * 3아웃이면 nextInning, 게임이 끝나면 같은 게임 객체를 1회 초로 되돌려 계속 진행합니다.
+ * 게임 상태는 게임별 실행기 밖에서 동시에 바꾸면 안 되므로 스레드마다 서비스와 게임을 따로 둡니다. (여러 스레드로 실행해도 같은 게임을 공유하지 않음)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GameServiceBenchmark {
+
+    private GameServiceImpl service;
+    private String gameId;
+
+    @Setup
+    public void setUp() {
+        service = new GameServiceImpl();
+        service.setBatterMapper(BenchmarkFixtures.batterMapper());
+        service.setPitcherMapper(BenchmarkFixtures.pitcherMapper());
+        MetricsRegistry metrics = new MetricsRegistry();
+        service.setMetrics(metrics);
+        service.setCommandExecutor(new GameCommandExecutor(Runnable::run));
+        service.setIdempotency(new IdempotencyCache(metrics));
+        service.setScoreboard(new ScoreboardIndex(metrics));
+        service.setRosterCache(new RosterCache(metrics));
+
+        GameDto game = service.createGame(BenchmarkFixtures.HOME_TEAM, BenchmarkFixtures.AWAY_TEAM, 9, true);
+        gameId = game.getGameId();
+        for (String team : new String[]{BenchmarkFixtures.HOME_TEAM, BenchmarkFixtures.AWAY_TEAM}) {
+            service.setTeamLineupAndPitcher(gameId, team,
+                    BenchmarkFixtures.battingOrderNames(team), BenchmarkFixtures.startingPitcherName(team));
+        }
+    }
+
+    @Benchmark
+    public String pitcherThrowCycle() {
+        GameDto game = prepareNextPitch();
+        return service.pitcherThrow(game.getGameId(), ThreadLocalRandom.current().nextBoolean() ? "strike" : "ball");
+    }
+
+    @Benchmark
+    public String batterSwingCycle() {
+        GameDto game = prepareNextPitch();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        boolean swing = random.nextInt(3) != 0;
+        return service.batterSwing(game.getGameId(), swing, swing ? random.nextDouble() : null);
+    }
+
+    private GameDto prepareNextPitch() {
+        GameDto game = service.getGame(gameId);
+        if (game.isGameOver()) {
+            BenchmarkFixtures.restart(game);
+        } else if (game.getOut() >= 3) {
+            service.nextInning(gameId);
+            if (game.isGameOver()) {
+                BenchmarkFixtures.restart(game);
+            }
+        }
+        return game;
+    }
+}
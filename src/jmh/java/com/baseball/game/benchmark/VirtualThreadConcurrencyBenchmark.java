@@ -0,0 +1,161 @@
+package com.baseball.game.benchmark;
+
+import com.baseball.game.config.ConnectionLimitingDataSource;
+import com.baseball.game.config.VirtualThreads;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * 10,000개 동시 요청 처리 시간 비교: 플랫폼 스레드 풀(Tomcat 기본 200) vs 가상 스레드
+ * 각 요청은 느린 DB를 흉내낸 호출(CPU 작업 + 커넥션 보유 중 sleep)을 하고, 그 외 구간에서는
+ * Redis 왕복 같은 DB 외 블로킹 대기를 합니다. DB 동시 사용은 ConnectionLimitingDataSource가 풀 크기로 제한합니다.
+ * 플랫폼 풀은 DB 외 대기 구간에서도 스레드를 점유하므로 가상 스레드와의 처리 시간 차이가 동시성 차이를 보여줍니다.
+ * 서블릿 컨테이너와 요청 경로는 거치지 않고 실행기와 ConnectionLimitingDataSource만 측정하므로, 요청 스레드를 가상 스레드로
+ * 바꿨을 때(Connector useVirtualThreads)의 상한을 가늠하는 용도입니다.
+ * (가상 스레드는 JDK 21 이상에서 실행해야 실제로 적용됩니다)
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VirtualThreadConcurrencyBenchmark {
+
+    private static final int IN_FLIGHT_REQUESTS = 10_000;
+
+    @Param({"platform", "virtual"})
+    public String executorType;
+
+    @Param({"20"})
+    public int poolSize;
+
+    @Param({"2"})
+    public long dbMillis;
+
+    @Param({"50"})
+    public long otherIoMillis;
+
+    private ExecutorService executor;
+    private ConnectionLimitingDataSource dataSource;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = "virtual".equals(executorType)
+                ? VirtualThreads.newExecutor("bench", 200)
+                : Executors.newFixedThreadPool(200);
+        dataSource = new ConnectionLimitingDataSource(new SlowDataSource(dbMillis), poolSize, 60_000L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int tenThousandInFlight() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(IN_FLIGHT_REQUESTS);
+        AtomicInteger failures = new AtomicInteger();
+        for (int i = 0; i < IN_FLIGHT_REQUESTS; i++) {
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(otherIoMillis); // Redis 등 DB 외 블로킹 I/O
+                    try (Connection connection = dataSource.getConnection()) {
+                        connection.isValid(0); // 느린 쿼리
+                    }
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        return failures.get();
+    }
+
+    /**
+     * 모든 호출이 dbMillis 동안 블로킹되는 모의 DataSource
+     */
+    static class SlowDataSource implements DataSource {
+        private final long delayMillis;
+
+        SlowDataSource(long delayMillis) {
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public Connection getConnection() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if ("isValid".equals(method.getName())) {
+                            Thread.sleep(delayMillis);
+                            return true;
+                        }
+                        return null;
+                    });
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            return getConnection();
+        }
+
+        @Override
+        public PrintWriter getLogWriter() {
+            return null;
+        }
+
+        @Override
+        public void setLogWriter(PrintWriter out) {
+        }
+
+        @Override
+        public void setLoginTimeout(int seconds) {
+        }
+
+        @Override
+        public int getLoginTimeout() {
+            return 0;
+        }
+
+        @Override
+        public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+            throw new SQLFeatureNotSupportedException();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) throws SQLException {
+            throw new SQLException("unwrap 미지원");
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.baseball.game.batch;
+
+import java.io.IOException;
+
+/**
+ * 배치 시뮬레이션 결과 출력 형식 (경기당 한 줄, 스트리밍)
+ */
+public enum BatchOutputFormat {
+
+    CSV {
+        @Override
+        public void writeHeader(Appendable out) throws IOException {
+            out.append("game,home,away,home_score,away_score,innings,result\n");
+        }
+
+        @Override
+        public String quote(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+        @Override
+        public void writeRow(Appendable out, long game, String home, String away, int homeScore, int awayScore,
+                int innings) throws IOException {
+            out.append(Long.toString(game)).append(',').append(home).append(',').append(away).append(',')
+                    .append(Integer.toString(homeScore)).append(',').append(Integer.toString(awayScore)).append(',')
+                    .append(Integer.toString(innings)).append(',').append(result(homeScore, awayScore)).append('\n');
+        }
+    },
+
+    NDJSON {
+        @Override
+        public void writeHeader(Appendable out) {
+            // 줄 단위 JSON은 헤더 없음
+        }
+
+        @Override
+        public String quote(String value) {
+            StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    quoted.append('\\').append(c);
+                } else if (c < 0x20) {
+                    quoted.append(String.format("\\u%04x", (int) c));
+                } else {
+                    quoted.append(c);
+                }
+            }
+            return quoted.append('"').toString();
+        }
+
+        @Override
+        public void writeRow(Appendable out, long game, String home, String away, int homeScore, int awayScore,
+                int innings) throws IOException {
+            out.append("{\"game\":").append(Long.toString(game))
+                    .append(",\"home\":").append(home)
+                    .append(",\"away\":").append(away)
+                    .append(",\"homeScore\":").append(Integer.toString(homeScore))
+                    .append(",\"awayScore\":").append(Integer.toString(awayScore))
+                    .append(",\"innings\":").append(Integer.toString(innings))
+                    .append(",\"result\":\"").append(result(homeScore, awayScore)).append("\"}\n");
+        }
+    };
+
+    public abstract void writeHeader(Appendable out) throws IOException;
+
+    /**
+     * 팀 이름을 형식에 맞게 이스케이프 (팀마다 한 번만 계산해 두고 writeRow에 그대로 넘김)
+     */
+    public abstract String quote(String value);
+
+    /**
+     * @param home quote()로 변환한 홈팀 이름
+     * @param away quote()로 변환한 원정팀 이름
+     */
+    public abstract void writeRow(Appendable out, long game, String home, String away, int homeScore, int awayScore,
+            int innings) throws IOException;
+
+    private static String result(int homeScore, int awayScore) {
+        return homeScore > awayScore ? "home" : awayScore > homeScore ? "away" : "tie";
+    }
+}
@@ -0,0 +1,149 @@
+package com.baseball.game.batch;
+
+import com.baseball.game.simulation.GameEngine;
+import com.baseball.game.simulation.GameSimulator;
+import com.baseball.game.simulation.PlateAppearanceEngine;
+import com.baseball.game.simulation.PlayStrategy;
+import com.baseball.game.simulation.PolicyTable;
+import com.baseball.game.simulation.PolicyTablePlayStrategy;
+import com.baseball.game.simulation.RatingBasedPlayStrategy;
+import com.baseball.game.simulation.SimulationLineup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 웹 애플리케이션 없이 대량 경기 시뮬레이션을 실행하는 명령행 도구
+ * 스프링 컨텍스트, MySQL, Redis를 쓰지 않고 로컬 로스터 파일만 읽으므로 바로 시작합니다.
+ * 결과는 표준 출력(또는 --output 파일)으로 한 줄씩 흘려보내고, 요약은 표준 오류로 출력합니다.
+ *
+ * 실행: java -cp ... com.baseball.game.batch.BatchSimulationCli --roster=로스터.csv [옵션]
+ * 로스터 파일 형식은 RosterFileReader를 참고하세요.
+ */
+public class BatchSimulationCli {
+
+    private static final String USAGE = String.join("\n",
+            "사용법: BatchSimulationCli --roster=파일 [옵션]",
+            "  --games=N          시뮬레이션할 경기 수 (기본 10000)",
+            "  --format=csv|ndjson 출력 형식 (기본 csv)",
+            "  --output=파일       출력 파일 (기본 표준 출력)",
+            "  --seed=N           기준 시드 (기본 1, 같은 시드면 항상 같은 결과)",
+            "  --max-inning=N     정규 이닝 수 (기본 9)",
+            "  --threads=N        작업 스레드 수 (기본 CPU 코어 수)",
+            "  --strategy=rating|policy 타자/투수 행동 전략 (기본 rating)",
+            "  --mode=pitch|pa    pitch: 투구 단위 진행, pa: 타석 단위 빠른 진행 (rating 전략만, 기본 pitch)");
+
+    public static void main(String[] args) {
+        try {
+            System.exit(run(args));
+        } catch (IllegalArgumentException e) {
+            System.err.println("오류: " + e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        } catch (Exception e) {
+            System.err.println("배치 시뮬레이션 실패: " + e);
+            System.exit(1);
+        }
+    }
+
+    static int run(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options = parse(args);
+        if (options.containsKey("help") || !options.containsKey("roster")) {
+            System.err.println(USAGE);
+            return options.containsKey("help") ? 0 : 2;
+        }
+        long games = Long.parseLong(options.getOrDefault("games", "10000"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+        int maxInning = Integer.parseInt(options.getOrDefault("max-inning", "9"));
+        int threads = Integer.parseInt(options.getOrDefault("threads",
+                Integer.toString(Runtime.getRuntime().availableProcessors())));
+        BatchOutputFormat format = BatchOutputFormat.valueOf(options.getOrDefault("format", "csv").toUpperCase(Locale.ROOT));
+        if (games < 0 || maxInning < 1 || threads < 1) {
+            throw new IllegalArgumentException("games는 0 이상, max-inning과 threads는 1 이상이어야 합니다.");
+        }
+
+        long start = System.nanoTime();
+        List<List<SimulationLineup>> rotations = RosterFileReader.read(Paths.get(options.get("roster")));
+        GameEngine engine = engine(options.getOrDefault("mode", "pitch"), options.getOrDefault("strategy", "rating"));
+        BatchSimulationRunner runner = new BatchSimulationRunner(engine, rotations, maxInning);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads, daemonThreads());
+        String output = options.get("output");
+        OutputStream stream = output == null || "-".equals(output) ? System.out : Files.newOutputStream(Paths.get(output));
+        long written;
+        try (BufferedWriter out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), 1 << 16)) {
+            written = runner.run(games, seed, format, out, executor, threads * 2);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.err.printf("시뮬레이션 완료: %d경기, 팀 %d개, 스레드 %d, %.2f초 (초당 %.0f경기)%n",
+                written, rotations.size(), threads, seconds, written / Math.max(seconds, 1e-9));
+        return 0;
+    }
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("알 수 없는 인자입니다: " + arg);
+            }
+            int equals = arg.indexOf('=');
+            if (equals < 0) {
+                options.put(arg.substring(2), "");
+            } else {
+                options.put(arg.substring(2, equals), arg.substring(equals + 1));
+            }
+        }
+        return options;
+    }
+
+    private static GameEngine engine(String mode, String strategy) throws IOException {
+        switch (mode) {
+            case "pitch":
+                return new GameSimulator(strategy(strategy), GameSimulator.DEFAULT_EXTRA_INNING_LIMIT);
+            case "pa":
+                // 타석 결과 분포는 기본 전략 기준으로 계산하므로 다른 전략과는 함께 쓸 수 없음
+                if (!"rating".equals(strategy)) {
+                    throw new IllegalArgumentException("타석 단위 모드는 rating 전략만 지원합니다.");
+                }
+                return new PlateAppearanceEngine();
+            default:
+                throw new IllegalArgumentException("알 수 없는 모드입니다: " + mode);
+        }
+    }
+
+    private static PlayStrategy strategy(String name) throws IOException {
+        switch (name) {
+            case "rating":
+                return RatingBasedPlayStrategy.INSTANCE;
+            case "policy":
+                return new PolicyTablePlayStrategy(PolicyTable.loadResource(PolicyTable.DEFAULT_RESOURCE));
+            default:
+                throw new IllegalArgumentException("알 수 없는 전략입니다: " + name);
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "batch-sim-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package com.baseball.game.batch;
+
+import com.baseball.game.simulation.GameEngine;
+import com.baseball.game.simulation.GameSimulator;
+import com.baseball.game.simulation.SimulatedGame;
+import com.baseball.game.simulation.SimulationLineup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * 대량 경기 시뮬레이션을 여러 스레드로 나누어 실행하고 결과를 순서대로 스트리밍
+ *
+ * 경기는 BLOCK_SIZE 단위 블록으로 나누어 실행하고, 동시에 진행 중인 블록 수를 제한하므로
+ * 경기 수와 관계없이 메모리 사용량이 일정합니다. (블록 결과는 기록 즉시 버림)
+ * 경기별 시드는 (기준 시드, 경기 번호)로만 정해지므로 스레드 수와 관계없이 출력이 같습니다.
+ *
+ * 대진은 모든 (홈, 원정) 순서쌍을 번갈아 돌고, 선발투수는 대진이 한 바퀴 돌 때마다 로테이션 순서대로 바뀝니다.
+ */
+public class BatchSimulationRunner {
+
+    static final int BLOCK_SIZE = 1024;
+
+    private final GameEngine engine;
+    private final List<List<SimulationLineup>> rotations;
+    private final int[][] matchups;
+    private final int maxInning;
+
+    public BatchSimulationRunner(GameEngine engine, List<List<SimulationLineup>> rotations, int maxInning) {
+        this.engine = engine;
+        this.rotations = rotations;
+        this.maxInning = maxInning;
+        int teams = rotations.size();
+        this.matchups = new int[teams * (teams - 1)][];
+        int index = 0;
+        for (int home = 0; home < teams; home++) {
+            for (int away = 0; away < teams; away++) {
+                if (home != away) {
+                    matchups[index++] = new int[]{home, away};
+                }
+            }
+        }
+    }
+
+    /**
+     * @param inFlight 동시에 실행 중일 수 있는 최대 블록 수 (메모리 상한 = inFlight * BLOCK_SIZE 경기)
+     * @return 출력한 경기 수
+     */
+    public long run(long games, long seed, BatchOutputFormat format, Writer out, ExecutorService executor,
+            int inFlight) throws IOException, InterruptedException {
+        String[] names = new String[rotations.size()];
+        for (int team = 0; team < names.length; team++) {
+            names[team] = format.quote(rotations.get(team).get(0).getTeamName());
+        }
+        format.writeHeader(out);
+
+        ArrayDeque<Future<Block>> pending = new ArrayDeque<>();
+        long nextGame = 0;
+        long written = 0;
+        try {
+            while (written < games) {
+                while (nextGame < games && pending.size() < inFlight) {
+                    long first = nextGame;
+                    int size = (int) Math.min(BLOCK_SIZE, games - first);
+                    pending.add(executor.submit(() -> simulateBlock(first, size, seed)));
+                    nextGame += size;
+                }
+                Block block = pending.poll().get();
+                for (int i = 0; i < block.size; i++) {
+                    long game = block.first + i;
+                    int[] matchup = matchups[(int) (game % matchups.length)];
+                    format.writeRow(out, game, names[matchup[0]], names[matchup[1]], block.homeScores[i],
+                            block.awayScores[i], block.innings[i]);
+                }
+                written += block.size;
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("경기 시뮬레이션 중 오류가 발생했습니다.", e.getCause());
+        } finally {
+            for (Future<Block> future : pending) {
+                future.cancel(true);
+            }
+        }
+        out.flush();
+        return written;
+    }
+
+    private Block simulateBlock(long first, int size, long seed) {
+        Block block = new Block(first, size);
+        for (int i = 0; i < size; i++) {
+            long game = first + i;
+            int[] matchup = matchups[(int) (game % matchups.length)];
+            long cycle = game / matchups.length;
+            SimulatedGame result = engine.simulate(lineup(matchup[0], cycle), lineup(matchup[1], cycle), maxInning,
+                    GameSimulator.seedFor(seed, 0L, game));
+            block.homeScores[i] = result.getHomeScore();
+            block.awayScores[i] = result.getAwayScore();
+            block.innings[i] = result.getInnings();
+        }
+        return block;
+    }
+
+    private SimulationLineup lineup(int team, long cycle) {
+        List<SimulationLineup> rotation = rotations.get(team);
+        return rotation.get((int) (cycle % rotation.size()));
+    }
+
+    private static final class Block {
+        final long first;
+        final int size;
+        final int[] homeScores;
+        final int[] awayScores;
+        final int[] innings;
+
+        Block(long first, int size) {
+            this.first = first;
+            this.size = size;
+            this.homeScores = new int[size];
+            this.awayScores = new int[size];
+            this.innings = new int[size];
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.baseball.game.batch;
+
+import com.baseball.game.simulation.CalibrationResult;
+import com.baseball.game.simulation.LeagueRates;
+import com.baseball.game.simulation.ModelCalibrator;
+import com.baseball.game.simulation.SimulationLineup;
+import com.baseball.game.util.GameLogicUtil;
+import com.baseball.game.util.GameModelParameters;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 게임 모델 파라미터를 리그 평균 기록에 맞춰 보정하는 명령행 도구
+ * 로컬 로스터 파일로 타석 단위 시뮬레이션을 반복하며 ModelCalibrator로 탐색하고,
+ * 결과를 game-model.properties 형식으로 출력합니다. 진행 상황은 표준 오류로 출력합니다.
+ * 결과 파일을 src/main/resources/simulation/game-model.properties로 교체하면 다음 기동부터 적용됩니다.
+ *
+ * 실행: java -cp ... com.baseball.game.batch.ModelCalibrationCli --roster=로스터.csv [옵션]
+ */
+public class ModelCalibrationCli {
+
+    private static final String USAGE = String.join("\n",
+            "사용법: ModelCalibrationCli --roster=파일 [옵션]",
+            "  --output=파일       결과 파라미터 파일 (기본 표준 출력)",
+            "  --version=이름      결과 파라미터 버전 (기본 calibrated-오늘날짜)",
+            "  --avg=N            목표 타율 (기본 0.248)",
+            "  --hr=N             목표 타석당 홈런율 (기본 0.031)",
+            "  --k=N              목표 타석당 삼진율 (기본 0.227)",
+            "  --bb=N             목표 타석당 볼넷율 (기본 0.086)",
+            "  --runs=N           목표 팀당 경기당 득점 (기본 4.6)",
+            "  --games=N          후보 하나를 평가할 경기 수 (기본 4000)",
+            "  --population=N     세대당 후보 수 (기본 32)",
+            "  --generations=N    세대 수 (기본 30)",
+            "  --seed=N           기준 시드 (기본 1, 같은 시드면 항상 같은 결과)",
+            "  --threads=N        작업 스레드 수 (기본 CPU 코어 수)");
+
+    public static void main(String[] args) {
+        try {
+            System.exit(run(args));
+        } catch (IllegalArgumentException e) {
+            System.err.println("오류: " + e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        } catch (Exception e) {
+            System.err.println("모델 보정 실패: " + e);
+            System.exit(1);
+        }
+    }
+
+    static int run(String[] args) throws IOException {
+        Map<String, String> options = BatchSimulationCli.parse(args);
+        if (options.containsKey("help") || !options.containsKey("roster")) {
+            System.err.println(USAGE);
+            return options.containsKey("help") ? 0 : 2;
+        }
+        LeagueRates target = new LeagueRates(
+                Double.parseDouble(options.getOrDefault("avg", "0.248")),
+                Double.parseDouble(options.getOrDefault("hr", "0.031")),
+                Double.parseDouble(options.getOrDefault("k", "0.227")),
+                Double.parseDouble(options.getOrDefault("bb", "0.086")),
+                Double.parseDouble(options.getOrDefault("runs", "4.6")));
+        String version = options.getOrDefault("version",
+                "calibrated-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE));
+        int games = Integer.parseInt(options.getOrDefault("games", "4000"));
+        int population = Integer.parseInt(options.getOrDefault("population", "32"));
+        int generations = Integer.parseInt(options.getOrDefault("generations", "30"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+        int threads = Integer.parseInt(options.getOrDefault("threads",
+                Integer.toString(Runtime.getRuntime().availableProcessors())));
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads는 1 이상이어야 합니다.");
+        }
+
+        long start = System.nanoTime();
+        List<List<SimulationLineup>> rotations = RosterFileReader.read(Paths.get(options.get("roster")));
+        GameModelParameters base = GameLogicUtil.getParameters();
+        ModelCalibrator calibrator = new ModelCalibrator(rotations, base, games, population, generations);
+
+        System.err.println("목표 기록: " + target);
+        System.err.println("기준 파라미터(" + base.getVersion() + ") 기록: " + calibrator.measure(base, games, seed));
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        CalibrationResult result;
+        try {
+            int[] generation = {0};
+            result = calibrator.calibrate(target, version, seed, pool, best ->
+                    System.err.printf("세대 %d/%d: 오차 %.5f, %s%n",
+                            ++generation[0], generations, best.getError(), best.getRates()));
+        } finally {
+            pool.shutdownNow();
+        }
+
+        String comment = String.join("\n",
+                "ModelCalibrationCli 보정 결과 (기준 " + base.getVersion() + ", 시드 " + seed + ")",
+                "목표 기록: " + target,
+                "보정 기록: " + result.getRates());
+        String output = options.get("output");
+        if (output == null || "-".equals(output)) {
+            result.getParameters().write(System.out, comment);
+            System.out.flush();
+        } else {
+            try (OutputStream out = Files.newOutputStream(Paths.get(output))) {
+                result.getParameters().write(out, comment);
+            }
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.err.printf("보정 완료: 오차 %.5f, 평가 %d회, 스레드 %d, %.2f초%n",
+                result.getError(), result.getEvaluations(), threads, seconds);
+        System.err.println("보정 기록: " + result.getRates());
+        return 0;
+    }
+}
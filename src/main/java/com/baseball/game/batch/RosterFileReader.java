@@ -0,0 +1,108 @@
+package com.baseball.game.batch;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+import com.baseball.game.simulation.SimulationLineup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배치 시뮬레이션용 로스터 파일 읽기 (DB 없이 로컬 파일로 팀 구성)
+ *
+ * 형식: UTF-8 CSV, 한 줄에 선수 한 명. 빈 줄과 '#'으로 시작하는 줄은 무시합니다.
+ * <pre>
+ * batter,팀,이름,컨택트,파워,선구안
+ * pitcher,팀,이름,컨트롤,구속
+ * </pre>
+ * 타순은 팀별 batter 줄의 순서(앞에서부터 최대 9명)이고, pitcher 줄은 순서대로 선발 로테이션이 됩니다.
+ */
+public final class RosterFileReader {
+
+    private static final int MAX_BATTERS = 9;
+
+    private RosterFileReader() {
+    }
+
+    /**
+     * @return 파일에 나온 팀 순서대로, 팀별 로테이션 (같은 타순 + 선발투수별 구성)
+     */
+    public static List<List<SimulationLineup>> read(Path path) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return read(reader, path.toString());
+        }
+    }
+
+    static List<List<SimulationLineup>> read(BufferedReader reader, String source) throws IOException {
+        Map<String, List<Batter>> batters = new LinkedHashMap<>();
+        Map<String, List<Pitcher>> pitchers = new LinkedHashMap<>();
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split(",", -1);
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = fields[i].trim();
+            }
+            try {
+                if ("batter".equalsIgnoreCase(fields[0]) && fields.length == 6) {
+                    Batter batter = new Batter();
+                    batter.setTeam(fields[1]);
+                    batter.setName(fields[2]);
+                    batter.setContact(Integer.parseInt(fields[3]));
+                    batter.setPower(Integer.parseInt(fields[4]));
+                    batter.setEye(Integer.parseInt(fields[5]));
+                    List<Batter> order = batters.computeIfAbsent(fields[1], team -> new ArrayList<>());
+                    pitchers.computeIfAbsent(fields[1], team -> new ArrayList<>());
+                    if (order.size() < MAX_BATTERS) {
+                        batter.setBattingOrder(order.size() + 1);
+                        order.add(batter);
+                    }
+                } else if ("pitcher".equalsIgnoreCase(fields[0]) && fields.length == 5) {
+                    Pitcher pitcher = new Pitcher();
+                    pitcher.setTeam(fields[1]);
+                    pitcher.setName(fields[2]);
+                    pitcher.setControl(Integer.parseInt(fields[3]));
+                    pitcher.setSpeed(Integer.parseInt(fields[4]));
+                    batters.computeIfAbsent(fields[1], team -> new ArrayList<>());
+                    pitchers.computeIfAbsent(fields[1], team -> new ArrayList<>()).add(pitcher);
+                } else {
+                    throw new IllegalArgumentException("알 수 없는 형식입니다: " + line);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(source + ":" + lineNumber + " 능력치는 정수여야 합니다: " + line);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(source + ":" + lineNumber + " " + e.getMessage());
+            }
+        }
+
+        List<List<SimulationLineup>> rotations = new ArrayList<>();
+        for (Map.Entry<String, List<Batter>> entry : batters.entrySet()) {
+            String team = entry.getKey();
+            if (entry.getValue().isEmpty() || pitchers.get(team).isEmpty()) {
+                throw new IllegalArgumentException(source + ": 팀 '" + team + "'에 타자와 투수가 모두 있어야 합니다.");
+            }
+            List<SimulationLineup> rotation = new ArrayList<>();
+            for (Pitcher pitcher : pitchers.get(team)) {
+                rotation.add(new SimulationLineup(team, entry.getValue(), pitcher));
+            }
+            rotations.add(rotation);
+        }
+        if (rotations.size() < 2) {
+            throw new IllegalArgumentException(source + ": 최소 두 팀이 필요합니다.");
+        }
+        return rotations;
+    }
+}
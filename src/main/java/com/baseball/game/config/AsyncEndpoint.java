@@ -0,0 +1,121 @@
+package com.baseball.game.config;
+
+import com.baseball.game.metrics.MetricsRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 컨트롤러 엔드포인트용 실행기 (DeferredResult 반환)
+ * 서비스 호출을 도메인별 전용 스레드 풀에서 실행하고 서블릿 스레드는 바로 반환합니다.
+ * 스레드 수와 대기열이 모두 고정이라 한 도메인이 몰려도 다른 도메인과 DB 풀을 잠식하지 않으며,
+ * 대기열이 가득 차거나 제한 시간을 넘기면 fallback 응답을 돌려줍니다. (서비스 예외는 그대로 전달되어 GlobalExceptionHandler가 처리)
+ */
+public class AsyncEndpoint {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncEndpoint.class);
+
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+
+    private final String name;
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor executor;
+    private final MetricsRegistry metrics;
+
+    /**
+     * @param threads 최대 동시 실행 수
+     * @param queueCapacity 실행을 기다릴 수 있는 요청 수 (넘으면 즉시 fallback)
+     * @param timeoutMillis 요청 제한 시간 (대기열 대기 시간 포함)
+     * @param metrics 대기열/실행 수 게이지와 처리 시간을 기록할 메트릭 저장소
+     */
+    public AsyncEndpoint(String name, int threads, int queueCapacity, long timeoutMillis, MetricsRegistry metrics) {
+        this.name = name;
+        this.timeoutMillis = timeoutMillis;
+        this.metrics = metrics;
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), namedDaemonThreads("async-" + name));
+        this.executor.allowCoreThreadTimeOut(true);
+        metrics.gauge("async." + name + ".queued", () -> executor.getQueue().size());
+        metrics.gauge("async." + name + ".active", executor::getActiveCount);
+    }
+
+    /**
+     * 게임 상태 조회/명령 (Redis 왕복 위주)
+     */
+    public static AsyncEndpoint game(MetricsRegistry metrics) {
+        return new AsyncEndpoint("game", CORES * 4, 512, 5_000, metrics);
+    }
+
+    /**
+     * 게시판 조회 (MyBatis)
+     */
+    public static AsyncEndpoint board(MetricsRegistry metrics) {
+        return new AsyncEndpoint("board", 16, 256, 5_000, metrics);
+    }
+
+    /**
+     * 라인업 조회와 타순 최적화 (최적화는 CPU 사용이 커서 스레드를 코어 수로 제한)
+     */
+    public static AsyncEndpoint lineup(MetricsRegistry metrics) {
+        return new AsyncEndpoint("lineup", CORES, 64, 10_000, metrics);
+    }
+
+    /**
+     * 서비스 호출을 전용 실행기에서 실행
+     * @param work 서비스 호출 (예외는 DeferredResult 오류로 전달)
+     * @param fallback 대기열이 가득 찼거나 제한 시간을 넘긴 경우의 응답
+     */
+    public <T> DeferredResult<T> supply(Supplier<T> work, Supplier<T> fallback) {
+        DeferredResult<T> result = new DeferredResult<>(timeoutMillis);
+        long start = System.nanoTime();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                try {
+                    result.setResult(work.get());
+                } catch (RuntimeException e) {
+                    result.setErrorResult(e);
+                } finally {
+                    metrics.recordSince("async." + name, start);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            metrics.increment("async." + name + ".rejected");
+            logger.warn("비동기 요청 대기열이 가득 찼습니다 ({}): 대기 {}건", name, executor.getQueue().size());
+            result.setResult(fallback.get());
+            return result;
+        }
+        result.onTimeout(() -> {
+            // 아직 대기열에 있는 작업만 취소 (실행 중인 DB 호출은 중단하지 않음)
+            task.cancel(false);
+            metrics.increment("async." + name + ".timeout");
+            result.setResult(fallback.get());
+        });
+        return result;
+    }
+
+    /**
+     * 실행기 종료 (테스트용)
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static ThreadFactory namedDaemonThreads(String name) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package com.baseball.game.config;
+
+import com.baseball.game.metrics.MetricsRegistry;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 엔드포인트별 요청 제한 인터셉터 (servlet-context.xml에서 경로마다 한도를 지정해 등록)
+ * 컨테이너가 인증한 회원이면 회원 ID로, 아니면 접속 IP로 구분하고, 한도를 넘은 요청은 컨트롤러와 DB까지 가지 않고
+ * 429와 Retry-After(초)로 바로 거절합니다.
+ * 클라이언트가 보낸 헤더(X-User-Id, X-Forwarded-For 등)는 키로 쓰지 않습니다. 요청마다 값을 바꿔 제한을 피할 수 있기 때문입니다.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final byte[] REJECTED_BODY =
+            "{\"success\":false,\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해주세요.\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final RateLimiter limiter;
+    private Set<String> methods; // null이면 모든 메서드 제한
+
+    /**
+     * @param name 제한기 이름 (메트릭 ratelimit.{name}.*)
+     * @param capacity 한 번에 몰아 보낼 수 있는 요청 수
+     * @param refillPerSecond 초당 허용 요청 수
+     * @param maxKeys 기억할 회원/IP 수
+     * @param metrics 허용/거부 횟수를 기록할 메트릭 저장소
+     */
+    public RateLimitInterceptor(String name, int capacity, double refillPerSecond, int maxKeys, MetricsRegistry metrics) {
+        this(new RateLimiter(name, capacity, refillPerSecond, maxKeys, metrics));
+    }
+
+    /**
+     * @param limiter 다른 경로(WebSocket, 일괄 명령 추가 비용)와 같이 쓰는 제한기
+     */
+    public RateLimitInterceptor(RateLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    /**
+     * 제한할 HTTP 메서드 (쉼표 구분, 예: "POST,PUT")
+     */
+    public void setMethods(String methods) {
+        Set<String> parsed = new HashSet<>();
+        for (String method : methods.split(",")) {
+            if (!method.trim().isEmpty()) {
+                parsed.add(method.trim().toUpperCase());
+            }
+        }
+        this.methods = parsed;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        String method = request.getMethod();
+        if ("OPTIONS".equals(method) || (methods != null && !methods.contains(method))) {
+            return true;
+        }
+        long waitNanos = limiter.acquire(clientKey(request));
+        if (waitNanos == 0) {
+            return true;
+        }
+        response.setStatus(TOO_MANY_REQUESTS);
+        response.setHeader("Retry-After", Long.toString(Math.max(1L, (waitNanos + 999_999_999L) / 1_000_000_000L)));
+        response.setContentType("application/json;charset=UTF-8");
+        response.setContentLength(REJECTED_BODY.length);
+        response.getOutputStream().write(REJECTED_BODY);
+        return false;
+    }
+
+    /**
+     * 제한 키 (인증된 회원이면 "u:회원ID", 아니면 "ip:접속IP")
+     */
+    public static String clientKey(HttpServletRequest request) {
+        Principal member = request.getUserPrincipal();
+        if (member != null) {
+            return "u:" + member.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,137 @@
+package com.baseball.game.config;
+
+import com.baseball.game.metrics.MetricsRegistry;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키(회원 ID 또는 IP)별 토큰 버킷 요청 제한기
+ * 버킷마다 토큰 수와 마지막 충전 시각 대신 "버킷이 다시 가득 차는 시각" long 하나만 두고(GCRA),
+ * 요청마다 그 값을 CAS 한 번으로 앞당기므로 잠금 없이 해시 조회와 CAS 한 번에 판정합니다.
+ * 거부할 때는 토큰 하나가 다시 생길 때까지 남은 시간을 돌려주어 Retry-After로 쓸 수 있습니다.
+ *
+ * 키 표는 maxKeys까지만 보관합니다. 가득 차면 가득 찬(한동안 요청이 없던) 버킷을 지우고,
+ * 그래도 자리가 없으면 새 키는 공용 버킷 하나를 나눠 써서 키를 바꿔가며 보내는 클라이언트도 제한됩니다.
+ */
+public class RateLimiter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final String name;
+    private final long intervalNanos; // 토큰 하나가 채워지는 시간
+    private final long burstNanos; // 버킷 전체(capacity개)가 채워지는 시간
+    private final int maxKeys;
+    private final LongSupplier clock;
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflow = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final MetricsRegistry metrics;
+
+    public RateLimiter(String name, int capacity, double refillPerSecond, int maxKeys, MetricsRegistry metrics) {
+        this(name, capacity, refillPerSecond, maxKeys, System::nanoTime, metrics);
+    }
+
+    /**
+     * @param name 메트릭 이름에 쓰는 제한기 이름 (ratelimit.{name}.*)
+     * @param capacity 한 번에 몰아 보낼 수 있는 요청 수
+     * @param refillPerSecond 초당 채워지는 토큰 수
+     * @param maxKeys 키 표 최대 크기
+     * @param nanoClock 현재 시각 (나노초, System::nanoTime)
+     * @param metrics 허용/거부 횟수를 기록할 메트릭 저장소
+     */
+    public RateLimiter(String name, int capacity, double refillPerSecond, int maxKeys, LongSupplier nanoClock,
+                       MetricsRegistry metrics) {
+        if (capacity < 1 || refillPerSecond <= 0 || maxKeys < 1) {
+            throw new IllegalArgumentException("요청 제한 설정이 올바르지 않습니다: " + name);
+        }
+        this.name = name;
+        this.intervalNanos = Math.max(1L, (long) (NANOS_PER_SECOND / refillPerSecond));
+        this.burstNanos = intervalNanos * capacity;
+        this.maxKeys = maxKeys;
+        this.clock = nanoClock;
+        this.metrics = metrics;
+        metrics.gauge("ratelimit." + name + ".keys", buckets::size);
+    }
+
+    /**
+     * 토큰 하나 사용
+     * @return 허용하면 0, 거부하면 토큰이 다시 생길 때까지 남은 시간 (나노초)
+     */
+    public long acquire(String key) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = register(key);
+        }
+        long now = clock.getAsLong();
+        while (true) {
+            long full = bucket.get();
+            long next = Math.max(full, now) + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                metrics.increment("ratelimit." + name + ".rejected");
+                return wait;
+            }
+            if (bucket.compareAndSet(full, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 이미 허용한 요청의 추가 비용 청구 (거부하지 않고 버킷을 permits개만큼 더 비움)
+     * 한도를 넘긴 만큼은 빚으로 남아 같은 키의 다음 요청이 그만큼 더 기다립니다. (여러 명령을 담은 일괄 요청 등)
+     */
+    public void charge(String key, int permits) {
+        if (permits < 1) {
+            return;
+        }
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = register(key);
+        }
+        long now = clock.getAsLong();
+        long cost = intervalNanos * permits;
+        while (true) {
+            long full = bucket.get();
+            if (bucket.compareAndSet(full, Math.max(full, now) + cost)) {
+                return;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong register(String key) {
+        if (buckets.size() >= maxKeys) {
+            evictIdle();
+            if (buckets.size() >= maxKeys) {
+                return overflow;
+            }
+        }
+        AtomicLong created = new AtomicLong(Long.MIN_VALUE);
+        AtomicLong existing = buckets.putIfAbsent(key, created);
+        return existing != null ? existing : created;
+    }
+
+    /**
+     * 가득 찬 버킷 제거 (새로 만든 버킷과 상태가 같으므로 지워도 제한이 풀리지 않음, 한 스레드만 수행)
+     */
+    private void evictIdle() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = clock.getAsLong();
+            buckets.values().removeIf(bucket -> bucket.get() <= now);
+            metrics.increment("ratelimit." + name + ".evictions");
+        } finally {
+            evicting.set(false);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.baseball.game.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가상 스레드 실행기 생성 도우미
+ * JDK 21 이상이면 작업마다 가상 스레드를 만드는 실행기를, 그 이하 JDK에서는 같은 코드가 동작하도록
+ * 고정 크기 플랫폼 스레드 풀을 반환합니다. (컴파일 대상 JDK를 올리지 않기 위해 리플렉션으로 조회)
+ */
+public final class VirtualThreads {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreads.class);
+
+    private static final Method NEW_VIRTUAL_EXECUTOR = findVirtualExecutorFactory();
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return NEW_VIRTUAL_EXECUTOR != null;
+    }
+
+    /**
+     * 가상 스레드 실행기 생성
+     * @param name 대체 플랫폼 스레드 이름 접두사
+     * @param fallbackThreads 가상 스레드 미지원 시 사용할 플랫폼 스레드 수
+     */
+    public static ExecutorService newExecutor(String name, int fallbackThreads) {
+        if (NEW_VIRTUAL_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                logger.warn("가상 스레드 실행기 생성 실패, 플랫폼 스레드 풀로 대체합니다: {}", e.getMessage());
+            }
+        }
+        return Executors.newFixedThreadPool(fallbackThreads, namedDaemonThreads(name));
+    }
+
+    private static ThreadFactory namedDaemonThreads(String name) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static Method findVirtualExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
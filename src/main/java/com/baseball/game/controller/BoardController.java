@@ -1,5 +1,6 @@
 package com.baseball.game.controller;
 
+import com.baseball.game.config.AsyncEndpoint;
 import com.baseball.game.dto.BoardDto;
 import com.baseball.game.dto.BoardDetailDto;
 import com.baseball.game.dto.BoardPageResponse;
@@ -8,8 +9,11 @@ import com.baseball.game.dto.CommentDto;
 import com.baseball.game.service.BoardService;
 import com.baseball.game.service.CommentService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.util.ArrayList;
 
@@ -20,10 +24,15 @@ public class BoardController {
 	private final BoardService boardService;
 	private final CommentService commentService;
 
+	// 비동기 조회(/async)의 서비스 호출 실행기
+	private final AsyncEndpoint async;
+
 	@Autowired // 생성자가 1개면 생략 가능
-	public BoardController(BoardService boardService, CommentService commentService) {
+	public BoardController(BoardService boardService, CommentService commentService,
+			@Qualifier("boardAsync") AsyncEndpoint async) {
 		this.boardService = boardService;
 		this.commentService = commentService;
+		this.async = async;
 	}
 
 	// 게시글 목록 (카테고리별 조회 포함)
@@ -46,6 +55,21 @@ public class BoardController {
 		return ResponseEntity.ok(new BoardDetailDto(board, comments));
 	}
 
+	// 게시글 목록 (비동기, 실행기가 혼잡하거나 제한 시간을 넘기면 503)
+	@GetMapping("/async")
+	public DeferredResult<ResponseEntity<BoardPageResponse>> getBoardsAsync(
+			@RequestParam(defaultValue = "1") int page,
+			@RequestParam(defaultValue = "10") int size,
+			@RequestParam(required = false) String category) {
+		return async.supply(() -> getBoards(page, size, category), BoardController::unavailable);
+	}
+
+	// 게시글 상세 조회 (비동기, 실행기가 혼잡하거나 제한 시간을 넘기면 503)
+	@GetMapping("/async/{no}")
+	public DeferredResult<ResponseEntity<BoardDetailDto>> getBoardAsync(@PathVariable("no") int no) {
+		return async.supply(() -> getBoard(no), BoardController::unavailable);
+	}
+
 	// 게시글 작성
 	@PostMapping
 	public ResponseEntity<Void> createBoard(@RequestBody BoardRequestDto requestDto) {
@@ -66,4 +90,8 @@ public class BoardController {
 		boardService.delete(no);
 		return ResponseEntity.ok().build();
 	}
+
+	private static <T> ResponseEntity<T> unavailable() {
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+	}
 }
@@ -1,19 +1,37 @@
 // src/main/java/com/baseball/game/controller/GameController.java
 package com.baseball.game.controller;
 
+import com.baseball.game.config.AsyncEndpoint;
+import com.baseball.game.config.RateLimitInterceptor;
+import com.baseball.game.config.RateLimiter;
+import com.baseball.game.dto.BranchSimulationRequest;
+import com.baseball.game.dto.BranchSimulationResult;
+import com.baseball.game.dto.GameBatchRequest;
+import com.baseball.game.dto.GameCommandResponse;
+import com.baseball.game.dto.GameCommandResult;
 import com.baseball.game.dto.GameCreateRequest;
 import com.baseball.game.dto.GameDto;
-import com.baseball.game.dto.TeamLineupSetRequest; // 새로 추가될 DTO
+import com.baseball.game.dto.GameStartRequest;
+import com.baseball.game.dto.PitchRequest;
+import com.baseball.game.dto.SwingRequest;
+import com.baseball.game.dto.TeamLineupSetRequest;
+import com.baseball.game.service.GameCommandExecutor;
 import com.baseball.game.service.GameService;
+import com.baseball.game.service.IdempotencyCache;
 import com.baseball.game.util.ValidationUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import lombok.Setter;
+import javax.servlet.http.HttpServletRequest;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/baseball")
@@ -22,12 +40,32 @@ public class GameController {
 
 	private static final Logger logger = LoggerFactory.getLogger(GameController.class);
 
+	// 클라이언트가 시간 초과로 재전송할 때 붙이는 헤더 (같은 키는 게임별 최근 64개까지 처음 응답을 재사용)
+	private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+	private static final String BUSY_MESSAGE = "서버가 혼잡합니다. 잠시 후 다시 시도해주세요.";
+
+	@Setter(onMethod_ = @Autowired)
+	private IdempotencyCache idempotency;
+
+	// 게임 상태를 바꾸는 명령은 게임별 실행기에서 하나씩 실행
+	@Setter(onMethod_ = @Autowired)
+	private GameCommandExecutor commandExecutor;
+
+	// 비동기 엔드포인트(/async/...)의 서비스 호출 실행기
+	@Setter(onMethod_ = {@Autowired, @Qualifier("gameAsync")})
+	private AsyncEndpoint async;
+
 	@Setter(onMethod_ = @Autowired)
 	private GameService service;
 
+	// 게임 명령 요청 제한기 (요청 하나는 인터셉터가, 일괄 요청의 나머지 명령은 여기서 청구)
+	@Setter(onMethod_ = {@Autowired, @Qualifier("gameRateLimiter")})
+	private RateLimiter rateLimiter;
+
 	/**
-	 * 게임 생성 (이닝 수, 사용자 공격 여부 포함)
-	 * 요청 본문으로 홈팀, 원정팀, 최대 이닝, 사용자 공격 여부를 받아 게임을 생성합니다.
+	 * 게임 생성 (이닝 수, 사용자 공격 여부, 경기 규칙 포함)
+	 * 요청 본문으로 홈팀, 원정팀, 최대 이닝, 사용자 공격 여부, 경기 규칙을 받아 게임을 생성합니다.
 	 * 유효성 검사 실패 시 또는 서비스 로직에서 예외 발생 시 실패 응답을 반환합니다.
 	 * @param request 게임 생성 요청 DTO (홈팀, 원정팀, 최대 이닝, 사용자 공격 여부 포함)
 	 * @return 성공 시 생성된 GameDto를 포함하는 Map, 실패 시 success: false와 메시지를 포함하는 Map
@@ -42,7 +80,8 @@ public class GameController {
 	        ValidationUtil.validateDifferentTeams(request.getHomeTeam(), request.getAwayTeam());
 	        ValidationUtil.validateMaxInning(request.getMaxInning());
 
-	        GameDto newGame = service.createGame(request.getHomeTeam(), request.getAwayTeam(), request.getMaxInning(), request.isIsUserOffense());
+	        GameDto newGame = service.createGame(request.getHomeTeam(), request.getAwayTeam(), request.getMaxInning(),
+	                request.isIsUserOffense(), request.getRuleSet());
 	        response.put("success", true);
 	        response.put("game", newGame);
 	        response.put("message", String.format("게임이 생성되었습니다. (ID: %s)", newGame.getGameId()));
@@ -55,6 +94,34 @@ public class GameController {
 	    return response;
 	}
 
+	/**
+	 * 게임 시작 (게임 생성과 양 팀 라인업/선발 투수 설정을 한 번에 처리)
+	 * 타순은 직접 지정한 타순, 사용자(userId)의 커스텀 라인업, 팀 기본 라인업 순으로 정하고,
+	 * 선발 투수를 지정하지 않으면 로테이션 1번이 등판합니다.
+	 * @param request 게임 시작 요청 DTO (홈팀, 원정팀, 최대 이닝, 사용자 공격 여부, 경기 규칙, 사용자 ID 및 팀별 타순/선발 투수 선택 항목)
+	 * @return 성공 시 첫 타자와 투수까지 설정된 GameDto를 포함하는 Map, 실패 시 success: false와 메시지를 포함하는 Map
+	 */
+	@PostMapping("/game/start")
+	public Map<String, Object> startGame(@RequestBody GameStartRequest request) {
+		Map<String, Object> response = new HashMap<>();
+		try {
+			ValidationUtil.validateTeamName(request.getHomeTeam());
+			ValidationUtil.validateTeamName(request.getAwayTeam());
+			ValidationUtil.validateDifferentTeams(request.getHomeTeam(), request.getAwayTeam());
+			ValidationUtil.validateMaxInning(request.getMaxInning());
+
+			GameDto game = service.startGame(request);
+			response.put("success", true);
+			response.put("game", game);
+			response.put("message", String.format("게임이 시작되었습니다. (ID: %s)", game.getGameId()));
+		} catch (Exception e) {
+			logger.error("게임 시작 중 오류 발생: {}", e.getMessage());
+			response.put("success", false);
+			response.put("message", "게임 시작 중 오류가 발생했습니다: " + e.getMessage());
+		}
+		return response;
+	}
+
 	/**
 	 * 특정 팀의 라인업과 선발 투수를 설정합니다.
 	 * @param gameId 게임 ID
@@ -95,87 +162,79 @@ public class GameController {
 	/**
 	 * 타자 스윙/노스윙 처리
 	 * @param gameId 게임 ID
-	 * @param swing 스윙 여부 (true: 스윙, false: 노스윙)
-	 * @param timing 타이밍 (0.0 ~ 1.0, 스윙 시 유효)
-	 * @return 성공 시 결과 메시지를 포함하는 Map, 실패 시 success: false와 메시지를 포함하는 Map
+	 * @param request 스윙 여부(swing)와 타이밍(timing, 0.0 ~ 1.0, 스윙 시 필수)
+	 * @param idempotencyKey 재전송 구분용 멱등 키 (같은 키로 다시 보내면 처음 응답을 그대로 반환)
+	 * @return 성공 시 결과와 게임 상태, 실패 시 success: false와 메시지
 	 */
 	@PostMapping("/game/{gameId}/swing")
-	public Map<String, Object> batterSwing(@PathVariable String gameId, @RequestBody Map<String, Object> request) {
-		Map<String, Object> response = new HashMap<>();
+	public GameCommandResponse batterSwing(@PathVariable String gameId, @RequestBody SwingRequest request,
+			@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 		try {
-			Boolean swing = (Boolean) request.get("swing");
-			Double timing = null;
-			if (request.containsKey("timing")) {
-				Object timingObj = request.get("timing");
-				if (timingObj instanceof Integer) { // JSON에서 정수로 넘어올 경우 대비
-					timing = ((Integer) timingObj).doubleValue();
-				} else if (timingObj instanceof Double) {
-					timing = (Double) timingObj;
-				}
+			String error = request.validate();
+			if (error != null) {
+				return GameCommandResponse.fail(error);
 			}
 
-			if (swing == null) {
-				response.put("success", false);
-				response.put("message", "스윙 여부를 지정해주세요 (swing: true/false).");
-				return response;
-			}
-			if (swing && timing == null) {
-				response.put("success", false);
-				response.put("message", "스윙 시 타이밍을 지정해주세요 (timing: 0.0 ~ 1.0).");
-				return response;
-			}
-			if (timing != null && (timing < 0.0 || timing > 1.0)) {
-				response.put("success", false);
-				response.put("message", "타이밍은 0.0에서 1.0 사이여야 합니다.");
-				return response;
-			}
-
-			String result = service.batterSwing(gameId, swing, timing);
-			GameDto game = service.getGame(gameId); // 업데이트된 게임 상태 가져오기
-
-			response.put("success", true);
-			response.put("result", result);
-			response.put("game", game); // 업데이트된 게임 DTO 반환
-			response.put("message", "스윙/노스윙 처리 완료: " + result);
+			return runCommand(gameId, idempotencyKey, "swing", () -> {
+				String result = service.batterSwing(gameId, request.getSwing(), request.getTiming());
+				GameDto game = service.getGame(gameId); // 업데이트된 게임 상태 가져오기
+				return GameCommandResponse.ok(result, game, "스윙/노스윙 처리 완료: " + result);
+			});
 		} catch (Exception e) {
-			response.put("success", false);
-			response.put("message", "스윙 처리 중 오류가 발생했습니다: " + e.getMessage());
+			return GameCommandResponse.fail("스윙 처리 중 오류가 발생했습니다: " + e.getMessage());
 		}
-		return response;
 	}
 
 	/**
 	 * 투수 투구 처리
 	 * @param gameId 게임 ID
-	 * @param request 투구 유형을 담은 Map
-	 * @return 성공 시 결과 메시지를 포함하는 Map, 실패 시 success: false와 메시지를 포함하는 Map
+	 * @param request 투구 유형(pitchType: 'strike' 또는 'ball')
+	 * @param idempotencyKey 재전송 구분용 멱등 키 (같은 키로 다시 보내면 처음 응답을 그대로 반환)
+	 * @return 성공 시 결과와 게임 상태, 실패 시 success: false와 메시지
 	 */
 	@PostMapping("/game/{gameId}/pitch")
-	public Map<String, Object> pitcherThrow(@PathVariable String gameId, @RequestBody Map<String, String> request) {
-		Map<String, Object> response = new HashMap<>();
+	public GameCommandResponse pitcherThrow(@PathVariable String gameId, @RequestBody PitchRequest request,
+			@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 		try {
-			String pitchType = request.get("pitchType");
-			if (pitchType == null || pitchType.trim().isEmpty()) {
-				response.put("success", false);
-				response.put("message", "투구 유형을 지정해주세요 (pitchType: 'strike' 또는 'ball').");
-				return response;
-			}
-			if (!pitchType.equals("strike") && !pitchType.equals("ball")) {
-				response.put("success", false);
-				response.put("message", "유효하지 않은 투구 유형입니다. 'strike' 또는 'ball'을 사용해주세요.");
-				return response;
+			String error = request.validate();
+			if (error != null) {
+				return GameCommandResponse.fail(error);
 			}
 
-			String result = service.pitcherThrow(gameId, pitchType);
-			GameDto game = service.getGame(gameId); // 업데이트된 게임 상태 가져오기
+			return runCommand(gameId, idempotencyKey, "pitch", () -> {
+				String result = service.pitcherThrow(gameId, request.getPitchType());
+				GameDto game = service.getGame(gameId); // 업데이트된 게임 상태 가져오기
+				return GameCommandResponse.ok(result, game, "투구 처리 완료: " + result);
+			});
+		} catch (Exception e) {
+			return GameCommandResponse.fail("투구 처리 중 오류가 발생했습니다: " + e.getMessage());
+		}
+	}
 
+	/**
+	 * 여러 게임의 명령 일괄 처리 (토너먼트 진행기, AI 봇용)
+	 * 서로 다른 게임의 명령은 병렬로, 같은 게임의 명령은 목록 순서대로 실행합니다.
+	 * 명령마다 성공/실패를 따로 돌려주므로 일부 게임 ID가 잘못되어도 나머지 명령은 처리됩니다.
+	 * 요청 제한은 명령 하나당 토큰 하나로 계산합니다. (요청 하나분은 인터셉터가 받고, 나머지는 다음 요청의 대기 시간으로 청구)
+	 * @param request 명령 목록 (gameId, type: swing/pitch/next-inning, swing, timing, pitchType)
+	 * @return 성공 시 명령 순서대로 결과와 간단한 게임 상태 목록, 요청 자체가 잘못되면 success: false와 메시지
+	 */
+	@PostMapping("/games/commands")
+	public Map<String, Object> executeCommands(@RequestBody GameBatchRequest request, HttpServletRequest httpRequest) {
+		Map<String, Object> response = new HashMap<>();
+		try {
+			if (request.getCommands() != null && request.getCommands().size() > 1) {
+				rateLimiter.charge(RateLimitInterceptor.clientKey(httpRequest),
+						Math.min(request.getCommands().size(), GameBatchRequest.MAX_COMMANDS) - 1);
+			}
+			List<GameCommandResult> results = service.executeCommands(request.getCommands());
+			long succeeded = results.stream().filter(GameCommandResult::isSuccess).count();
 			response.put("success", true);
-			response.put("result", result);
-			response.put("game", game); // 업데이트된 게임 DTO 반환
-			response.put("message", "투구 처리 완료: " + result);
+			response.put("results", results);
+			response.put("message", String.format("명령 %d개 중 %d개를 처리했습니다.", results.size(), succeeded));
 		} catch (Exception e) {
 			response.put("success", false);
-			response.put("message", "투구 처리 중 오류가 발생했습니다: " + e.getMessage());
+			response.put("message", "일괄 명령 처리 중 오류가 발생했습니다: " + e.getMessage());
 		}
 		return response;
 	}
@@ -183,55 +242,65 @@ public class GameController {
 	/**
 	 * 다음 이닝으로 진행
 	 * @param gameId 게임 ID
+	 * @param idempotencyKey 재전송 구분용 멱등 키 (같은 키로 다시 보내면 처음 응답을 그대로 반환)
 	 * @return 성공 시 업데이트된 GameDto를 포함하는 Map, 실패 시 success: false와 메시지를 포함하는 Map
 	 */
 	@PostMapping("/game/{gameId}/next-inning")
-	public Map<String, Object> nextInning(@PathVariable String gameId) {
-		Map<String, Object> response = new HashMap<>();
+	public Map<String, Object> nextInning(@PathVariable String gameId,
+			@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 		try {
-			GameDto game = service.nextInning(gameId);
-			response.put("success", true);
-			response.put("game", game);
-			if (game.isGameOver()) {
-				response.put("message", "다음 이닝으로 진행되었습니다. 게임 종료! 승자: " + game.getWinner());
-			} else {
-				response.put("message", String.format("%d회 %s로 진행되었습니다.", game.getInning(), game.isTop() ? "초" : "말"));
-			}
+			return runCommand(gameId, idempotencyKey, "next-inning", () -> {
+				Map<String, Object> response = new HashMap<>();
+				GameDto game = service.nextInning(gameId);
+				response.put("success", true);
+				response.put("game", game);
+				if (game.isGameOver()) {
+					response.put("message", "다음 이닝으로 진행되었습니다. 게임 종료! 승자: " + game.getWinner());
+				} else {
+					response.put("message", String.format("%d회 %s로 진행되었습니다.", game.getInning(), game.isTop() ? "초" : "말"));
+				}
+				return response;
+			});
 		} catch (Exception e) {
+			Map<String, Object> response = new HashMap<>();
 			response.put("success", false);
 			response.put("message", "다음 이닝 진행 중 오류가 발생했습니다: " + e.getMessage());
+			return response;
 		}
-		return response;
 	}
 
 	/**
 	 * 게임 상태 조회
+	 * 게임 상태 버전을 ETag로 내려주고, If-None-Match가 현재 버전과 같으면 직렬화 없이 304를 반환합니다.
 	 * @param gameId 게임 ID
-	 * @return 성공 시 GameDto를 포함하는 Map, 실패 시 success: false와 메시지를 포함하는 Map
+	 * @return 성공 시 GameDto를 포함하는 Map, 실패 시 success: false와 메시지를 포함하는 Map (304일 때는 본문 없음)
 	 */
 	@GetMapping("/game/{gameId}")
-	public Map<String, Object> getGame(@PathVariable String gameId) {
+	public Map<String, Object> getGame(@PathVariable String gameId, WebRequest webRequest) {
 		Map<String, Object> response = new HashMap<>();
 		try {
-			GameDto game = service.getGame(gameId);
-			response.put("success", true);
-			response.put("game", game);
-			response.put("message", "게임 정보를 성공적으로 조회했습니다.");
+			// 버전을 먼저 읽어야 ETag가 본문보다 최신이 되는 일이 없음
+			if (webRequest.checkNotModified(stateETag("game", gameId))) {
+				return null; // 304 Not Modified
+			}
 		} catch (Exception e) {
 			response.put("success", false);
 			response.put("message", "게임 정보를 찾을 수 없습니다: " + e.getMessage());
+			return response;
 		}
-		return response;
+		return loadGame(gameId);
 	}
 
 	/**
 	 * 주자 진루 처리
 	 * @param gameId 게임 ID
 	 * @param request 진루할 베이스 수를 담은 Map
+	 * @param idempotencyKey 재전송 구분용 멱등 키 (같은 키로 다시 보내면 처음 응답을 그대로 반환)
 	 * @return 성공 시 업데이트된 GameDto를 포함하는 Map, 실패 시 success: false와 메시지를 포함하는 Map
 	 */
 	@PostMapping("/game/{gameId}/advance-runners")
-	public Map<String, Object> advanceRunners(@PathVariable String gameId, @RequestBody Map<String, Integer> request) {
+	public Map<String, Object> advanceRunners(@PathVariable String gameId, @RequestBody Map<String, Integer> request,
+			@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 		Map<String, Object> response = new HashMap<>();
 		try {
 			Integer bases = request.get("bases");
@@ -241,12 +310,16 @@ public class GameController {
 				return response;
 			}
 
-			service.advanceRunners(gameId, bases);
-			GameDto game = service.getGame(gameId);
+			return runCommand(gameId, idempotencyKey, "advance-runners", () -> {
+				service.advanceRunners(gameId, bases);
+				GameDto game = service.getGame(gameId);
 
-			response.put("success", true);
-			response.put("game", game);
-			response.put("message", bases + "베이스 진루했습니다.");
+				Map<String, Object> advanced = new HashMap<>();
+				advanced.put("success", true);
+				advanced.put("game", game);
+				advanced.put("message", bases + "베이스 진루했습니다.");
+				return advanced;
+			});
 		} catch (Exception e) {
 			response.put("success", false);
 			response.put("message", "베이스 러닝 처리 중 오류가 발생했습니다: " + e.getMessage());
@@ -257,12 +330,15 @@ public class GameController {
 	/**
 	 * 게임 통계 조회
 	 * @param gameId 게임 ID
-	 * @return 성공 시 게임 통계 문자열을 포함하는 Map, 실패 시 success: false와 메시지를 포함하는 Map
+	 * @return 성공 시 게임 통계 문자열을 포함하는 Map, 실패 시 success: false와 메시지를 포함하는 Map (304일 때는 본문 없음)
 	 */
 	@GetMapping("/game/{gameId}/stats")
-	public Map<String, Object> getGameStats(@PathVariable String gameId) {
+	public Map<String, Object> getGameStats(@PathVariable String gameId, WebRequest webRequest) {
 		Map<String, Object> response = new HashMap<>();
 		try {
+			if (webRequest.checkNotModified(stateETag("stats", gameId))) {
+				return null; // 304 Not Modified
+			}
 			String stats = service.getGameStats(gameId);
 			response.put("success", true);
 			response.put("stats", stats);
@@ -273,4 +349,108 @@ public class GameController {
 		}
 		return response;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 가정 분기 시뮬레이션 ("지금 이 공을 스윙하면?" 같은 질문에 대한 승리 확률)
+	 * 현재 게임을 분기하여 끝까지 여러 번 시뮬레이션하며, 실제 게임 상태는 바뀌지 않습니다.
+	 * @param gameId 게임 ID
+	 * @param request 분기 수(branches), 시드(seed), 다음 투구 가정(firstPitchType, firstSwing, firstTiming)
+	 * @return 성공 시 분기 시뮬레이션 결과를 포함하는 Map, 실패 시 success: false와 메시지를 포함하는 Map
+	 */
+	@PostMapping("/game/{gameId}/branches")
+	public Map<String, Object> simulateBranches(@PathVariable String gameId, @RequestBody BranchSimulationRequest request) {
+		Map<String, Object> response = new HashMap<>();
+		try {
+			BranchSimulationResult result = service.simulateBranches(gameId, request);
+			response.put("success", true);
+			response.put("result", result);
+			response.put("message", String.format("%d개 분기 시뮬레이션을 완료했습니다.", result.getBranches()));
+		} catch (Exception e) {
+			response.put("success", false);
+			response.put("message", "분기 시뮬레이션 중 오류가 발생했습니다: " + e.getMessage());
+		}
+		return response;
+	}
+
+	/**
+	 * 게임 생성 (비동기, 요청 형식과 응답은 POST /game과 같음)
+	 * 서비스 호출은 게임 전용 실행기에서 실행하고 서블릿 스레드는 바로 반환합니다.
+	 * @return 실행기가 혼잡하거나 제한 시간을 넘기면 success: false와 메시지를 포함하는 Map
+	 */
+	@PostMapping("/async/game")
+	public DeferredResult<Map<String, Object>> createGameAsync(@RequestBody GameCreateRequest request) {
+		return async.supply(() -> createGame(request), () -> busy("게임 생성"));
+	}
+
+	/**
+	 * 게임 상태 조회 (비동기, ETag 조건부 조회는 GET /game/{gameId} 사용)
+	 * @return 실행기가 혼잡하거나 제한 시간을 넘기면 success: false와 메시지를 포함하는 Map
+	 */
+	@GetMapping("/async/game/{gameId}")
+	public DeferredResult<Map<String, Object>> getGameAsync(@PathVariable String gameId) {
+		return async.supply(() -> loadGame(gameId), () -> busy("게임 조회"));
+	}
+
+	/**
+	 * 타자 스윙/노스윙 처리 (비동기, 요청 형식과 응답은 POST /game/{gameId}/swing과 같음)
+	 * @return 실행기가 혼잡하거나 제한 시간을 넘기면 success: false와 메시지 (제한 시간을 넘긴 명령도 이미 적용되었을 수 있으므로 상태를 다시 조회)
+	 */
+	@PostMapping("/async/game/{gameId}/swing")
+	public DeferredResult<GameCommandResponse> batterSwingAsync(@PathVariable String gameId, @RequestBody SwingRequest request,
+			@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+		return async.supply(() -> batterSwing(gameId, request, idempotencyKey),
+				() -> GameCommandResponse.fail(BUSY_MESSAGE));
+	}
+
+	/**
+	 * 투수 투구 처리 (비동기, 요청 형식과 응답은 POST /game/{gameId}/pitch와 같음)
+	 * @return 실행기가 혼잡하거나 제한 시간을 넘기면 success: false와 메시지 (제한 시간을 넘긴 명령도 이미 적용되었을 수 있으므로 상태를 다시 조회)
+	 */
+	@PostMapping("/async/game/{gameId}/pitch")
+	public DeferredResult<GameCommandResponse> pitcherThrowAsync(@PathVariable String gameId, @RequestBody PitchRequest request,
+			@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+		return async.supply(() -> pitcherThrow(gameId, request, idempotencyKey),
+				() -> GameCommandResponse.fail(BUSY_MESSAGE));
+	}
+
+	/**
+	 * 게임 상태를 바꾸는 명령을 게임별 실행기에서 실행 (명령 적용, 응답용 상태 조회, 멱등 키 기록을 한 단위로)
+	 * 형식이 잘못된 게임 ID는 실행기에 넣기 전에 거르고,
+	 * 없는 게임 ID로 멱등 키 창이 생기지 않도록 게임이 있는지 먼저 확인합니다.
+	 */
+	private <T> T runCommand(String gameId, String idempotencyKey, String operation, Supplier<T> command) {
+		ValidationUtil.validateGameId(gameId);
+		return commandExecutor.execute(gameId, () -> {
+			service.getGame(gameId);
+			return idempotency.execute(gameId, idempotencyKey, operation, command);
+		});
+	}
+
+	private Map<String, Object> loadGame(String gameId) {
+		Map<String, Object> response = new HashMap<>();
+		try {
+			GameDto game = service.getGame(gameId);
+			response.put("success", true);
+			response.put("game", game);
+			response.put("message", "게임 정보를 성공적으로 조회했습니다.");
+		} catch (Exception e) {
+			response.put("success", false);
+			response.put("message", "게임 정보를 찾을 수 없습니다: " + e.getMessage());
+		}
+		return response;
+	}
+
+	private static Map<String, Object> busy(String action) {
+		Map<String, Object> response = new HashMap<>();
+		response.put("success", false);
+		response.put("message", action + " 요청이 많아 처리하지 못했습니다. " + BUSY_MESSAGE);
+		return response;
+	}
+
+	/**
+	 * 게임 상태 버전 기반 강한 ETag (표현마다 접두사를 달리하여 /game과 /stats의 ETag가 섞이지 않게 함)
+	 */
+	private String stateETag(String representation, String gameId) {
+		return "\"" + representation + "-" + service.getGameVersion(gameId) + "\"";
+	}
+}
\ No newline at end of file
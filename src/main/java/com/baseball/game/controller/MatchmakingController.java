@@ -0,0 +1,84 @@
+package com.baseball.game.controller;
+
+import com.baseball.game.dto.MatchRequest;
+import com.baseball.game.dto.MatchStatus;
+import com.baseball.game.service.MatchmakingService;
+import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/match")
+@CrossOrigin(origins = "*")
+public class MatchmakingController {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchmakingController.class);
+
+    @Setter(onMethod_ = @Autowired)
+    private MatchmakingService service;
+
+    /**
+     * 사용자 대전 매칭 등록
+     * 회원의 응원 팀과 저장된 라인업(없으면 기본 라인업)으로 대기열에 들어가고, 비슷한 레이팅의 상대가 있으면 바로 매칭됩니다.
+     * @param request 사용자 ID와 선발 투수 (선발 투수는 생략 가능)
+     * @return 성공 시 대기표 상태(ticket), 실패 시 success: false와 메시지
+     */
+    @PostMapping
+    public Map<String, Object> enqueue(@RequestBody MatchRequest request) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            MatchStatus ticket = service.enqueue(request);
+            response.put("success", true);
+            response.put("ticket", ticket);
+            response.put("message", "MATCHED".equals(ticket.getStatus()) ? "상대를 찾았습니다. 게임을 준비 중입니다."
+                    : "매칭 대기열에 등록되었습니다.");
+        } catch (Exception e) {
+            logger.error("매칭 등록 중 오류 발생: {}", e.getMessage());
+            response.put("success", false);
+            response.put("message", "매칭 등록 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        return response;
+    }
+
+    /**
+     * 대기표 상태 조회 (WAITING, MATCHED, READY, FAILED, CANCELLED, EXPIRED)
+     * READY가 되면 gameId와 side(home/away)로 게임에 참여합니다.
+     */
+    @GetMapping("/{ticketId}")
+    public Map<String, Object> getStatus(@PathVariable String ticketId) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            response.put("success", true);
+            response.put("ticket", service.getStatus(ticketId));
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "매칭 상태 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        return response;
+    }
+
+    /**
+     * 매칭 대기 취소 (이미 매칭된 대기표는 취소되지 않고 현재 상태를 반환)
+     */
+    @DeleteMapping("/{ticketId}")
+    public Map<String, Object> cancel(@PathVariable String ticketId) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            MatchStatus ticket = service.cancel(ticketId);
+            boolean cancelled = "CANCELLED".equals(ticket.getStatus());
+            response.put("success", cancelled);
+            response.put("ticket", ticket);
+            response.put("message", cancelled ? "매칭 대기가 취소되었습니다." : "이미 매칭이 끝난 대기표입니다.");
+        } catch (Exception e) {
+            logger.error("매칭 취소 중 오류 발생: {}", e.getMessage());
+            response.put("success", false);
+            response.put("message", "매칭 취소 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        return response;
+    }
+}
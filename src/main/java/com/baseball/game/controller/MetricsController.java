@@ -0,0 +1,31 @@
+package com.baseball.game.controller;
+
+import com.baseball.game.metrics.MetricsRegistry;
+import com.baseball.game.repository.GameRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    private final MetricsRegistry metrics;
+
+    @Autowired
+    public MetricsController(MetricsRegistry metrics, GameRepository gameRepository) {
+        this.metrics = metrics;
+        // 활성 게임 수 게이지 (스크랩 시점에 Redis 인덱스 크기 조회)
+        metrics.gauge("game.active", gameRepository::countActiveGames);
+    }
+
+    /**
+     * 스크랩용 메트릭 텍스트 조회 (Prometheus 텍스트 형식)
+     * @return 카운터, 게이지, 지연시간 분위수(p50/p99/p999)
+     */
+    @GetMapping(produces = "text/plain; version=0.0.4; charset=utf-8")
+    public String scrape() {
+        return metrics.scrape();
+    }
+}
@@ -0,0 +1,42 @@
+package com.baseball.game.controller;
+
+import com.baseball.game.service.ScoreboardIndex;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api/scoreboard")
+@CrossOrigin(origins = "*")
+public class ScoreboardController {
+
+    @Setter(onMethod_ = @Autowired)
+    private ScoreboardIndex scoreboard;
+
+    /**
+     * 리그 전광판 조회 (진행 중인 모든 게임의 팀, 점수, 이닝, 아웃)
+     * 주기적으로 만들어 둔 JSON을 그대로 내려주고, If-None-Match가 현재 버전과 같으면 304를 반환합니다.
+     * 누구나 조회할 수 있으므로 게임 ID 대신 표시용 번호(id)만 내려줍니다.
+     * @return {version, generatedAt, games: [{id, homeTeam, awayTeam, homeScore, awayScore, inning, top, out, gameOver}]}
+     */
+    @GetMapping
+    public ResponseEntity<byte[]> getScoreboard(WebRequest webRequest) {
+        ScoreboardIndex.Snapshot snapshot = scoreboard.snapshot();
+        if (webRequest.checkNotModified("\"scoreboard-" + snapshot.getVersion() + "\"")) {
+            return null; // 304 Not Modified
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.maxAge(ScoreboardIndex.REFRESH_MILLIS, TimeUnit.MILLISECONDS).cachePublic())
+                .body(snapshot.getJson());
+    }
+}
@@ -0,0 +1,98 @@
+package com.baseball.game.controller;
+
+import com.baseball.game.dto.MatchupPreview;
+import com.baseball.game.dto.MatchupPreviewRequest;
+import com.baseball.game.dto.SeasonProjection;
+import com.baseball.game.dto.SeasonSimulationRequest;
+import com.baseball.game.service.SeasonSimulationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/season")
+public class SeasonSimulationController {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeasonSimulationController.class);
+
+    private static final long STREAM_TIMEOUT_MS = 10 * 60 * 1000L;
+
+    private final SeasonSimulationService service;
+
+    @Autowired
+    public SeasonSimulationController(SeasonSimulationService service) {
+        this.service = service;
+    }
+
+    /**
+     * 시즌 시뮬레이션 실행 (Server-Sent Events 스트림)
+     * 진행 중에는 "progress" 이벤트로 중간 순위 분포를, 끝나면 "complete" 이벤트로 최종 분포를 보냅니다.
+     * 클라이언트가 연결을 끊거나 시간이 초과되면 시뮬레이션도 중단합니다.
+     */
+    @PostMapping("/simulate")
+    public SseEmitter simulateSeason(@RequestBody SeasonSimulationRequest request) {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        CompletableFuture<SeasonProjection> future = service.simulateSeason(request,
+                progress -> send(emitter, "progress", progress));
+
+        future.whenComplete((result, error) -> {
+            if (error == null) {
+                try {
+                    send(emitter, "complete", result);
+                    emitter.complete();
+                } catch (UncheckedIOException e) {
+                    emitter.completeWithError(e);
+                }
+            } else if (!(error instanceof CancellationException)) {
+                emitter.completeWithError(error);
+            }
+        });
+        emitter.onTimeout(() -> future.cancel(false));
+        emitter.onCompletion(() -> future.cancel(false));
+        return emitter;
+    }
+
+    /**
+     * 대진 미리보기 (승리 확률과 팀별 득점 분포)
+     * 같은 라인업/선발 능력치 조합은 캐시에서 바로 응답합니다.
+     * @return 성공 시 미리보기 결과를 포함하는 Map, 실패 시 success: false와 메시지를 포함하는 Map
+     */
+    @PostMapping("/matchup")
+    public Map<String, Object> previewMatchup(@RequestBody MatchupPreviewRequest request) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            MatchupPreview preview = service.previewMatchup(request);
+            response.put("success", true);
+            response.put("preview", preview);
+            response.put("message", String.format("%s vs %s 대진 미리보기 (%d경기)",
+                    preview.getHomeTeam(), preview.getAwayTeam(), preview.getGames()));
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "대진 미리보기 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        return response;
+    }
+
+    private static void send(SseEmitter emitter, String event, SeasonProjection projection) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(projection, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            // 클라이언트 연결 종료: 예외를 던져 시뮬레이션을 중단시킴
+            logger.debug("시즌 시뮬레이션 스트림 전송 실패: {}", e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+    }
+}
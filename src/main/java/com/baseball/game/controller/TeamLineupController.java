@@ -2,10 +2,17 @@ package com.baseball.game.controller;
 
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import com.baseball.game.config.AsyncEndpoint;
 import com.baseball.game.dto.TeamLineup;
 import com.baseball.game.dto.CustomLineupRequest;
+import com.baseball.game.dto.LineupOptimizeRequest;
+import com.baseball.game.dto.LineupRunExpectancy;
+import com.baseball.game.dto.LineupSuggestion;
 import com.baseball.game.service.TeamLineupService;
 import lombok.Setter;
 
@@ -15,10 +22,14 @@ public class TeamLineupController {
 
     
     private final TeamLineupService service;
+
+    // 비동기 조회/최적화(/async/...)의 서비스 호출 실행기
+    private final AsyncEndpoint async;
     
     @Autowired
-    public TeamLineupController(TeamLineupService service) {
+    public TeamLineupController(TeamLineupService service, @Qualifier("lineupAsync") AsyncEndpoint async) {
     	this.service=service;
+    	this.async = async;
     }
 
     // 기본 라인업 조회 (컴퓨터용)
@@ -57,4 +68,40 @@ public class TeamLineupController {
         List<String> players = service.getAvailablePlayers(teamName);
         return ResponseEntity.ok(players);
     }
-}
\ No newline at end of file
+
+    // 상대 투수 기준 추천 타순 조회 (기대 득점 내림차순)
+    @PostMapping("/optimize")
+    public ResponseEntity<List<LineupSuggestion>> suggestBattingOrders(@RequestBody LineupOptimizeRequest request) {
+        List<LineupSuggestion> suggestions = service.suggestBattingOrders(request);
+        return ResponseEntity.ok(suggestions);
+    }
+
+    // 주어진 타순(playerNames 순서, 없으면 팀 기본 라인업)의 기대 득점과 상태별 기대 득점표 조회
+    @PostMapping("/expected-runs")
+    public ResponseEntity<LineupRunExpectancy> estimateExpectedRuns(@RequestBody LineupOptimizeRequest request) {
+        LineupRunExpectancy expectancy = service.estimateExpectedRuns(request);
+        return ResponseEntity.ok(expectancy);
+    }
+
+    // 기본 라인업 조회 (비동기, 실행기가 혼잡하거나 제한 시간을 넘기면 503)
+    @GetMapping("/async/default/{teamName}")
+    public DeferredResult<ResponseEntity<List<TeamLineup>>> getDefaultLineupAsync(@PathVariable String teamName) {
+        return async.supply(() -> getDefaultLineup(teamName), TeamLineupController::unavailable);
+    }
+
+    // 추천 타순 조회 (비동기, 실행기가 혼잡하거나 제한 시간을 넘기면 503)
+    @PostMapping("/async/optimize")
+    public DeferredResult<ResponseEntity<List<LineupSuggestion>>> suggestBattingOrdersAsync(@RequestBody LineupOptimizeRequest request) {
+        return async.supply(() -> suggestBattingOrders(request), TeamLineupController::unavailable);
+    }
+
+    // 타순 기대 득점 조회 (비동기, 실행기가 혼잡하거나 제한 시간을 넘기면 503)
+    @PostMapping("/async/expected-runs")
+    public DeferredResult<ResponseEntity<LineupRunExpectancy>> estimateExpectedRunsAsync(@RequestBody LineupOptimizeRequest request) {
+        return async.supply(() -> estimateExpectedRuns(request), TeamLineupController::unavailable);
+    }
+
+    private static <T> ResponseEntity<T> unavailable() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+}
\ No newline at end of file
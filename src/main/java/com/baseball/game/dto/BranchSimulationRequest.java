@@ -0,0 +1,12 @@
+package com.baseball.game.dto;
+
+import lombok.Data;
+
+@Data
+public class BranchSimulationRequest {
+    private int branches = 1000; // 분기(시뮬레이션) 수
+    private Long seed; // 시뮬레이션 시드 (없으면 매 요청 임의)
+    private String firstPitchType; // 가정: 다음 투구 유형 (없으면 컴퓨터 전략이 선택)
+    private Boolean firstSwing; // 가정: 다음 투구에 스윙 여부 (없으면 컴퓨터 전략이 선택)
+    private Double firstTiming; // 가정: 스윙 타이밍 (0~1, 없으면 컴퓨터 전략이 선택)
+}
@@ -0,0 +1,18 @@
+package com.baseball.game.dto;
+
+import lombok.Data;
+
+@Data
+public class BranchSimulationResult {
+    private String gameId;
+    private int inning; // 분기 시점 이닝
+    private boolean isTop; // 분기 시점 초/말
+    private int homeScore; // 분기 시점 홈팀 점수
+    private int awayScore; // 분기 시점 원정팀 점수
+    private long branches; // 시뮬레이션한 분기 수
+    private double homeWinProbability;
+    private double awayWinProbability;
+    private double tieProbability;
+    private double averageHomeScore; // 분기별 최종 홈팀 점수 평균
+    private double averageAwayScore; // 분기별 최종 원정팀 점수 평균
+}
@@ -0,0 +1,44 @@
+package com.baseball.game.dto;
+
+import com.baseball.game.simulation.BaseOutState;
+import lombok.Data;
+
+/**
+ * 일괄 명령 응답용 간단한 게임 상태 (타순, 선수 능력치 등 큰 필드를 빼고 진행 상황만 담음)
+ */
+@Data
+public class CompactGameState {
+    private int inning;
+    private boolean top;
+    private int out;
+    private int strike;
+    private int ball;
+    private int homeScore;
+    private int awayScore;
+    private int bases; // 주자 비트 (1루=1, 2루=2, 3루=4)
+    private String currentBatter;
+    private int battingSlot; // 현재 타순 인덱스 (0부터)
+    private boolean gameOver;
+    private String winner;
+    private long version;
+
+    public static CompactGameState of(GameDto game) {
+        CompactGameState state = new CompactGameState();
+        state.setInning(game.getInning());
+        state.setTop(game.isTop());
+        state.setOut(game.getOut());
+        state.setStrike(game.getStrike());
+        state.setBall(game.getBall());
+        state.setHomeScore(game.getHomeScore());
+        state.setAwayScore(game.getAwayScore());
+        Batter[] bases = game.getBases();
+        state.setBases((bases[1] != null ? BaseOutState.FIRST : 0) | (bases[2] != null ? BaseOutState.SECOND : 0)
+                | (bases[3] != null ? BaseOutState.THIRD : 0));
+        state.setCurrentBatter(game.getCurrentBatter() != null ? game.getCurrentBatter().getName() : null);
+        state.setBattingSlot(game.getCurrentBatterIndex());
+        state.setGameOver(game.isGameOver());
+        state.setWinner(game.getWinner());
+        state.setVersion(game.getVersion());
+        return state;
+    }
+}
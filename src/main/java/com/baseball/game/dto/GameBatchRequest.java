@@ -0,0 +1,12 @@
+package com.baseball.game.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class GameBatchRequest {
+    public static final int MAX_COMMANDS = 1_000; // 한 요청에 담을 수 있는 명령 수
+
+    private List<GameCommandRequest> commands; // 같은 게임의 명령은 이 순서대로 실행
+}
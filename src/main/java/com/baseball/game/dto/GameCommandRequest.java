@@ -0,0 +1,15 @@
+package com.baseball.game.dto;
+
+import lombok.Data;
+
+/**
+ * 일괄 명령 중 게임 하나에 대한 명령
+ */
+@Data
+public class GameCommandRequest {
+    private String gameId;
+    private String type; // swing, pitch, next-inning
+    private Boolean swing; // swing: 스윙 여부
+    private Double timing; // swing: 타이밍 (0.0 ~ 1.0, 스윙 시 필수)
+    private String pitchType; // pitch: 'strike' 또는 'ball'
+}
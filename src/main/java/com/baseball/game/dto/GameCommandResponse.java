@@ -0,0 +1,32 @@
+package com.baseball.game.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+/**
+ * 스윙/투구 응답 (기존 Map 응답과 같은 JSON 필드 구성, 실패 시 result/game 생략)
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GameCommandResponse {
+    private boolean success;
+    private String result;
+    private GameDto game;
+    private String message;
+
+    public static GameCommandResponse ok(String result, GameDto game, String message) {
+        GameCommandResponse response = new GameCommandResponse();
+        response.setSuccess(true);
+        response.setResult(result);
+        response.setGame(game);
+        response.setMessage(message);
+        return response;
+    }
+
+    public static GameCommandResponse fail(String message) {
+        GameCommandResponse response = new GameCommandResponse();
+        response.setSuccess(false);
+        response.setMessage(message);
+        return response;
+    }
+}
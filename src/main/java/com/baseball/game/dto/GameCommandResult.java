@@ -0,0 +1,37 @@
+package com.baseball.game.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+/**
+ * 일괄 명령 중 명령 하나의 처리 결과 (실패 시 result/state 생략)
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GameCommandResult {
+    private int index; // 요청 목록에서의 순서
+    private String gameId;
+    private boolean success;
+    private String result;
+    private String message;
+    private CompactGameState state;
+
+    public static GameCommandResult ok(int index, String gameId, String result, CompactGameState state) {
+        GameCommandResult response = new GameCommandResult();
+        response.setIndex(index);
+        response.setGameId(gameId);
+        response.setSuccess(true);
+        response.setResult(result);
+        response.setState(state);
+        return response;
+    }
+
+    public static GameCommandResult fail(int index, String gameId, String message) {
+        GameCommandResult response = new GameCommandResult();
+        response.setIndex(index);
+        response.setGameId(gameId);
+        response.setSuccess(false);
+        response.setMessage(message);
+        return response;
+    }
+}
@@ -9,4 +9,5 @@ public class GameCreateRequest {
     private boolean IsUserOffense;
     private int maxInning; // 사용자가 선택한 이닝 수
     private boolean enableTiming; // 타이밍 시스템 활성화 여부
+    private String ruleSet; // 경기 규칙 (standard, kbo, mlb, wbsc, amateur, quick / 없으면 standard)
 }
\ No newline at end of file
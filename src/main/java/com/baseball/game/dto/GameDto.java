@@ -36,7 +36,9 @@ public class GameDto {
 	private List<Pitcher> pitcherList; // (팀 전체 투수 목록, 필요 시 사용)
 	private boolean IsUserOffense; // 사용자가 공격 팀인지 여부 (초기 게임 생성 시 설정, 사용자의 팀이 어느 팀인지 저장)
 	private int maxInning; // 설정 이닝 수
+	private String ruleSet; // 경기 규칙 이름 (연장, 승부치기, 콜드게임 등, GameRules 참고)
 	private int currentBatterIndex; // 현재 타순 인덱스 (현재 공격 팀의 라인업 기준)
+	private long version; // 상태 버전 (상태 변경 시마다 증가, 조회 API의 ETag로 사용)
 
 	public GameDto() {
 		this.baseRunners = new ArrayList<>();
@@ -72,4 +74,4 @@ public class GameDto {
 			return this.awayStartingPitcher;
 		}
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
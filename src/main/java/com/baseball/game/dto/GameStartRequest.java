@@ -0,0 +1,23 @@
+package com.baseball.game.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 라인업까지 한 번에 설정하는 게임 시작 요청
+ * 팀별 타순은 직접 지정한 타순, 사용자 커스텀 라인업, 팀 기본 라인업 순으로 정합니다.
+ */
+@Data
+public class GameStartRequest {
+    private String homeTeam;
+    private String awayTeam;
+    private boolean IsUserOffense;
+    private int maxInning; // 사용자가 선택한 이닝 수
+    private String ruleSet; // 경기 규칙 (없으면 standard)
+    private String userId; // 커스텀 라인업을 사용할 사용자 (없으면 기본 라인업)
+    private List<String> homeLineup; // 홈팀 타순 선수 이름 (없으면 커스텀/기본 라인업)
+    private List<String> awayLineup; // 원정팀 타순 선수 이름 (없으면 커스텀/기본 라인업)
+    private String homeStartingPitcher; // 없으면 로테이션 1번
+    private String awayStartingPitcher; // 없으면 로테이션 1번
+}
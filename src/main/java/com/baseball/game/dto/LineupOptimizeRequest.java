@@ -0,0 +1,14 @@
+package com.baseball.game.dto;
+
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class LineupOptimizeRequest {
+    private String teamName;
+    private List<String> playerNames; // 타자 9명 (없으면 팀 기본 라인업 사용)
+    private String opposingPitcherName; // 상대 투수
+    private int topN = 5; // 추천 타순 수
+    private int maxInning = 9; // 공격 이닝 수
+    private Long seed; // 시뮬레이션 시드 (없으면 로스터와 투수로 정해져 같은 요청은 같은 결과)
+}
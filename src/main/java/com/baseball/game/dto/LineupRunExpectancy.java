@@ -0,0 +1,15 @@
+package com.baseball.game.dto;
+
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class LineupRunExpectancy {
+    private List<String> battingOrder; // 1번 ~ 9번 타자 이름
+    private String opposingPitcherName;
+    private int maxInning;
+    private double expectedRunsPerGame; // 1번 타자부터 maxInning 이닝 공격 시 기대 득점
+    private double expectedRunsPerInning; // 경기 기대 득점 / 이닝 수
+    private List<Double> inningRunsByLeadoff; // 타순별: 해당 타자가 선두타자인 이닝의 기대 득점
+    private List<List<Double>> runExpectancy; // [타순][base-out 상태 = 아웃 * 8 + 주자] 이닝 종료까지 기대 득점 (RE24)
+}
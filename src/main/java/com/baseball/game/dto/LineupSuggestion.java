@@ -0,0 +1,13 @@
+package com.baseball.game.dto;
+
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class LineupSuggestion {
+    private int rank; // 추천 순위 (1부터)
+    private List<String> battingOrder; // 1번 ~ 9번 타자 이름
+    private double expectedRuns; // 시뮬레이션 경기당 평균 득점
+    private double standardError; // 평균 득점의 표준오차
+    private double markovExpectedRuns; // 마르코프 체인 기대 득점
+}
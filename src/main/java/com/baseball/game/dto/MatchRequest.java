@@ -0,0 +1,12 @@
+package com.baseball.game.dto;
+
+import lombok.Data;
+
+/**
+ * 사용자 대전 매칭 등록 요청 (팀은 회원 정보의 팀, 타순은 저장된 커스텀 라인업 또는 팀 기본 라인업)
+ */
+@Data
+public class MatchRequest {
+    private String userId;
+    private String startingPitcher; // 선발 투수 이름 (없으면 팀 로테이션 1번)
+}
@@ -0,0 +1,22 @@
+package com.baseball.game.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+/**
+ * 매칭 대기표 상태 (매칭 전에는 gameId/side/상대 정보 생략)
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MatchStatus {
+    private String ticketId;
+    private String status; // WAITING, MATCHED(게임 생성 중), READY(게임 생성 완료), FAILED, CANCELLED, EXPIRED
+    private String team;
+    private int rating;
+    private long waitedMillis;
+    private String gameId;
+    private String side; // home 또는 away
+    private String opponentId;
+    private String opponentTeam;
+    private String message;
+}
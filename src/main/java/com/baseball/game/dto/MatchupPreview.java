@@ -0,0 +1,21 @@
+package com.baseball.game.dto;
+
+import lombok.Data;
+
+@Data
+public class MatchupPreview {
+    private String homeTeam;
+    private String awayTeam;
+    private String homePitcherName;
+    private String awayPitcherName;
+    private int maxInning;
+    private int games; // 시뮬레이션한 경기 수
+    private double homeWinProbability;
+    private double awayWinProbability;
+    private double tieProbability;
+    private double averageHomeScore;
+    private double averageAwayScore;
+    private double[] homeRunDistribution; // 득점별 확률 (인덱스 = 득점, 마지막 칸은 그 이상)
+    private double[] awayRunDistribution;
+    private boolean cached; // 캐시에서 바로 응답했는지 여부
+}
@@ -0,0 +1,12 @@
+package com.baseball.game.dto;
+
+import lombok.Data;
+
+@Data
+public class MatchupPreviewRequest {
+    private String homeTeam;
+    private String awayTeam;
+    private String homePitcherName; // 홈팀 선발 (없으면 로테이션 1번)
+    private String awayPitcherName; // 원정팀 선발 (없으면 로테이션 1번)
+    private int maxInning = 9;
+}
@@ -0,0 +1,23 @@
+package com.baseball.game.dto;
+
+import com.baseball.game.util.ValidationUtil;
+import lombok.Data;
+
+@Data
+public class PitchRequest {
+    private String pitchType; // 투구 유형 ("strike" 또는 "ball")
+
+    /**
+     * 요청 값 검사
+     * @return 잘못된 값이면 오류 메시지, 올바르면 null
+     */
+    public String validate() {
+        if (pitchType == null || pitchType.trim().isEmpty()) {
+            return "투구 유형을 지정해주세요 (pitchType: 'strike' 또는 'ball').";
+        }
+        if (!ValidationUtil.isValidPitchType(pitchType)) {
+            return "유효하지 않은 투구 유형입니다. 'strike' 또는 'ball'을 사용해주세요.";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.baseball.game.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class SeasonProjection {
+    private long seed; // 기준 시드 (재현용)
+    private int iterationsCompleted; // 완료된 시즌 수
+    private int iterationsRequested; // 요청된 시즌 수
+    private int gamesPerTeam; // 팀당 경기 수
+    private boolean finished; // 모든 반복 완료 여부
+    private List<TeamSeasonProjection> teams; // 평균 승수 내림차순
+}
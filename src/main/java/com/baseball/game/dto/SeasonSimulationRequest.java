@@ -0,0 +1,13 @@
+package com.baseball.game.dto;
+
+import lombok.Data;
+
+@Data
+public class SeasonSimulationRequest {
+    private int iterations = 1000; // 시즌 반복 횟수
+    private int rounds = 2; // 모든 팀 쌍이 맞붙는 횟수 (2면 홈/원정 각 1번)
+    private int maxInning = 9; // 정규 이닝 수
+    private int playoffSpots = 4; // 포스트시즌 진출 팀 수
+    private Long seed; // 기준 시드 (없으면 임의로 생성, 같은 시드면 같은 결과)
+    private boolean plateAppearanceMode; // true면 타석 단위 빠른 모드 (투구 단위보다 10배 이상 빠르고 결과 분포는 같음)
+}
@@ -0,0 +1,26 @@
+package com.baseball.game.dto;
+
+import lombok.Data;
+
+@Data
+public class SwingRequest {
+    private Boolean swing; // 스윙 여부 (true: 스윙, false: 노스윙)
+    private Double timing; // 타이밍 (0.0 ~ 1.0, 스윙 시 필수, JSON 정수도 그대로 변환됨)
+
+    /**
+     * 요청 값 검사
+     * @return 잘못된 값이면 오류 메시지, 올바르면 null
+     */
+    public String validate() {
+        if (swing == null) {
+            return "스윙 여부를 지정해주세요 (swing: true/false).";
+        }
+        if (swing && timing == null) {
+            return "스윙 시 타이밍을 지정해주세요 (timing: 0.0 ~ 1.0).";
+        }
+        if (timing != null && (timing < 0.0 || timing > 1.0)) {
+            return "타이밍은 0.0에서 1.0 사이여야 합니다.";
+        }
+        return null;
+    }
+}
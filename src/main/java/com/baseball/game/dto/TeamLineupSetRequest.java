@@ -0,0 +1,11 @@
+package com.baseball.game.dto;
+
+import lombok.Data;
+import java.util.List;
+
+@Data
+public class TeamLineupSetRequest {
+    private String teamName; // 라인업을 설정할 팀 (홈팀 또는 원정팀)
+    private List<String> battingOrder; // 타순 (선수 이름, 1번 타자부터)
+    private String startingPitcher; // 선발 투수 이름
+}
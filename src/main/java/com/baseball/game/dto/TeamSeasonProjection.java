@@ -0,0 +1,14 @@
+package com.baseball.game.dto;
+
+import lombok.Data;
+
+@Data
+public class TeamSeasonProjection {
+    private String teamName;
+    private double averageWins; // 평균 승수
+    private double averageLosses; // 평균 패수
+    private double averageTies; // 평균 무승부 수
+    private double playoffOdds; // 포스트시즌 진출 확률 (0.0 ~ 1.0)
+    private double firstPlaceOdds; // 1위 확률 (0.0 ~ 1.0)
+    private long[] winDistribution; // 승수별 시즌 수 (인덱스 = 승수)
+}
@@ -12,4 +12,7 @@ public interface BatterMapper {
 
     // 여러 이름으로 타자 리스트
     List<Batter> findByNames(@Param("names") List<String> names);
+
+    // 여러 팀의 타자 리스트 (게임 시작 시 양 팀을 한 번에 조회)
+    List<Batter> findByTeams(@Param("teams") List<String> teams);
 }
@@ -15,4 +15,7 @@ public interface PitcherMapper {
 
     // 여러 이름으로 투수 리스트
     List<Pitcher> findByNames(@Param("names") List<String> names);
+
+    // 여러 팀의 투수 리스트 (게임 시작 시 양 팀을 한 번에 조회)
+    List<Pitcher> findByTeams(@Param("teams") List<String> teams);
 }
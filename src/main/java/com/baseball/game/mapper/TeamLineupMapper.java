@@ -11,6 +11,9 @@ public interface TeamLineupMapper {
     // 기본 라인업 조회 (컴퓨터용)
     List<TeamLineup> findDefaultLineupByTeam(@Param("teamName") String teamName);
 
+    // 여러 팀의 기본 라인업 조회 (커스텀 라인업 제외, 팀별 타순 순서)
+    List<TeamLineup> findDefaultLineupByTeams(@Param("teams") List<String> teams);
+
     // 유저 커스텀 라인업 조회
     List<TeamLineup> findCustomLineupByUserAndTeam(
             @Param("userId") String userId,
@@ -29,4 +32,7 @@ public interface TeamLineupMapper {
 
     // 팀별 사용 가능한 선수 목록 조회
     List<String> findAvailablePlayersByTeam(@Param("teamName") String teamName);
-}
\ No newline at end of file
+
+    // player 테이블의 전체 팀 이름 조회 (시즌 시뮬레이션용)
+    List<String> findAllTeams();
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.baseball.game.metrics;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.util.Properties;
+
+/**
+ * MyBatis 매퍼 호출 시간을 측정하는 플러그인
+ * 메트릭 이름은 "mapper.{매퍼}.{구문 ID}" 형태입니다. (예: mapper.BatterMapper.findByNames)
+ * root-context.xml의 sqlSessionFactory plugins 속성으로 등록합니다.
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class MapperMetricsInterceptor implements Interceptor {
+
+    private final MetricsRegistry metrics;
+
+    public MapperMetricsInterceptor(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        String name = metricName(statement.getId());
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } catch (Throwable t) {
+            metrics.increment(name + ".errors");
+            throw t;
+        } finally {
+            metrics.recordSince(name, start);
+        }
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+        // 설정 항목 없음
+    }
+
+    private static String metricName(String statementId) {
+        // com.baseball.game.mapper.BatterMapper.findByNames -> mapper.BatterMapper.findByNames
+        int methodDot = statementId.lastIndexOf('.');
+        int typeDot = methodDot > 0 ? statementId.lastIndexOf('.', methodDot - 1) : -1;
+        return "mapper." + statementId.substring(typeDot + 1);
+    }
+}
@@ -0,0 +1,65 @@
+package com.baseball.game.metrics;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 컨트롤러 엔드포인트별 요청 지연시간과 오류 수를 기록하는 인터셉터
+ * 메트릭 이름은 "http.{컨트롤러}.{메서드}" 형태입니다. (예: http.game.batterSwing)
+ * 비동기 엔드포인트(DeferredResult 등)는 처음 요청 시각부터 결과를 보내는 ASYNC 디스패치가 끝날 때까지를 기록합니다.
+ */
+public class MetricsHandlerInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = MetricsHandlerInterceptor.class.getName() + ".start";
+
+    private final MetricsRegistry metrics;
+
+    public MetricsHandlerInterceptor(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // ASYNC 디스패치에서는 처음 요청의 시작 시각을 유지
+        if (request.getDispatcherType() != DispatcherType.ASYNC || request.getAttribute(START_ATTRIBUTE) == null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    /**
+     * 핸들러가 비동기 처리를 시작하면 afterCompletion 대신 호출됨 (기록은 ASYNC 디스패치의 afterCompletion에서)
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            metrics.increment(metricName((HandlerMethod) handler) + ".async");
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (!(start instanceof Long) || !(handler instanceof HandlerMethod)) {
+            return;
+        }
+        String name = metricName((HandlerMethod) handler);
+        metrics.recordSince(name, (Long) start);
+        metrics.increment(name + ".requests");
+        if (ex != null || response.getStatus() >= 400) {
+            metrics.increment(name + ".errors");
+        }
+    }
+
+    private static String metricName(HandlerMethod handler) {
+        String controller = handler.getBeanType().getSimpleName();
+        if (controller.endsWith("Controller")) {
+            controller = controller.substring(0, controller.length() - "Controller".length());
+        }
+        return "http." + controller.toLowerCase() + "." + handler.getMethod().getName();
+    }
+}
@@ -1,6 +1,7 @@
 package com.baseball.game.repository;
 
 import com.baseball.game.dto.GameDto;
+import com.baseball.game.metrics.MetricsRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Repository;
@@ -27,8 +28,12 @@ public class RedisGameRepository implements GameRepository {
     @Setter(onMethod_ = @Autowired)
     private RedisTemplate<String, Object> redisTemplate;
 
+    @Setter(onMethod_ = @Autowired)
+    private MetricsRegistry metrics;
+
     @Override
     public void save(GameDto game) {
+        long start = System.nanoTime();
         try {
             String gameKey = GAME_KEY_PREFIX + game.getGameId();
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
@@ -43,11 +48,14 @@ public class RedisGameRepository implements GameRepository {
         } catch (Exception e) {
             logger.error("게임 저장 실패: gameId={}", game.getGameId(), e);
             throw new RuntimeException("게임 저장 중 오류가 발생했습니다.", e);
+        } finally {
+            metrics.recordSince("redis.save", start);
         }
     }
 
     @Override
     public Optional<GameDto> findById(String gameId) {
+        long start = System.nanoTime();
         try {
             String gameKey = GAME_KEY_PREFIX + gameId;
             GameDto game = (GameDto) redisTemplate.opsForValue().get(gameKey);
@@ -62,11 +70,14 @@ public class RedisGameRepository implements GameRepository {
         } catch (Exception e) {
             logger.error("게임 조회 실패: gameId={}", gameId, e);
             throw new RuntimeException("게임 조회 중 오류가 발생했습니다.", e);
+        } finally {
+            metrics.recordSince("redis.findById", start);
         }
     }
 
     @Override
     public List<GameDto> findAll() {
+        long start = System.nanoTime();
         try {
             Set<Object> gameIds = redisTemplate.opsForSet().members(GAME_INDEX_KEY);
             if (gameIds == null || gameIds.isEmpty()) {
@@ -81,11 +92,14 @@ public class RedisGameRepository implements GameRepository {
         } catch (Exception e) {
             logger.error("모든 게임 조회 실패", e);
             throw new RuntimeException("모든 게임 조회 중 오류가 발생했습니다.", e);
+        } finally {
+            metrics.recordSince("redis.findAll", start);
         }
     }
 
     @Override
     public void delete(String gameId) {
+        long start = System.nanoTime();
         try {
             String gameKey = GAME_KEY_PREFIX + gameId;
 
@@ -99,33 +113,42 @@ public class RedisGameRepository implements GameRepository {
         } catch (Exception e) {
             logger.error("게임 삭제 실패: gameId={}", gameId, e);
             throw new RuntimeException("게임 삭제 중 오류가 발생했습니다.", e);
+        } finally {
+            metrics.recordSince("redis.delete", start);
         }
     }
 
     @Override
     public boolean exists(String gameId) {
+        long start = System.nanoTime();
         try {
             String gameKey = GAME_KEY_PREFIX + gameId;
             return Boolean.TRUE.equals(redisTemplate.hasKey(gameKey));
         } catch (Exception e) {
             logger.error("게임 존재 확인 실패: gameId={}", gameId, e);
             return false;
+        } finally {
+            metrics.recordSince("redis.exists", start);
         }
     }
 
     @Override
     public long countActiveGames() {
+        long start = System.nanoTime();
         try {
             Set<Object> gameIds = redisTemplate.opsForSet().members(GAME_INDEX_KEY);
             return gameIds != null ? gameIds.size() : 0;
         } catch (Exception e) {
             logger.error("활성 게임 수 조회 실패", e);
             return 0;
+        } finally {
+            metrics.recordSince("redis.countActiveGames", start);
         }
     }
 
     @Override
     public void cleanupExpiredGames() {
+        long start = System.nanoTime();
         try {
             Set<Object> gameIds = redisTemplate.opsForSet().members(GAME_INDEX_KEY);
             if (gameIds == null || gameIds.isEmpty()) {
@@ -147,6 +170,8 @@ public class RedisGameRepository implements GameRepository {
             }
         } catch (Exception e) {
             logger.error("만료된 게임 정리 실패", e);
+        } finally {
+            metrics.recordSince("redis.cleanupExpiredGames", start);
         }
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
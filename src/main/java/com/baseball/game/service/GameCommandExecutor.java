@@ -0,0 +1,92 @@
+package com.baseball.game.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 게임별 명령 실행기
+ * 게임 상태(GameDto)는 잠금 없이 변경되므로 같은 게임의 명령은 제출한 순서대로 하나씩 실행하고,
+ * 서로 다른 게임의 명령은 공유 실행기에서 병렬로 실행합니다.
+ * 게임마다 스레드를 두지 않고 그 게임의 마지막 명령 뒤에 다음 명령을 잇는 방식이라 게임이 많아도
+ * 스레드 수는 공유 실행기 크기로 제한되며, 대기 중인 명령이 없는 게임은 맵에서 바로 빠집니다.
+ * 게임 상태를 바꾸는 모든 경로(HTTP, 일괄 명령, WebSocket)는 이 실행기를 거치며, 명령 안에서 같은 게임의 명령을
+ * 다시 제출하면 줄을 서지 않고 바로 실행합니다 (자기 자신을 기다리는 교착 방지).
+ */
+public class GameCommandExecutor {
+
+    private final Executor executor;
+
+    // 게임 ID -> 그 게임에 마지막으로 제출된 명령
+    private final ConcurrentHashMap<String, CompletableFuture<?>> tails = new ConcurrentHashMap<>();
+
+    // 현재 스레드가 실행 중인 명령의 게임 ID
+    private final ThreadLocal<String> running = new ThreadLocal<>();
+
+    public GameCommandExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 명령 제출 (같은 게임의 앞선 명령이 끝난 뒤 실행, 앞선 명령의 실패와는 무관하게 실행)
+     */
+    public <T> CompletableFuture<T> submit(String gameId, Supplier<T> command) {
+        if (gameId.equals(running.get())) {
+            try {
+                return CompletableFuture.completedFuture(command.get());
+            } catch (RuntimeException | Error e) {
+                CompletableFuture<T> failed = new CompletableFuture<>();
+                failed.completeExceptionally(e);
+                return failed;
+            }
+        }
+        Supplier<T> task = () -> runAs(gameId, command);
+        Object[] submitted = new Object[1];
+        tails.compute(gameId, (id, tail) -> {
+            CompletableFuture<T> next = tail == null
+                    ? CompletableFuture.supplyAsync(task, executor)
+                    : tail.handleAsync((result, error) -> task.get(), executor);
+            submitted[0] = next;
+            return next;
+        });
+        @SuppressWarnings("unchecked")
+        CompletableFuture<T> future = (CompletableFuture<T>) submitted[0];
+        future.whenComplete((result, error) -> tails.remove(gameId, future));
+        return future;
+    }
+
+    /**
+     * 명령을 제출하고 끝날 때까지 대기 (명령의 예외는 그대로 다시 던짐)
+     */
+    public <T> T execute(String gameId, Supplier<T> command) {
+        try {
+            return submit(gameId, command).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 실행 중이거나 대기 중인 명령이 있는 게임 수
+     */
+    public int activeGames() {
+        return tails.size();
+    }
+
+    private <T> T runAs(String gameId, Supplier<T> command) {
+        running.set(gameId);
+        try {
+            return command.get();
+        } finally {
+            running.remove();
+        }
+    }
+}
@@ -1,15 +1,35 @@
 // src/main/java/com/baseball/game/service/GameService.java
 package com.baseball.game.service;
 
+import com.baseball.game.dto.BranchSimulationRequest;
+import com.baseball.game.dto.BranchSimulationResult;
+import com.baseball.game.dto.GameCommandRequest;
+import com.baseball.game.dto.GameCommandResult;
 import com.baseball.game.dto.GameDto;
+import com.baseball.game.dto.GameStartRequest;
 import com.baseball.game.dto.Batter;
 import com.baseball.game.dto.Pitcher;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface GameService {
     GameDto createGame(String homeTeam, String awayTeam, int maxInning, boolean isUserOffense);
+
+    /**
+     * 경기 규칙을 지정하여 게임을 생성합니다.
+     * @param ruleSet 미리 정의된 경기 규칙 이름 (null이면 기본 규칙, GameRules 참고)
+     */
+    GameDto createGame(String homeTeam, String awayTeam, int maxInning, boolean isUserOffense, String ruleSet);
     GameDto getGame(String gameId);
+
+    /**
+     * 게임 생성과 양 팀 라인업/선발 투수 설정을 한 번에 처리합니다.
+     * 타순은 직접 지정한 타순, 사용자 커스텀 라인업, 팀 기본 라인업 순으로 정하고, 선발 투수가 없으면 로테이션 1번을 씁니다.
+     * @param request 팀, 이닝 수, 사용자 공격 여부, 경기 규칙, 사용자 ID(선택), 팀별 타순/선발 투수(선택)
+     * @return 첫 타자와 투수까지 설정되어 바로 진행할 수 있는 게임
+     */
+    GameDto startGame(GameStartRequest request);
     String batterSwing(String gameId, Boolean swing, Double timing);
     String pitcherThrow(String gameId, String pitchType);
     GameDto nextInning(String gameId);
@@ -17,6 +37,13 @@ public interface GameService {
     void advanceRunners(String gameId, Integer bases);
     String getGameStats(String gameId);
 
+    /**
+     * 게임 상태 버전 조회 (상태가 바뀔 때마다 증가, 조건부 GET의 ETag로 사용)
+     * @param gameId 게임 ID
+     * @return 현재 상태 버전
+     */
+    long getGameVersion(String gameId);
+
     /**
      * 특정 팀의 타순 및 선발 투수를 설정합니다.
      * @param gameId 게임 ID
@@ -35,9 +62,35 @@ public interface GameService {
      */
     void setComputerLineupAndPitcher(String gameId, String teamName, List<String> battingOrderPlayerNames, String startingPitcherName);
 
+    /**
+     * 진행 중인 게임을 분기하여 끝까지 N번 시뮬레이션합니다. (원래 게임 상태는 변경되지 않음)
+     * @param gameId 게임 ID
+     * @param request 분기 수, 시드, 다음 투구에 대한 가정(투구 유형/스윙 여부/타이밍)
+     * @return 분기 시점 상황과 승리 확률, 평균 최종 점수
+     */
+    BranchSimulationResult simulateBranches(String gameId, BranchSimulationRequest request);
+
+    /**
+     * 여러 게임의 명령(swing, pitch, next-inning)을 한 번에 처리합니다.
+     * 서로 다른 게임의 명령은 병렬로, 같은 게임의 명령은 목록 순서대로 실행하며,
+     * 명령 하나가 실패해도 나머지 명령에는 영향을 주지 않습니다.
+     * @param commands 명령 목록
+     * @return 명령 순서대로 처리 결과와 간단한 게임 상태
+     */
+    List<GameCommandResult> executeCommands(List<GameCommandRequest> commands);
+
+    /**
+     * 명령 하나를 게임별 실행기에 제출하고 바로 반환합니다. (WebSocket처럼 응답을 기다리며 스레드를 잡아두지 않는 클라이언트용)
+     * 일괄 명령과 같은 실행기를 쓰므로 같은 게임의 명령은 어느 경로로 들어와도 제출 순서대로 실행됩니다.
+     * @param index 결과에 그대로 담아 돌려줄 요청 번호
+     * @param command 명령 (gameId, type: swing/pitch/next-inning)
+     * @return 처리 결과와 간단한 게임 상태 (명령 실패도 예외가 아닌 실패 결과로 완료)
+     */
+    CompletableFuture<GameCommandResult> submitCommand(int index, GameCommandRequest command);
+
     // 기타 GameServiceImpl에 protected로 선언된 메서드들은 인터페이스에 노출시키지 않습니다.
-    // protected void checkCount(GameDto game);
+    // protected void applyPitch(GameDto game, PitchEvent event);
     // protected void advanceBattingOrder(GameDto game);
     // protected void checkGameOver(GameDto game);
     // protected void handleScore(GameDto game, int score);
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -1,17 +1,41 @@
 // src/main/java/com/baseball/game/service/GameServiceImpl.java
 package com.baseball.game.service;
 
+import com.baseball.game.dto.BranchSimulationRequest;
+import com.baseball.game.dto.BranchSimulationResult;
+import com.baseball.game.dto.CompactGameState;
+import com.baseball.game.dto.GameBatchRequest;
+import com.baseball.game.dto.GameCommandRequest;
+import com.baseball.game.dto.GameCommandResult;
 import com.baseball.game.dto.GameDto;
+import com.baseball.game.dto.GameStartRequest;
+import com.baseball.game.dto.TeamLineup;
 import com.baseball.game.dto.Batter;
 import com.baseball.game.dto.Pitcher;
 import com.baseball.game.util.GameLogicUtil;
+import com.baseball.game.util.ValidationUtil;
+import com.baseball.game.exception.GameException;
 import com.baseball.game.exception.GameNotFoundException;
 import com.baseball.game.exception.InvalidGameStateException;
 import com.baseball.game.exception.ValidationException;
 import com.baseball.game.repository.GameRepository; // 실제 DB 연동 시 필요
 import com.baseball.game.mapper.BatterMapper;
 import com.baseball.game.mapper.PitcherMapper;
-import com.baseball.game.mapper.TeamLineupMapper; // 라인업 조회를 위해 필요 (현재는 사용하지 않음, 필요 시 추가)
+import com.baseball.game.mapper.TeamLineupMapper;
+import com.baseball.game.metrics.MetricsRegistry;
+import com.baseball.game.simulation.BaseOutState;
+import com.baseball.game.simulation.BranchSimulator;
+import com.baseball.game.simulation.BranchSummary;
+import com.baseball.game.simulation.FirstPitchOverride;
+import com.baseball.game.simulation.GameRules;
+import com.baseball.game.simulation.GameSimulator;
+import com.baseball.game.simulation.GameState;
+import com.baseball.game.simulation.PitchEvent;
+import com.baseball.game.simulation.PlayStrategy;
+import com.baseball.game.simulation.PolicyTable;
+import com.baseball.game.simulation.PolicyTablePlayStrategy;
+import com.baseball.game.simulation.RatingBasedPlayStrategy;
+import com.baseball.game.simulation.RuleEngine;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -19,11 +43,22 @@ import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.HashMap; // Map 초기화를 위해 추가
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import lombok.Setter;
@@ -33,6 +68,17 @@ import lombok.Setter;
 public class GameServiceImpl implements GameService {
     private static final Logger logger = LoggerFactory.getLogger(GameServiceImpl.class);
 
+    private static final DoubleSupplier RANDOM = () -> ThreadLocalRandom.current().nextDouble();
+
+    // 컴퓨터 투수/타자 전략 (시작 시 미리 계산된 정책 표를 한 번 읽고, 결정마다 표를 조회)
+    private static final PlayStrategy COMPUTER_STRATEGY = loadComputerStrategy();
+
+    private static final int MAX_BRANCHES = 100_000;
+
+    private static final long BATCH_TIMEOUT_MILLIS = 10_000;
+
+    private static final int LINEUP_SIZE = 9;
+
     @Setter(onMethod_ = @Autowired)
     private GameRepository gameRepository; // 실제 DB 연동 시 사용 예정
 
@@ -42,12 +88,62 @@ public class GameServiceImpl implements GameService {
     @Setter(onMethod_ = @Autowired)
     private PitcherMapper pitcherMapper;
 
+    @Setter(onMethod_ = @Autowired)
+    private TeamLineupMapper teamLineupMapper;
+
     // 메모리 기반 (임시, Redis 연동 후 제거 예정)
-    private Map<String, GameDto> games = new HashMap<>();
+    // 여러 요청 스레드가 동시에 게임을 생성/조회하므로 ConcurrentHashMap 사용
+    private Map<String, GameDto> games = new ConcurrentHashMap<>();
+
+    // 게임별 컴파일된 규칙 표 (같은 규칙/이닝 수의 게임은 같은 표를 공유)
+    private final Map<String, RuleEngine> ruleEngines = new ConcurrentHashMap<>();
+
+    @Setter(onMethod_ = @Autowired)
+    private MetricsRegistry metrics;
+
+    // 같은 게임의 명령은 순서대로, 다른 게임의 명령은 병렬로 실행
+    @Setter(onMethod_ = @Autowired)
+    private GameCommandExecutor commandExecutor;
+
+    // 게임별 최근 멱등 키 (게임이 끝나면 제거)
+    @Setter(onMethod_ = @Autowired)
+    private IdempotencyCache idempotency;
+
+    // 리그 전광판 (점수, 이닝, 아웃이 바뀔 때마다 게임별 기록 갱신)
+    @Setter(onMethod_ = @Autowired)
+    private ScoreboardIndex scoreboard;
+
+    // 팀별 기본 라인업/타자/투수 (게임 시작 시 DB 조회 없이 타순과 선발 투수 구성)
+    @Setter(onMethod_ = @Autowired)
+    private RosterCache rosterCache;
 
     @Override
     @Transactional
     public GameDto createGame(String homeTeam, String awayTeam, int maxInning, boolean isUserOffense) {
+        return createGame(homeTeam, awayTeam, maxInning, isUserOffense, null);
+    }
+
+    @Override
+    @Transactional
+    public GameDto createGame(String homeTeam, String awayTeam, int maxInning, boolean isUserOffense, String ruleSet) {
+        long start = System.nanoTime();
+        try {
+            GameDto newGame = buildGame(homeTeam, awayTeam, maxInning, isUserOffense, ruleSet);
+            publish(newGame);
+            logger.info("Created game with ID: {} (규칙: {})", newGame.getGameId(), newGame.getRuleSet());
+
+            // 게임 생성 시 DB 저장 (Redis 등)
+            // gameRepository.save(newGame);
+            return newGame;
+        } finally {
+            metrics.recordSince("game.command.createGame", start);
+        }
+    }
+
+    /**
+     * 새 게임 상태 구성 (검증 후 초기 상태의 GameDto를 만들기만 하고 게임 목록에는 넣지 않음)
+     */
+    private GameDto buildGame(String homeTeam, String awayTeam, int maxInning, boolean isUserOffense, String ruleSet) {
         // 팀 검증 (실제 팀 데이터를 조회하는 로직 필요)
         if (homeTeam == null || awayTeam == null || homeTeam.trim().isEmpty() || awayTeam.trim().isEmpty()) {
             throw new ValidationException("홈팀과 원정팀 이름은 필수입니다.");
@@ -58,12 +154,19 @@ public class GameServiceImpl implements GameService {
         if (maxInning <= 0) {
             throw new ValidationException("최대 이닝 수는 1 이상이어야 합니다.");
         }
+        GameRules rules;
+        try {
+            rules = GameRules.of(ruleSet);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(e.getMessage());
+        }
 
         GameDto newGame = new GameDto();
         newGame.setGameId(UUID.randomUUID().toString()); // 고유한 게임 ID 생성
         newGame.setHomeTeam(homeTeam);
         newGame.setAwayTeam(awayTeam);
         newGame.setMaxInning(maxInning);
+        newGame.setRuleSet(rules.getName());
         newGame.setIsUserOffense(isUserOffense);
         newGame.setInning(1);
         newGame.setTop(true);
@@ -84,14 +187,130 @@ public class GameServiceImpl implements GameService {
         newGame.setPitcherList(new ArrayList<>());
         newGame.setStartingPitcher(null);
         newGame.setCurrentBatterIndex(0);
+        return newGame;
+    }
 
+    /**
+     * 게임 공개 (다른 요청이 조회/명령할 수 있게 게임 목록에 등록, 상태를 모두 채운 뒤에 호출)
+     */
+    private void publish(GameDto game) {
+        ruleEngines.put(game.getGameId(), RuleEngine.forGame(game.getRuleSet(), game.getMaxInning()));
+        games.put(game.getGameId(), game);
+    }
 
-        games.put(newGame.getGameId(), newGame);
-        logger.info("Created game with ID: {}", newGame.getGameId());
+    @Override
+    @Transactional
+    public GameDto startGame(GameStartRequest request) {
+        long start = System.nanoTime();
+        try {
+            String homeTeam = request.getHomeTeam();
+            String awayTeam = request.getAwayTeam();
+            if (homeTeam == null || awayTeam == null || homeTeam.trim().isEmpty() || awayTeam.trim().isEmpty()) {
+                throw new ValidationException("홈팀과 원정팀 이름은 필수입니다.");
+            }
+            if (homeTeam.equals(awayTeam)) {
+                throw new ValidationException("홈팀과 원정팀은 동일할 수 없습니다.");
+            }
 
-        // 게임 생성 시 DB 저장 (Redis 등)
-        // gameRepository.save(newGame);
-        return newGame;
+            // 라인업을 모두 확정한 뒤에 게임을 만들어, 선수 정보가 잘못되면 빈 게임이 남지 않게 함
+            Map<String, RosterCache.TeamRoster> rosters = loadRosters(homeTeam, awayTeam);
+            Map<String, List<String>> customOrders = loadCustomOrders(request.getUserId());
+            RosterCache.TeamRoster home = rosters.get(homeTeam);
+            RosterCache.TeamRoster away = rosters.get(awayTeam);
+            List<Batter> homeOrder = home.battingOrder(battingOrderNames(home, request.getHomeLineup(), customOrders));
+            List<Batter> awayOrder = away.battingOrder(battingOrderNames(away, request.getAwayLineup(), customOrders));
+            Pitcher homePitcher = home.startingPitcher(request.getHomeStartingPitcher());
+            Pitcher awayPitcher = away.startingPitcher(request.getAwayStartingPitcher());
+
+            // 라인업과 선발 투수까지 채운 뒤에 공개 (공개 후에는 게임별 실행기 밖에서 상태를 바꾸지 않음)
+            GameDto game = buildGame(homeTeam, awayTeam, request.getMaxInning(), request.isIsUserOffense(), request.getRuleSet());
+            game.setHomeBattingOrder(homeOrder);
+            game.setAwayBattingOrder(awayOrder);
+            game.setHomeStartingPitcher(homePitcher);
+            game.setAwayStartingPitcher(awayPitcher);
+            // 1회 초: 원정팀 공격, 홈팀 선발 투구
+            game.setBattingOrder(game.getCurrentOffensiveLineup());
+            game.setCurrentPitcher(game.getCurrentDefensivePitcher());
+            game.setCurrentBatterIndex(0);
+            game.setCurrentBatter(game.getBattingOrder().get(0));
+            markChanged(game);
+            publish(game);
+            logger.info("게임 {} 시작: {} vs {} (선발 {} / {})", game.getGameId(), awayTeam, homeTeam,
+                    awayPitcher.getName(), homePitcher.getName());
+            return game;
+        } finally {
+            metrics.recordSince("game.command.startGame", start);
+        }
+    }
+
+    /**
+     * 팀 명단 조회 (캐시에 없는 팀만 기본 라인업, 타자, 투수를 팀 목록 IN 조회 한 번씩으로 읽음)
+     */
+    private Map<String, RosterCache.TeamRoster> loadRosters(String... teams) {
+        Map<String, RosterCache.TeamRoster> rosters = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String team : teams) {
+            RosterCache.TeamRoster roster = rosterCache.get(team);
+            if (roster != null) {
+                rosters.put(team, roster);
+            } else {
+                missing.add(team);
+            }
+        }
+        if (missing.isEmpty()) {
+            return rosters;
+        }
+
+        Map<String, List<String>> orders = new HashMap<>();
+        for (TeamLineup entry : teamLineupMapper.findDefaultLineupByTeams(missing)) {
+            orders.computeIfAbsent(entry.getTeamName(), team -> new ArrayList<>()).add(entry.getPlayerName());
+        }
+        Map<String, List<Batter>> batters = new HashMap<>();
+        for (Batter batter : batterMapper.findByTeams(missing)) {
+            batters.computeIfAbsent(batter.getTeam(), team -> new ArrayList<>()).add(batter);
+        }
+        Map<String, List<Pitcher>> pitchers = new HashMap<>();
+        for (Pitcher pitcher : pitcherMapper.findByTeams(missing)) {
+            pitchers.computeIfAbsent(pitcher.getTeam(), team -> new ArrayList<>()).add(pitcher);
+        }
+        for (String team : missing) {
+            if (!batters.containsKey(team)) {
+                throw new ValidationException("선수 정보가 없는 팀입니다: " + team);
+            }
+            rosters.put(team, rosterCache.put(team, orders.getOrDefault(team, Collections.emptyList()),
+                    batters.get(team), pitchers.getOrDefault(team, Collections.emptyList())));
+        }
+        return rosters;
+    }
+
+    /**
+     * 사용자의 팀별 커스텀 타순 (9명 미만으로 저장된 팀은 제외, 사용자가 없으면 빈 목록)
+     */
+    private Map<String, List<String>> loadCustomOrders(String userId) {
+        if (userId == null || userId.trim().isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, List<String>> orders = new HashMap<>();
+        for (TeamLineup entry : teamLineupMapper.findAllCustomLineupsByUser(userId)) {
+            orders.computeIfAbsent(entry.getTeamName(), team -> new ArrayList<>()).add(entry.getPlayerName());
+        }
+        orders.values().removeIf(order -> order.size() < LINEUP_SIZE);
+        return orders;
+    }
+
+    /**
+     * 팀 타순 선수 이름 (직접 지정한 타순, 커스텀 라인업, 기본 라인업 순)
+     */
+    private List<String> battingOrderNames(RosterCache.TeamRoster roster, List<String> requested,
+                                           Map<String, List<String>> customOrders) {
+        if (requested != null && !requested.isEmpty()) {
+            return requested;
+        }
+        List<String> order = customOrders.getOrDefault(roster.getTeam(), roster.getDefaultOrder());
+        if (order.size() < LINEUP_SIZE) {
+            throw new ValidationException(roster.getTeam() + " 팀 기본 라인업이 9명 미만입니다. (" + order.size() + "명)");
+        }
+        return order.subList(0, LINEUP_SIZE);
     }
 
     @Override
@@ -104,174 +323,193 @@ public class GameServiceImpl implements GameService {
     }
 
     @Override
-    @Transactional
     public String batterSwing(String gameId, Boolean swing, Double timing) {
-        GameDto game = getGame(gameId);
+        return commandExecutor.execute(gameId, () -> executeSwing(gameId, swing, timing));
+    }
 
-        if (game.isGameOver()) {
-            throw new InvalidGameStateException("게임이 이미 종료되었습니다.");
-        }
-        if (game.getCurrentBatter() == null || game.getCurrentPitcher() == null) {
-            throw new InvalidGameStateException("현재 타자 또는 투수가 설정되지 않았습니다. 라인업을 먼저 설정해주세요.");
-        }
-        if (game.getOut() >= 3 && game.getStrike() == 0 && game.getBall() == 0) {
-            throw new InvalidGameStateException("이미 3아웃입니다. 다음 이닝으로 진행해주세요.");
-        }
+    private String executeSwing(String gameId, Boolean swing, Double timing) {
+        long start = System.nanoTime();
+        try {
+            GameDto game = getGame(gameId);
 
-        String pitchResult = GameLogicUtil.determinePitchResult(game.getCurrentPitcher(), "strike"); // 일단 스트라이크라고 가정
-        String hitResult = GameLogicUtil.determineHitResult(swing, game.getCurrentPitcher(), pitchResult);
+            if (game.isGameOver()) {
+                throw new InvalidGameStateException("게임이 이미 종료되었습니다.");
+            }
+            if (game.getCurrentBatter() == null || game.getCurrentPitcher() == null) {
+                throw new InvalidGameStateException("현재 타자 또는 투수가 설정되지 않았습니다. 라인업을 먼저 설정해주세요.");
+            }
+            if (game.getOut() >= 3 && game.getStrike() == 0 && game.getBall() == 0) {
+                throw new InvalidGameStateException("이미 3아웃입니다. 다음 이닝으로 진행해주세요.");
+            }
 
-        logger.info("게임 {}: 타자 {} 스윙. 투수 {} 투구 결과: {}, 타격 결과: {}",
-                gameId, game.getCurrentBatter().getName(), game.getCurrentPitcher().getName(), pitchResult, hitResult);
+            // 컴퓨터 투수의 투구 선택 (볼카운트, 주자/아웃 상황, 매치업별 정책 표 조회)
+            String pitchType = COMPUTER_STRATEGY.choosePitchType(game.getCurrentPitcher(), game.getCurrentBatter(),
+                    baseOutState(game), game.getBall(), game.getStrike(), RANDOM);
+            String hitResult = resolveGroundBall(game, GameLogicUtil.determineHitResultWithTiming(swing,
+                    game.getCurrentPitcher(), pitchType, timing != null ? timing : 0.5, game.getCurrentBatter()));
 
+            logger.info("게임 {}: 타자 {} 스윙. 투수 {} 투구 유형: {}, 타격 결과: {}",
+                    gameId, game.getCurrentBatter().getName(), game.getCurrentPitcher().getName(), pitchType, hitResult);
 
-        // 결과에 따른 게임 상태 업데이트
-        switch (hitResult) {
-            case "스트라이크":
-                game.setStrike(game.getStrike() + 1);
-                break;
-            case "볼":
-                game.setBall(game.getBall() + 1);
-                break;
-            case "파울":
-                if (game.getStrike() < 2) { // 2스트라이크 이후 파울은 스트라이크로 계산하지 않음
-                    game.setStrike(game.getStrike() + 1);
-                }
-                break;
-            case "안타":
-                handleScore(game, 1); // 1점 추가 로직 (임시)
-                GameLogicUtil.addRunnerToBase(game, 1, game.getCurrentBatter()); // 타자 1루 진루
-                GameLogicUtil.advanceRunners(game, 1); // 모든 주자 1칸 진루
-                game.setStrike(0);
-                game.setBall(0);
-                advanceBattingOrder(game); // 다음 타자로 변경
-                break;
-            case "홈런!":
-                handleScore(game, 4); // 4점 추가 로직 (임시)
-                game.getCurrentBatter().setHomeRuns(game.getCurrentBatter().getHomeRuns() + 1);
-                game.getCurrentBatter().setRbis(game.getCurrentBatter().getRbis() + (game.getBaseRunners().size() + 1));
-                GameLogicUtil.resetBases(game);
-                game.setStrike(0);
-                game.setBall(0);
-                advanceBattingOrder(game);
-                break;
-            case "뜬공 아웃":
-                game.setOut(game.getOut() + 1);
-                game.setStrike(0);
-                game.setBall(0);
-                advanceBattingOrder(game);
-                break;
-            case "삼진 아웃":
-                game.setOut(game.getOut() + 1);
-                game.setStrike(0);
-                game.setBall(0);
-                advanceBattingOrder(game);
-                break;
-            case "땅볼 아웃": // 땅볼 로직은 GameLogicUtil 내에서 처리되므로 여기서는 단순히 아웃만 반영
-                game.setOut(game.getOut() + 1);
-                game.setStrike(0);
-                game.setBall(0);
-                advanceBattingOrder(game);
-                break;
-            case "병살타!": // 병살타 로직도 GameLogicUtil 내에서 처리되므로 여기서는 아웃만 반영
-                game.setOut(game.getOut() + 2); // GameLogicUtil에서 이미 아웃 처리했지만, 여기도 명시
-                game.setStrike(0);
-                game.setBall(0);
-                GameLogicUtil.resetBases(game); // 병살타시 모든 주자 귀루 또는 아웃
-                advanceBattingOrder(game);
-                break;
+            applyPitch(game, PitchEvent.fromResult(hitResult)); // 카운트, 아웃, 주자, 득점 처리
+            checkGameOver(game); // 게임 종료 여부 확인
+
+            markChanged(game);
+            // gameRepository.save(game);
+            return hitResult;
+        } finally {
+            metrics.recordSince("game.command.swing", start);
         }
+    }
 
-        checkCount(game); // 스트라이크, 볼, 아웃 카운트 확인 및 처리
-        checkGameOver(game); // 게임 종료 여부 확인
+    /**
+     * 투구 결과를 규칙 표로 반영 (카운트, 아웃, 주자 이동, 득점, 타자 교체)
+     * 볼넷/삼진 카운트, 진루와 득점은 모두 게임 생성 시 고른 규칙의 전이 표 한 번 조회로 결정됩니다.
+     */
+    protected void applyPitch(GameDto game, PitchEvent event) {
+        int entry = ruleEngine(game).apply(
+                RuleEngine.state(game.getBall(), game.getStrike(), game.getOut(), baseBits(game)), event);
+        int runs = RuleEngine.runs(entry);
+        int next = RuleEngine.nextState(entry);
+        game.setBall(RuleEngine.balls(next));
+        game.setStrike(RuleEngine.strikes(next));
+        game.setOut(RuleEngine.outs(next));
+
+        if (RuleEngine.isPlateAppearanceOver(entry)) {
+            Batter batter = game.getCurrentBatter();
+            moveRunners(game, entry, batter);
+            if (runs > 0) {
+                handleScore(game, runs);
+            }
+            if (event == PitchEvent.HOME_RUN) {
+                batter.setHomeRuns(batter.getHomeRuns() + 1);
+            }
+            if (event != PitchEvent.DOUBLE_PLAY) {
+                batter.setRbis(batter.getRbis() + runs);
+            }
+            advanceBattingOrder(game); // 다음 타자로 변경
+        }
+        if (game.getOut() >= 3) {
+            // 공수 교대는 클라이언트가 nextInning을 요청할 때 수행
+            logger.info("게임 {}: 3아웃, 이닝 종료 준비. 점수: {}:{} vs {}:{}",
+                    game.getGameId(), game.getAwayTeam(), game.getAwayScore(), game.getHomeTeam(), game.getHomeScore());
+        }
+    }
 
-        // gameRepository.save(game);
-        return hitResult;
+    /**
+     * 땅볼 아웃 중 병살 판정 (1루 주자가 있고 2아웃 전이면 모델의 병살 확률로 병살타)
+     */
+    protected String resolveGroundBall(GameDto game, String result) {
+        if ("땅볼 아웃".equals(result) && game.getOut() < 2 && game.getBases()[1] != null
+                && RANDOM.getAsDouble() < GameLogicUtil.getParameters().getDoublePlayChance()) {
+            return "병살타!";
+        }
+        return result;
     }
 
     @Override
-    @Transactional
     public String pitcherThrow(String gameId, String pitchType) {
-        GameDto game = getGame(gameId);
-
-        if (game.isGameOver()) {
-            throw new InvalidGameStateException("게임이 이미 종료되었습니다.");
-        }
-        if (game.getCurrentBatter() == null || game.getCurrentPitcher() == null) {
-            throw new InvalidGameStateException("현재 타자 또는 투수가 설정되지 않았습니다. 라인업을 먼저 설정해주세요.");
-        }
-        if (game.getOut() >= 3 && game.getStrike() == 0 && game.getBall() == 0) {
-            throw new InvalidGameStateException("이미 3아웃입니다. 다음 이닝으로 진행해주세요.");
-        }
+        return commandExecutor.execute(gameId, () -> executePitch(gameId, pitchType));
+    }
 
-        // 스윙 없이 투구 결과만 계산
-        String pitchResult = GameLogicUtil.determinePitchResult(game.getCurrentPitcher(), pitchType);
+    private String executePitch(String gameId, String pitchType) {
+        long start = System.nanoTime();
+        try {
+            GameDto game = getGame(gameId);
 
-        logger.info("게임 {}: 투수 {} 투구 ({}). 결과: {}",
-                gameId, game.getCurrentPitcher().getName(), pitchType, pitchResult);
+            if (game.isGameOver()) {
+                throw new InvalidGameStateException("게임이 이미 종료되었습니다.");
+            }
+            if (game.getCurrentBatter() == null || game.getCurrentPitcher() == null) {
+                throw new InvalidGameStateException("현재 타자 또는 투수가 설정되지 않았습니다. 라인업을 먼저 설정해주세요.");
+            }
+            if (game.getOut() >= 3 && game.getStrike() == 0 && game.getBall() == 0) {
+                throw new InvalidGameStateException("이미 3아웃입니다. 다음 이닝으로 진행해주세요.");
+            }
 
-        switch (pitchResult) {
-            case "스트라이크":
-                game.setStrike(game.getStrike() + 1);
-                break;
-            case "볼":
-                game.setBall(game.getBall() + 1);
-                break;
+            // 컴퓨터 타자의 스윙 여부와 타이밍 결정 (정책 표 조회)
+            Batter batter = game.getCurrentBatter();
+            Pitcher pitcher = game.getCurrentPitcher();
+            boolean swing = COMPUTER_STRATEGY.decideSwing(batter, pitcher, pitchType, baseOutState(game),
+                    game.getBall(), game.getStrike(), RANDOM);
+            double timing = swing ? COMPUTER_STRATEGY.chooseTiming(batter, pitcher, RANDOM) : 0.5;
+            String pitchResult = resolveGroundBall(game,
+                    GameLogicUtil.determineHitResultWithTiming(swing, pitcher, pitchType, timing, batter));
+
+            logger.info("게임 {}: 투수 {} 투구 ({}). 타자 {} {}. 결과: {}",
+                    gameId, pitcher.getName(), pitchType, batter.getName(), swing ? "스윙" : "지켜봄", pitchResult);
+
+            applyPitch(game, PitchEvent.fromResult(pitchResult)); // 카운트, 아웃, 주자, 득점 처리
+            checkGameOver(game); // 게임 종료 여부 확인
+
+            markChanged(game);
+            // gameRepository.save(game);
+            return pitchResult;
+        } finally {
+            metrics.recordSince("game.command.pitch", start);
         }
-
-        checkCount(game); // 스트라이크, 볼, 아웃 카운트 확인 및 처리
-        checkGameOver(game); // 게임 종료 여부 확인
-
-        // gameRepository.save(game);
-        return pitchResult;
     }
 
     @Override
-    @Transactional
     public GameDto nextInning(String gameId) {
-        GameDto game = getGame(gameId);
+        return commandExecutor.execute(gameId, () -> executeNextInning(gameId));
+    }
 
-        // 현재 이닝의 말 공격이 끝났다면 다음 이닝으로, 아니면 공수 교대
-        if (game.getOut() < 3) { // 3아웃이 안됐는데 다음 이닝 요청시
-            throw new InvalidGameStateException("아직 현재 이닝이 끝나지 않았습니다 (3아웃이 아닙니다).");
-        }
+    private GameDto executeNextInning(String gameId) {
+        long start = System.nanoTime();
+        try {
+            GameDto game = getGame(gameId);
 
-        if (game.isTop()) { // 현재 이닝 초였으면 -> 말로
-            game.setTop(false);
-            game.setOut(0);
-            game.setStrike(0);
-            game.setBall(0);
-            GameLogicUtil.resetBases(game);
-            // 원정팀 투수 -> 홈팀 타자
-            game.setCurrentPitcher(game.getAwayStartingPitcher()); // 또는 현재 등판 중인 투수
-            game.setBattingOrder(game.getHomeTeamBattingOrder()); // 홈팀 타순으로 변경
-            game.setCurrentBatterIndex(0);
-            game.setCurrentBatter(game.getHomeTeamBattingOrder().get(game.getCurrentBatterIndex()));
-            logger.info("게임 {}: {}회 말로 진행. 현재 타자: {}", gameId, game.getInning(), game.getCurrentBatter().getName());
-        } else { // 현재 이닝 말이었으면 -> 다음 이닝 초로
-            game.setInning(game.getInning() + 1);
-            game.setTop(true);
-            game.setOut(0);
-            game.setStrike(0);
-            game.setBall(0);
-            GameLogicUtil.resetBases(game);
-            // 홈팀 투수 -> 원정팀 타자
-            game.setCurrentPitcher(game.getHomeStartingPitcher()); // 또는 현재 등판 중인 투수
-            game.setBattingOrder(game.getAwayTeamBattingOrder()); // 원정팀 타순으로 변경
-            game.setCurrentBatterIndex(0);
-            game.setCurrentBatter(game.getAwayTeamBattingOrder().get(game.getCurrentBatterIndex()));
-            logger.info("게임 {}: {}회 초로 진행. 현재 타자: {}", gameId, game.getInning(), game.getCurrentBatter().getName());
-        }
+            // 현재 이닝의 말 공격이 끝났다면 다음 이닝으로, 아니면 공수 교대
+            if (game.getOut() < 3) { // 3아웃이 안됐는데 다음 이닝 요청시
+                throw new InvalidGameStateException("아직 현재 이닝이 끝나지 않았습니다 (3아웃이 아닙니다).");
+            }
 
-        checkGameOver(game); // 게임 종료 여부 다시 확인
+            if (game.isTop()) { // 현재 이닝 초였으면 -> 말로
+                game.setTop(false);
+                game.setOut(0);
+                game.setStrike(0);
+                game.setBall(0);
+                GameLogicUtil.resetBases(game);
+                // 원정팀 투수 -> 홈팀 타자
+                game.setCurrentPitcher(game.getAwayStartingPitcher()); // 또는 현재 등판 중인 투수
+                game.setBattingOrder(game.getHomeBattingOrder()); // 홈팀 타순으로 변경
+                game.setCurrentBatterIndex(0);
+                game.setCurrentBatter(game.getHomeBattingOrder().get(game.getCurrentBatterIndex()));
+                placeGhostRunners(game);
+                logger.info("게임 {}: {}회 말로 진행. 현재 타자: {}", gameId, game.getInning(), game.getCurrentBatter().getName());
+            } else { // 현재 이닝 말이었으면 -> 다음 이닝 초로
+                game.setInning(game.getInning() + 1);
+                game.setTop(true);
+                game.setOut(0);
+                game.setStrike(0);
+                game.setBall(0);
+                GameLogicUtil.resetBases(game);
+                // 홈팀 투수 -> 원정팀 타자
+                game.setCurrentPitcher(game.getHomeStartingPitcher()); // 또는 현재 등판 중인 투수
+                game.setBattingOrder(game.getAwayBattingOrder()); // 원정팀 타순으로 변경
+                game.setCurrentBatterIndex(0);
+                game.setCurrentBatter(game.getAwayBattingOrder().get(game.getCurrentBatterIndex()));
+                placeGhostRunners(game);
+                logger.info("게임 {}: {}회 초로 진행. 현재 타자: {}", gameId, game.getInning(), game.getCurrentBatter().getName());
+            }
 
-        // gameRepository.save(game);
-        return game;
+            checkGameOver(game); // 게임 종료 여부 다시 확인
+
+            markChanged(game);
+            // gameRepository.save(game);
+            return game;
+        } finally {
+            metrics.recordSince("game.command.nextInning", start);
+        }
     }
 
     @Override
-    @Transactional
     public GameDto endGame(String gameId) {
+        return commandExecutor.execute(gameId, () -> executeEndGame(gameId));
+    }
+
+    private GameDto executeEndGame(String gameId) {
         GameDto game = getGame(gameId);
         game.setGameOver(true);
         // 승자 결정 로직 (점수 비교 등)
@@ -283,22 +521,194 @@ public class GameServiceImpl implements GameService {
             game.setWinner("무승부"); // 또는 연장전 처리
         }
         logger.info("게임 {} 종료. 승자: {}", gameId, game.getWinner());
+        markChanged(game);
         // gameRepository.save(game);
         return game;
     }
 
     @Override
-    @Transactional
     public void advanceRunners(String gameId, Integer basesToAdvance) {
+        commandExecutor.execute(gameId, () -> {
+            executeAdvanceRunners(gameId, basesToAdvance);
+            return null;
+        });
+    }
+
+    private void executeAdvanceRunners(String gameId, Integer basesToAdvance) {
         GameDto game = getGame(gameId);
         if (game.isGameOver()) {
             throw new InvalidGameStateException("게임이 이미 종료되었습니다.");
         }
-        GameLogicUtil.advanceRunners(game, basesToAdvance);
+        if (basesToAdvance == null || basesToAdvance < 1) {
+            throw new ValidationException("진루할 베이스 수는 1 이상이어야 합니다.");
+        }
+        int entry = ruleEngine(game).advance(baseBits(game), basesToAdvance);
+        moveRunners(game, entry, null);
+        if (RuleEngine.runs(entry) > 0) {
+            handleScore(game, RuleEngine.runs(entry));
+        }
+        checkGameOver(game); // 끝내기 득점 확인
+        markChanged(game);
         // gameRepository.save(game);
         logger.info("게임 {}: 주자들이 {} 베이스 진루했습니다.", gameId, basesToAdvance);
     }
 
+    @Override
+    public BranchSimulationResult simulateBranches(String gameId, BranchSimulationRequest request) {
+        long start = System.nanoTime();
+        try {
+            GameDto game = getGame(gameId);
+            if (game.isGameOver()) {
+                throw new InvalidGameStateException("게임이 이미 종료되었습니다.");
+            }
+            int branches = request.getBranches();
+            if (branches < 1 || branches > MAX_BRANCHES) {
+                throw new ValidationException("분기 수는 1 이상 " + MAX_BRANCHES + " 이하여야 합니다.");
+            }
+            if (request.getFirstPitchType() != null) {
+                ValidationUtil.validatePitchType(request.getFirstPitchType());
+            }
+            if (request.getFirstTiming() != null) {
+                ValidationUtil.validateTiming(request.getFirstTiming());
+            }
+
+            // 현재 게임을 불변 상태로 한 번만 옮기고, 분기는 그 상태를 공유 (원래 게임은 건드리지 않음)
+            // 진행 중인 명령이 반쯤 적용된 상태를 읽지 않도록 스냅샷은 게임별 명령 순서 안에서 만듦
+            GameState root = commandExecutor.execute(gameId, () -> {
+                try {
+                    return GameState.fromGame(game, GameSimulator.DEFAULT_EXTRA_INNING_LIMIT);
+                } catch (IllegalStateException e) {
+                    throw new InvalidGameStateException(e.getMessage() + " 라인업을 먼저 설정해주세요.");
+                }
+            });
+
+            String pitchType = request.getFirstPitchType();
+            Boolean swing = request.getFirstSwing();
+            Double timing = request.getFirstTiming();
+            Supplier<PlayStrategy> strategyFactory = pitchType == null && swing == null && timing == null
+                    ? () -> COMPUTER_STRATEGY
+                    : () -> new FirstPitchOverride(COMPUTER_STRATEGY, pitchType, swing, timing);
+            long seed = request.getSeed() != null ? request.getSeed() : ThreadLocalRandom.current().nextLong();
+
+            BranchSummary summary = new BranchSimulator(ForkJoinPool.commonPool())
+                    .simulate(root, branches, seed, strategyFactory, GameSimulator.DEFAULT_EXTRA_INNING_LIMIT);
+
+            BranchSimulationResult result = new BranchSimulationResult();
+            result.setGameId(gameId);
+            result.setInning(root.getInning());
+            result.setTop(root.isTop());
+            result.setHomeScore(root.getHomeScore());
+            result.setAwayScore(root.getAwayScore());
+            result.setBranches(summary.getBranches());
+            result.setHomeWinProbability(summary.getHomeWinProbability());
+            result.setAwayWinProbability(summary.getAwayWinProbability());
+            result.setTieProbability(summary.getTieProbability());
+            result.setAverageHomeScore(summary.getAverageHomeScore());
+            result.setAverageAwayScore(summary.getAverageAwayScore());
+            logger.info("게임 {}: {}개 분기 시뮬레이션 완료. 홈팀 승리 확률 {}", gameId, branches,
+                    String.format("%.3f", result.getHomeWinProbability()));
+            return result;
+        } finally {
+            metrics.recordSince("game.command.branches", start);
+        }
+    }
+
+    @Override
+    public List<GameCommandResult> executeCommands(List<GameCommandRequest> commands) {
+        long start = System.nanoTime();
+        try {
+            if (commands == null || commands.isEmpty()) {
+                throw new ValidationException("처리할 명령이 없습니다.");
+            }
+            if (commands.size() > GameBatchRequest.MAX_COMMANDS) {
+                throw new ValidationException("한 번에 보낼 수 있는 명령은 " + GameBatchRequest.MAX_COMMANDS + "개 이하입니다.");
+            }
+
+            // 요청 순서대로 게임별 실행기에 제출 (같은 게임의 명령은 제출 순서가 곧 실행 순서)
+            List<CompletableFuture<GameCommandResult>> futures = new ArrayList<>(commands.size());
+            for (int i = 0; i < commands.size(); i++) {
+                futures.add(submitCommand(i, commands.get(i)));
+            }
+
+            long deadline = start + TimeUnit.MILLISECONDS.toNanos(BATCH_TIMEOUT_MILLIS);
+            List<GameCommandResult> results = new ArrayList<>(futures.size());
+            for (int i = 0; i < futures.size(); i++) {
+                results.add(awaitCommand(futures.get(i), i, commands.get(i), deadline));
+            }
+            metrics.counter("game.command.batch.commands").add(commands.size());
+            return results;
+        } finally {
+            metrics.recordSince("game.command.batch", start);
+        }
+    }
+
+    @Override
+    public CompletableFuture<GameCommandResult> submitCommand(int index, GameCommandRequest command) {
+        String gameId = command != null ? command.getGameId() : null;
+        if (gameId == null || gameId.trim().isEmpty()) {
+            return CompletableFuture.completedFuture(GameCommandResult.fail(index, gameId, "게임 ID는 필수입니다."));
+        }
+        return commandExecutor.submit(gameId, () -> executeCommand(index, command));
+    }
+
+    /**
+     * 일괄 명령 하나 실행 (예외는 결과로 바꿔서 다른 명령에 영향을 주지 않음)
+     */
+    private GameCommandResult executeCommand(int index, GameCommandRequest command) {
+        String gameId = command.getGameId();
+        try {
+            String result;
+            String type = command.getType() != null ? command.getType() : "";
+            switch (type) {
+                case "swing":
+                    ValidationUtil.validateSwing(command.getSwing());
+                    if (command.getSwing() || command.getTiming() != null) {
+                        ValidationUtil.validateTiming(command.getTiming());
+                    }
+                    result = batterSwing(gameId, command.getSwing(), command.getTiming());
+                    break;
+                case "pitch":
+                    ValidationUtil.validatePitchType(command.getPitchType());
+                    result = pitcherThrow(gameId, command.getPitchType());
+                    break;
+                case "next-inning": {
+                    GameDto game = nextInning(gameId);
+                    result = String.format("%d회 %s", game.getInning(), game.isTop() ? "초" : "말");
+                    break;
+                }
+                default:
+                    throw new ValidationException("알 수 없는 명령입니다: " + type + " (swing, pitch, next-inning)");
+            }
+            return GameCommandResult.ok(index, gameId, result, CompactGameState.of(getGame(gameId)));
+        } catch (GameException | ValidationException e) {
+            return GameCommandResult.fail(index, gameId, e.getMessage());
+        } catch (RuntimeException e) {
+            logger.error("게임 {}: 일괄 명령 처리 중 오류 발생: {}", gameId, e.getMessage(), e);
+            return GameCommandResult.fail(index, gameId, "명령 처리 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    private GameCommandResult awaitCommand(CompletableFuture<GameCommandResult> future, int index,
+            GameCommandRequest command, long deadline) {
+        String gameId = command != null ? command.getGameId() : null;
+        try {
+            return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 명령은 게임별 실행기에서 계속 진행될 수 있으므로 클라이언트는 상태를 다시 조회해야 함
+            return GameCommandResult.fail(index, gameId, "처리 시간이 초과되었습니다. 게임 상태를 다시 조회해주세요.");
+        } catch (ExecutionException e) {
+            return GameCommandResult.fail(index, gameId, "명령 처리 중 오류가 발생했습니다: " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return GameCommandResult.fail(index, gameId, "명령 처리가 중단되었습니다.");
+        }
+    }
+
+    @Override
+    public long getGameVersion(String gameId) {
+        return getGame(gameId).getVersion();
+    }
+
     @Override
     public String getGameStats(String gameId) {
         GameDto game = getGame(gameId);
@@ -329,75 +739,70 @@ public class GameServiceImpl implements GameService {
     @Override
     @Transactional
     public void setTeamLineupAndPitcher(String gameId, String teamName, List<String> battingOrderPlayerNames, String startingPitcherName) {
-        GameDto game = getGame(gameId);
+        long start = System.nanoTime();
+        try {
+            GameDto game = getGame(gameId);
+            boolean home = game.getHomeTeam().equals(teamName);
+            if (!home && !game.getAwayTeam().equals(teamName)) {
+                throw new ValidationException("유효하지 않은 팀 이름입니다: " + teamName);
+            }
 
-        // 타자 정보 로드 및 설정
-        List<Batter> batters = batterMapper.findByNames(battingOrderPlayerNames);
-        if (batters.size() != battingOrderPlayerNames.size()) {
-            throw new ValidationException("라인업에 포함된 일부 타자 이름을 찾을 수 없습니다. 모든 타자 이름이 유효한지 확인해주세요.");
-        }
-        // 로드된 타자들이 모두 해당 팀 소속인지 확인
-        for (Batter batter : batters) {
-            if (!batter.getTeam().equals(teamName)) {
-                throw new ValidationException("타자 '" + batter.getName() + "'는 팀 '" + teamName + "' 소속이 아닙니다.");
+            // 타자/투수 조회와 검증은 게임별 명령 순서를 잡기 전에 수행 (DB 조회 동안 같은 게임의 다른 명령을 막지 않음)
+            List<Batter> batters = batterMapper.findByNames(battingOrderPlayerNames);
+            if (batters.size() != battingOrderPlayerNames.size()) {
+                throw new ValidationException("라인업에 포함된 일부 타자 이름을 찾을 수 없습니다. 모든 타자 이름이 유효한지 확인해주세요.");
+            }
+            // 로드된 타자들이 모두 해당 팀 소속인지 확인
+            for (Batter batter : batters) {
+                if (!batter.getTeam().equals(teamName)) {
+                    throw new ValidationException("타자 '" + batter.getName() + "'는 팀 '" + teamName + "' 소속이 아닙니다.");
+                }
+            }
+            Pitcher pitcher = pitcherMapper.findByName(startingPitcherName);
+            if (pitcher == null || !pitcher.getTeam().equals(teamName)) {
+                throw new ValidationException("팀 " + teamName + "에서 선발 투수 '" + startingPitcherName + "'를 찾을 수 없거나 해당 팀 소속이 아닙니다.");
             }
-        }
-        // 타순 설정
-        if (game.getHomeTeam().equals(teamName)) {
-            game.setHomeTeamBattingOrder(batters);
-            logger.info("게임 {}: 홈팀 타순 설정 완료.", gameId);
-        } else if (game.getAwayTeam().equals(teamName)) {
-            game.setAwayTeamBattingOrder(batters);
-            logger.info("게임 {}: 원정팀 타순 설정 완료.", gameId);
-        } else {
-            throw new ValidationException("유효하지 않은 팀 이름입니다: " + teamName);
-        }
 
-        // 투수 정보 로드 및 설정
-        Pitcher pitcher = pitcherMapper.findByName(startingPitcherName);
-        if (pitcher == null || !pitcher.getTeam().equals(teamName)) {
-            throw new ValidationException("팀 " + teamName + "에서 선발 투수 '" + startingPitcherName + "'를 찾을 수 없거나 해당 팀 소속이 아닙니다.");
+            commandExecutor.execute(gameId, () -> {
+                applyLineup(game, home, batters, pitcher);
+                return null;
+            });
+        } finally {
+            metrics.recordSince("game.command.setLineup", start);
         }
+    }
 
-        // 해당 팀의 startingPitcher 필드에 설정
-        if (game.getHomeTeam().equals(teamName)) {
+    private void applyLineup(GameDto game, boolean home, List<Batter> batters, Pitcher pitcher) {
+        String gameId = game.getGameId();
+        if (home) {
+            game.setHomeBattingOrder(batters);
             game.setHomeStartingPitcher(pitcher);
-            logger.info("게임 {}: 홈팀 선발 투수 설정 완료: {}", gameId, pitcher.getName());
-        } else if (game.getAwayTeam().equals(teamName)) {
+            logger.info("게임 {}: 홈팀 타순 및 선발 투수 설정 완료: {}", gameId, pitcher.getName());
+        } else {
+            game.setAwayBattingOrder(batters);
             game.setAwayStartingPitcher(pitcher);
-            logger.info("게임 {}: 원정팀 선발 투수 설정 완료: {}", gameId, pitcher.getName());
-        }
-
-        // 게임의 현재 타자/투수 초기 설정 (게임 시작 시 한 번 호출)
-        if (game.getCurrentBatter() == null && game.getCurrentPitcher() == null) {
-            if (game.isIsUserOffense()) { // 사용자가 공격팀이면
-                if (game.isTop()) { // 초 공격 (원정팀 공격)
-                    game.setCurrentPitcher(game.getHomeStartingPitcher()); // 홈팀 투수
-                    game.setBattingOrder(game.getAwayTeamBattingOrder()); // 원정팀 타순
-                } else { // 말 공격 (홈팀 공격)
-                    game.setCurrentPitcher(game.getAwayStartingPitcher()); // 원정팀 투수
-                    game.setBattingOrder(game.getHomeTeamBattingOrder()); // 홈팀 타순
-                }
-            } else { // 사용자가 수비팀이면
-                if (game.isTop()) { // 초 공격 (원정팀 공격)
-                    game.setCurrentPitcher(game.getHomeStartingPitcher()); // 홈팀 투수
-                    game.setBattingOrder(game.getAwayTeamBattingOrder()); // 원정팀 타순
-                } else { // 말 공격 (홈팀 공격)
-                    game.setCurrentPitcher(game.getAwayStartingPitcher()); // 원정팀 투수
-                    game.setBattingOrder(game.getHomeTeamBattingOrder()); // 홈팀 타순
-                }
-            }
-            if (!game.getBattingOrder().isEmpty()) {
-                game.setCurrentBatter(game.getBattingOrder().get(0));
-                game.setCurrentBatterIndex(0);
-            }
+            logger.info("게임 {}: 원정팀 타순 및 선발 투수 설정 완료: {}", gameId, pitcher.getName());
+        }
+
+        // 게임의 현재 타자/투수 초기 설정 (양 팀 타순과 선발 투수가 모두 정해진 뒤 한 번)
+        if (game.getCurrentBatter() == null && isLineupReady(game)) {
+            game.setBattingOrder(game.getCurrentOffensiveLineup());
+            game.setCurrentPitcher(game.getCurrentDefensivePitcher());
+            game.setCurrentBatterIndex(0);
+            game.setCurrentBatter(game.getBattingOrder().get(0));
             logger.info("게임 {}: 초기 타자/투수 설정 완료. 현재 타자: {}, 현재 투수: {}",
-                    gameId, game.getCurrentBatter() != null ? game.getCurrentBatter().getName() : "없음",
-                    game.getCurrentPitcher() != null ? game.getCurrentPitcher().getName() : "없음");
+                    gameId, game.getCurrentBatter().getName(), game.getCurrentPitcher().getName());
         }
+        markChanged(game);
         games.put(gameId, game); // 메모리 내 게임 상태 업데이트
     }
 
+    private static boolean isLineupReady(GameDto game) {
+        return game.getHomeBattingOrder() != null && !game.getHomeBattingOrder().isEmpty()
+                && game.getAwayBattingOrder() != null && !game.getAwayBattingOrder().isEmpty()
+                && game.getHomeStartingPitcher() != null && game.getAwayStartingPitcher() != null;
+    }
+
     @Override
     public void setComputerLineupAndPitcher(String gameId, String teamName, List<String> battingOrderPlayerNames, String startingPitcherName) {
         // 이 메서드는 setTeamLineupAndPitcher와 동일한 로직을 사용합니다.
@@ -405,33 +810,6 @@ public class GameServiceImpl implements GameService {
         setTeamLineupAndPitcher(gameId, teamName, battingOrderPlayerNames, startingPitcherName);
     }
 
-    protected void checkCount(GameDto game) { // private -> protected 변경
-        if (game.getStrike() >= 3) {
-            game.setOut(game.getOut() + 1);
-            game.setStrike(0);
-            game.setBall(0);
-            // 3스트라이크 아웃 시 타자 변경
-            advanceBattingOrder(game);
-        }
-        if (game.getBall() >= 4) {
-            game.setBall(0);
-            game.setStrike(0);
-            if (game.getCurrentBatter() != null) {
-                GameLogicUtil.addRunnerToBase(game, 1, game.getCurrentBatter());
-            }
-            // 4볼 볼넷 시 타자 변경
-            GameLogicUtil.advanceRunners(game, 1); // 볼넷 시 1베이스 진루 (타자 포함)
-            advanceBattingOrder(game);
-        }
-        if (game.getOut() >= 3) {
-            // 3아웃 시 이닝 종료 처리 (다음 이닝 또는 공수 교대)
-            // 다음 이닝 처리는 nextInning 메서드에서 수행하므로 여기서는 단순히 아웃 카운트만 리셋
-            // nextInning(game.getGameId()); // 이 메서드 호출은 클라이언트 요청에 따라 이루어져야 함
-            logger.info("게임 {}: 3아웃, 이닝 종료 준비. 점수: {}:{} vs {}:{}",
-                    game.getGameId(), game.getAwayTeam(), game.getAwayScore(), game.getHomeTeam(), game.getHomeScore());
-        }
-    }
-
     protected void advanceBattingOrder(GameDto game) {
         if (game.getBattingOrder() == null || game.getBattingOrder().isEmpty()) {
             logger.warn("게임 {}: 타순이 설정되지 않았습니다.", game.getGameId());
@@ -443,18 +821,129 @@ public class GameServiceImpl implements GameService {
         logger.info("게임 {}: 다음 타자: {} (타순 {})", game.getGameId(), game.getCurrentBatter().getName(), nextIndex + 1);
     }
 
+    /**
+     * 게임 종료 판정 (정규 이닝 종료, 끝내기, 연장 제한 무승부, 콜드게임은 게임의 규칙 표로 판정)
+     */
     protected void checkGameOver(GameDto game) {
-        // 9회 말까지 끝났고 점수 차이가 나면 게임 종료
-        // 또는 연장전 규칙 추가
-        if (game.getInning() >= game.getMaxInning() && !game.isTop() && game.getOut() >= 3) {
-            if (game.getHomeScore() != game.getAwayScore()) {
-                endGame(game.getGameId());
-            } else {
-                // 동점이면 연장전 규칙 (현재는 무제한 연장으로 가정하거나 추가 규칙 필요)
-                // 여기서는 일단 다음 이닝으로 넘어가게 합니다. 실제 야구 로직에 따라 수정 필요.
-                logger.info("게임 {}: {}회 말 종료 동점. 연장전 또는 다음 이닝으로 진행.", game.getGameId(), game.getMaxInning());
+        boolean halfInningOver = game.getOut() >= 3;
+        int status = ruleEngine(game).gameStatus(game.getInning(), game.isTop(), halfInningOver,
+                game.getHomeScore(), game.getAwayScore());
+        if (status != RuleEngine.IN_PROGRESS) {
+            endGame(game.getGameId());
+        } else if (halfInningOver && !game.isTop() && game.getInning() >= game.getMaxInning()) {
+            logger.info("게임 {}: {}회 말 종료 동점. 연장전으로 진행.", game.getGameId(), game.getInning());
+        }
+    }
+
+    /**
+     * 게임의 컴파일된 규칙 표 (생성 시 등록되지 않은 게임은 저장된 규칙 이름으로 조회)
+     */
+    protected RuleEngine ruleEngine(GameDto game) {
+        RuleEngine engine = ruleEngines.get(game.getGameId());
+        if (engine == null) {
+            engine = RuleEngine.forGame(game.getRuleSet(), game.getMaxInning());
+            ruleEngines.put(game.getGameId(), engine);
+        }
+        return engine;
+    }
+
+    /**
+     * 전이 값의 이동 위치대로 주자(와 타자)를 옮김
+     * @param batter 타석을 마친 타자 (수동 진루처럼 타자가 없으면 null)
+     */
+    protected void moveRunners(GameDto game, int entry, Batter batter) {
+        Batter[] bases = game.getBases();
+        Batter[] moved = new Batter[4];
+        for (int base = 1; base <= 3; base++) {
+            int to = RuleEngine.destination(entry, base);
+            if (bases[base] != null && to != RuleEngine.OUT && to != RuleEngine.HOME) {
+                moved[to] = bases[base];
+            }
+        }
+        if (batter != null) {
+            int to = RuleEngine.destination(entry, RuleEngine.BATTER);
+            if (to != RuleEngine.OUT && to != RuleEngine.HOME) {
+                moved[to] = batter;
+            }
+        }
+        game.setBases(moved);
+        game.getBaseRunners().clear();
+        for (int base = 1; base <= 3; base++) {
+            if (moved[base] != null) {
+                game.getBaseRunners().add(moved[base]);
+            }
+        }
+    }
+
+    /**
+     * 승부치기: 규칙에 따라 연장 이닝 시작 시 직전 타순의 타자들을 베이스에 배치
+     */
+    protected void placeGhostRunners(GameDto game) {
+        int ghost = ruleEngine(game).ghostRunnerBases(game.getInning());
+        List<Batter> order = game.getBattingOrder();
+        if (ghost == 0 || order == null || order.isEmpty()) {
+            return;
+        }
+        int previous = game.getCurrentBatterIndex();
+        for (int base = 3; base >= 1; base--) {
+            if ((ghost & (1 << (base - 1))) != 0) {
+                previous = (previous - 1 + order.size()) % order.size();
+                GameLogicUtil.addRunnerToBase(game, base, order.get(previous));
+            }
+        }
+        logger.info("게임 {}: {}회 승부치기 주자 배치 (베이스 {})", game.getGameId(), game.getInning(), ghost);
+    }
+
+    /**
+     * 게임 상태 버전 증가 (조회 API의 ETag로 사용되므로 상태를 바꾼 뒤 반드시 호출)
+     * 전광판 기록도 함께 갱신하고, 게임이 끝났으면 더 받을 명령이 없으므로 멱등 키 창을 지웁니다.
+     * (점수, 이닝, 아웃이 그대로면 전광판은 다시 만들지 않음)
+     */
+    protected void markChanged(GameDto game) {
+        game.setVersion(game.getVersion() + 1);
+        scoreboard.update(game);
+        if (game.isGameOver()) {
+            idempotency.remove(game.getGameId());
+        }
+    }
+
+    /**
+     * 현재 아웃카운트와 주자 상황을 base-out 상태로 변환 (정책 표 조회용)
+     */
+    protected int baseOutState(GameDto game) {
+        return BaseOutState.encode(Math.min(game.getOut(), 2), baseBits(game));
+    }
+
+    /**
+     * 현재 주자 상황을 베이스 비트로 변환 (1루=1, 2루=2, 3루=4)
+     */
+    protected int baseBits(GameDto game) {
+        Batter[] bases = game.getBases();
+        int occupied = 0;
+        if (bases[1] != null) {
+            occupied |= BaseOutState.FIRST;
+        }
+        if (bases[2] != null) {
+            occupied |= BaseOutState.SECOND;
+        }
+        if (bases[3] != null) {
+            occupied |= BaseOutState.THIRD;
+        }
+        return occupied;
+    }
+
+    private static PlayStrategy loadComputerStrategy() {
+        try {
+            PolicyTable table = PolicyTable.loadResource(PolicyTable.DEFAULT_RESOURCE);
+            if (table != null) {
+                logger.info("컴퓨터 정책 표 로드 완료: {}", PolicyTable.DEFAULT_RESOURCE);
+                return new PolicyTablePlayStrategy(table);
             }
+            logger.warn("컴퓨터 정책 표 {}가 없어 능력치 기반 전략을 사용합니다.", PolicyTable.DEFAULT_RESOURCE);
+        } catch (IOException e) {
+            logger.warn("컴퓨터 정책 표를 읽지 못해 능력치 기반 전략을 사용합니다: {}", e.getMessage());
         }
+        return RatingBasedPlayStrategy.INSTANCE;
     }
 
     protected void handleScore(GameDto game, int score) {
@@ -466,4 +955,4 @@ public class GameServiceImpl implements GameService {
         logger.info("게임 {}: 점수 발생! 현재 점수: {}:{} vs {}:{}",
                 game.getGameId(), game.getAwayTeam(), game.getAwayScore(), game.getHomeTeam(), game.getHomeScore());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,217 @@
+package com.baseball.game.service;
+
+import com.baseball.game.exception.InvalidGameStateException;
+import com.baseball.game.exception.ValidationException;
+import com.baseball.game.metrics.MetricsRegistry;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 키 캐시 (클라이언트가 시간 초과로 같은 명령을 재전송해도 한 번만 적용)
+ * 게임마다 최근 키를 고정 크기 링 버퍼와 해시맵으로 보관하여 조회는 O(1), 메모리는 게임당 키 WINDOW개로 제한됩니다.
+ * 같은 키가 다시 오면 명령을 실행하지 않고 처음 응답을 그대로 돌려주며, 처음 요청이 아직 처리 중이면 끝날 때까지 기다립니다.
+ * 처음 요청이 예외로 끝나면 키를 풀어서 다음 재시도가 다시 실행되게 합니다.
+ * 게임별 창은 최대 maxGames개까지만 보관합니다. 게임이 끝나면 바로 지우고(remove), 한동안 요청이 없던 게임의 창은
+ * 새 창을 만들 때 정리하며, 그래도 가득 차 있으면 가장 오래 쓰지 않은 창을 지웁니다.
+ * 호출하는 쪽은 게임이 존재하는지 먼저 확인해야 합니다. (없는 게임 ID마다 창이 생기지 않도록)
+ */
+public class IdempotencyCache {
+
+    public static final int WINDOW = 64;
+    public static final int MAX_KEY_LENGTH = 128;
+
+    public static final int MAX_GAMES = 10_000;
+    public static final long IDLE_MILLIS = 30 * 60 * 1000L;
+
+    private static final long IN_FLIGHT_WAIT_MILLIS = 10_000;
+
+    private final int window;
+    private final int maxGames;
+    private final long idleMillis;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final MetricsRegistry metrics;
+
+    public IdempotencyCache(MetricsRegistry metrics) {
+        this(WINDOW, metrics);
+    }
+
+    public IdempotencyCache(int window, MetricsRegistry metrics) {
+        this(window, MAX_GAMES, IDLE_MILLIS, System::currentTimeMillis, metrics);
+    }
+
+    /**
+     * @param window 게임당 보관할 키 수
+     * @param maxGames 창을 보관할 최대 게임 수
+     * @param idleMillis 이 시간 동안 요청이 없던 게임의 창은 정리 대상
+     * @param clock 현재 시각 (밀리초)
+     * @param metrics 적중/충돌 횟수를 기록할 메트릭 저장소
+     */
+    public IdempotencyCache(int window, int maxGames, long idleMillis, LongSupplier clock, MetricsRegistry metrics) {
+        if (window < 1 || maxGames < 1 || idleMillis < 1) {
+            throw new IllegalArgumentException("보관할 키 수, 게임 수, 보관 시간은 1 이상이어야 합니다.");
+        }
+        this.window = window;
+        this.maxGames = maxGames;
+        this.idleMillis = idleMillis;
+        this.clock = clock;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 멱등 키로 명령 실행 (키가 없으면 그냥 실행)
+     * @param operation 명령 종류 (같은 키를 다른 명령에 쓰면 거부)
+     * @return 처음 실행한 응답 (중복 요청이면 저장된 응답)
+     */
+    public <T> T execute(String gameId, String key, String operation, Supplier<T> command) {
+        if (key == null) {
+            return command.get();
+        }
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            throw new ValidationException("멱등 키는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+        long now = clock.getAsLong();
+        Window recent = windows.get(gameId);
+        if (recent == null) {
+            if (windows.size() >= maxGames) {
+                evict(now);
+            }
+            recent = windows.computeIfAbsent(gameId, id -> new Window(window));
+        }
+        recent.lastUsed = now;
+
+        Entry entry = new Entry(operation);
+        Entry existing = recent.putIfAbsent(key, entry);
+        if (existing != null) {
+            return replay(existing, operation);
+        }
+        try {
+            T response = command.get();
+            entry.response.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            recent.remove(key, entry);
+            entry.response.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 게임의 키 창 제거 (게임 종료 시 호출, 처리 중인 중복 요청은 처음 응답을 그대로 받음)
+     */
+    public void remove(String gameId) {
+        windows.remove(gameId);
+    }
+
+    /**
+     * 키를 보관 중인 게임 수
+     */
+    public int size() {
+        return windows.size();
+    }
+
+    /**
+     * 한동안 쓰지 않은 창 제거, 그래도 가득 차 있으면 가장 오래 쓰지 않은 창 하나 제거 (한 스레드만 수행)
+     */
+    private void evict(long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            windows.values().removeIf(recent -> now - recent.lastUsed >= idleMillis);
+            if (windows.size() >= maxGames) {
+                String oldest = null;
+                long oldestUsed = Long.MAX_VALUE;
+                for (Map.Entry<String, Window> entry : windows.entrySet()) {
+                    if (entry.getValue().lastUsed < oldestUsed) {
+                        oldestUsed = entry.getValue().lastUsed;
+                        oldest = entry.getKey();
+                    }
+                }
+                if (oldest != null) {
+                    windows.remove(oldest);
+                }
+            }
+            metrics.increment("idempotency.evictions");
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T replay(Entry existing, String operation) {
+        if (!existing.operation.equals(operation)) {
+            throw new ValidationException("이미 다른 요청(" + existing.operation + ")에 사용된 멱등 키입니다.");
+        }
+        metrics.increment("idempotency.replayed");
+        try {
+            return (T) existing.response.get(IN_FLIGHT_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new InvalidGameStateException("같은 멱등 키의 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InvalidGameStateException("요청 처리가 중단되었습니다.");
+        }
+    }
+
+    private static final class Entry {
+        private final String operation;
+        private final CompletableFuture<Object> response = new CompletableFuture<>();
+
+        private Entry(String operation) {
+            this.operation = operation;
+        }
+    }
+
+    /**
+     * 게임 하나의 최근 키 (링 버퍼가 가득 차면 가장 오래된 키부터 제거)
+     */
+    private static final class Window {
+        private final String[] keys;
+        private final Entry[] ring;
+        private final Map<String, Entry> entries;
+        private int next;
+        private volatile long lastUsed;
+
+        private Window(int capacity) {
+            this.keys = new String[capacity];
+            this.ring = new Entry[capacity];
+            this.entries = new HashMap<>(capacity * 2);
+        }
+
+        synchronized Entry putIfAbsent(String key, Entry entry) {
+            Entry existing = entries.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            if (keys[next] != null) {
+                // 실패로 풀린 뒤 다시 등록된 키를 지우지 않도록 자리에 넣었던 항목일 때만 제거
+                entries.remove(keys[next], ring[next]);
+            }
+            keys[next] = key;
+            ring[next] = entry;
+            next = (next + 1) % ring.length;
+            entries.put(key, entry);
+            return null;
+        }
+
+        synchronized void remove(String key, Entry entry) {
+            entries.remove(key, entry);
+        }
+    }
+}
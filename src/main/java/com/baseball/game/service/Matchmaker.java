@@ -0,0 +1,347 @@
+package com.baseball.game.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자 대전 매칭 대기열
+ * 레이팅 구간(BUCKET_WIDTH)마다 여러 개의 잠금 없는 큐(ConcurrentLinkedQueue)를 두고, 등록 스레드가 임의의 샤드에 넣어
+ * 동시에 등록이 몰려도 한 큐의 꼬리에서 경합하지 않게 합니다.
+ * 대기표의 상태는 CAS로만 바꾸므로(WAITING -> MATCHED) 두 스레드가 같은 상대를 동시에 잡아도 한 쪽만 성공합니다.
+ * 등록할 때 같은 구간부터 바깥 구간 순으로 상대를 찾고, 못 찾으면 큐에 넣은 뒤 주기적인 sweep에서 다시 찾습니다.
+ * 오래 기다릴수록 찾는 레이팅 범위를 넓히고, MAX_WAIT_MILLIS가 지나면 대기표를 만료시킵니다.
+ * 이미 매칭되거나 취소된 대기표는 큐에서 바로 지우지 않고 다음 탐색 때 지나가면서 제거합니다.
+ * 상대를 찾는 중(SEARCHING)인 대기표의 취소는 기다리지 않고 예약만 하며, 탐색을 마친 스레드가 처리합니다.
+ */
+public class Matchmaker {
+
+    public static final int MAX_RATING = 2_000;
+    public static final int BUCKET_WIDTH = 50;
+    public static final int BUCKETS = MAX_RATING / BUCKET_WIDTH;
+
+    public static final long WIDEN_MILLIS = 2_000; // 이 시간마다 찾는 범위를 한 구간씩 넓힘
+    public static final int MAX_SPREAD = 6; // 최대 ±6구간 (±300점)
+    public static final long MAX_WAIT_MILLIS = 120_000;
+    public static final long FINISHED_RETENTION_MILLIS = 10 * 60 * 1_000; // 결과 조회용으로 끝난 대기표를 남겨둘 시간
+
+    private static final int SCAN_LIMIT = 64; // 샤드 하나에서 한 번에 살펴볼 대기표 수
+
+    // 대기표 상태
+    public static final int WAITING = 0;
+    public static final int SEARCHING = 1; // 상대를 찾는 중 (다른 스레드가 잡을 수 없음)
+    public static final int MATCHED = 2;
+    public static final int CANCELLED = 3;
+    public static final int EXPIRED = 4;
+
+    /**
+     * 매칭 성사 알림 (먼저 기다린 쪽이 home)
+     */
+    public interface MatchListener {
+        void onMatch(Ticket home, Ticket away);
+    }
+
+    private final List<List<ConcurrentLinkedQueue<Ticket>>> shards; // 레이팅 구간 -> 샤드 목록
+    private final MatchListener listener;
+    private final LongSupplier clock;
+
+    private final ConcurrentHashMap<String, Ticket> tickets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Ticket> waitingByUser = new ConcurrentHashMap<>();
+
+    public Matchmaker(int shardsPerBucket, MatchListener listener, LongSupplier clock) {
+        if (shardsPerBucket < 1) {
+            throw new IllegalArgumentException("샤드 수는 1 이상이어야 합니다.");
+        }
+        List<List<ConcurrentLinkedQueue<Ticket>>> buckets = new ArrayList<>(BUCKETS);
+        for (int b = 0; b < BUCKETS; b++) {
+            List<ConcurrentLinkedQueue<Ticket>> bucket = new ArrayList<>(shardsPerBucket);
+            for (int i = 0; i < shardsPerBucket; i++) {
+                bucket.add(new ConcurrentLinkedQueue<>());
+            }
+            buckets.add(bucket);
+        }
+        this.shards = buckets;
+        this.listener = listener;
+        this.clock = clock;
+    }
+
+    /**
+     * 대기열 등록 (이미 기다리는 사용자는 기존 대기표 반환)
+     * 비슷한 레이팅의 상대가 이미 기다리고 있으면 이 호출 안에서 바로 매칭됩니다.
+     * @param lineup 타순 선수 이름
+     * @param startingPitcher 선발 투수 이름 (없으면 null)
+     */
+    public Ticket enqueue(String userId, String team, int rating, List<String> lineup, String startingPitcher) {
+        Ticket ticket = new Ticket(userId, team, rating, lineup, startingPitcher, clock.getAsLong());
+        Ticket existing = waitingByUser.putIfAbsent(userId, ticket);
+        if (existing != null) {
+            return existing;
+        }
+        tickets.put(ticket.id, ticket);
+
+        Ticket opponent = findOpponent(ticket);
+        if (opponent != null) {
+            matched(ticket, opponent);
+        } else {
+            shard(ticket).offer(ticket);
+            release(ticket);
+        }
+        return ticket;
+    }
+
+    public Ticket find(String ticketId) {
+        return tickets.get(ticketId);
+    }
+
+    /**
+     * 대기 취소 (이미 매칭되었으면 false)
+     * 상대를 찾는 중이면 취소를 예약하고 true를 반환합니다. 그 탐색에서 상대를 찾으면 매칭이 우선합니다.
+     */
+    public boolean cancel(String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            return false;
+        }
+        ticket.cancelRequested = true;
+        while (true) {
+            int state = ticket.state.get();
+            if (state == SEARCHING) {
+                return true; // 탐색을 마치는 스레드가 release에서 취소
+            }
+            if (state != WAITING) {
+                return state == CANCELLED;
+            }
+            if (ticket.state.compareAndSet(WAITING, CANCELLED)) {
+                finish(ticket);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 기다리는 대기표마다 넓어진 범위로 상대를 다시 찾고, 오래 기다린 대기표는 만료
+     * (등록 시점에 서로를 못 본 동시 등록도 여기서 매칭됨)
+     */
+    public void sweep() {
+        long now = clock.getAsLong();
+        for (List<ConcurrentLinkedQueue<Ticket>> bucket : shards) {
+            for (ConcurrentLinkedQueue<Ticket> queue : bucket) {
+                for (Iterator<Ticket> it = queue.iterator(); it.hasNext(); ) {
+                    Ticket ticket = it.next();
+                    if (!ticket.state.compareAndSet(WAITING, SEARCHING)) {
+                        if (ticket.state.get() != SEARCHING) {
+                            it.remove();
+                        }
+                        continue;
+                    }
+                    if (now - ticket.enqueuedAt >= MAX_WAIT_MILLIS) {
+                        ticket.state.set(EXPIRED);
+                        it.remove();
+                        finish(ticket);
+                        continue;
+                    }
+                    Ticket opponent = findOpponent(ticket);
+                    if (opponent != null) {
+                        it.remove();
+                        matched(ticket, opponent);
+                    } else if (!release(ticket)) {
+                        it.remove();
+                    }
+                }
+            }
+        }
+        tickets.values().removeIf(ticket -> ticket.finishedAt != 0 && now - ticket.finishedAt >= FINISHED_RETENTION_MILLIS);
+    }
+
+    /**
+     * 기다리는 사용자 수
+     */
+    public int waiting() {
+        return waitingByUser.size();
+    }
+
+    public static int bucket(int rating) {
+        return Math.max(0, Math.min(BUCKETS - 1, rating / BUCKET_WIDTH));
+    }
+
+    /**
+     * 같은 구간부터 바깥 구간 순으로 상대 탐색 (찾는 쪽 대기표는 SEARCHING 상태여야 함)
+     */
+    private Ticket findOpponent(Ticket ticket) {
+        int center = bucket(ticket.rating);
+        int spread = (int) Math.min(MAX_SPREAD, 1 + (clock.getAsLong() - ticket.enqueuedAt) / WIDEN_MILLIS);
+        for (int distance = 0; distance <= spread; distance++) {
+            Ticket opponent = claimIn(center - distance, ticket);
+            if (opponent == null && distance > 0) {
+                opponent = claimIn(center + distance, ticket);
+            }
+            if (opponent != null) {
+                return opponent;
+            }
+        }
+        return null;
+    }
+
+    private Ticket claimIn(int bucket, Ticket ticket) {
+        if (bucket < 0 || bucket >= BUCKETS) {
+            return null;
+        }
+        List<ConcurrentLinkedQueue<Ticket>> queues = shards.get(bucket);
+        int start = ThreadLocalRandom.current().nextInt(queues.size());
+        for (int i = 0; i < queues.size(); i++) {
+            int scanned = 0;
+            for (Iterator<Ticket> it = queues.get((start + i) % queues.size()).iterator(); it.hasNext() && scanned < SCAN_LIMIT; scanned++) {
+                Ticket candidate = it.next();
+                int state = candidate.state.get();
+                if (state != WAITING && state != SEARCHING) {
+                    it.remove(); // 이미 끝난 대기표 정리
+                    continue;
+                }
+                if (candidate == ticket || candidate.userId.equals(ticket.userId) || candidate.team.equals(ticket.team)) {
+                    continue; // 같은 팀끼리는 경기를 만들 수 없음
+                }
+                if (candidate.cancelRequested) {
+                    continue; // 취소 요청된 대기표는 상대로 잡지 않음
+                }
+                if (candidate.state.compareAndSet(WAITING, MATCHED)) {
+                    it.remove();
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void matched(Ticket ticket, Ticket opponent) {
+        Ticket home = opponent.enqueuedAt <= ticket.enqueuedAt ? opponent : ticket;
+        Ticket away = home == ticket ? opponent : ticket;
+        home.home = true;
+        // 상대가 보이면 홈/원정도 보이도록 opponent(volatile)를 나중에 기록
+        ticket.opponent = opponent;
+        opponent.opponent = ticket;
+        ticket.state.set(MATCHED);
+        finish(ticket);
+        finish(opponent);
+        listener.onMatch(home, away);
+    }
+
+    /**
+     * 상대를 못 찾은 대기표를 다시 WAITING으로 돌림 (탐색 중에 취소가 예약되었으면 취소, 계속 기다리면 true)
+     * 상태를 먼저 바꾼 뒤 예약을 확인하므로, cancel이 SEARCHING을 보고 돌아갔다면 여기서 반드시 예약을 봅니다.
+     */
+    private boolean release(Ticket ticket) {
+        ticket.state.set(WAITING);
+        if (ticket.cancelRequested && ticket.state.compareAndSet(WAITING, CANCELLED)) {
+            finish(ticket);
+        }
+        return ticket.state.get() == WAITING;
+    }
+
+    private void finish(Ticket ticket) {
+        ticket.finishedAt = Math.max(1L, clock.getAsLong());
+        waitingByUser.remove(ticket.userId, ticket);
+    }
+
+    private ConcurrentLinkedQueue<Ticket> shard(Ticket ticket) {
+        List<ConcurrentLinkedQueue<Ticket>> queues = shards.get(bucket(ticket.rating));
+        return queues.get(ThreadLocalRandom.current().nextInt(queues.size()));
+    }
+
+    /**
+     * 대기표 (매칭 후 게임 생성 결과는 complete/fail로 기록)
+     */
+    public static final class Ticket {
+        private final String id = UUID.randomUUID().toString();
+        private final String userId;
+        private final String team;
+        private final int rating;
+        private final List<String> lineup;
+        private final String startingPitcher;
+        private final long enqueuedAt;
+        private final AtomicInteger state = new AtomicInteger(SEARCHING);
+        private volatile Ticket opponent;
+        private volatile boolean cancelRequested;
+        private boolean home;
+        private volatile long finishedAt;
+        private volatile String gameId;
+        private volatile String failure;
+
+        private Ticket(String userId, String team, int rating, List<String> lineup, String startingPitcher, long enqueuedAt) {
+            this.userId = userId;
+            this.team = team;
+            this.rating = rating;
+            this.lineup = lineup;
+            this.startingPitcher = startingPitcher;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getUserId() {
+            return userId;
+        }
+
+        public String getTeam() {
+            return team;
+        }
+
+        public int getRating() {
+            return rating;
+        }
+
+        public List<String> getLineup() {
+            return lineup;
+        }
+
+        public String getStartingPitcher() {
+            return startingPitcher;
+        }
+
+        public long getEnqueuedAt() {
+            return enqueuedAt;
+        }
+
+        public int getState() {
+            return state.get();
+        }
+
+        /**
+         * 매칭 상대 (상대가 잡힌 직후 잠깐은 상태가 MATCHED여도 null일 수 있음)
+         */
+        public Ticket getOpponent() {
+            return opponent;
+        }
+
+        public boolean isHome() {
+            return home;
+        }
+
+        public long getFinishedAt() {
+            return finishedAt;
+        }
+
+        public String getGameId() {
+            return gameId;
+        }
+
+        public String getFailure() {
+            return failure;
+        }
+
+        public void complete(String gameId) {
+            this.gameId = gameId;
+        }
+
+        public void fail(String message) {
+            this.failure = message;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.baseball.game.service;
+
+import com.baseball.game.dto.MatchRequest;
+import com.baseball.game.dto.MatchStatus;
+
+public interface MatchmakingService {
+
+    /**
+     * 사용자 대전 매칭 대기열에 등록합니다. (회원 정보의 팀과 저장된 커스텀 라인업, 없으면 팀 기본 라인업 사용)
+     * 비슷한 레이팅의 상대가 잡히면 게임을 만들고 양 팀 라인업과 선발 투수까지 설정합니다.
+     * @param request 사용자 ID, 선발 투수 이름(선택)
+     * @return 대기표 상태 (이미 기다리는 중이면 기존 대기표)
+     */
+    MatchStatus enqueue(MatchRequest request);
+
+    /**
+     * 대기표 상태 조회 (READY가 되면 gameId로 게임 진행)
+     */
+    MatchStatus getStatus(String ticketId);
+
+    /**
+     * 매칭 대기 취소 (이미 매칭되었으면 취소되지 않음)
+     */
+    MatchStatus cancel(String ticketId);
+}
@@ -0,0 +1,229 @@
+package com.baseball.game.service;
+
+import com.baseball.game.config.VirtualThreads;
+import com.baseball.game.dto.GameDto;
+import com.baseball.game.dto.GameStartRequest;
+import com.baseball.game.dto.MatchRequest;
+import com.baseball.game.dto.MatchStatus;
+import com.baseball.game.dto.MemberDto;
+import com.baseball.game.dto.TeamLineup;
+import com.baseball.game.exception.GameNotFoundException;
+import com.baseball.game.exception.ValidationException;
+import com.baseball.game.metrics.MetricsRegistry;
+import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class MatchmakingServiceImpl implements MatchmakingService, InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchmakingServiceImpl.class);
+
+    private static final int DEFAULT_INNINGS = 9;
+    private static final int LINEUP_SIZE = 9;
+    private static final long SWEEP_MILLIS = 200;
+
+    // 대기열, 정리 스레드, 게임 생성 실행기는 빈마다 하나 (서비스는 root-context에서만 생성, destroy에서 종료)
+
+    // 매칭이 성사된 게임 생성은 등록 스레드를 막지 않도록 별도 실행기에서 처리
+    private final ExecutorService gameStarter = VirtualThreads.newExecutor("match-start", 8);
+
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "matchmaking-sweep");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Setter(onMethod_ = @Autowired)
+    private MemberService memberService;
+
+    @Setter(onMethod_ = @Autowired)
+    private TeamLineupService teamLineupService;
+
+    @Setter(onMethod_ = @Autowired)
+    private GameService gameService;
+
+    @Setter(onMethod_ = @Autowired)
+    private MetricsRegistry metrics;
+
+    private final Matchmaker matchmaker = new Matchmaker(Math.max(2, Runtime.getRuntime().availableProcessors()),
+            (home, away) -> gameStarter.execute(() -> startMatch(home, away)), System::currentTimeMillis);
+
+    @Override
+    public void afterPropertiesSet() {
+        sweeper.scheduleWithFixedDelay(() -> {
+            try {
+                matchmaker.sweep();
+            } catch (RuntimeException e) {
+                logger.error("매칭 대기열 정리 중 오류 발생: {}", e.getMessage(), e);
+            }
+        }, SWEEP_MILLIS, SWEEP_MILLIS, TimeUnit.MILLISECONDS);
+        metrics.gauge("matchmaking.waiting", matchmaker::waiting);
+    }
+
+    @Override
+    public void destroy() {
+        sweeper.shutdownNow();
+        gameStarter.shutdown();
+    }
+
+    @Override
+    public MatchStatus enqueue(MatchRequest request) {
+        long start = System.nanoTime();
+        try {
+            if (request == null || request.getUserId() == null || request.getUserId().trim().isEmpty()) {
+                throw new ValidationException("사용자 ID는 필수입니다.");
+            }
+            MemberDto member = memberService.getMember(request.getUserId());
+            if (member == null) {
+                throw new ValidationException("회원 정보를 찾을 수 없습니다: " + request.getUserId());
+            }
+            if (member.getTeam() == null || member.getTeam().trim().isEmpty()) {
+                throw new ValidationException("응원 팀이 설정되지 않은 회원입니다.");
+            }
+            List<String> lineup = loadLineup(member.getId(), member.getTeam());
+
+            Matchmaker.Ticket ticket = matchmaker.enqueue(member.getId(), member.getTeam(), rating(member),
+                    lineup, request.getStartingPitcher());
+            metrics.increment("matchmaking.enqueued");
+            logger.info("매칭 등록: userId={}, team={}, rating={}", member.getId(), member.getTeam(), ticket.getRating());
+            return toStatus(ticket);
+        } finally {
+            metrics.recordSince("matchmaking.enqueue", start);
+        }
+    }
+
+    @Override
+    public MatchStatus getStatus(String ticketId) {
+        return toStatus(findTicket(ticketId));
+    }
+
+    @Override
+    public MatchStatus cancel(String ticketId) {
+        Matchmaker.Ticket ticket = findTicket(ticketId);
+        if (matchmaker.cancel(ticketId)) {
+            logger.info("매칭 취소: userId={}", ticket.getUserId());
+        }
+        return toStatus(ticket);
+    }
+
+    /**
+     * 레이팅 (승패 차이를 경기 수로 나눈 값, 경기 수가 적으면 기본값 1000 쪽으로 보정)
+     */
+    static int rating(MemberDto member) {
+        int rating = 1_000 + (int) Math.round(1_000.0 * (member.getWin() - member.getLose()) / (member.getGame() + 20));
+        return Math.max(0, Math.min(Matchmaker.MAX_RATING - 1, rating));
+    }
+
+    /**
+     * 저장된 커스텀 라인업, 없으면 팀 기본 라인업의 타순 (9명)
+     */
+    private List<String> loadLineup(String userId, String team) {
+        List<TeamLineup> entries = teamLineupService.getCustomLineup(userId, team);
+        if (entries == null || entries.size() < LINEUP_SIZE) {
+            entries = new ArrayList<>();
+            for (TeamLineup entry : teamLineupService.getDefaultLineup(team)) {
+                if (!"USER_CUSTOM".equals(entry.getLineupType())) {
+                    entries.add(entry);
+                }
+            }
+        }
+        if (entries.size() < LINEUP_SIZE) {
+            throw new ValidationException(team + " 팀 라인업이 9명 미만입니다. (" + entries.size() + "명)");
+        }
+        entries.sort(Comparator.comparing(TeamLineup::getPosition, Comparator.nullsLast(Comparator.naturalOrder())));
+        List<String> names = new ArrayList<>(LINEUP_SIZE);
+        for (TeamLineup entry : entries.subList(0, LINEUP_SIZE)) {
+            names.add(entry.getPlayerName());
+        }
+        return names;
+    }
+
+    /**
+     * 매칭된 두 사용자의 게임 시작 (먼저 기다린 쪽이 홈팀, 양 팀 라인업과 선발 투수까지 한 번에 설정)
+     */
+    private void startMatch(Matchmaker.Ticket home, Matchmaker.Ticket away) {
+        long start = System.nanoTime();
+        try {
+            GameStartRequest request = new GameStartRequest();
+            request.setHomeTeam(home.getTeam());
+            request.setAwayTeam(away.getTeam());
+            request.setMaxInning(DEFAULT_INNINGS);
+            request.setIsUserOffense(true);
+            request.setHomeLineup(home.getLineup());
+            request.setAwayLineup(away.getLineup());
+            request.setHomeStartingPitcher(home.getStartingPitcher());
+            request.setAwayStartingPitcher(away.getStartingPitcher());
+            GameDto game = gameService.startGame(request);
+            home.complete(game.getGameId());
+            away.complete(game.getGameId());
+            metrics.increment("matchmaking.matched");
+            logger.info("매칭 성사: 게임 {} ({} {} vs {} {})", game.getGameId(),
+                    away.getUserId(), away.getTeam(), home.getUserId(), home.getTeam());
+        } catch (RuntimeException e) {
+            logger.error("매칭된 게임 생성 실패: {} vs {}: {}", away.getUserId(), home.getUserId(), e.getMessage(), e);
+            home.fail("게임 생성 중 오류가 발생했습니다: " + e.getMessage());
+            away.fail("게임 생성 중 오류가 발생했습니다: " + e.getMessage());
+        } finally {
+            metrics.recordSince("matchmaking.startGame", start);
+        }
+    }
+
+    private Matchmaker.Ticket findTicket(String ticketId) {
+        Matchmaker.Ticket ticket = matchmaker.find(ticketId);
+        if (ticket == null) {
+            throw new GameNotFoundException("매칭 대기표를 찾을 수 없습니다: " + ticketId);
+        }
+        return ticket;
+    }
+
+    private static MatchStatus toStatus(Matchmaker.Ticket ticket) {
+        MatchStatus status = new MatchStatus();
+        status.setTicketId(ticket.getId());
+        status.setTeam(ticket.getTeam());
+        status.setRating(ticket.getRating());
+        long end = ticket.getFinishedAt() != 0 ? ticket.getFinishedAt() : System.currentTimeMillis();
+        status.setWaitedMillis(Math.max(0L, end - ticket.getEnqueuedAt()));
+        switch (ticket.getState()) {
+            case Matchmaker.MATCHED:
+                Matchmaker.Ticket opponent = ticket.getOpponent();
+                if (opponent != null) {
+                    status.setOpponentId(opponent.getUserId());
+                    status.setOpponentTeam(opponent.getTeam());
+                    status.setSide(ticket.isHome() ? "home" : "away");
+                }
+                if (ticket.getGameId() != null) {
+                    status.setStatus("READY");
+                    status.setGameId(ticket.getGameId());
+                } else if (ticket.getFailure() != null) {
+                    status.setStatus("FAILED");
+                    status.setMessage(ticket.getFailure());
+                } else {
+                    status.setStatus("MATCHED");
+                }
+                break;
+            case Matchmaker.CANCELLED:
+                status.setStatus("CANCELLED");
+                break;
+            case Matchmaker.EXPIRED:
+                status.setStatus("EXPIRED");
+                status.setMessage("대기 시간이 초과되었습니다. 다시 등록해주세요.");
+                break;
+            default:
+                status.setStatus("WAITING");
+        }
+        return status;
+    }
+}
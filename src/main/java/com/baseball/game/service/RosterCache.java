@@ -0,0 +1,172 @@
+package com.baseball.game.service;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+import com.baseball.game.exception.ValidationException;
+import com.baseball.game.metrics.MetricsRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 팀별 선수 명단 캐시 (기본 라인업 타순, 타자, 투수)
+ * 게임을 시작할 때마다 team_lineup과 player를 다시 읽지 않도록 팀 단위로 TTL_MILLIS 동안 보관합니다.
+ * 게임 중 선수 기록(홈런, 타점 등)이 바뀌므로 캐시에는 원본만 두고 꺼낼 때마다 복사본을 돌려줍니다.
+ */
+public class RosterCache {
+
+    public static final long TTL_MILLIS = 5 * 60 * 1_000;
+
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, TeamRoster> rosters = new ConcurrentHashMap<>();
+    private final MetricsRegistry metrics;
+
+    public RosterCache(MetricsRegistry metrics) {
+        this(TTL_MILLIS, System::currentTimeMillis, metrics);
+    }
+
+    /**
+     * @param ttlMillis 팀 명단을 다시 읽기 전까지 보관할 시간
+     * @param clock 현재 시각 (밀리초)
+     * @param metrics 적중/실패 횟수를 기록할 메트릭 저장소
+     */
+    public RosterCache(long ttlMillis, LongSupplier clock, MetricsRegistry metrics) {
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 보관 중인 팀 명단 (없거나 보관 시간이 지났으면 null)
+     */
+    public TeamRoster get(String team) {
+        TeamRoster roster = rosters.get(team);
+        if (roster == null || clock.getAsLong() - roster.loadedAt >= ttlMillis) {
+            metrics.increment("roster.cache.miss");
+            return null;
+        }
+        metrics.increment("roster.cache.hit");
+        return roster;
+    }
+
+    /**
+     * DB에서 읽은 팀 명단 보관 (타자가 한 명도 없는 팀은 보관하지 않음)
+     * @param defaultOrder 기본 라인업 타순 선수 이름
+     * @param pitchers 팀 투수 (첫 번째가 기본 선발)
+     */
+    public TeamRoster put(String team, List<String> defaultOrder, List<Batter> batters, List<Pitcher> pitchers) {
+        TeamRoster roster = new TeamRoster(team, defaultOrder, batters, pitchers, clock.getAsLong());
+        if (!batters.isEmpty()) {
+            rosters.put(team, roster);
+        }
+        return roster;
+    }
+
+    public void invalidate(String team) {
+        rosters.remove(team);
+    }
+
+    static Batter copy(Batter source) {
+        Batter batter = new Batter();
+        batter.setName(source.getName());
+        batter.setTeam(source.getTeam());
+        batter.setPower(source.getPower());
+        batter.setContact(source.getContact());
+        batter.setSpeed(source.getSpeed());
+        batter.setEye(source.getEye());
+        batter.setBattingOrder(source.getBattingOrder());
+        batter.setAtBats(source.getAtBats());
+        batter.setHits(source.getHits());
+        batter.setHomeRuns(source.getHomeRuns());
+        batter.setRbis(source.getRbis());
+        batter.setBattingAverage(source.getBattingAverage());
+        return batter;
+    }
+
+    static Pitcher copy(Pitcher source) {
+        Pitcher pitcher = new Pitcher();
+        pitcher.setName(source.getName());
+        pitcher.setTeam(source.getTeam());
+        pitcher.setControl(source.getControl());
+        pitcher.setSpeed(source.getSpeed());
+        pitcher.setStamina(source.getStamina());
+        pitcher.setMovement(source.getMovement());
+        pitcher.setInningsPitched(source.getInningsPitched());
+        pitcher.setStrikeouts(source.getStrikeouts());
+        pitcher.setWalks(source.getWalks());
+        pitcher.setHits(source.getHits());
+        pitcher.setEarnedRuns(source.getEarnedRuns());
+        pitcher.setEra(source.getEra());
+        return pitcher;
+    }
+
+    /**
+     * 한 팀의 명단 (원본은 바꾸지 않고 타순/선발 투수를 복사본으로 꺼냄)
+     */
+    public static final class TeamRoster {
+        private final String team;
+        private final List<String> defaultOrder;
+        private final Map<String, Batter> batters = new LinkedHashMap<>();
+        private final List<Pitcher> pitchers;
+        private final long loadedAt;
+
+        private TeamRoster(String team, List<String> defaultOrder, List<Batter> batters, List<Pitcher> pitchers, long loadedAt) {
+            this.team = team;
+            this.defaultOrder = Collections.unmodifiableList(new ArrayList<>(defaultOrder));
+            for (Batter batter : batters) {
+                this.batters.put(batter.getName(), batter);
+            }
+            this.pitchers = new ArrayList<>(pitchers);
+            this.loadedAt = loadedAt;
+        }
+
+        public String getTeam() {
+            return team;
+        }
+
+        public List<String> getDefaultOrder() {
+            return defaultOrder;
+        }
+
+        /**
+         * 이름 순서대로 타순 구성
+         * @throws ValidationException 이 팀 타자가 아닌 이름이 있을 때
+         */
+        public List<Batter> battingOrder(List<String> names) {
+            List<Batter> order = new ArrayList<>(names.size());
+            for (String name : names) {
+                Batter batter = batters.get(name);
+                if (batter == null) {
+                    throw new ValidationException("타자 '" + name + "'는 팀 '" + team + "' 소속이 아닙니다.");
+                }
+                order.add(copy(batter));
+            }
+            return order;
+        }
+
+        /**
+         * 선발 투수 (이름이 없으면 로테이션 1번)
+         * @throws ValidationException 팀에 투수가 없거나 이 팀 투수가 아닌 이름일 때
+         */
+        public Pitcher startingPitcher(String name) {
+            if (pitchers.isEmpty()) {
+                throw new ValidationException(team + " 팀 투수가 없습니다.");
+            }
+            if (name == null || name.trim().isEmpty()) {
+                return copy(pitchers.get(0));
+            }
+            for (Pitcher pitcher : pitchers) {
+                if (name.equals(pitcher.getName())) {
+                    return copy(pitcher);
+                }
+            }
+            throw new ValidationException("팀 " + team + "에서 선발 투수 '" + name + "'를 찾을 수 없거나 해당 팀 소속이 아닙니다.");
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.baseball.game.service;
+
+import com.baseball.game.dto.GameDto;
+import com.baseball.game.metrics.MetricsRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 리그 전광판 인덱스 (진행 중인 모든 게임의 팀, 점수, 이닝, 아웃)
+ * 게임마다 팀 이름과 진행 상황을 long 하나로 묶은 고정 크기 기록만 두고, 상태가 바뀔 때(markChanged) 기록을 갱신합니다.
+ * 조회용 JSON은 주기적으로 바뀐 경우에만 한 번 직렬화해 두므로 전광판 조회는 만들어 둔 바이트 배열을 돌려주기만 합니다.
+ * (GameDto 전체를 읽어 직렬화하지 않으므로 시청자 수가 늘어도 게임 상태 접근이 늘지 않음)
+ * 종료된 게임은 FINISHED_RETENTION_MILLIS 동안 결과를 보여준 뒤 목록에서 뺍니다.
+ * 게임 ID는 게임 명령 권한을 겸하므로 전광판에는 내보내지 않고, 등록 순서대로 매긴 표시용 번호(id)만 내보냅니다.
+ * 라인업이 정해지지 않아 타자가 없는 게임은 진행할 수 있게 될 때까지 등록하지 않습니다.
+ * 주기적 갱신은 start()로 시작하고 stop()으로 멈춥니다. (root-context.xml의 init-method, destroy-method)
+ */
+public class ScoreboardIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScoreboardIndex.class);
+
+    public static final long REFRESH_MILLIS = 1_000;
+    public static final long FINISHED_RETENTION_MILLIS = 10 * 60 * 1_000;
+
+    // 진행 상황 비트 배치: 홈 점수 12비트, 원정 점수 12비트, 이닝 8비트, 초 공격 1비트, 아웃 2비트, 종료 1비트
+    private static final int SCORE_BITS = 12;
+    private static final int SCORE_MASK = (1 << SCORE_BITS) - 1;
+    private static final int AWAY_SHIFT = SCORE_BITS;
+    private static final int INNING_SHIFT = SCORE_BITS * 2;
+    private static final int TOP_SHIFT = INNING_SHIFT + 8;
+    private static final int OUT_SHIFT = TOP_SHIFT + 1;
+    private static final int OVER_SHIFT = OUT_SHIFT + 2;
+
+    private static final long NOT_FINISHED = Long.MIN_VALUE;
+
+    private final long retentionMillis;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private final AtomicLong displayIds = new AtomicLong();
+    private final MetricsRegistry metrics;
+
+    private volatile Snapshot snapshot;
+    private ScheduledExecutorService refresher;
+
+    public ScoreboardIndex(MetricsRegistry metrics) {
+        this(FINISHED_RETENTION_MILLIS, System::currentTimeMillis, metrics);
+    }
+
+    /**
+     * @param retentionMillis 종료된 게임을 목록에 남겨둘 시간
+     * @param clock 현재 시각 (밀리초)
+     * @param metrics 직렬화 시간을 기록할 메트릭 저장소
+     */
+    public ScoreboardIndex(long retentionMillis, LongSupplier clock, MetricsRegistry metrics) {
+        this.retentionMillis = retentionMillis;
+        this.clock = clock;
+        this.metrics = metrics;
+        this.snapshot = serialize(0, clock.getAsLong(), new ArrayList<>());
+    }
+
+    /**
+     * REFRESH_MILLIS마다 refresh()를 실행하는 갱신 스레드 시작
+     */
+    public synchronized void start() {
+        if (refresher != null) {
+            return;
+        }
+        refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scoreboard-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (RuntimeException e) {
+                logger.error("전광판 갱신 실패: {}", e.getMessage(), e);
+            }
+        }, REFRESH_MILLIS, REFRESH_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+            refresher = null;
+        }
+    }
+
+    /**
+     * 게임 진행 상황 반영 (점수, 이닝, 아웃, 종료 여부가 바뀐 경우에만 다음 갱신 때 다시 직렬화)
+     */
+    public void update(GameDto game) {
+        Entry entry = entries.get(game.getGameId());
+        if (entry == null) {
+            if (game.getCurrentBatter() == null) {
+                return; // 아직 라인업이 정해지지 않은 게임
+            }
+            entry = entries.computeIfAbsent(game.getGameId(),
+                    id -> new Entry(id, displayIds.incrementAndGet(), game.getHomeTeam(), game.getAwayTeam()));
+        }
+        long progress = pack(game);
+        if (entry.progress != progress) {
+            entry.progress = progress;
+            if (game.isGameOver() && entry.finishedAt == NOT_FINISHED) {
+                entry.finishedAt = clock.getAsLong();
+            }
+            dirty.set(true);
+        }
+    }
+
+    public void remove(String gameId) {
+        if (entries.remove(gameId) != null) {
+            dirty.set(true);
+        }
+    }
+
+    /**
+     * 마지막으로 만들어 둔 전광판 (요청마다 직렬화하지 않음)
+     */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 바뀐 기록이 있으면 전광판 JSON을 다시 만들고, 보관 시간이 지난 종료 게임을 제거
+     */
+    public void refresh() {
+        long now = clock.getAsLong();
+        for (Entry entry : entries.values()) {
+            if (entry.finishedAt != NOT_FINISHED && now - entry.finishedAt >= retentionMillis) {
+                entries.remove(entry.gameId, entry);
+                dirty.set(true);
+            }
+        }
+        if (!dirty.compareAndSet(true, false)) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<Entry> games = new ArrayList<>(entries.values());
+        games.sort(Comparator.comparingLong((Entry entry) -> entry.displayId));
+        snapshot = serialize(snapshot.getVersion() + 1, now, games);
+        metrics.recordSince("scoreboard.refresh", start);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    static long pack(GameDto game) {
+        return (long) Math.min(game.getHomeScore(), SCORE_MASK)
+                | (long) Math.min(game.getAwayScore(), SCORE_MASK) << AWAY_SHIFT
+                | (long) Math.min(game.getInning(), 0xFF) << INNING_SHIFT
+                | (game.isTop() ? 1L : 0L) << TOP_SHIFT
+                | (long) Math.min(game.getOut(), 3) << OUT_SHIFT
+                | (game.isGameOver() ? 1L : 0L) << OVER_SHIFT;
+    }
+
+    private static Snapshot serialize(long version, long generatedAt, List<Entry> games) {
+        StringBuilder json = new StringBuilder(64 + games.size() * 160);
+        json.append("{\"version\":").append(version)
+                .append(",\"generatedAt\":").append(generatedAt)
+                .append(",\"games\":[");
+        boolean first = true;
+        for (Entry entry : games) {
+            long progress = entry.progress;
+            if (progress < 0) {
+                continue; // 등록 직후 아직 진행 상황이 기록되지 않은 게임
+            }
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append("{\"id\":").append(entry.displayId);
+            json.append(",\"homeTeam\":");
+            appendString(json, entry.homeTeam);
+            json.append(",\"awayTeam\":");
+            appendString(json, entry.awayTeam);
+            json.append(",\"homeScore\":").append(progress & SCORE_MASK)
+                    .append(",\"awayScore\":").append(progress >>> AWAY_SHIFT & SCORE_MASK)
+                    .append(",\"inning\":").append(progress >>> INNING_SHIFT & 0xFF)
+                    .append(",\"top\":").append((progress >>> TOP_SHIFT & 1) == 1)
+                    .append(",\"out\":").append(progress >>> OUT_SHIFT & 3)
+                    .append(",\"gameOver\":").append((progress >>> OVER_SHIFT & 1) == 1)
+                    .append('}');
+        }
+        json.append("]}");
+        return new Snapshot(version, json.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    /**
+     * 직렬화해 둔 전광판 (version은 다시 만들 때마다 증가하므로 ETag로 사용)
+     */
+    public static final class Snapshot {
+        private final long version;
+        private final byte[] json;
+
+        private Snapshot(long version, byte[] json) {
+            this.version = version;
+            this.json = json;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+    }
+
+    /**
+     * 게임 하나의 고정 크기 기록 (팀 이름은 생성 시 한 번만 저장, 진행 상황은 long 하나)
+     */
+    private static final class Entry {
+        private final String gameId;
+        private final long displayId;
+        private final String homeTeam;
+        private final String awayTeam;
+        private volatile long progress = -1;
+        private volatile long finishedAt = NOT_FINISHED;
+
+        private Entry(String gameId, long displayId, String homeTeam, String awayTeam) {
+            this.gameId = gameId;
+            this.displayId = displayId;
+            this.homeTeam = homeTeam;
+            this.awayTeam = awayTeam;
+        }
+    }
+}
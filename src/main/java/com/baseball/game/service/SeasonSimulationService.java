@@ -0,0 +1,27 @@
+package com.baseball.game.service;
+
+import com.baseball.game.dto.MatchupPreview;
+import com.baseball.game.dto.MatchupPreviewRequest;
+import com.baseball.game.dto.SeasonProjection;
+import com.baseball.game.dto.SeasonSimulationRequest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+public interface SeasonSimulationService {
+
+    /**
+     * player 테이블의 모든 팀으로 라운드 로빈 시즌을 반복 시뮬레이션
+     * 각 팀은 team_lineup의 기본 라인업과 팀 투수 로테이션을 사용합니다.
+     * @param listener 반복이 진행될 때마다 중간 순위 분포를 전달받음 (시뮬레이션 스레드에서 호출, 예외를 던지면 중단)
+     * @return 모든 반복이 끝난 최종 분포 (cancel 시 다음 반복 전에 중단)
+     */
+    CompletableFuture<SeasonProjection> simulateSeason(SeasonSimulationRequest request,
+            Consumer<SeasonProjection> listener);
+
+    /**
+     * 두 팀 대진의 승리 확률과 득점 분포 미리보기
+     * 같은 능력치 조합(타순, 선발투수, 이닝 수)의 결과는 캐시에서 바로 응답합니다.
+     */
+    MatchupPreview previewMatchup(MatchupPreviewRequest request);
+}
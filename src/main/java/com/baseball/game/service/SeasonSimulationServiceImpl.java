@@ -0,0 +1,331 @@
+package com.baseball.game.service;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.MatchupPreview;
+import com.baseball.game.dto.MatchupPreviewRequest;
+import com.baseball.game.dto.Pitcher;
+import com.baseball.game.dto.SeasonProjection;
+import com.baseball.game.dto.SeasonSimulationRequest;
+import com.baseball.game.dto.TeamLineup;
+import com.baseball.game.exception.ValidationException;
+import com.baseball.game.mapper.BatterMapper;
+import com.baseball.game.mapper.PitcherMapper;
+import com.baseball.game.mapper.TeamLineupMapper;
+import com.baseball.game.metrics.MetricsRegistry;
+import com.baseball.game.simulation.BatchGameEngine;
+import com.baseball.game.simulation.BatchGameResult;
+import com.baseball.game.simulation.GameEngine;
+import com.baseball.game.simulation.GameSimulator;
+import com.baseball.game.simulation.MatchupDistribution;
+import com.baseball.game.simulation.MatchupDistributionCache;
+import com.baseball.game.simulation.PlateAppearanceEngine;
+import com.baseball.game.simulation.RoundRobinSchedule;
+import com.baseball.game.simulation.SeasonSimulator;
+import com.baseball.game.simulation.SeasonStandingsAccumulator;
+import com.baseball.game.simulation.SeasonTally;
+import com.baseball.game.simulation.SimulationLineup;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import lombok.Setter;
+
+@Service
+public class SeasonSimulationServiceImpl implements SeasonSimulationService, DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(SeasonSimulationServiceImpl.class);
+
+    private static final int MAX_ITERATIONS = 100_000;
+    private static final int MAX_ROUNDS = 20;
+    private static final int MAX_INNING = 15;
+    private static final int ROTATION_SIZE = 5; // 선발 로테이션 투수 수
+    private static final int PROGRESS_UPDATES = 20; // 전체 반복 동안 중간 결과를 보내는 횟수
+    private static final int PREVIEW_GAMES = 20_000; // 대진 미리보기 경기 수
+    private static final int PREVIEW_BATCH = 5_000; // 배치 엔진 한 번에 진행하는 경기 수
+
+    @Setter(onMethod_ = @Autowired)
+    private TeamLineupMapper teamLineupMapper;
+
+    @Setter(onMethod_ = @Autowired)
+    private BatterMapper batterMapper;
+
+    @Setter(onMethod_ = @Autowired)
+    private PitcherMapper pitcherMapper;
+
+    // 대진별 시뮬레이션 결과 캐시 (root-context.xml에 등록)
+    @Setter(onMethod_ = @Autowired)
+    private MatchupDistributionCache matchupCache;
+
+    private final GameSimulator gameSimulator = new GameSimulator();
+
+    private final BatchGameEngine batchEngine = new BatchGameEngine();
+
+    // 경기 시뮬레이션은 CPU 작업이므로 코어 수만큼의 fork/join 풀에서 실행
+    private final ForkJoinPool simulationPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    // 시즌 반복을 진행하는 스레드 (동시에 진행하는 시즌 수와 대기열을 제한)
+    private final ThreadPoolExecutor seasonExecutor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(8), runnable -> {
+                Thread thread = new Thread(runnable, "season-simulation");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    @Setter(onMethod_ = @Autowired)
+    private MetricsRegistry metrics;
+
+    @Override
+    public CompletableFuture<SeasonProjection> simulateSeason(SeasonSimulationRequest request,
+            Consumer<SeasonProjection> listener) {
+        validate(request);
+
+        List<String> teamNames = new ArrayList<>();
+        List<List<SimulationLineup>> rotations = new ArrayList<>();
+        loadLeague(teamNames, rotations);
+        if (teamNames.size() < 2) {
+            throw new ValidationException("기본 라인업이 설정된 팀이 2개 이상 필요합니다.");
+        }
+        if (request.getPlayoffSpots() > teamNames.size()) {
+            throw new ValidationException("포스트시즌 진출 팀 수가 팀 수보다 많습니다.");
+        }
+
+        RoundRobinSchedule schedule = RoundRobinSchedule.build(teamNames.size(), request.getRounds());
+        // 타석 단위 모드는 요청마다 새 엔진을 만들어 이 시즌의 라인업 표만 캐시
+        GameEngine engine = request.isPlateAppearanceMode() ? new PlateAppearanceEngine() : gameSimulator;
+        SeasonSimulator seasonSimulator = new SeasonSimulator(engine, schedule, rotations,
+                request.getMaxInning());
+        long seed = request.getSeed() != null ? request.getSeed() : ThreadLocalRandom.current().nextLong();
+
+        CompletableFuture<SeasonProjection> result = new CompletableFuture<>();
+        try {
+            seasonExecutor.execute(() -> {
+                try {
+                    result.complete(run(seasonSimulator, teamNames, request, seed, listener, result));
+                } catch (Throwable t) {
+                    logger.warn("시즌 시뮬레이션 중단: {}", t.toString());
+                    result.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 진행 중인 시즌과 대기열이 모두 찼음 -> GlobalExceptionHandler에서 503으로 응답
+            metrics.increment("season.rejected");
+            logger.warn("시즌 시뮬레이션 대기열이 가득 찼습니다: 대기 {}건", seasonExecutor.getQueue().size());
+            throw new RejectedExecutionException("진행 중인 시즌 시뮬레이션이 많습니다. 잠시 후 다시 시도해 주세요.", e);
+        }
+        logger.info("시즌 시뮬레이션 시작: 팀 {}개, 팀당 {}경기, {}회 반복, 시드 {}",
+                teamNames.size(), schedule.getGamesPerTeam(), request.getIterations(), seed);
+        return result;
+    }
+
+    private SeasonProjection run(SeasonSimulator seasonSimulator, List<String> teamNames,
+            SeasonSimulationRequest request, long seed, Consumer<SeasonProjection> listener,
+            CompletableFuture<SeasonProjection> result) {
+        int iterations = request.getIterations();
+        int reportEvery = Math.max(1, iterations / PROGRESS_UPDATES);
+        SeasonStandingsAccumulator standings = new SeasonStandingsAccumulator(teamNames,
+                seasonSimulator.getSchedule().getGamesPerTeam(), request.getPlayoffSpots());
+
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            if (result.isDone()) { // 취소됨
+                return standings.snapshot(seed, iterations, false);
+            }
+            long start = System.nanoTime();
+            SeasonTally season = seasonSimulator.simulate(simulationPool, seed, iteration);
+            standings.add(season, GameSimulator.seedFor(seed, iteration, -1L));
+            metrics.recordSince("season.iteration", start);
+
+            if ((iteration + 1) % reportEvery == 0 && iteration + 1 < iterations) {
+                listener.accept(standings.snapshot(seed, iterations, false));
+            }
+        }
+        return standings.snapshot(seed, iterations, true);
+    }
+
+    @Override
+    public MatchupPreview previewMatchup(MatchupPreviewRequest request) {
+        long start = System.nanoTime();
+        try {
+            if (request.getHomeTeam() == null || request.getAwayTeam() == null) {
+                throw new ValidationException("홈팀과 원정팀 이름은 필수입니다.");
+            }
+            if (request.getHomeTeam().equals(request.getAwayTeam())) {
+                throw new ValidationException("홈팀과 원정팀은 동일할 수 없습니다.");
+            }
+            if (request.getMaxInning() < 1 || request.getMaxInning() > MAX_INNING) {
+                throw new ValidationException("이닝 수는 1~" + MAX_INNING + " 사이여야 합니다.");
+            }
+            SimulationLineup home = loadMatchupLineup(request.getHomeTeam(), request.getHomePitcherName());
+            SimulationLineup away = loadMatchupLineup(request.getAwayTeam(), request.getAwayPitcherName());
+
+            long key = MatchupDistributionCache.keyOf(home, away, request.getMaxInning(),
+                    GameSimulator.DEFAULT_EXTRA_INNING_LIMIT);
+            MatchupDistribution distribution = matchupCache.get(key);
+            boolean cached = distribution != null;
+            if (!cached) {
+                // 시드를 키에서 정하므로 캐시에서 빠진 뒤 다시 계산해도 같은 분포가 나옴
+                distribution = simulateMatchup(home, away, request.getMaxInning(), key);
+                matchupCache.put(key, distribution);
+            }
+            metrics.increment(cached ? "season.matchup.cacheHit" : "season.matchup.cacheMiss");
+
+            MatchupPreview preview = new MatchupPreview();
+            preview.setHomeTeam(home.getTeamName());
+            preview.setAwayTeam(away.getTeamName());
+            preview.setHomePitcherName(home.getPitcher().getName());
+            preview.setAwayPitcherName(away.getPitcher().getName());
+            preview.setMaxInning(request.getMaxInning());
+            preview.setGames(distribution.getGames());
+            preview.setHomeWinProbability(distribution.getHomeWinProbability());
+            preview.setAwayWinProbability(distribution.getAwayWinProbability());
+            preview.setTieProbability(distribution.getTieProbability());
+            preview.setAverageHomeScore(distribution.getAverageHomeScore());
+            preview.setAverageAwayScore(distribution.getAverageAwayScore());
+            preview.setHomeRunDistribution(distribution.getHomeRunDistribution());
+            preview.setAwayRunDistribution(distribution.getAwayRunDistribution());
+            preview.setCached(cached);
+            return preview;
+        } finally {
+            metrics.recordSince("season.matchup", start);
+        }
+    }
+
+    /**
+     * 대진 미리보기 경기를 배치 단위로 나누어 fork/join 풀에서 병렬 실행
+     */
+    private MatchupDistribution simulateMatchup(SimulationLineup home, SimulationLineup away, int maxInning,
+            long seed) {
+        List<Future<BatchGameResult>> batches = new ArrayList<>();
+        for (int batch = 0; batch * PREVIEW_BATCH < PREVIEW_GAMES; batch++) {
+            int games = Math.min(PREVIEW_BATCH, PREVIEW_GAMES - batch * PREVIEW_BATCH);
+            long batchSeed = GameSimulator.seedFor(seed, 0L, batch);
+            batches.add(simulationPool.submit(() -> batchEngine.simulate(home, away, maxInning, games, batchSeed)));
+        }
+        BatchGameResult[] results = new BatchGameResult[batches.size()];
+        try {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = batches.get(i).get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("대진 시뮬레이션이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("대진 시뮬레이션 중 오류가 발생했습니다.", e.getCause());
+        }
+        return MatchupDistribution.of(results);
+    }
+
+    /**
+     * 대진 미리보기용 팀 구성 (기본 라인업 + 지정한 선발, 없으면 로테이션 1번)
+     */
+    private SimulationLineup loadMatchupLineup(String team, String pitcherName) {
+        List<Batter> battingOrder = loadDefaultBattingOrder(team);
+        List<Pitcher> pitchers = pitcherMapper.findByTeam(team);
+        if (pitchers == null || pitchers.isEmpty()) {
+            throw new ValidationException(team + " 팀 투수가 없습니다.");
+        }
+        if (pitcherName == null) {
+            return new SimulationLineup(team, battingOrder, pitchers.get(0));
+        }
+        for (Pitcher pitcher : pitchers) {
+            if (pitcherName.equals(pitcher.getName())) {
+                return new SimulationLineup(team, battingOrder, pitcher);
+            }
+        }
+        throw new ValidationException("팀 " + team + "에서 선발 투수 '" + pitcherName + "'를 찾을 수 없습니다.");
+    }
+
+    /**
+     * 팀별 기본 라인업과 선발 로테이션 조회 (라인업이 불완전한 팀은 제외)
+     */
+    private void loadLeague(List<String> teamNames, List<List<SimulationLineup>> rotations) {
+        for (String team : teamLineupMapper.findAllTeams()) {
+            List<Batter> battingOrder;
+            try {
+                battingOrder = loadDefaultBattingOrder(team);
+            } catch (ValidationException e) {
+                logger.warn("시즌 시뮬레이션 제외: {}", e.getMessage());
+                continue;
+            }
+
+            List<Pitcher> pitchers = pitcherMapper.findByTeam(team);
+            if (pitchers == null || pitchers.isEmpty()) {
+                logger.warn("시즌 시뮬레이션 제외: {} 팀 투수가 없습니다.", team);
+                continue;
+            }
+            List<SimulationLineup> rotation = new ArrayList<>();
+            for (Pitcher pitcher : pitchers.subList(0, Math.min(ROTATION_SIZE, pitchers.size()))) {
+                rotation.add(new SimulationLineup(team, battingOrder, pitcher));
+            }
+            teamNames.add(team);
+            rotations.add(rotation);
+        }
+    }
+
+    /**
+     * team_lineup의 기본 라인업 순서대로 타자 조회
+     * @throws ValidationException 라인업이 9명 미만이거나 타자 정보를 찾을 수 없을 때
+     */
+    private List<Batter> loadDefaultBattingOrder(String team) {
+        List<String> order = new ArrayList<>();
+        for (TeamLineup entry : teamLineupMapper.findDefaultLineupByTeam(team)) {
+            if (!"USER_CUSTOM".equals(entry.getLineupType())) {
+                order.add(entry.getPlayerName());
+            }
+        }
+        if (order.size() < 9) {
+            throw new ValidationException(team + " 팀 기본 라인업이 9명 미만입니다. (" + order.size() + "명)");
+        }
+
+        Map<String, Batter> battersByName = new HashMap<>();
+        for (Batter batter : batterMapper.findByNames(order)) {
+            battersByName.put(batter.getName(), batter);
+        }
+        List<Batter> battingOrder = new ArrayList<>(order.size());
+        for (String name : order) {
+            Batter batter = battersByName.get(name);
+            if (batter == null) {
+                throw new ValidationException(team + " 팀 라인업의 타자 정보를 찾을 수 없습니다.");
+            }
+            battingOrder.add(batter);
+        }
+        return battingOrder;
+    }
+
+    private void validate(SeasonSimulationRequest request) {
+        if (request.getIterations() < 1 || request.getIterations() > MAX_ITERATIONS) {
+            throw new ValidationException("반복 횟수는 1~" + MAX_ITERATIONS + " 사이여야 합니다.");
+        }
+        if (request.getRounds() < 1 || request.getRounds() > MAX_ROUNDS) {
+            throw new ValidationException("라운드 수는 1~" + MAX_ROUNDS + " 사이여야 합니다.");
+        }
+        if (request.getMaxInning() < 1 || request.getMaxInning() > MAX_INNING) {
+            throw new ValidationException("이닝 수는 1~" + MAX_INNING + " 사이여야 합니다.");
+        }
+        if (request.getPlayoffSpots() < 1) {
+            throw new ValidationException("포스트시즌 진출 팀 수는 1 이상이어야 합니다.");
+        }
+    }
+
+    @Override
+    public void destroy() {
+        seasonExecutor.shutdownNow();
+        simulationPool.shutdownNow();
+    }
+}
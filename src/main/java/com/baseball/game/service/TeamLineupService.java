@@ -3,6 +3,9 @@ package com.baseball.game.service;
 import java.util.List;
 import com.baseball.game.dto.TeamLineup;
 import com.baseball.game.dto.CustomLineupRequest;
+import com.baseball.game.dto.LineupOptimizeRequest;
+import com.baseball.game.dto.LineupRunExpectancy;
+import com.baseball.game.dto.LineupSuggestion;
 
 public interface TeamLineupService {
 
@@ -20,4 +23,10 @@ public interface TeamLineupService {
 
     // 팀별 사용 가능한 선수 목록 조회
     List<String> getAvailablePlayers(String teamName);
-}
\ No newline at end of file
+
+    // 상대 투수 기준 기대 득점이 높은 타순 추천 (시뮬레이션 기반)
+    List<LineupSuggestion> suggestBattingOrders(LineupOptimizeRequest request);
+
+    // 주어진 타순의 마르코프 체인 기대 득점과 타순별 RE24 (해석적 계산)
+    LineupRunExpectancy estimateExpectedRuns(LineupOptimizeRequest request);
+}
\ No newline at end of file
@@ -1,20 +1,53 @@
 package com.baseball.game.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.LineupOptimizeRequest;
+import com.baseball.game.dto.LineupRunExpectancy;
+import com.baseball.game.dto.LineupSuggestion;
+import com.baseball.game.dto.Pitcher;
 import com.baseball.game.dto.TeamLineup;
 import com.baseball.game.dto.CustomLineupRequest;
+import com.baseball.game.exception.ValidationException;
+import com.baseball.game.mapper.BatterMapper;
+import com.baseball.game.mapper.PitcherMapper;
 import com.baseball.game.mapper.TeamLineupMapper;
+import com.baseball.game.simulation.BaseOutState;
+import com.baseball.game.simulation.BattingOrderCandidate;
+import com.baseball.game.simulation.BattingOrderOptimizer;
+import com.baseball.game.simulation.BattingProfile;
+import com.baseball.game.simulation.GameSimulator;
+import com.baseball.game.simulation.MarkovRunEstimator;
+import com.baseball.game.simulation.RunExpectancy;
 import lombok.Setter;
 
 @Service
 public class TeamLineupServiceImpl implements TeamLineupService {
 
+    private static final int MAX_SUGGESTIONS = 20;
+
     @Setter(onMethod_ = @Autowired)
     private TeamLineupMapper teamLineupMapper;
 
+    @Setter(onMethod_ = @Autowired)
+    private BatterMapper batterMapper;
+
+    @Setter(onMethod_ = @Autowired)
+    private PitcherMapper pitcherMapper;
+
+    // 순열 채점/시뮬레이션은 CPU 작업이므로 공용 fork/join 풀에서 병렬 실행
+    private final BattingOrderOptimizer optimizer =
+            new BattingOrderOptimizer(new GameSimulator(), ForkJoinPool.commonPool());
+
     @Override
     public List<TeamLineup> getDefaultLineup(String teamName) {
         return teamLineupMapper.findDefaultLineupByTeam(teamName);
@@ -53,4 +86,126 @@ public class TeamLineupServiceImpl implements TeamLineupService {
     public List<String> getAvailablePlayers(String teamName) {
         return teamLineupMapper.findAvailablePlayersByTeam(teamName);
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<LineupSuggestion> suggestBattingOrders(LineupOptimizeRequest request) {
+        if (request.getTopN() < 1 || request.getTopN() > MAX_SUGGESTIONS) {
+            throw new ValidationException("추천 타순 수는 1~" + MAX_SUGGESTIONS + " 사이여야 합니다.");
+        }
+        if (request.getMaxInning() < 1 || request.getMaxInning() > 15) {
+            throw new ValidationException("이닝 수는 1~15 사이여야 합니다.");
+        }
+        List<Batter> roster = loadRoster(request);
+        Pitcher pitcher = loadPitcher(request);
+        List<String> names = new ArrayList<>(roster.size());
+        for (Batter batter : roster) {
+            names.add(batter.getName());
+        }
+
+        // 시드가 없으면 로스터(순서 무관)와 투수로 정하여 같은 요청에는 같은 추천을 반환
+        long seed = request.getSeed() != null ? request.getSeed()
+                : 31L * new TreeSet<>(names).hashCode() + pitcher.getName().hashCode();
+
+        List<LineupSuggestion> suggestions = new ArrayList<>();
+        for (BattingOrderCandidate candidate : optimizer.optimize(roster, pitcher, request.getMaxInning(),
+                request.getTopN(), seed)) {
+            List<String> battingOrder = new ArrayList<>(roster.size());
+            for (int index : candidate.getOrder()) {
+                battingOrder.add(roster.get(index).getName());
+            }
+            LineupSuggestion suggestion = new LineupSuggestion();
+            suggestion.setRank(suggestions.size() + 1);
+            suggestion.setBattingOrder(battingOrder);
+            suggestion.setExpectedRuns(candidate.getSimulatedRuns());
+            suggestion.setStandardError(candidate.getStandardError());
+            suggestion.setMarkovExpectedRuns(candidate.getMarkovRuns());
+            suggestions.add(suggestion);
+        }
+        return suggestions;
+    }
+
+    @Override
+    public LineupRunExpectancy estimateExpectedRuns(LineupOptimizeRequest request) {
+        if (request.getMaxInning() < 1 || request.getMaxInning() > 15) {
+            throw new ValidationException("이닝 수는 1~15 사이여야 합니다.");
+        }
+        List<Batter> roster = loadRoster(request);
+        Pitcher pitcher = loadPitcher(request);
+        int innings = request.getMaxInning();
+
+        BattingProfile[] profiles = new BattingProfile[roster.size()];
+        List<String> battingOrder = new ArrayList<>(roster.size());
+        for (int i = 0; i < profiles.length; i++) {
+            profiles[i] = BattingProfile.of(roster.get(i), pitcher);
+            battingOrder.add(roster.get(i).getName());
+        }
+        RunExpectancy expectancy = MarkovRunEstimator.solve(profiles);
+
+        List<Double> inningRuns = new ArrayList<>(profiles.length);
+        List<List<Double>> runExpectancy = new ArrayList<>(profiles.length);
+        for (int batter = 0; batter < profiles.length; batter++) {
+            inningRuns.add(expectancy.getInningRuns(batter));
+            List<Double> states = new ArrayList<>(BaseOutState.STATES);
+            for (int state = 0; state < BaseOutState.STATES; state++) {
+                states.add(expectancy.getExpectedRuns(state, batter));
+            }
+            runExpectancy.add(states);
+        }
+
+        LineupRunExpectancy result = new LineupRunExpectancy();
+        result.setBattingOrder(battingOrder);
+        result.setOpposingPitcherName(pitcher.getName());
+        result.setMaxInning(innings);
+        result.setExpectedRunsPerGame(expectancy.perGame(innings));
+        result.setExpectedRunsPerInning(expectancy.perGame(innings) / innings);
+        result.setInningRunsByLeadoff(inningRuns);
+        result.setRunExpectancy(runExpectancy);
+        return result;
+    }
+
+    /**
+     * 요청의 타자 9명을 타순대로 조회 (타자 목록이 없으면 팀 기본 라인업 순서)
+     */
+    private List<Batter> loadRoster(LineupOptimizeRequest request) {
+        List<String> names = request.getPlayerNames();
+        if (names == null || names.isEmpty()) {
+            if (request.getTeamName() == null || request.getTeamName().trim().isEmpty()) {
+                throw new ValidationException("타자 목록이나 팀 이름이 필요합니다.");
+            }
+            names = new ArrayList<>();
+            for (TeamLineup entry : teamLineupMapper.findDefaultLineupByTeam(request.getTeamName())) {
+                if (!"USER_CUSTOM".equals(entry.getLineupType())) {
+                    names.add(entry.getPlayerName());
+                }
+            }
+        }
+        if (names.size() != BattingOrderOptimizer.LINEUP_SIZE || new HashSet<>(names).size() != names.size()) {
+            throw new ValidationException("서로 다른 타자 9명이 필요합니다.");
+        }
+
+        Map<String, Batter> battersByName = new HashMap<>();
+        for (Batter batter : batterMapper.findByNames(names)) {
+            battersByName.put(batter.getName(), batter);
+        }
+        List<Batter> roster = new ArrayList<>(names.size());
+        for (String name : names) {
+            Batter batter = battersByName.get(name);
+            if (batter == null) {
+                throw new ValidationException("타자를 찾을 수 없습니다: " + name);
+            }
+            roster.add(batter);
+        }
+        return roster;
+    }
+
+    private Pitcher loadPitcher(LineupOptimizeRequest request) {
+        if (request.getOpposingPitcherName() == null || request.getOpposingPitcherName().trim().isEmpty()) {
+            throw new ValidationException("상대 투수 이름은 필수입니다.");
+        }
+        Pitcher pitcher = pitcherMapper.findByName(request.getOpposingPitcherName());
+        if (pitcher == null) {
+            throw new ValidationException("투수를 찾을 수 없습니다: " + request.getOpposingPitcherName());
+        }
+        return pitcher;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,109 @@
+package com.baseball.game.simulation;
+
+/**
+ * 아웃카운트/주자 상황(24가지 base-out 상태)과 타석 결과에 따른 상태 전이
+ * 상태는 outs * 8 + bases 로 인코딩합니다. (bases 비트: 1루=1, 2루=2, 3루=4)
+ * 0~23은 이닝 진행 중, 24 이상(3아웃)은 이닝 종료입니다.
+ */
+public final class BaseOutState {
+
+    public static final int STATES = 24;
+    public static final int INNING_OVER = 24;
+
+    public static final int FIRST = 1;
+    public static final int SECOND = 2;
+    public static final int THIRD = 4;
+
+    private BaseOutState() {
+    }
+
+    public static int encode(int outs, int bases) {
+        return outs >= 3 ? INNING_OVER : outs * 8 + bases;
+    }
+
+    public static int outs(int state) {
+        return state >> 3;
+    }
+
+    public static int bases(int state) {
+        return state & 7;
+    }
+
+    public static boolean isInningOver(int state) {
+        return state >= INNING_OVER;
+    }
+
+    /**
+     * 타석 결과를 적용한 다음 상태와 득점을 계산합니다.
+     * @return runs * 32 + 다음 상태 ({@link #runs(int)}, {@link #state(int)}로 분리)
+     */
+    public static int transition(int state, PlateAppearanceOutcome outcome) {
+        int outs = outs(state);
+        int bases = bases(state);
+        int runs = 0;
+
+        switch (outcome) {
+            case STRIKEOUT:
+            case FLY_OUT:
+                outs++;
+                break;
+            case GROUND_OUT:
+                outs++;
+                // 3아웃이 아니고 1루 주자가 있으면 포스 상황의 주자만 한 베이스씩 진루
+                if (outs < 3 && (bases & FIRST) != 0) {
+                    int forced = forceAdvance(bases);
+                    runs = forced >> 3;
+                    bases = (forced & 7) & ~FIRST;
+                }
+                break;
+            case DOUBLE_PLAY:
+                outs += 2;
+                bases &= ~FIRST;
+                break;
+            case WALK: {
+                int forced = forceAdvance(bases);
+                runs = forced >> 3;
+                bases = forced & 7;
+                break;
+            }
+            case HOME_RUN:
+                runs = Integer.bitCount(bases) + 1;
+                bases = 0;
+                break;
+            default: {
+                // 안타/2루타/3루타: 모든 주자가 타자와 같은 수만큼 진루
+                int gained = outcome.basesGained();
+                int shifted = bases << gained;
+                runs = Integer.bitCount(shifted & ~7);
+                bases = (shifted | (1 << (gained - 1))) & 7;
+                break;
+            }
+        }
+        return runs * 32 + encode(outs, bases);
+    }
+
+    public static int runs(int packed) {
+        return packed >> 5;
+    }
+
+    public static int state(int packed) {
+        return packed & 31;
+    }
+
+    /**
+     * 타자가 1루로 나갈 때 밀려나는 주자만 진루 (볼넷 규칙)
+     * @return runs * 8 + 진루 후 bases
+     */
+    private static int forceAdvance(int bases) {
+        if ((bases & FIRST) == 0) {
+            return bases | FIRST;
+        }
+        if ((bases & SECOND) == 0) {
+            return bases | SECOND;
+        }
+        if ((bases & THIRD) == 0) {
+            return bases | THIRD;
+        }
+        return 8 + bases; // 만루 밀어내기
+    }
+}
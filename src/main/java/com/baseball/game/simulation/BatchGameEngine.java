@@ -0,0 +1,303 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+import com.baseball.game.util.GameLogicUtil;
+import com.baseball.game.util.GameModelParameters;
+
+import java.util.SplittableRandom;
+
+/**
+ * 같은 대진의 경기 수천 개를 한꺼번에 진행하는 배치 엔진 (구조체 배열 배치)
+ *
+ * 경기별 객체 대신 볼/스트라이크, base-out 상태(아웃 * 8 + 주자 비트), 점수, 타순 인덱스를 경기 번호로 인덱싱한
+ * 기본형 배열에 두고, 매 라운드 진행 중인 모든 경기에 투구 하나씩을 적용합니다.
+ * - 투구 결과 분포는 (타자, 투수, 볼카운트 구간)마다 RatingBasedPlayStrategy와 GameLogicUtil 규칙(현재 파라미터)으로 미리 계산한
+ *   누적 확률 표이므로, 투구당 난수 한 개와 표 비교만 남습니다. (분포는 GameSimulator와 같고 난수 사용 순서만 다름)
+ * - 난수는 라운드마다 배열 단위로 한 번에 생성하고, 판정과 상태 갱신은 분기가 적은 별도 루프로 나누어
+ *   JIT 자동 벡터화가 가능한 형태로 둡니다.
+ * - 끝난 경기는 진행 목록에서 빼므로 긴 연장 경기가 있어도 나머지 경기에 비용이 들지 않습니다.
+ *
+ * 인스턴스는 상태가 없으므로 여러 스레드에서 공유해도 됩니다.
+ */
+public class BatchGameEngine {
+
+    static final int STRIKE = 0;
+    static final int BALL = 1;
+    static final int GROUND = 2;
+    static final int FLY = 3;
+    static final int SINGLE = 4;
+    static final int DOUBLE = 5;
+    static final int TRIPLE = 6;
+    static final int HOME_RUN = 7;
+    static final int PITCH_OUTCOMES = 8;
+
+    /**
+     * 볼카운트 구간 (3볼 여부 * 1 + 2스트라이크 여부 * 2), 기본 전략은 이 두 조건에서만 행동이 달라짐
+     */
+    private static final int COUNT_CLASSES = 4;
+
+    /**
+     * 타이밍 구간 경계 (|timing - 0.5|), GameLogicUtil의 헛스윙 확률과 타구 분포 경계를 합친 것
+     * 구간별로 헛스윙 확률 단계(GameModelParameters.getMissChance)와 타구 분포 단계(getHitDistribution)가 정해짐
+     */
+    private static final double[] TIMING_BOUNDS = {0.05, 0.10, 0.15, 0.20};
+    private static final int[] ZONE_MISS_LEVEL = {0, 1, 2, 2, 3};
+    private static final int[] ZONE_HIT_LEVEL = {0, 1, 1, 2, 2};
+
+    private static final PlateAppearanceOutcome[] OUTCOMES = PlateAppearanceOutcome.values();
+
+    /**
+     * [상태 * 타석 결과 수 + 결과] -> runs * 32 + 다음 상태 (BaseOutState.transition을 미리 계산)
+     */
+    private static final int[] TRANSITIONS = buildTransitions();
+
+    private static final int[] IN_PLAY_OUTCOME = {
+            -1, -1, -1,
+            PlateAppearanceOutcome.FLY_OUT.ordinal(),
+            PlateAppearanceOutcome.SINGLE.ordinal(),
+            PlateAppearanceOutcome.DOUBLE.ordinal(),
+            PlateAppearanceOutcome.TRIPLE.ordinal(),
+            PlateAppearanceOutcome.HOME_RUN.ordinal(),
+    };
+
+    private final int extraInningLimit;
+
+    public BatchGameEngine() {
+        this(GameSimulator.DEFAULT_EXTRA_INNING_LIMIT);
+    }
+
+    public BatchGameEngine(int extraInningLimit) {
+        this.extraInningLimit = Math.max(0, extraInningLimit);
+    }
+
+    /**
+     * 같은 대진으로 games 경기를 진행 (같은 시드면 항상 같은 결과)
+     */
+    public BatchGameResult simulate(SimulationLineup home, SimulationLineup away, int maxInning, int games, long seed) {
+        Batter[] homeOrder = home.getBattingOrder();
+        Batter[] awayOrder = away.getBattingOrder();
+        int capacity = Math.max(homeOrder.length, awayOrder.length);
+        int lastInning = maxInning + extraInningLimit;
+        GameModelParameters parameters = GameLogicUtil.getParameters();
+        double doublePlayChance = parameters.getDoublePlayChance();
+
+        // 초(원정 공격, 홈 투수) / 말(홈 공격, 원정 투수)별 누적 확률 표
+        double[] cdf = new double[2 * capacity * COUNT_CLASSES * PITCH_OUTCOMES];
+        fillCumulative(cdf, 0, capacity, awayOrder, home.getPitcher(), parameters);
+        fillCumulative(cdf, 1, capacity, homeOrder, away.getPitcher(), parameters);
+
+        // 경기별 상태 (구조체 배열)
+        int[] balls = new int[games];
+        int[] strikes = new int[games];
+        int[] baseOut = new int[games];
+        int[] half = new int[games]; // 0: 초, 1: 말
+        int[] inning = new int[games];
+        int[] awayCursor = new int[games];
+        int[] homeCursor = new int[games];
+        int[] homeScore = new int[games];
+        int[] awayScore = new int[games];
+
+        int[] active = new int[games];
+        double[] pitchRandom = new double[games];
+        double[] groundRandom = new double[games];
+        int[] pitch = new int[games];
+        for (int lane = 0; lane < games; lane++) {
+            active[lane] = lane;
+            inning[lane] = 1;
+        }
+
+        SplittableRandom rng = new SplittableRandom(seed);
+        int activeCount = games;
+        while (activeCount > 0) {
+            // 1. 난수를 라운드 단위로 한 번에 생성
+            for (int i = 0; i < activeCount; i++) {
+                pitchRandom[i] = rng.nextDouble();
+                groundRandom[i] = rng.nextDouble();
+            }
+
+            // 2. 투구 결과 판정 (누적 확률 표 비교, 분기 없음)
+            for (int i = 0; i < activeCount; i++) {
+                int lane = active[i];
+                int h = half[lane];
+                int slot = h == 0 ? awayCursor[lane] : homeCursor[lane];
+                int countClass = (balls[lane] == 3 ? 1 : 0) | (strikes[lane] == 2 ? 2 : 0);
+                int row = ((h * capacity + slot) * COUNT_CLASSES + countClass) * PITCH_OUTCOMES;
+                double u = pitchRandom[i];
+                int code = 0;
+                for (int k = 0; k < PITCH_OUTCOMES - 1; k++) {
+                    code += u >= cdf[row + k] ? 1 : 0;
+                }
+                pitch[i] = code;
+            }
+
+            // 3. 상태 갱신, 끝난 경기는 진행 목록에서 제거
+            int kept = 0;
+            for (int i = 0; i < activeCount; i++) {
+                int lane = active[i];
+                int code = pitch[i];
+                int outcome;
+                if (code == STRIKE) {
+                    if (++strikes[lane] < 3) {
+                        active[kept++] = lane;
+                        continue;
+                    }
+                    outcome = PlateAppearanceOutcome.STRIKEOUT.ordinal();
+                } else if (code == BALL) {
+                    if (++balls[lane] < 4) {
+                        active[kept++] = lane;
+                        continue;
+                    }
+                    outcome = PlateAppearanceOutcome.WALK.ordinal();
+                } else if (code == GROUND) {
+                    int state = baseOut[lane];
+                    boolean doublePlay = BaseOutState.outs(state) < 2 && (state & BaseOutState.FIRST) != 0
+                            && groundRandom[i] < doublePlayChance;
+                    outcome = (doublePlay ? PlateAppearanceOutcome.DOUBLE_PLAY : PlateAppearanceOutcome.GROUND_OUT)
+                            .ordinal();
+                } else {
+                    outcome = IN_PLAY_OUTCOME[code];
+                }
+
+                // 타석 종료: 상태 전이, 득점, 다음 타자
+                balls[lane] = 0;
+                strikes[lane] = 0;
+                int packed = TRANSITIONS[baseOut[lane] * OUTCOMES.length + outcome];
+                int state = BaseOutState.state(packed);
+                if (half[lane] == 0) {
+                    awayScore[lane] += BaseOutState.runs(packed);
+                    awayCursor[lane] = awayCursor[lane] + 1 == awayOrder.length ? 0 : awayCursor[lane] + 1;
+                } else {
+                    homeScore[lane] += BaseOutState.runs(packed);
+                    homeCursor[lane] = homeCursor[lane] + 1 == homeOrder.length ? 0 : homeCursor[lane] + 1;
+                }
+                if (!BaseOutState.isInningOver(state)) {
+                    baseOut[lane] = state;
+                    active[kept++] = lane;
+                    continue;
+                }
+
+                // 공수 교대 (GameSimulator와 같이 말 공격은 항상 진행, 정규 이닝 후 동점이면 연장)
+                baseOut[lane] = 0;
+                if (half[lane] == 0) {
+                    half[lane] = 1;
+                    active[kept++] = lane;
+                } else if (inning[lane] >= maxInning
+                        && (homeScore[lane] != awayScore[lane] || inning[lane] >= lastInning)) {
+                    // 경기 종료: 진행 목록에서 제외
+                } else {
+                    half[lane] = 0;
+                    inning[lane]++;
+                    active[kept++] = lane;
+                }
+            }
+            activeCount = kept;
+        }
+        return new BatchGameResult(homeScore, awayScore, inning);
+    }
+
+    /**
+     * 한 공격 팀의 타순 x 볼카운트 구간별 누적 확률 표 채우기
+     */
+    private static void fillCumulative(double[] cdf, int half, int capacity, Batter[] order, Pitcher pitcher,
+            GameModelParameters parameters) {
+        for (int slot = 0; slot < order.length; slot++) {
+            for (int countClass = 0; countClass < COUNT_CLASSES; countClass++) {
+                double[] p = pitchDistribution(order[slot], pitcher, (countClass & 1) != 0, (countClass & 2) != 0,
+                        parameters);
+                int row = ((half * capacity + slot) * COUNT_CLASSES + countClass) * PITCH_OUTCOMES;
+                double sum = 0;
+                for (int k = 0; k < PITCH_OUTCOMES; k++) {
+                    sum += p[k];
+                    cdf[row + k] = sum;
+                }
+            }
+        }
+    }
+
+    /**
+     * 투구 하나의 결과 분포 (RatingBasedPlayStrategy의 투구/스윙/타이밍 선택 + GameLogicUtil 판정을 합친 확률)
+     * @return 스트라이크, 볼, 땅볼, 뜬공, 안타, 2루타, 3루타, 홈런 확률
+     */
+    static double[] pitchDistribution(Batter batter, Pitcher pitcher, boolean threeBalls, boolean twoStrikes) {
+        return pitchDistribution(batter, pitcher, threeBalls, twoStrikes, GameLogicUtil.getParameters());
+    }
+
+    static double[] pitchDistribution(Batter batter, Pitcher pitcher, boolean threeBalls, boolean twoStrikes,
+            GameModelParameters parameters) {
+        // 3볼/2스트라이크 여부만 확률에 영향을 주므로 대표 카운트로 계산
+        int balls = threeBalls ? 3 : 0;
+        int strikes = twoStrikes ? 2 : 0;
+        double strikeIntent = RatingBasedPlayStrategy.strikeIntent(balls, strikes);
+        double swingStrike = RatingBasedPlayStrategy.swingChance(batter, "strike", strikes);
+        double swingBall = RatingBasedPlayStrategy.swingChance(batter, "ball", strikes);
+        double control = parameters.strikeAccuracy(pitcher.getControl());
+        double contactOnBall = parameters.ballContactChance(batter.getContact());
+        double[] zones = timingZones(RatingBasedPlayStrategy.timingSigma(batter));
+
+        double[] p = new double[PITCH_OUTCOMES];
+        // 스윙하지 않음: 제구에 따라 의도대로 또는 반대로 판정
+        double takeStrike = strikeIntent * (1 - swingStrike);
+        double takeBall = (1 - strikeIntent) * (1 - swingBall);
+        p[STRIKE] += takeStrike * control + takeBall * (1 - control);
+        p[BALL] += takeStrike * (1 - control) + takeBall * control;
+
+        // 스트라이크에 스윙: 타이밍 구간별 헛스윙 후 타구
+        double swingOnStrike = strikeIntent * swingStrike;
+        for (int zone = 0; zone < zones.length; zone++) {
+            double reach = swingOnStrike * zones[zone];
+            double miss = parameters.getMissChance(ZONE_MISS_LEVEL[zone]);
+            p[STRIKE] += reach * miss;
+            addHits(p, reach * (1 - miss), parameters.getHitDistribution(ZONE_HIT_LEVEL[zone]));
+        }
+
+        // 볼에 스윙: 컨택에 실패하면 헛스윙, 맞추면 타이밍 구간별 타구
+        double swingOnBall = (1 - strikeIntent) * swingBall;
+        p[STRIKE] += swingOnBall * (1 - contactOnBall);
+        for (int zone = 0; zone < zones.length; zone++) {
+            addHits(p, swingOnBall * contactOnBall * zones[zone], parameters.getHitDistribution(ZONE_HIT_LEVEL[zone]));
+        }
+        return p;
+    }
+
+    private static void addHits(double[] p, double weight, double[] distribution) {
+        for (int k = 0; k < distribution.length; k++) {
+            p[GROUND + k] += weight * distribution[k];
+        }
+    }
+
+    /**
+     * 타이밍 0.5 + N(0, sigma)가 각 구간(|timing - 0.5| 기준)에 들어갈 확률
+     */
+    private static double[] timingZones(double sigma) {
+        double[] zones = new double[TIMING_BOUNDS.length + 1];
+        double previous = 0;
+        for (int i = 0; i < TIMING_BOUNDS.length; i++) {
+            double within = erf(TIMING_BOUNDS[i] / (sigma * Math.sqrt(2)));
+            zones[i] = within - previous;
+            previous = within;
+        }
+        zones[TIMING_BOUNDS.length] = 1 - previous;
+        return zones;
+    }
+
+    /**
+     * 오차 함수 근사 (Abramowitz-Stegun 7.1.26, 최대 오차 1.5e-7)
+     */
+    static double erf(double x) {
+        double t = 1 / (1 + 0.3275911 * Math.abs(x));
+        double y = 1 - (((((1.061405429 * t - 1.453152027) * t) + 1.421413741) * t - 0.284496736) * t + 0.254829592)
+                * t * Math.exp(-x * x);
+        return x >= 0 ? y : -y;
+    }
+
+    private static int[] buildTransitions() {
+        int[] transitions = new int[BaseOutState.STATES * OUTCOMES.length];
+        for (int state = 0; state < BaseOutState.STATES; state++) {
+            for (PlateAppearanceOutcome outcome : OUTCOMES) {
+                transitions[state * OUTCOMES.length + outcome.ordinal()] = BaseOutState.transition(state, outcome);
+            }
+        }
+        return transitions;
+    }
+}
@@ -0,0 +1,33 @@
+package com.baseball.game.simulation;
+
+/**
+ * 배치 엔진 결과 (경기 번호로 인덱싱한 점수/이닝 배열)
+ */
+public class BatchGameResult {
+
+    private final int[] homeScores;
+    private final int[] awayScores;
+    private final int[] innings;
+
+    BatchGameResult(int[] homeScores, int[] awayScores, int[] innings) {
+        this.homeScores = homeScores;
+        this.awayScores = awayScores;
+        this.innings = innings;
+    }
+
+    public int size() {
+        return homeScores.length;
+    }
+
+    public int getHomeScore(int game) {
+        return homeScores[game];
+    }
+
+    public int getAwayScore(int game) {
+        return awayScores[game];
+    }
+
+    public int getInnings(int game) {
+        return innings[game];
+    }
+}
@@ -0,0 +1,35 @@
+package com.baseball.game.simulation;
+
+/**
+ * 타순 후보와 평가 결과
+ */
+public class BattingOrderCandidate {
+
+    private final int[] order; // 로스터 인덱스 (타순 1번부터)
+    private final double markovRuns; // 마르코프 체인 기대 득점
+    private final double simulatedRuns; // 시뮬레이션 평균 득점
+    private final double standardError; // 시뮬레이션 평균 득점의 표준오차
+
+    public BattingOrderCandidate(int[] order, double markovRuns, double simulatedRuns, double standardError) {
+        this.order = order;
+        this.markovRuns = markovRuns;
+        this.simulatedRuns = simulatedRuns;
+        this.standardError = standardError;
+    }
+
+    public int[] getOrder() {
+        return order.clone();
+    }
+
+    public double getMarkovRuns() {
+        return markovRuns;
+    }
+
+    public double getSimulatedRuns() {
+        return simulatedRuns;
+    }
+
+    public double getStandardError() {
+        return standardError;
+    }
+}
@@ -0,0 +1,351 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * 9명 로스터의 타순(9! = 362,880가지) 중 상대 투수에게 기대 득점이 가장 높은 타순을 찾는 최적화기
+ *
+ * 1. 타자별 타석 결과 확률 계산 (타순과 무관하므로 9번만 계산, 기본 전략이면 볼카운트 체인으로 정확히 계산)
+ * 2. 모든 순열을 타순별 예상 타석 수 x 득점 가치 휴리스틱으로 병렬 채점하여 상위 후보만 남김
+ * 3. 후보를 마르코프 체인 기대 득점으로 재평가하고, 상위 타순에서 두 타자 교환으로 지역 탐색
+ *    (같은 타순은 메모이즈된 값을 재사용)
+ * 4. 최종 후보를 공통 난수(같은 경기 시드)로 시뮬레이션하여 평균 득점 순으로 반환
+ */
+public class BattingOrderOptimizer {
+
+    public static final int LINEUP_SIZE = 9;
+
+    private static final int PROFILE_SAMPLES = 20_000; // 기본 전략이 아닐 때 타자별 타석 시뮬레이션 수
+    private static final int HEURISTIC_CANDIDATES = 2_000; // 휴리스틱 단계에서 남길 후보 수
+    private static final int LOCAL_SEARCH_STARTS = 16; // 지역 탐색 시작 타순 수
+    private static final int MIN_FINALISTS = 20; // 시뮬레이션으로 검증할 최소 후보 수
+    private static final int SIMULATED_GAMES = 4_000; // 후보당 시뮬레이션 경기 수
+    private static final int PERMUTATIONS_PER_TASK = 8_192;
+
+    // 타순별 경기당 예상 타석 수 (1번 약 4.65, 이후 타순마다 약 0.105씩 감소)
+    private static final double[] PLATE_APPEARANCE_WEIGHTS = new double[LINEUP_SIZE];
+
+    // 타석 결과별 득점 가치 (선형 가중치, PlateAppearanceOutcome 순서)
+    private static final double[] RUN_VALUES = {-0.28, 0.32, 0.47, 0.77, 1.04, 1.40, -0.28, -0.27, -0.75};
+
+    // 앞 타자의 출루 x 다음 타자의 장타력 보정 계수
+    private static final double TABLE_SETTER_WEIGHT = 0.5;
+
+    private static final int FACTORIAL_9 = 362_880;
+
+    static {
+        for (int slot = 0; slot < LINEUP_SIZE; slot++) {
+            PLATE_APPEARANCE_WEIGHTS[slot] = 4.65 - 0.105 * slot;
+        }
+    }
+
+    private final GameSimulator simulator;
+    private final ForkJoinPool pool;
+
+    public BattingOrderOptimizer(GameSimulator simulator, ForkJoinPool pool) {
+        this.simulator = simulator;
+        this.pool = pool;
+    }
+
+    /**
+     * @param roster 타자 9명 (순서 무관)
+     * @param pitcher 상대 투수
+     * @param innings 공격 이닝 수
+     * @param topN 반환할 타순 수
+     * @return 시뮬레이션 평균 득점 내림차순 상위 topN 타순
+     */
+    public List<BattingOrderCandidate> optimize(List<Batter> roster, Pitcher pitcher, int innings, int topN,
+            long seed) {
+        if (roster.size() != LINEUP_SIZE) {
+            throw new IllegalArgumentException("타자 9명이 필요합니다.");
+        }
+        Batter[] batters = roster.toArray(new Batter[0]);
+        BattingProfile[] profiles = estimateProfiles(batters, pitcher, seed);
+
+        // 2. 휴리스틱 가지치기
+        List<Long> candidates = heuristicCandidates(profiles);
+
+        // 3. 마르코프 평가 + 지역 탐색 (메모이즈)
+        Map<Long, Double> memo = new ConcurrentHashMap<>();
+        List<Callable<Void>> markovTasks = new ArrayList<>();
+        for (int from = 0; from < candidates.size(); from += 64) {
+            List<Long> chunk = candidates.subList(from, Math.min(from + 64, candidates.size()));
+            markovTasks.add(() -> {
+                for (long key : chunk) {
+                    markov(key, profiles, innings, memo);
+                }
+                return null;
+            });
+        }
+        invokeAll(markovTasks);
+
+        List<Long> starts = best(memo, LOCAL_SEARCH_STARTS);
+        List<Callable<Void>> searchTasks = new ArrayList<>();
+        for (long start : starts) {
+            searchTasks.add(() -> {
+                hillClimb(start, profiles, innings, memo);
+                return null;
+            });
+        }
+        invokeAll(searchTasks);
+
+        // 4. 시뮬레이션 검증
+        List<Long> finalists = best(memo, Math.max(MIN_FINALISTS, topN * 4));
+        List<Callable<BattingOrderCandidate>> simulationTasks = new ArrayList<>();
+        for (long key : finalists) {
+            simulationTasks.add(() -> simulate(key, batters, pitcher, innings, seed, memo.get(key)));
+        }
+        List<BattingOrderCandidate> results = invokeAll(simulationTasks);
+        results.sort(Comparator.comparingDouble(BattingOrderCandidate::getSimulatedRuns).reversed());
+        return new ArrayList<>(results.subList(0, Math.min(topN, results.size())));
+    }
+
+    private BattingProfile[] estimateProfiles(Batter[] batters, Pitcher pitcher, long seed) {
+        if (simulator.getStrategy() == RatingBasedPlayStrategy.INSTANCE) {
+            BattingProfile[] profiles = new BattingProfile[batters.length];
+            for (int i = 0; i < batters.length; i++) {
+                profiles[i] = BattingProfile.of(batters[i], pitcher);
+            }
+            return profiles;
+        }
+        List<Callable<BattingProfile>> tasks = new ArrayList<>();
+        for (int i = 0; i < batters.length; i++) {
+            Batter batter = batters[i];
+            long profileSeed = GameSimulator.seedFor(seed, -1L, i);
+            tasks.add(() -> BattingProfile.estimate(simulator, batter, pitcher, PROFILE_SAMPLES, profileSeed));
+        }
+        return invokeAll(tasks).toArray(new BattingProfile[0]);
+    }
+
+    /**
+     * 모든 순열을 휴리스틱으로 채점하여 상위 후보의 키 반환
+     */
+    private List<Long> heuristicCandidates(BattingProfile[] profiles) {
+        double[] value = new double[LINEUP_SIZE];
+        double[] onBase = new double[LINEUP_SIZE];
+        double[] power = new double[LINEUP_SIZE];
+        for (int i = 0; i < LINEUP_SIZE; i++) {
+            for (PlateAppearanceOutcome outcome : PlateAppearanceOutcome.values()) {
+                value[i] += profiles[i].probability(outcome) * RUN_VALUES[outcome.ordinal()];
+            }
+            onBase[i] = profiles[i].onBase();
+            power[i] = profiles[i].basesPerPlateAppearance();
+        }
+
+        List<Callable<PriorityQueue<ScoredOrder>>> tasks = new ArrayList<>();
+        for (int from = 0; from < FACTORIAL_9; from += PERMUTATIONS_PER_TASK) {
+            int start = from;
+            int end = Math.min(from + PERMUTATIONS_PER_TASK, FACTORIAL_9);
+            tasks.add(() -> {
+                PriorityQueue<ScoredOrder> top = new PriorityQueue<>(HEURISTIC_CANDIDATES + 1);
+                int[] order = new int[LINEUP_SIZE];
+                for (int index = start; index < end; index++) {
+                    permutation(index, order);
+                    double score = 0.0;
+                    for (int slot = 0; slot < LINEUP_SIZE; slot++) {
+                        int batter = order[slot];
+                        int following = order[(slot + 1) % LINEUP_SIZE];
+                        score += PLATE_APPEARANCE_WEIGHTS[slot]
+                                * (value[batter] + TABLE_SETTER_WEIGHT * onBase[batter] * power[following]);
+                    }
+                    offer(top, score, order);
+                }
+                return top;
+            });
+        }
+
+        PriorityQueue<ScoredOrder> merged = new PriorityQueue<>(HEURISTIC_CANDIDATES + 1);
+        for (PriorityQueue<ScoredOrder> partial : invokeAll(tasks)) {
+            for (ScoredOrder scored : partial) {
+                if (merged.size() < HEURISTIC_CANDIDATES) {
+                    merged.add(scored);
+                } else if (scored.score > merged.peek().score) {
+                    merged.poll();
+                    merged.add(scored);
+                }
+            }
+        }
+        List<Long> keys = new ArrayList<>(merged.size());
+        for (ScoredOrder scored : merged) {
+            keys.add(scored.key);
+        }
+        return keys;
+    }
+
+    private static void offer(PriorityQueue<ScoredOrder> top, double score, int[] order) {
+        if (top.size() < HEURISTIC_CANDIDATES) {
+            top.add(new ScoredOrder(encode(order), score));
+        } else if (score > top.peek().score) {
+            top.poll();
+            top.add(new ScoredOrder(encode(order), score));
+        }
+    }
+
+    /**
+     * 두 타자 교환(36가지) 중 가장 좋은 쪽으로 더 이상 개선되지 않을 때까지 이동
+     */
+    private void hillClimb(long start, BattingProfile[] profiles, int innings, Map<Long, Double> memo) {
+        long current = start;
+        double currentRuns = markov(current, profiles, innings, memo);
+        while (true) {
+            long bestNeighbor = current;
+            double bestRuns = currentRuns;
+            int[] order = decode(current);
+            for (int i = 0; i < LINEUP_SIZE; i++) {
+                for (int j = i + 1; j < LINEUP_SIZE; j++) {
+                    swap(order, i, j);
+                    long neighbor = encode(order);
+                    double runs = markov(neighbor, profiles, innings, memo);
+                    if (runs > bestRuns) {
+                        bestRuns = runs;
+                        bestNeighbor = neighbor;
+                    }
+                    swap(order, i, j);
+                }
+            }
+            if (bestNeighbor == current) {
+                return;
+            }
+            current = bestNeighbor;
+            currentRuns = bestRuns;
+        }
+    }
+
+    private static double markov(long key, BattingProfile[] profiles, int innings, Map<Long, Double> memo) {
+        Double cached = memo.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        int[] order = decode(key);
+        BattingProfile[] ordered = new BattingProfile[LINEUP_SIZE];
+        for (int slot = 0; slot < LINEUP_SIZE; slot++) {
+            ordered[slot] = profiles[order[slot]];
+        }
+        double runs = MarkovRunEstimator.expectedRuns(ordered, innings);
+        memo.put(key, runs);
+        return runs;
+    }
+
+    /**
+     * 모든 후보가 같은 경기 시드를 쓰도록 하여(공통 난수) 타순 간 비교의 분산을 줄임
+     */
+    private BattingOrderCandidate simulate(long key, Batter[] batters, Pitcher pitcher, int innings, long seed,
+            double markovRuns) {
+        int[] order = decode(key);
+        Batter[] ordered = new Batter[LINEUP_SIZE];
+        for (int slot = 0; slot < LINEUP_SIZE; slot++) {
+            ordered[slot] = batters[order[slot]];
+        }
+        double sum = 0.0;
+        double sumSquares = 0.0;
+        for (int game = 0; game < SIMULATED_GAMES; game++) {
+            SplittableRandom rng = new SplittableRandom(GameSimulator.seedFor(seed, 0L, game));
+            int runs = simulator.simulateOffense(ordered, pitcher, innings, rng::nextDouble);
+            sum += runs;
+            sumSquares += (double) runs * runs;
+        }
+        double mean = sum / SIMULATED_GAMES;
+        double variance = Math.max(0.0, sumSquares / SIMULATED_GAMES - mean * mean);
+        return new BattingOrderCandidate(order, markovRuns, mean, Math.sqrt(variance / SIMULATED_GAMES));
+    }
+
+    private static List<Long> best(Map<Long, Double> memo, int count) {
+        List<Map.Entry<Long, Double>> entries = new ArrayList<>(memo.entrySet());
+        entries.sort(Map.Entry.<Long, Double>comparingByValue().reversed());
+        List<Long> keys = new ArrayList<>(Math.min(count, entries.size()));
+        for (int i = 0; i < entries.size() && i < count; i++) {
+            keys.add(entries.get(i).getKey());
+        }
+        return keys;
+    }
+
+    private <T> List<T> invokeAll(List<? extends Callable<T>> tasks) {
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<T> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("타순 최적화가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("타순 최적화 중 오류가 발생했습니다.", e.getCause());
+        }
+        return results;
+    }
+
+    /**
+     * 순열 번호(0 ~ 9!-1)를 팩토리얼 진법으로 해석하여 순열 생성
+     */
+    static void permutation(int index, int[] order) {
+        int used = 0;
+        int factorial = FACTORIAL_9;
+        for (int slot = 0; slot < LINEUP_SIZE; slot++) {
+            factorial /= LINEUP_SIZE - slot;
+            int rank = index / factorial;
+            index %= factorial;
+            int candidate = -1;
+            while (rank >= 0) {
+                candidate++;
+                if ((used & (1 << candidate)) == 0) {
+                    rank--;
+                }
+            }
+            used |= 1 << candidate;
+            order[slot] = candidate;
+        }
+    }
+
+    /**
+     * 타순을 4비트씩 묶은 long 키로 변환 (메모이즈용)
+     */
+    static long encode(int[] order) {
+        long key = 0;
+        for (int slot = 0; slot < LINEUP_SIZE; slot++) {
+            key |= (long) order[slot] << (slot * 4);
+        }
+        return key;
+    }
+
+    static int[] decode(long key) {
+        int[] order = new int[LINEUP_SIZE];
+        for (int slot = 0; slot < LINEUP_SIZE; slot++) {
+            order[slot] = (int) ((key >>> (slot * 4)) & 0xF);
+        }
+        return order;
+    }
+
+    private static void swap(int[] order, int i, int j) {
+        int temp = order[i];
+        order[i] = order[j];
+        order[j] = temp;
+    }
+
+    private static final class ScoredOrder implements Comparable<ScoredOrder> {
+        private final long key;
+        private final double score;
+
+        ScoredOrder(long key, double score) {
+            this.key = key;
+            this.score = score;
+        }
+
+        @Override
+        public int compareTo(ScoredOrder other) {
+            return Double.compare(score, other.score);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+import com.baseball.game.util.GameLogicUtil;
+import com.baseball.game.util.GameModelParameters;
+
+import java.util.SplittableRandom;
+
+/**
+ * 특정 투수를 상대로 한 타자의 타석 결과 확률
+ * 주자 없는 상황 기준이므로 땅볼은 모두 GROUND_OUT에 포함되고, 병살 여부는 사용하는 쪽에서 주자 상황에 따라 나눕니다.
+ */
+public class BattingProfile {
+
+    private static final PlateAppearanceOutcome[] OUTCOMES = PlateAppearanceOutcome.values();
+
+    private final double[] probabilities = new double[OUTCOMES.length];
+
+    private BattingProfile() {
+    }
+
+    public static BattingProfile of(double[] probabilities) {
+        if (probabilities.length != OUTCOMES.length) {
+            throw new IllegalArgumentException("타석 결과 확률 수가 맞지 않습니다.");
+        }
+        BattingProfile profile = new BattingProfile();
+        System.arraycopy(probabilities, 0, profile.probabilities, 0, probabilities.length);
+        return profile;
+    }
+
+    /**
+     * 기본 전략(RatingBasedPlayStrategy)의 타석 결과 확률을 볼카운트 체인으로 정확히 계산
+     * 볼카운트(볼 0~3, 스트라이크 0~2) 12개 상태를 순서대로 훑으며 투구별 결과 확률을 곱해 나가므로
+     * 시뮬레이션 오차 없이 마이크로초 단위로 끝납니다.
+     */
+    public static BattingProfile of(Batter batter, Pitcher pitcher) {
+        return of(batter, pitcher, GameLogicUtil.getParameters());
+    }
+
+    /**
+     * 주어진 게임 모델 파라미터로 타석 결과 확률 계산 (파라미터 보정용)
+     */
+    public static BattingProfile of(Batter batter, Pitcher pitcher, GameModelParameters parameters) {
+        double[][] pitches = new double[4][];
+        for (int countClass = 0; countClass < pitches.length; countClass++) {
+            pitches[countClass] = BatchGameEngine.pitchDistribution(batter, pitcher, (countClass & 1) != 0,
+                    (countClass & 2) != 0, parameters);
+        }
+        double[] p = new double[OUTCOMES.length];
+        double[][] reach = new double[4][3]; // [볼][스트라이크] 카운트에 도달할 확률
+        reach[0][0] = 1.0;
+        for (int balls = 0; balls < 4; balls++) {
+            for (int strikes = 0; strikes < 3; strikes++) {
+                double mass = reach[balls][strikes];
+                if (mass == 0.0) {
+                    continue;
+                }
+                double[] pitch = pitches[(balls == 3 ? 1 : 0) | (strikes == 2 ? 2 : 0)];
+                if (strikes == 2) {
+                    p[PlateAppearanceOutcome.STRIKEOUT.ordinal()] += mass * pitch[BatchGameEngine.STRIKE];
+                } else {
+                    reach[balls][strikes + 1] += mass * pitch[BatchGameEngine.STRIKE];
+                }
+                if (balls == 3) {
+                    p[PlateAppearanceOutcome.WALK.ordinal()] += mass * pitch[BatchGameEngine.BALL];
+                } else {
+                    reach[balls + 1][strikes] += mass * pitch[BatchGameEngine.BALL];
+                }
+                p[PlateAppearanceOutcome.GROUND_OUT.ordinal()] += mass * pitch[BatchGameEngine.GROUND];
+                p[PlateAppearanceOutcome.FLY_OUT.ordinal()] += mass * pitch[BatchGameEngine.FLY];
+                p[PlateAppearanceOutcome.SINGLE.ordinal()] += mass * pitch[BatchGameEngine.SINGLE];
+                p[PlateAppearanceOutcome.DOUBLE.ordinal()] += mass * pitch[BatchGameEngine.DOUBLE];
+                p[PlateAppearanceOutcome.TRIPLE.ordinal()] += mass * pitch[BatchGameEngine.TRIPLE];
+                p[PlateAppearanceOutcome.HOME_RUN.ordinal()] += mass * pitch[BatchGameEngine.HOME_RUN];
+            }
+        }
+        return of(p);
+    }
+
+    /**
+     * samples 타석을 시뮬레이션하여 결과 확률 추정 (기본 전략이 아닌 PlayStrategy용)
+     */
+    public static BattingProfile estimate(GameSimulator simulator, Batter batter, Pitcher pitcher, int samples,
+            long seed) {
+        SplittableRandom rng = new SplittableRandom(seed);
+        long[] counts = new long[OUTCOMES.length];
+        for (int i = 0; i < samples; i++) {
+            counts[simulator.simulatePlateAppearance(batter, pitcher, 0, rng::nextDouble).ordinal()]++;
+        }
+        BattingProfile profile = new BattingProfile();
+        for (int i = 0; i < counts.length; i++) {
+            profile.probabilities[i] = counts[i] / (double) samples;
+        }
+        return profile;
+    }
+
+    public double probability(PlateAppearanceOutcome outcome) {
+        return probabilities[outcome.ordinal()];
+    }
+
+    /**
+     * 출루율 (볼넷 + 안타)
+     */
+    public double onBase() {
+        return probability(PlateAppearanceOutcome.WALK) + probability(PlateAppearanceOutcome.SINGLE)
+                + probability(PlateAppearanceOutcome.DOUBLE) + probability(PlateAppearanceOutcome.TRIPLE)
+                + probability(PlateAppearanceOutcome.HOME_RUN);
+    }
+
+    /**
+     * 타석당 평균 진루 베이스 수 (장타력 지표)
+     */
+    public double basesPerPlateAppearance() {
+        return probability(PlateAppearanceOutcome.SINGLE) + 2 * probability(PlateAppearanceOutcome.DOUBLE)
+                + 3 * probability(PlateAppearanceOutcome.TRIPLE) + 4 * probability(PlateAppearanceOutcome.HOME_RUN);
+    }
+}
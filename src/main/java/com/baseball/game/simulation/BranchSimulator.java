@@ -0,0 +1,60 @@
+package com.baseball.game.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * 하나의 게임 상태에서 N개의 분기를 병렬로 끝까지 시뮬레이션하여 결과 분포를 집계
+ * 분기는 GameState.fork()로 만들므로 복사 비용이 없고, 원래 상태는 바뀌지 않습니다.
+ * 분기별 시드는 (기준 시드, 분기 번호)로만 정해져 병렬도와 관계없이 결과가 재현됩니다.
+ */
+public class BranchSimulator {
+
+    private static final int BRANCHES_PER_TASK = 256;
+
+    private final ForkJoinPool pool;
+
+    public BranchSimulator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * @param strategyFactory 분기마다 새 전략 (FirstPitchOverride처럼 상태가 있는 전략을 위해 분기별로 생성)
+     */
+    public BranchSummary simulate(GameState root, int branches, long seed, Supplier<PlayStrategy> strategyFactory,
+            int extraInningLimit) {
+        List<Callable<BranchSummary>> tasks = new ArrayList<>();
+        for (int from = 0; from < branches; from += BRANCHES_PER_TASK) {
+            int start = from;
+            int end = Math.min(from + BRANCHES_PER_TASK, branches);
+            tasks.add(() -> {
+                BranchSummary summary = new BranchSummary();
+                for (int branch = start; branch < end; branch++) {
+                    GameSimulator simulator = new GameSimulator(strategyFactory.get(), extraInningLimit);
+                    SplittableRandom rng = new SplittableRandom(GameSimulator.seedFor(seed, 0L, branch));
+                    summary.record(simulator.simulateFrom(root.fork(), rng::nextDouble));
+                }
+                return summary;
+            });
+        }
+
+        BranchSummary total = new BranchSummary();
+        try {
+            for (Future<BranchSummary> future : pool.invokeAll(tasks)) {
+                total.merge(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("분기 시뮬레이션이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("분기 시뮬레이션 중 오류가 발생했습니다.", e.getCause());
+        }
+        return total;
+    }
+}
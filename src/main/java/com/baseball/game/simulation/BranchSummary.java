@@ -0,0 +1,60 @@
+package com.baseball.game.simulation;
+
+/**
+ * 분기 시뮬레이션 결과 집계 (작업별로 따로 모은 뒤 merge)
+ */
+public class BranchSummary {
+
+    private long branches;
+    private long homeWins;
+    private long awayWins;
+    private long ties;
+    private long homeRuns; // 홈팀 득점 합계
+    private long awayRuns; // 원정팀 득점 합계
+
+    void record(SimulatedGame game) {
+        branches++;
+        if (game.isHomeWin()) {
+            homeWins++;
+        } else if (game.isAwayWin()) {
+            awayWins++;
+        } else {
+            ties++;
+        }
+        homeRuns += game.getHomeScore();
+        awayRuns += game.getAwayScore();
+    }
+
+    void merge(BranchSummary other) {
+        branches += other.branches;
+        homeWins += other.homeWins;
+        awayWins += other.awayWins;
+        ties += other.ties;
+        homeRuns += other.homeRuns;
+        awayRuns += other.awayRuns;
+    }
+
+    public long getBranches() {
+        return branches;
+    }
+
+    public double getHomeWinProbability() {
+        return branches == 0 ? 0.0 : homeWins / (double) branches;
+    }
+
+    public double getAwayWinProbability() {
+        return branches == 0 ? 0.0 : awayWins / (double) branches;
+    }
+
+    public double getTieProbability() {
+        return branches == 0 ? 0.0 : ties / (double) branches;
+    }
+
+    public double getAverageHomeScore() {
+        return branches == 0 ? 0.0 : homeRuns / (double) branches;
+    }
+
+    public double getAverageAwayScore() {
+        return branches == 0 ? 0.0 : awayRuns / (double) branches;
+    }
+}
@@ -0,0 +1,37 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.util.GameModelParameters;
+
+/**
+ * 파라미터 보정 결과
+ */
+public class CalibrationResult {
+
+    private final GameModelParameters parameters;
+    private final LeagueRates rates; // 보정된 파라미터로 다시 시뮬레이션한 리그 기록
+    private final double error; // 목표 대비 상대 오차 제곱합
+    private final int evaluations; // 목적 함수 평가 횟수
+
+    public CalibrationResult(GameModelParameters parameters, LeagueRates rates, double error, int evaluations) {
+        this.parameters = parameters;
+        this.rates = rates;
+        this.error = error;
+        this.evaluations = evaluations;
+    }
+
+    public GameModelParameters getParameters() {
+        return parameters;
+    }
+
+    public LeagueRates getRates() {
+        return rates;
+    }
+
+    public double getError() {
+        return error;
+    }
+
+    public int getEvaluations() {
+        return evaluations;
+    }
+}
@@ -0,0 +1,63 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * 첫 투구의 행동만 지정한 값으로 바꾸고 이후에는 기본 전략을 따르는 전략 ("이 공을 스윙하면?" 같은 가정용)
+ * 첫 투구 여부를 기억하므로 분기(롤아웃)마다 새 인스턴스를 만들어야 합니다.
+ */
+public class FirstPitchOverride implements PlayStrategy {
+
+    private final PlayStrategy delegate;
+    private final String pitchType; // null이면 기본 전략
+    private final Boolean swing; // null이면 기본 전략
+    private final Double timing; // null이면 기본 전략
+    private boolean pitchDecided;
+    private boolean swingDecided;
+    private boolean timingDecided;
+
+    public FirstPitchOverride(PlayStrategy delegate, String pitchType, Boolean swing, Double timing) {
+        this.delegate = delegate;
+        this.pitchType = pitchType;
+        this.swing = swing;
+        this.timing = timing;
+    }
+
+    @Override
+    public String choosePitchType(Pitcher pitcher, Batter batter, int state, int balls, int strikes,
+            DoubleSupplier random) {
+        if (!pitchDecided) {
+            pitchDecided = true;
+            if (pitchType != null) {
+                return pitchType;
+            }
+        }
+        return delegate.choosePitchType(pitcher, batter, state, balls, strikes, random);
+    }
+
+    @Override
+    public boolean decideSwing(Batter batter, Pitcher pitcher, String pitchType, int state, int balls, int strikes,
+            DoubleSupplier random) {
+        if (!swingDecided) {
+            swingDecided = true;
+            if (swing != null) {
+                return swing;
+            }
+        }
+        return delegate.decideSwing(batter, pitcher, pitchType, state, balls, strikes, random);
+    }
+
+    @Override
+    public double chooseTiming(Batter batter, Pitcher pitcher, DoubleSupplier random) {
+        if (!timingDecided) {
+            timingDecided = true;
+            if (timing != null) {
+                return timing;
+            }
+        }
+        return delegate.chooseTiming(batter, pitcher, random);
+    }
+}
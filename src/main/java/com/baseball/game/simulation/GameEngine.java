@@ -0,0 +1,13 @@
+package com.baseball.game.simulation;
+
+/**
+ * 시드 하나로 경기 하나를 끝까지 진행하는 엔진
+ * 같은 시드, 같은 라인업이면 항상 같은 결과를 반환해야 하며, 여러 스레드에서 동시에 호출할 수 있어야 합니다.
+ *
+ * @see GameSimulator 투구 단위 진행 (기본)
+ * @see PlateAppearanceEngine 타석 단위 빠른 진행 (대량 예측용)
+ */
+public interface GameEngine {
+
+    SimulatedGame simulate(SimulationLineup home, SimulationLineup away, int maxInning, long seed);
+}
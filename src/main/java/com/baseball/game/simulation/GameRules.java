@@ -0,0 +1,137 @@
+package com.baseball.game.simulation;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 게임별로 고를 수 있는 경기 규칙 (볼카운트, 연장, 승부치기, 콜드게임)
+ * 규칙 자체는 값만 담고, 실제 판정은 {@link RuleEngine}이 정규 이닝 수와 함께 전이 표로 미리 컴파일하여 수행합니다.
+ */
+public final class GameRules {
+
+    public static final int UNLIMITED_EXTRA_INNINGS = -1;
+
+    public static final String DEFAULT_NAME = "standard";
+
+    /** 정규 이닝 후 동점이면 끝날 때까지 연장 (기존 동작) */
+    public static final GameRules STANDARD = new GameRules(DEFAULT_NAME, 4, 3, UNLIMITED_EXTRA_INNINGS, 0, 0, 0);
+
+    /** 연장 3이닝까지 진행하고 그래도 동점이면 무승부 */
+    public static final GameRules KBO = new GameRules("kbo", 4, 3, 3, 0, 0, 0);
+
+    /** 무제한 연장, 연장 이닝마다 2루 주자를 두고 시작 */
+    public static final GameRules MLB = new GameRules("mlb", 4, 3, UNLIMITED_EXTRA_INNINGS, BaseOutState.SECOND, 0, 0);
+
+    /** 무제한 연장, 연장 이닝마다 1·2루 주자를 두고 시작 (국제대회 승부치기) */
+    public static final GameRules WBSC = new GameRules("wbsc", 4, 3, UNLIMITED_EXTRA_INNINGS,
+            BaseOutState.FIRST | BaseOutState.SECOND, 0, 0);
+
+    /** 5회부터 10점 차 콜드게임, 연장 없이 동점이면 무승부 */
+    public static final GameRules AMATEUR = new GameRules("amateur", 4, 3, 0, 0, 5, 10);
+
+    /** 3볼 볼넷, 2스트라이크 삼진으로 빠르게 진행하는 연습 경기 */
+    public static final GameRules QUICK = new GameRules("quick", 3, 2, 0, 0, 0, 0);
+
+    private static final Map<String, GameRules> PRESETS = presets(STANDARD, KBO, MLB, WBSC, AMATEUR, QUICK);
+
+    private final String name;
+    private final int ballsForWalk;
+    private final int strikesForOut;
+    private final int extraInnings;
+    private final int ghostRunnerBases;
+    private final int mercyInning;
+    private final int mercyRuns;
+
+    /**
+     * @param ballsForWalk 볼넷이 되는 볼 수 (1~4)
+     * @param strikesForOut 삼진이 되는 스트라이크 수 (1~3)
+     * @param extraInnings 정규 이닝 뒤 진행할 연장 이닝 수 (0이면 연장 없음, {@link #UNLIMITED_EXTRA_INNINGS}면 무제한)
+     * @param ghostRunnerBases 연장 이닝 시작 시 채울 베이스 (BaseOutState 베이스 비트, 0이면 없음)
+     * @param mercyInning 콜드게임을 적용하기 시작하는 이닝 (mercyRuns가 0이면 무시)
+     * @param mercyRuns 콜드게임이 되는 점수 차 (0이면 콜드게임 없음)
+     */
+    public GameRules(String name, int ballsForWalk, int strikesForOut, int extraInnings, int ghostRunnerBases,
+            int mercyInning, int mercyRuns) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("규칙 이름은 필수입니다.");
+        }
+        if (ballsForWalk < 1 || ballsForWalk > RuleEngine.MAX_BALLS || strikesForOut < 1 || strikesForOut > RuleEngine.MAX_STRIKES) {
+            throw new IllegalArgumentException("볼넷은 1~" + RuleEngine.MAX_BALLS + "볼, 삼진은 1~" + RuleEngine.MAX_STRIKES
+                    + "스트라이크여야 합니다.");
+        }
+        if (extraInnings < UNLIMITED_EXTRA_INNINGS || ghostRunnerBases < 0 || ghostRunnerBases > 7) {
+            throw new IllegalArgumentException("연장 이닝 수 또는 승부치기 주자 설정이 올바르지 않습니다.");
+        }
+        if (mercyRuns < 0 || (mercyRuns > 0 && mercyInning < 1) || mercyRuns > RuleEngine.MAX_MERCY_RUNS) {
+            throw new IllegalArgumentException("콜드게임 점수 차는 0~" + RuleEngine.MAX_MERCY_RUNS
+                    + "점, 적용 이닝은 1 이상이어야 합니다.");
+        }
+        this.name = name;
+        this.ballsForWalk = ballsForWalk;
+        this.strikesForOut = strikesForOut;
+        this.extraInnings = extraInnings;
+        this.ghostRunnerBases = ghostRunnerBases;
+        this.mercyInning = mercyInning;
+        this.mercyRuns = mercyRuns;
+    }
+
+    /**
+     * 이름으로 미리 정의된 규칙 조회 (null이나 빈 값이면 기본 규칙)
+     */
+    public static GameRules of(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return STANDARD;
+        }
+        GameRules rules = PRESETS.get(name.trim());
+        if (rules == null) {
+            throw new IllegalArgumentException("알 수 없는 경기 규칙입니다: " + name + " (사용 가능: " + PRESETS.keySet() + ")");
+        }
+        return rules;
+    }
+
+    public static Map<String, GameRules> presets() {
+        return PRESETS;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getBallsForWalk() {
+        return ballsForWalk;
+    }
+
+    public int getStrikesForOut() {
+        return strikesForOut;
+    }
+
+    public int getExtraInnings() {
+        return extraInnings;
+    }
+
+    public int getGhostRunnerBases() {
+        return ghostRunnerBases;
+    }
+
+    public int getMercyInning() {
+        return mercyInning;
+    }
+
+    public int getMercyRuns() {
+        return mercyRuns;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private static Map<String, GameRules> presets(GameRules... rules) {
+        Map<String, GameRules> map = new LinkedHashMap<>();
+        for (GameRules rule : rules) {
+            map.put(rule.getName(), rule);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+}
@@ -0,0 +1,204 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+import com.baseball.game.util.GameLogicUtil;
+
+import java.util.SplittableRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 사용자 입력 없이 한 경기를 끝까지 진행하는 시뮬레이터
+ * 투구 단위 판정은 실제 게임과 같은 GameLogicUtil을 사용하고, 입력은 PlayStrategy가 대신 결정합니다.
+ * 경기 진행 규칙은 GameServiceImpl과 같습니다. (말 공격은 항상 진행, 정규 이닝 후 동점이면 연장)
+ * 다만 시뮬레이션 시간을 제한하기 위해 연장은 extraInningLimit 이닝까지만 진행하고 무승부로 처리합니다.
+ *
+ * 인스턴스는 상태가 없으므로 여러 스레드에서 공유해도 됩니다.
+ */
+public class GameSimulator implements GameEngine {
+
+    public static final int DEFAULT_EXTRA_INNING_LIMIT = 3;
+
+    private final PlayStrategy strategy;
+    private final int extraInningLimit;
+
+    public GameSimulator() {
+        this(RatingBasedPlayStrategy.INSTANCE, DEFAULT_EXTRA_INNING_LIMIT);
+    }
+
+    public GameSimulator(PlayStrategy strategy, int extraInningLimit) {
+        this.strategy = strategy;
+        this.extraInningLimit = Math.max(0, extraInningLimit);
+    }
+
+    public PlayStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * 시드로 경기 시뮬레이션 (같은 시드, 같은 라인업이면 항상 같은 결과)
+     */
+    @Override
+    public SimulatedGame simulate(SimulationLineup home, SimulationLineup away, int maxInning, long seed) {
+        SplittableRandom rng = new SplittableRandom(seed);
+        return simulate(home, away, maxInning, rng::nextDouble);
+    }
+
+    public SimulatedGame simulate(SimulationLineup home, SimulationLineup away, int maxInning, DoubleSupplier random) {
+        int[] awayCursor = {0};
+        int[] homeCursor = {0};
+        int awayScore = 0;
+        int homeScore = 0;
+        int lastInning = maxInning + extraInningLimit;
+
+        int inning = 1;
+        while (true) {
+            awayScore += playHalfInning(away.getBattingOrder(), home.getPitcher(), awayCursor, random);
+            homeScore += playHalfInning(home.getBattingOrder(), away.getPitcher(), homeCursor, random);
+            if (inning >= maxInning && (homeScore != awayScore || inning >= lastInning)) {
+                break;
+            }
+            inning++;
+        }
+        return new SimulatedGame(homeScore, awayScore, inning);
+    }
+
+    /**
+     * 주어진 상태부터 경기 끝까지 진행 (원래 상태는 불변이므로 그대로 유지됨)
+     */
+    public SimulatedGame simulateFrom(GameState state, DoubleSupplier random) {
+        while (!state.isOver()) {
+            PlateAppearanceOutcome outcome = simulatePlateAppearance(state.currentBatter(), state.currentPitcher(),
+                    state.baseOutState(), state.getBalls(), state.getStrikes(), random);
+            state = state.afterPlateAppearance(outcome);
+        }
+        return new SimulatedGame(state.getHomeScore(), state.getAwayScore(), state.getInning());
+    }
+
+    /**
+     * 현재 상황(base-out 상태, 볼카운트)부터 이닝 끝까지 진행 (같은 타자가 계속 타석에 선다고 가정)
+     * @return 이닝 종료까지의 득점
+     */
+    public int simulateRestOfInning(Batter batter, Pitcher pitcher, int state, int balls, int strikes,
+            DoubleSupplier random) {
+        int runs = 0;
+        while (!BaseOutState.isInningOver(state)) {
+            PlateAppearanceOutcome outcome = simulatePlateAppearance(batter, pitcher, state, balls, strikes, random);
+            int packed = BaseOutState.transition(state, outcome);
+            runs += BaseOutState.runs(packed);
+            state = BaseOutState.state(packed);
+            balls = 0;
+            strikes = 0;
+        }
+        return runs;
+    }
+
+    /**
+     * 한 팀의 공격만 innings 이닝 동안 진행 (타순 평가용)
+     * @return 총 득점
+     */
+    public int simulateOffense(Batter[] order, Pitcher pitcher, int innings, DoubleSupplier random) {
+        int[] cursor = {0};
+        int runs = 0;
+        for (int inning = 0; inning < innings; inning++) {
+            runs += playHalfInning(order, pitcher, cursor, random);
+        }
+        return runs;
+    }
+
+    /**
+     * 반 이닝 진행
+     * @param cursor 다음 타자의 타순 인덱스 (이닝을 넘어 이어지도록 호출 측에서 유지)
+     * @return 득점
+     */
+    private int playHalfInning(Batter[] order, Pitcher pitcher, int[] cursor, DoubleSupplier random) {
+        int state = 0;
+        int runs = 0;
+        while (!BaseOutState.isInningOver(state)) {
+            Batter batter = order[cursor[0]];
+            cursor[0] = (cursor[0] + 1) % order.length;
+
+            PlateAppearanceOutcome outcome = simulatePlateAppearance(batter, pitcher, state, random);
+            int packed = BaseOutState.transition(state, outcome);
+            runs += BaseOutState.runs(packed);
+            state = BaseOutState.state(packed);
+        }
+        return runs;
+    }
+
+    /**
+     * 한 타석을 투구 단위로 진행 (3스트라이크 삼진, 4볼 볼넷)
+     * @param state 현재 base-out 상태 (병살 가능 여부 판단용)
+     */
+    public PlateAppearanceOutcome simulatePlateAppearance(Batter batter, Pitcher pitcher, int state,
+            DoubleSupplier random) {
+        return simulatePlateAppearance(batter, pitcher, state, 0, 0, random);
+    }
+
+    /**
+     * 볼카운트 중간부터 타석 진행
+     */
+    public PlateAppearanceOutcome simulatePlateAppearance(Batter batter, Pitcher pitcher, int state, int balls,
+            int strikes, DoubleSupplier random) {
+        while (true) {
+            String pitchType = strategy.choosePitchType(pitcher, batter, state, balls, strikes, random);
+            boolean swing = strategy.decideSwing(batter, pitcher, pitchType, state, balls, strikes, random);
+            double timing = swing ? strategy.chooseTiming(batter, pitcher, random) : 0.5;
+            String result = GameLogicUtil.determineHitResultWithTiming(swing, pitcher, pitchType, timing, batter,
+                    random);
+
+            switch (result) {
+                case "스트라이크":
+                case "헛스윙":
+                    if (++strikes >= 3) {
+                        return PlateAppearanceOutcome.STRIKEOUT;
+                    }
+                    break;
+                case "볼":
+                    if (++balls >= 4) {
+                        return PlateAppearanceOutcome.WALK;
+                    }
+                    break;
+                case "안타":
+                    return PlateAppearanceOutcome.SINGLE;
+                case "2루타":
+                    return PlateAppearanceOutcome.DOUBLE;
+                case "3루타":
+                    return PlateAppearanceOutcome.TRIPLE;
+                case "홈런":
+                    return PlateAppearanceOutcome.HOME_RUN;
+                case "뜬공 아웃":
+                    return PlateAppearanceOutcome.FLY_OUT;
+                case "땅볼 아웃":
+                    return groundBall(state, random);
+                default:
+                    throw new IllegalStateException("알 수 없는 투구 결과: " + result);
+            }
+        }
+    }
+
+    /**
+     * 땅볼 처리 (GameLogicUtil.processGroundBall과 같은 병살 규칙)
+     */
+    private static PlateAppearanceOutcome groundBall(int state, DoubleSupplier random) {
+        if (BaseOutState.outs(state) < 2 && (BaseOutState.bases(state) & BaseOutState.FIRST) != 0
+                && random.getAsDouble() < GameLogicUtil.getParameters().getDoublePlayChance()) {
+            return PlateAppearanceOutcome.DOUBLE_PLAY;
+        }
+        return PlateAppearanceOutcome.GROUND_OUT;
+    }
+
+    /**
+     * 기준 시드와 반복 번호, 경기 번호로 경기별 시드 생성 (SplitMix64 혼합)
+     * 병렬 실행 순서와 관계없이 같은 (기준 시드, 반복, 경기)는 항상 같은 시드를 받습니다.
+     */
+    public static long seedFor(long baseSeed, long iteration, long gameIndex) {
+        return mix(mix(baseSeed + iteration * 0x9E3779B97F4A7C15L) + gameIndex);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
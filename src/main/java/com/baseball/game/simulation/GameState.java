@@ -0,0 +1,257 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.GameDto;
+import com.baseball.game.dto.Pitcher;
+
+import java.util.List;
+
+/**
+ * 불변(persistent) 게임 상태
+ * 경기마다 바뀌지 않는 타순/투수/규칙은 Setup 하나를 모든 상태가 공유하고,
+ * 상태 변경은 이닝/카운트/점수/주자 몇 개 필드만 새 객체로 만드는 copy-on-write 방식입니다.
+ * 따라서 fork()는 자기 자신을 돌려주는 O(1) 연산이고, 분기한 상태를 진행해도 원래 상태는 바뀌지 않습니다.
+ * (GameDto를 복제하려면 bases, baseRunners, 타순 리스트 4개를 깊은 복사해야 합니다.)
+ */
+public final class GameState {
+
+    /**
+     * 모든 분기가 공유하는 경기 설정 (생성 후 변경하지 않음)
+     */
+    private static final class Setup {
+        private final Batter[] homeLineup;
+        private final Batter[] awayLineup;
+        private final Pitcher homePitcher;
+        private final Pitcher awayPitcher;
+        private final int maxInning;
+        private final int lastInning; // 연장 제한 이닝 (이후 동점이면 무승부)
+
+        Setup(Batter[] homeLineup, Batter[] awayLineup, Pitcher homePitcher, Pitcher awayPitcher, int maxInning,
+                int extraInningLimit) {
+            this.homeLineup = homeLineup;
+            this.awayLineup = awayLineup;
+            this.homePitcher = homePitcher;
+            this.awayPitcher = awayPitcher;
+            this.maxInning = maxInning;
+            this.lastInning = maxInning + Math.max(0, extraInningLimit);
+        }
+    }
+
+    private final Setup setup;
+    private final int inning;
+    private final boolean top;
+    private final int outs;
+    private final int balls;
+    private final int strikes;
+    private final int homeScore;
+    private final int awayScore;
+    private final int homeCursor; // 홈팀 다음 타자 타순 인덱스
+    private final int awayCursor; // 원정팀 다음 타자 타순 인덱스
+    private final Batter first;
+    private final Batter second;
+    private final Batter third;
+    private final boolean over;
+
+    private GameState(Setup setup, int inning, boolean top, int outs, int balls, int strikes, int homeScore,
+            int awayScore, int homeCursor, int awayCursor, Batter first, Batter second, Batter third, boolean over) {
+        this.setup = setup;
+        this.inning = inning;
+        this.top = top;
+        this.outs = outs;
+        this.balls = balls;
+        this.strikes = strikes;
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+        this.homeCursor = homeCursor;
+        this.awayCursor = awayCursor;
+        this.first = first;
+        this.second = second;
+        this.third = third;
+        this.over = over;
+    }
+
+    /**
+     * 1회 초 시작 상태
+     */
+    public static GameState start(SimulationLineup home, SimulationLineup away, int maxInning, int extraInningLimit) {
+        Setup setup = new Setup(home.getBattingOrder(), away.getBattingOrder(), home.getPitcher(), away.getPitcher(),
+                maxInning, extraInningLimit);
+        return new GameState(setup, 1, true, 0, 0, 0, 0, 0, 0, 0, null, null, null, false);
+    }
+
+    /**
+     * 진행 중인 게임의 현재 상태를 스냅샷으로 변환 (GameDto는 변경하지 않음)
+     * 수비 팀 투수는 현재 마운드의 투수를 사용하고, 수비 팀의 다음 타자는 서비스와 같이 타순 처음부터 시작합니다.
+     */
+    public static GameState fromGame(GameDto game, int extraInningLimit) {
+        List<Batter> homeOrder = game.getHomeBattingOrder();
+        List<Batter> awayOrder = game.getAwayBattingOrder();
+        if (homeOrder == null || homeOrder.isEmpty() || awayOrder == null || awayOrder.isEmpty()
+                || game.getHomeStartingPitcher() == null || game.getAwayStartingPitcher() == null) {
+            throw new IllegalStateException("양 팀의 라인업과 선발 투수가 설정되지 않았습니다.");
+        }
+        boolean top = game.isTop();
+        Pitcher current = game.getCurrentPitcher();
+        Pitcher homePitcher = top && current != null ? current : game.getHomeStartingPitcher();
+        Pitcher awayPitcher = !top && current != null ? current : game.getAwayStartingPitcher();
+        Setup setup = new Setup(homeOrder.toArray(new Batter[0]), awayOrder.toArray(new Batter[0]), homePitcher,
+                awayPitcher, game.getMaxInning(), extraInningLimit);
+
+        int cursor = game.getCurrentBatterIndex();
+        Batter[] bases = game.getBases();
+        GameState state = new GameState(setup, game.getInning(), top, Math.min(game.getOut(), 3),
+                Math.min(game.getBall(), 3), Math.min(game.getStrike(), 2), game.getHomeScore(), game.getAwayScore(),
+                top ? 0 : cursor % setup.homeLineup.length, top ? cursor % setup.awayLineup.length : 0,
+                bases[1], bases[2], bases[3], game.isGameOver());
+        // 3아웃 후 다음 이닝 요청 전이면 공수 교대까지 진행한 상태로 시작
+        return state.outs >= 3 && !state.over ? state.endHalfInning() : state;
+    }
+
+    /**
+     * 분기 (불변 상태이므로 복사 없이 자기 자신을 반환)
+     */
+    public GameState fork() {
+        return this;
+    }
+
+    /**
+     * 타석 결과를 적용한 새 상태 (볼카운트 초기화, 3아웃이면 공수 교대/경기 종료 판단)
+     */
+    public GameState afterPlateAppearance(PlateAppearanceOutcome outcome) {
+        if (over) {
+            throw new IllegalStateException("이미 종료된 경기입니다.");
+        }
+        Batter batter = currentBatter();
+        Batter newFirst = first;
+        Batter newSecond = second;
+        Batter newThird = third;
+        int packed = BaseOutState.transition(baseOutState(), outcome);
+
+        switch (outcome) {
+            case STRIKEOUT:
+            case FLY_OUT:
+                break;
+            case HOME_RUN:
+                newFirst = null;
+                newSecond = null;
+                newThird = null;
+                break;
+            case SINGLE:
+                newThird = second;
+                newSecond = first;
+                newFirst = batter;
+                break;
+            case DOUBLE:
+                newThird = first;
+                newSecond = batter;
+                newFirst = null;
+                break;
+            case TRIPLE:
+                newThird = batter;
+                newSecond = null;
+                newFirst = null;
+                break;
+            case WALK:
+                if (first != null) {
+                    if (second != null) {
+                        newThird = second;
+                    }
+                    newSecond = first;
+                }
+                newFirst = batter;
+                break;
+            case GROUND_OUT:
+                // 3아웃이 아니고 1루 주자가 있으면 포스 상황의 주자만 진루 (BaseOutState와 같은 규칙)
+                if (outs < 2 && first != null) {
+                    if (second != null) {
+                        newThird = second;
+                    }
+                    newSecond = first;
+                    newFirst = null;
+                }
+                break;
+            case DOUBLE_PLAY:
+                newFirst = null;
+                break;
+            default:
+                throw new IllegalArgumentException("알 수 없는 타석 결과: " + outcome);
+        }
+
+        int runs = BaseOutState.runs(packed);
+        int nextState = BaseOutState.state(packed);
+        int newOuts = BaseOutState.isInningOver(nextState) ? 3 : BaseOutState.outs(nextState);
+        GameState next = new GameState(setup, inning, top, newOuts, 0, 0,
+                top ? homeScore : homeScore + runs, top ? awayScore + runs : awayScore,
+                top ? homeCursor : (homeCursor + 1) % setup.homeLineup.length,
+                top ? (awayCursor + 1) % setup.awayLineup.length : awayCursor,
+                newFirst, newSecond, newThird, false);
+        return newOuts >= 3 ? next.endHalfInning() : next;
+    }
+
+    /**
+     * 공수 교대 (GameServiceImpl과 같이 정규 이닝 말 이후 점수 차가 나면 종료, 연장 제한 이닝 후 동점이면 무승부)
+     */
+    private GameState endHalfInning() {
+        if (top) {
+            return new GameState(setup, inning, false, 0, 0, 0, homeScore, awayScore, homeCursor, awayCursor,
+                    null, null, null, false);
+        }
+        boolean gameOver = inning >= setup.maxInning && (homeScore != awayScore || inning >= setup.lastInning);
+        if (gameOver) {
+            return new GameState(setup, inning, false, 3, 0, 0, homeScore, awayScore, homeCursor, awayCursor,
+                    null, null, null, true);
+        }
+        return new GameState(setup, inning + 1, true, 0, 0, 0, homeScore, awayScore, homeCursor, awayCursor,
+                null, null, null, false);
+    }
+
+    public Batter currentBatter() {
+        return top ? setup.awayLineup[awayCursor] : setup.homeLineup[homeCursor];
+    }
+
+    public Pitcher currentPitcher() {
+        return top ? setup.homePitcher : setup.awayPitcher;
+    }
+
+    public int baseOutState() {
+        int bases = (first != null ? BaseOutState.FIRST : 0) | (second != null ? BaseOutState.SECOND : 0)
+                | (third != null ? BaseOutState.THIRD : 0);
+        return BaseOutState.encode(outs, bases);
+    }
+
+    public int getInning() {
+        return inning;
+    }
+
+    public boolean isTop() {
+        return top;
+    }
+
+    public int getOuts() {
+        return outs;
+    }
+
+    public int getBalls() {
+        return balls;
+    }
+
+    public int getStrikes() {
+        return strikes;
+    }
+
+    public int getHomeScore() {
+        return homeScore;
+    }
+
+    public int getAwayScore() {
+        return awayScore;
+    }
+
+    public Batter getRunner(int base) {
+        return base == 1 ? first : base == 2 ? second : base == 3 ? third : null;
+    }
+
+    public boolean isOver() {
+        return over;
+    }
+}
@@ -0,0 +1,63 @@
+package com.baseball.game.simulation;
+
+import java.util.Locale;
+
+/**
+ * 리그 평균 기록 (보정 목표 또는 시뮬레이션 결과)
+ */
+public class LeagueRates {
+
+    private final double battingAverage; // 타율 (안타 / 타수, 타수 = 타석 - 볼넷)
+    private final double homeRunRate; // 타석당 홈런
+    private final double strikeoutRate; // 타석당 삼진
+    private final double walkRate; // 타석당 볼넷
+    private final double runsPerGame; // 팀당 경기(9이닝) 득점
+
+    public LeagueRates(double battingAverage, double homeRunRate, double strikeoutRate, double walkRate,
+            double runsPerGame) {
+        this.battingAverage = battingAverage;
+        this.homeRunRate = homeRunRate;
+        this.strikeoutRate = strikeoutRate;
+        this.walkRate = walkRate;
+        this.runsPerGame = runsPerGame;
+    }
+
+    public double getBattingAverage() {
+        return battingAverage;
+    }
+
+    public double getHomeRunRate() {
+        return homeRunRate;
+    }
+
+    public double getStrikeoutRate() {
+        return strikeoutRate;
+    }
+
+    public double getWalkRate() {
+        return walkRate;
+    }
+
+    public double getRunsPerGame() {
+        return runsPerGame;
+    }
+
+    /**
+     * 목표 대비 상대 오차 제곱합 (보정 목적 함수)
+     */
+    public double relativeError(LeagueRates target) {
+        return square(battingAverage / target.battingAverage - 1) + square(homeRunRate / target.homeRunRate - 1)
+                + square(strikeoutRate / target.strikeoutRate - 1) + square(walkRate / target.walkRate - 1)
+                + square(runsPerGame / target.runsPerGame - 1);
+    }
+
+    private static double square(double value) {
+        return value * value;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "AVG %.3f, HR %.1f%%, K %.1f%%, BB %.1f%%, R/G %.2f",
+                battingAverage, homeRunRate * 100, strikeoutRate * 100, walkRate * 100, runsPerGame);
+    }
+}
@@ -0,0 +1,254 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.util.GameLogicUtil;
+
+/**
+ * 타순의 기대 득점을 마르코프 체인으로 정확히 계산 (시뮬레이션 없음)
+ *
+ * 이닝 안의 상태는 (아웃 수, 주자 8가지, 타석에 선 타자 위치)입니다. 아웃 수는 줄지 않으므로 2아웃부터 0아웃까지
+ * 차례로 풀고, 같은 아웃 수 안에서는 타자 위치가 한 칸씩 돌아가는 순환 구조(x_p = c_p + A_p x_{p+1})를
+ * 8x8 행렬 곱으로 한 바퀴 줄여 8원 연립방정식 하나로 풉니다. 잘라내는 타석 수가 없으므로 근사 오차가 없고,
+ * 9명 타순 한 개를 푸는 데 수만 번의 곱셈이면 충분합니다.
+ * 결과 열은 [기대 득점, 다음 이닝 선두타자 확률 x 타순 수]를 함께 풉니다.
+ */
+public class MarkovRunEstimator {
+
+    private static final PlateAppearanceOutcome[] OUTCOMES = PlateAppearanceOutcome.values();
+
+    private static final int BASES = 8;
+
+    private static final double SINGULAR = 1e-12;
+
+    // [상태][결과] -> BaseOutState.transition 결과 (runs * 32 + 다음 상태)
+    private static final int[][] TRANSITIONS = new int[BaseOutState.STATES][OUTCOMES.length];
+
+    static {
+        for (int state = 0; state < BaseOutState.STATES; state++) {
+            for (PlateAppearanceOutcome outcome : OUTCOMES) {
+                TRANSITIONS[state][outcome.ordinal()] = BaseOutState.transition(state, outcome);
+            }
+        }
+    }
+
+    private MarkovRunEstimator() {
+    }
+
+    /**
+     * @param order 타순별 타석 결과 확률
+     * @param innings 공격 이닝 수
+     * @return 경기 기대 득점
+     */
+    public static double expectedRuns(BattingProfile[] order, int innings) {
+        return solve(order).perGame(innings);
+    }
+
+    /**
+     * 타순 위치별 RE24, 선두타자별 이닝 기대 득점, 다음 이닝 선두타자 확률 계산
+     * @throws IllegalArgumentException 아웃이 나지 않는 타순 (기대 득점이 무한대)
+     */
+    public static RunExpectancy solve(BattingProfile[] order) {
+        int size = order.length;
+        int width = 1 + size;
+        double doublePlayChance = GameLogicUtil.getParameters().getDoublePlayChance();
+        // solved[아웃][(타자 * 8 + 주자) * width + 열]
+        double[][] solved = new double[3][];
+        for (int outs = 2; outs >= 0; outs--) {
+            solved[outs] = solveLevel(order, outs, doublePlayChance, solved);
+        }
+
+        double[] values = new double[BaseOutState.STATES * size];
+        double[] nextLeadoff = new double[size * size];
+        for (int outs = 0; outs < 3; outs++) {
+            for (int bases = 0; bases < BASES; bases++) {
+                for (int batter = 0; batter < size; batter++) {
+                    values[BaseOutState.encode(outs, bases) * size + batter] =
+                            solved[outs][(batter * BASES + bases) * width];
+                }
+            }
+        }
+        for (int leadoff = 0; leadoff < size; leadoff++) {
+            System.arraycopy(solved[0], leadoff * BASES * width + 1, nextLeadoff, leadoff * size, size);
+        }
+        return new RunExpectancy(size, values, nextLeadoff);
+    }
+
+    /**
+     * 아웃 수가 outs인 상태들의 값 계산 (더 많은 아웃의 값은 solved에 이미 있음)
+     */
+    private static double[] solveLevel(BattingProfile[] order, int outs, double doublePlayChance,
+            double[][] solved) {
+        int size = order.length;
+        int width = 1 + size;
+        double[] stay = new double[size * BASES * BASES]; // A_p: 같은 아웃 수 안에서의 주자 상태 전이
+        double[] constant = new double[size * BASES * width]; // c_p: 즉시 득점 + 아웃 증가/이닝 종료 후의 값
+
+        for (int batter = 0; batter < size; batter++) {
+            int following = (batter + 1) % size;
+            BattingProfile profile = order[batter];
+            for (int bases = 0; bases < BASES; bases++) {
+                int state = BaseOutState.encode(outs, bases);
+                int row = batter * BASES + bases;
+                boolean doublePlayPossible = outs < 2 && (bases & BaseOutState.FIRST) != 0;
+                for (PlateAppearanceOutcome outcome : OUTCOMES) {
+                    double p = profile.probability(outcome);
+                    if (p == 0.0) {
+                        continue;
+                    }
+                    if (outcome == PlateAppearanceOutcome.GROUND_OUT && doublePlayPossible) {
+                        double doublePlay = p * doublePlayChance;
+                        accumulate(state, PlateAppearanceOutcome.DOUBLE_PLAY, doublePlay, outs, row, following,
+                                width, stay, constant, solved);
+                        p -= doublePlay;
+                    }
+                    accumulate(state, outcome, p, outs, row, following, width, stay, constant, solved);
+                }
+            }
+        }
+
+        // 순환 줄이기: x_0 = K + G x_0, K = c_0 + A_0 c_1 + A_0 A_1 c_2 + ..., G = A_0 A_1 ... A_{n-1}
+        double[] g = identity();
+        double[] k = new double[BASES * width];
+        double[] product = new double[BASES * BASES];
+        for (int batter = 0; batter < size; batter++) {
+            multiplyAdd(g, constant, batter * BASES * width, width, k, 0);
+            multiply(g, stay, batter * BASES * BASES, product);
+            double[] swap = g;
+            g = product;
+            product = swap;
+        }
+        double[] x = new double[size * BASES * width];
+        solveCycle(g, k, width);
+        System.arraycopy(k, 0, x, 0, k.length);
+
+        // 나머지 타자 위치는 뒤에서부터 x_p = c_p + A_p x_{p+1}
+        for (int batter = size - 1; batter >= 1; batter--) {
+            int following = (batter + 1) % size;
+            int offset = batter * BASES * width;
+            System.arraycopy(constant, offset, x, offset, BASES * width);
+            multiplyAdd(stay, batter * BASES * BASES, x, following * BASES * width, width, x, offset);
+        }
+        return x;
+    }
+
+    private static void accumulate(int state, PlateAppearanceOutcome outcome, double p, int outs, int row,
+            int following, int width, double[] stay, double[] constant, double[][] solved) {
+        int packed = TRANSITIONS[state][outcome.ordinal()];
+        int target = BaseOutState.state(packed);
+        int base = row * width;
+        constant[base] += p * BaseOutState.runs(packed);
+        if (BaseOutState.isInningOver(target)) {
+            constant[base + 1 + following] += p;
+        } else if (BaseOutState.outs(target) == outs) {
+            stay[row * BASES + BaseOutState.bases(target)] += p;
+        } else {
+            double[] next = solved[BaseOutState.outs(target)];
+            int from = (following * BASES + BaseOutState.bases(target)) * width;
+            for (int column = 0; column < width; column++) {
+                constant[base + column] += p * next[from + column];
+            }
+        }
+    }
+
+    /**
+     * (I - g) x = k 를 부분 피벗 가우스 소거로 풀어 k에 덮어씀
+     */
+    private static void solveCycle(double[] g, double[] k, int width) {
+        double[] a = new double[BASES * BASES];
+        for (int i = 0; i < BASES; i++) {
+            for (int j = 0; j < BASES; j++) {
+                a[i * BASES + j] = (i == j ? 1.0 : 0.0) - g[i * BASES + j];
+            }
+        }
+        for (int col = 0; col < BASES; col++) {
+            int pivot = col;
+            for (int i = col + 1; i < BASES; i++) {
+                if (Math.abs(a[i * BASES + col]) > Math.abs(a[pivot * BASES + col])) {
+                    pivot = i;
+                }
+            }
+            if (Math.abs(a[pivot * BASES + col]) < SINGULAR) {
+                throw new IllegalArgumentException("아웃이 나지 않는 타순은 기대 득점을 계산할 수 없습니다.");
+            }
+            swapRows(a, col, pivot, BASES);
+            swapRows(k, col, pivot, width);
+            for (int i = 0; i < BASES; i++) {
+                if (i == col) {
+                    continue;
+                }
+                double factor = a[i * BASES + col] / a[col * BASES + col];
+                if (factor == 0.0) {
+                    continue;
+                }
+                for (int j = col; j < BASES; j++) {
+                    a[i * BASES + j] -= factor * a[col * BASES + j];
+                }
+                for (int j = 0; j < width; j++) {
+                    k[i * width + j] -= factor * k[col * width + j];
+                }
+            }
+        }
+        for (int i = 0; i < BASES; i++) {
+            double diagonal = a[i * BASES + i];
+            for (int j = 0; j < width; j++) {
+                k[i * width + j] /= diagonal;
+            }
+        }
+    }
+
+    private static void swapRows(double[] matrix, int a, int b, int width) {
+        if (a == b) {
+            return;
+        }
+        for (int j = 0; j < width; j++) {
+            double temp = matrix[a * width + j];
+            matrix[a * width + j] = matrix[b * width + j];
+            matrix[b * width + j] = temp;
+        }
+    }
+
+    private static double[] identity() {
+        double[] identity = new double[BASES * BASES];
+        for (int i = 0; i < BASES; i++) {
+            identity[i * BASES + i] = 1.0;
+        }
+        return identity;
+    }
+
+    /**
+     * out = left(8x8) * right(8x8, right 배열의 offset부터)
+     */
+    private static void multiply(double[] left, double[] right, int offset, double[] out) {
+        for (int i = 0; i < BASES; i++) {
+            for (int j = 0; j < BASES; j++) {
+                double sum = 0.0;
+                for (int m = 0; m < BASES; m++) {
+                    sum += left[i * BASES + m] * right[offset + m * BASES + j];
+                }
+                out[i * BASES + j] = sum;
+            }
+        }
+    }
+
+    /**
+     * out[outOffset..] += left(8x8) * right(8 x width, rightOffset부터)
+     */
+    private static void multiplyAdd(double[] left, double[] right, int rightOffset, int width, double[] out,
+            int outOffset) {
+        multiplyAdd(left, 0, right, rightOffset, width, out, outOffset);
+    }
+
+    private static void multiplyAdd(double[] left, int leftOffset, double[] right, int rightOffset, int width,
+            double[] out, int outOffset) {
+        for (int i = 0; i < BASES; i++) {
+            for (int m = 0; m < BASES; m++) {
+                double factor = left[leftOffset + i * BASES + m];
+                if (factor == 0.0) {
+                    continue;
+                }
+                for (int j = 0; j < width; j++) {
+                    out[outOffset + i * width + j] += factor * right[rightOffset + m * width + j];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.baseball.game.simulation;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * 한 대진을 여러 번 시뮬레이션한 결과 분포 (승/패/무 수, 팀별 득점 분포)
+ * 득점 분포는 0 ~ MAX_RUNS점 구간이며 마지막 구간은 MAX_RUNS점 이상을 모두 포함합니다.
+ * 불변 객체이므로 캐시에서 꺼낸 그대로 여러 요청에 공유합니다.
+ */
+public final class MatchupDistribution {
+
+    public static final int MAX_RUNS = 30;
+
+    private final int games;
+    private final int homeWins;
+    private final int awayWins;
+    private final long homeRunsTotal;
+    private final long awayRunsTotal;
+    private final int[] homeRuns;
+    private final int[] awayRuns;
+
+    private MatchupDistribution(int games, int homeWins, int awayWins, long homeRunsTotal, long awayRunsTotal,
+            int[] homeRuns, int[] awayRuns) {
+        this.games = games;
+        this.homeWins = homeWins;
+        this.awayWins = awayWins;
+        this.homeRunsTotal = homeRunsTotal;
+        this.awayRunsTotal = awayRunsTotal;
+        this.homeRuns = homeRuns;
+        this.awayRuns = awayRuns;
+    }
+
+    /**
+     * 배치 엔진 결과 여러 개를 합친 분포
+     */
+    public static MatchupDistribution of(BatchGameResult... results) {
+        int games = 0;
+        int homeWins = 0;
+        int awayWins = 0;
+        long homeRunsTotal = 0;
+        long awayRunsTotal = 0;
+        int[] homeRuns = new int[MAX_RUNS + 1];
+        int[] awayRuns = new int[MAX_RUNS + 1];
+        for (BatchGameResult result : results) {
+            for (int game = 0; game < result.size(); game++) {
+                int home = result.getHomeScore(game);
+                int away = result.getAwayScore(game);
+                games++;
+                homeWins += home > away ? 1 : 0;
+                awayWins += away > home ? 1 : 0;
+                homeRunsTotal += home;
+                awayRunsTotal += away;
+                homeRuns[Math.min(home, MAX_RUNS)]++;
+                awayRuns[Math.min(away, MAX_RUNS)]++;
+            }
+        }
+        return new MatchupDistribution(games, homeWins, awayWins, homeRunsTotal, awayRunsTotal, homeRuns, awayRuns);
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public double getHomeWinProbability() {
+        return games == 0 ? 0 : homeWins / (double) games;
+    }
+
+    public double getAwayWinProbability() {
+        return games == 0 ? 0 : awayWins / (double) games;
+    }
+
+    public double getTieProbability() {
+        return games == 0 ? 0 : (games - homeWins - awayWins) / (double) games;
+    }
+
+    public double getAverageHomeScore() {
+        return games == 0 ? 0 : homeRunsTotal / (double) games;
+    }
+
+    public double getAverageAwayScore() {
+        return games == 0 ? 0 : awayRunsTotal / (double) games;
+    }
+
+    /**
+     * @return [점수] -> 확률 (마지막 칸은 MAX_RUNS점 이상)
+     */
+    public double[] getHomeRunDistribution() {
+        return toProbabilities(homeRuns);
+    }
+
+    public double[] getAwayRunDistribution() {
+        return toProbabilities(awayRuns);
+    }
+
+    private double[] toProbabilities(int[] counts) {
+        double[] probabilities = new double[counts.length];
+        for (int runs = 0; runs < counts.length; runs++) {
+            probabilities[runs] = games == 0 ? 0 : counts[runs] / (double) games;
+        }
+        return probabilities;
+    }
+
+    void write(DataOutput out) throws IOException {
+        out.writeInt(games);
+        out.writeInt(homeWins);
+        out.writeInt(awayWins);
+        out.writeLong(homeRunsTotal);
+        out.writeLong(awayRunsTotal);
+        for (int count : homeRuns) {
+            out.writeInt(count);
+        }
+        for (int count : awayRuns) {
+            out.writeInt(count);
+        }
+    }
+
+    static MatchupDistribution read(DataInput in) throws IOException {
+        int games = in.readInt();
+        int homeWins = in.readInt();
+        int awayWins = in.readInt();
+        long homeRunsTotal = in.readLong();
+        long awayRunsTotal = in.readLong();
+        int[] homeRuns = new int[MAX_RUNS + 1];
+        int[] awayRuns = new int[MAX_RUNS + 1];
+        for (int runs = 0; runs <= MAX_RUNS; runs++) {
+            homeRuns[runs] = in.readInt();
+        }
+        for (int runs = 0; runs <= MAX_RUNS; runs++) {
+            awayRuns[runs] = in.readInt();
+        }
+        return new MatchupDistribution(games, homeWins, awayWins, homeRunsTotal, awayRunsTotal, homeRuns, awayRuns);
+    }
+}
@@ -0,0 +1,180 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+import com.baseball.game.util.GameLogicUtil;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대진별 시뮬레이션 결과 분포 캐시 (LRU, 디스크 보존)
+ *
+ * 키는 양 팀 타순과 선발투수의 능력치, 이닝 수, 연장 제한, 모델 버전으로 만든 64비트 해시입니다.
+ * 선수 이름이 아닌 능력치로 만들므로 능력치가 바뀌면 자연히 다른 키가 되고, 서버를 다시 띄워도 같은 키가 나옵니다.
+ * 조회는 잠금 한 번과 해시 조회뿐이라 마이크로초 단위이고, 시뮬레이션은 잠금 밖에서 합니다.
+ *
+ * root-context.xml에 빈으로 한 번만 등록하고 시작 시 load(), 종료 시 save()로 최근 사용 항목을 파일에 보존합니다.
+ */
+public class MatchupDistributionCache {
+
+    /**
+     * 경기 규칙이나 전략이 바뀌어 같은 능력치라도 분포가 달라지면 올려서 기존 캐시를 무효화
+     */
+    static final int MODEL_VERSION = 1;
+
+    private static final int MAGIC = 0x424D4443; // "BMDC"
+    private static final int FORMAT_VERSION = 1;
+
+    private final int capacity;
+    private final Path file;
+    private final LinkedHashMap<Long, MatchupDistribution> entries;
+
+    /**
+     * @param file 보존 파일 경로 (null이면 메모리에만 보관)
+     */
+    public MatchupDistributionCache(int capacity, String file) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.file = file != null ? Paths.get(file) : null;
+        this.entries = new LinkedHashMap<Long, MatchupDistribution>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, MatchupDistribution> eldest) {
+                return size() > MatchupDistributionCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * 대진 키 (같은 능력치, 같은 이닝 수, 같은 게임 모델 파라미터 버전이면 항상 같은 값)
+     */
+    public static long keyOf(SimulationLineup home, SimulationLineup away, int maxInning, int extraInningLimit) {
+        long hash = 0xCBF29CE484222325L; // FNV-1a 64비트 초기값
+        hash = mix(hash, MODEL_VERSION);
+        hash = mix(hash, GameLogicUtil.getParameters().getVersion().hashCode());
+        hash = mix(hash, maxInning);
+        hash = mix(hash, extraInningLimit);
+        hash = mixLineup(hash, home);
+        hash = mixLineup(hash, away);
+        // 마지막에 비트를 한 번 더 섞어 상위/하위 비트 모두 고르게 분포
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        return hash ^ (hash >>> 33);
+    }
+
+    private static long mixLineup(long hash, SimulationLineup lineup) {
+        Batter[] order = lineup.getBattingOrder();
+        hash = mix(hash, order.length);
+        for (Batter batter : order) {
+            hash = mix(hash, batter.getContact());
+            hash = mix(hash, batter.getPower());
+            hash = mix(hash, batter.getEye());
+            hash = mix(hash, batter.getSpeed());
+        }
+        Pitcher pitcher = lineup.getPitcher();
+        hash = mix(hash, pitcher.getControl());
+        hash = mix(hash, pitcher.getSpeed());
+        hash = mix(hash, pitcher.getStamina());
+        return mix(hash, pitcher.getMovement());
+    }
+
+    private static long mix(long hash, int value) {
+        return (hash ^ value) * 0x100000001B3L;
+    }
+
+    /**
+     * @return 캐시된 분포 (없으면 null), 조회한 항목은 가장 최근 사용으로 옮김
+     */
+    public synchronized MatchupDistribution get(long key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(long key, MatchupDistribution distribution) {
+        entries.put(key, distribution);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 보존 파일에서 항목 읽기 (파일이 없거나 형식이 다르면 빈 캐시로 시작)
+     * @return 읽은 항목 수
+     */
+    public int load() {
+        if (file == null) {
+            return 0;
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in);
+        } catch (IOException e) {
+            return 0; // 캐시는 최적화일 뿐이므로 없거나 손상된 파일은 무시하고 다시 채움
+        }
+    }
+
+    /**
+     * 현재 항목을 보존 파일에 쓰기 (임시 파일에 쓴 뒤 교체하므로 중간에 종료되어도 기존 파일은 유지)
+     */
+    public void save() throws IOException {
+        if (file == null) {
+            return;
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            write(out);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 오래 사용하지 않은 항목부터 기록 (읽을 때 같은 순서로 넣으면 LRU 순서가 복원됨)
+     */
+    void write(OutputStream out) throws IOException {
+        List<Map.Entry<Long, MatchupDistribution>> snapshot;
+        synchronized (this) {
+            snapshot = new ArrayList<>(entries.entrySet());
+        }
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.writeInt(MODEL_VERSION);
+        data.writeInt(MatchupDistribution.MAX_RUNS);
+        data.writeInt(snapshot.size());
+        for (Map.Entry<Long, MatchupDistribution> entry : snapshot) {
+            data.writeLong(entry.getKey());
+            entry.getValue().write(data);
+        }
+        data.flush();
+    }
+
+    int read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC || data.readInt() != FORMAT_VERSION || data.readInt() != MODEL_VERSION
+                || data.readInt() != MatchupDistribution.MAX_RUNS) {
+            throw new IOException("대진 캐시 파일 형식이 현재 버전과 다릅니다.");
+        }
+        int count = data.readInt();
+        for (int i = 0; i < count; i++) {
+            long key = data.readLong();
+            put(key, MatchupDistribution.read(data));
+        }
+        return Math.min(count, capacity);
+    }
+}
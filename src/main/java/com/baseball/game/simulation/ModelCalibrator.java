@@ -0,0 +1,300 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.util.GameModelParameters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * 게임 모델 파라미터(GameLogicUtil 확률 상수)를 리그 평균 기록(타율, 홈런율, 삼진율, 볼넷율, 경기당 득점)에 맞추는 보정기
+ *
+ * 기준 파라미터에 손잡이 7개를 적용해 후보를 만듭니다.
+ * (제구 기본값, 볼 컨택 기본값, 헛스윙 배율, 타구 아웃 배율, 2·3루타 배율, 홈런 배율, 병살 확률)
+ * 탐색은 교차 엔트로피 방법으로, 세대마다 정규분포에서 후보를 뽑아 fork/join 풀에서 병렬로 평가하고
+ * 상위 후보의 평균과 분산으로 분포를 좁혀 갑니다.
+ * 목적 함수는 로스터 전체 대진을 타석 단위로 대량 시뮬레이션한 리그 기록의 상대 오차 제곱합이며,
+ * 같은 세대의 후보는 같은 시드(공통 난수)로 평가하여 후보 간 비교의 잡음을 줄입니다.
+ * 시드가 같으면 스레드 수와 관계없이 같은 결과가 나옵니다.
+ */
+public class ModelCalibrator {
+
+    static final int KNOBS = 7;
+
+    private static final PlateAppearanceOutcome[] OUTCOMES = PlateAppearanceOutcome.values();
+
+    private static final double[] KNOB_MIN = {0.5, 0.0, 0.5, 0.5, 0.2, 0.1, 0.05};
+    private static final double[] KNOB_MAX = {1.0, 0.3, 2.0, 2.0, 2.0, 2.0, 0.6};
+
+    private static final double INITIAL_SIGMA = 0.15; // 정규화 좌표(0~1) 기준
+    private static final double MIN_SIGMA = 0.005;
+    private static final double SIGMA_SMOOTHING = 0.7; // 새 분산 반영 비율
+    private static final int FINAL_EVALUATION_FACTOR = 4; // 최종 기록은 경기 수를 늘려 다시 측정
+
+    private static final double MAX_OUT_SHARE = 0.95;
+    private static final double MAX_MISS_CHANCE = 0.95;
+
+    private final List<List<SimulationLineup>> rotations;
+    private final GameModelParameters base;
+    private final int gamesPerEvaluation;
+    private final int population;
+    private final int elites;
+    private final int generations;
+
+    /**
+     * @param rotations 팀별 선발 로테이션 라인업 (2팀 이상)
+     * @param base 손잡이를 적용할 기준 파라미터
+     * @param gamesPerEvaluation 후보 하나를 평가할 경기 수
+     */
+    public ModelCalibrator(List<List<SimulationLineup>> rotations, GameModelParameters base, int gamesPerEvaluation,
+            int population, int generations) {
+        if (rotations.size() < 2) {
+            throw new IllegalArgumentException("보정에는 2팀 이상이 필요합니다.");
+        }
+        if (gamesPerEvaluation < 1 || population < 4 || generations < 1) {
+            throw new IllegalArgumentException("경기 수는 1 이상, 후보 수는 4 이상, 세대 수는 1 이상이어야 합니다.");
+        }
+        this.rotations = rotations;
+        this.base = base;
+        this.gamesPerEvaluation = gamesPerEvaluation;
+        this.population = population;
+        this.elites = Math.max(2, population / 4);
+        this.generations = generations;
+    }
+
+    /**
+     * @param version 결과 파라미터 버전
+     * @param progress 세대마다 그때까지의 최선 후보를 받는 콜백 (null 가능)
+     */
+    public CalibrationResult calibrate(LeagueRates target, String version, long seed, ForkJoinPool pool,
+            Consumer<CalibrationResult> progress) {
+        int evaluations = 0;
+        double[] mean = normalize(baselineKnobs());
+        double[] sigma = new double[KNOBS];
+        Arrays.fill(sigma, INITIAL_SIGMA);
+        double[] best = mean.clone();
+        double bestError = Double.MAX_VALUE;
+
+        SplittableRandom sampler = new SplittableRandom(seed);
+        for (int generation = 0; generation < generations; generation++) {
+            long evaluationSeed = GameSimulator.seedFor(seed, generation, -1L);
+            double[][] candidates = new double[population][];
+            candidates[0] = best.clone(); // 지금까지의 최선 후보도 같은 시드로 다시 평가
+            for (int i = 1; i < population; i++) {
+                candidates[i] = new double[KNOBS];
+                for (int k = 0; k < KNOBS; k++) {
+                    candidates[i][k] = clamp01(mean[k] + sigma[k] * gaussian(sampler));
+                }
+            }
+
+            List<Callable<Double>> tasks = new ArrayList<>(population);
+            for (double[] candidate : candidates) {
+                tasks.add(() -> measure(apply(denormalize(candidate), version), gamesPerEvaluation, evaluationSeed)
+                        .relativeError(target));
+            }
+            double[] errors = invokeAll(pool, tasks);
+            evaluations += population;
+
+            Integer[] ranking = new Integer[population];
+            for (int i = 0; i < population; i++) {
+                ranking[i] = i;
+            }
+            Arrays.sort(ranking, (a, b) -> Double.compare(errors[a], errors[b]));
+            best = candidates[ranking[0]].clone();
+            bestError = errors[ranking[0]];
+
+            for (int k = 0; k < KNOBS; k++) {
+                double sum = 0.0;
+                for (int e = 0; e < elites; e++) {
+                    sum += candidates[ranking[e]][k];
+                }
+                double eliteMean = sum / elites;
+                double variance = 0.0;
+                for (int e = 0; e < elites; e++) {
+                    double diff = candidates[ranking[e]][k] - eliteMean;
+                    variance += diff * diff;
+                }
+                mean[k] = eliteMean;
+                sigma[k] = Math.max(MIN_SIGMA,
+                        SIGMA_SMOOTHING * Math.sqrt(variance / elites) + (1 - SIGMA_SMOOTHING) * sigma[k]);
+            }
+
+            if (progress != null) {
+                GameModelParameters parameters = apply(denormalize(best), version);
+                progress.accept(new CalibrationResult(parameters,
+                        measure(parameters, gamesPerEvaluation, evaluationSeed), bestError, evaluations));
+            }
+        }
+
+        GameModelParameters parameters = apply(denormalize(best), version);
+        LeagueRates rates = measure(parameters, gamesPerEvaluation * FINAL_EVALUATION_FACTOR,
+                GameSimulator.seedFor(seed, generations, -1L));
+        return new CalibrationResult(parameters, rates, rates.relativeError(target), evaluations + 1);
+    }
+
+    /**
+     * 주어진 파라미터로 로스터 전체 대진을 games 경기 시뮬레이션한 리그 기록
+     * 대진은 모든 (홈, 원정) 순서쌍을 번갈아 돌고, 선발은 대진이 한 바퀴 돌 때마다 로테이션 순서대로 바뀝니다.
+     * 양 팀 모두 9이닝을 공격하며(연장, 끝내기 없음) 타석 결과는 PlateAppearanceEngine과 같은 표에서 뽑습니다.
+     */
+    public LeagueRates measure(GameModelParameters parameters, int games, long seed) {
+        int teams = rotations.size();
+        Map<Long, double[]> tables = new HashMap<>();
+        int[] cursors = new int[2];
+        long[] counts = new long[OUTCOMES.length];
+        long runs = 0;
+        SplittableRandom rng = new SplittableRandom(seed);
+        for (int game = 0; game < games; game++) {
+            int pair = game % (teams * (teams - 1));
+            int home = pair / (teams - 1);
+            int away = pair % (teams - 1);
+            if (away >= home) {
+                away++;
+            }
+            int cycle = game / (teams * (teams - 1));
+            SimulationLineup homeLineup = lineup(home, cycle);
+            SimulationLineup awayLineup = lineup(away, cycle);
+            double[] awayTable = table(tables, away, home, cycle, awayLineup, homeLineup, parameters);
+            double[] homeTable = table(tables, home, away, cycle, homeLineup, awayLineup, parameters);
+            cursors[0] = 0;
+            cursors[1] = 0;
+            for (int inning = 0; inning < 9; inning++) {
+                runs += playHalfInning(awayTable, awayLineup.getBattingOrder().length, cursors, 0, rng, counts);
+                runs += playHalfInning(homeTable, homeLineup.getBattingOrder().length, cursors, 1, rng, counts);
+            }
+        }
+
+        long plateAppearances = 0;
+        for (long count : counts) {
+            plateAppearances += count;
+        }
+        long walks = counts[PlateAppearanceOutcome.WALK.ordinal()];
+        long homeRuns = counts[PlateAppearanceOutcome.HOME_RUN.ordinal()];
+        long hits = counts[PlateAppearanceOutcome.SINGLE.ordinal()] + counts[PlateAppearanceOutcome.DOUBLE.ordinal()]
+                + counts[PlateAppearanceOutcome.TRIPLE.ordinal()] + homeRuns;
+        double pa = Math.max(1, plateAppearances);
+        return new LeagueRates(hits / Math.max(1.0, plateAppearances - walks), homeRuns / pa,
+                counts[PlateAppearanceOutcome.STRIKEOUT.ordinal()] / pa, walks / pa, runs / (2.0 * Math.max(1, games)));
+    }
+
+    private static int playHalfInning(double[] table, int size, int[] cursors, int side, SplittableRandom rng,
+            long[] counts) {
+        int state = 0;
+        int runs = 0;
+        int slot = cursors[side];
+        while (!BaseOutState.isInningOver(state)) {
+            int outcome = PlateAppearanceEngine.sample(table, slot, state, rng.nextDouble());
+            counts[outcome]++;
+            slot = slot + 1 == size ? 0 : slot + 1;
+            int packed = BaseOutState.transition(state, OUTCOMES[outcome]);
+            runs += BaseOutState.runs(packed);
+            state = BaseOutState.state(packed);
+        }
+        cursors[side] = slot;
+        return runs;
+    }
+
+    private double[] table(Map<Long, double[]> tables, int offense, int defense, int cycle, SimulationLineup batting,
+            SimulationLineup pitching, GameModelParameters parameters) {
+        int rotation = cycle % rotations.get(defense).size();
+        long key = ((long) offense * rotations.size() + defense) * 1024 + rotation;
+        double[] table = tables.get(key);
+        if (table == null) {
+            table = PlateAppearanceEngine.cumulativeTable(batting.getBattingOrder(), pitching.getPitcher(), parameters);
+            tables.put(key, table);
+        }
+        return table;
+    }
+
+    private SimulationLineup lineup(int team, int cycle) {
+        List<SimulationLineup> rotation = rotations.get(team);
+        return rotation.get(cycle % rotation.size());
+    }
+
+    /**
+     * 손잡이 값을 기준 파라미터에 적용
+     * - 타구 아웃 배율: 각 타구 분포의 땅볼+뜬공 비중을 곱하고(땅볼:뜬공 비율 유지) 나머지를 안타 쪽에 비율대로 나눔
+     * - 2·3루타 배율, 홈런 배율: 안타 안에서의 비중을 바꾸고 안타 합계는 유지
+     */
+    GameModelParameters apply(double[] knobs, String version) {
+        double[] miss = new double[GameModelParameters.MISS_LEVELS];
+        for (int level = 0; level < miss.length; level++) {
+            miss[level] = Math.min(MAX_MISS_CHANCE, base.getMissChance(level) * knobs[2]);
+        }
+        double[][] hits = new double[GameModelParameters.HIT_LEVELS][];
+        for (int level = 0; level < hits.length; level++) {
+            double[] d = base.getHitDistribution(level);
+            double outs = d[0] + d[1];
+            double newOuts = outs > 0 ? Math.min(MAX_OUT_SHARE, outs * knobs[3]) : 0.0;
+            double[] weights = {d[2], d[3] * knobs[4], d[4] * knobs[4], d[5] * knobs[5]};
+            double weightSum = weights[0] + weights[1] + weights[2] + weights[3];
+            double[] adjusted = new double[GameModelParameters.HIT_OUTCOMES];
+            if (outs > 0) {
+                adjusted[0] = d[0] / outs * newOuts;
+                adjusted[1] = d[1] / outs * newOuts;
+            }
+            for (int k = 0; k < weights.length; k++) {
+                adjusted[2 + k] = weightSum > 0 ? weights[k] / weightSum * (1 - newOuts) : 0.0;
+            }
+            hits[level] = adjusted;
+        }
+        return new GameModelParameters(version, knobs[0], base.getControlSlope(), knobs[1],
+                base.getBallContactSlope(), miss, hits, knobs[6]);
+    }
+
+    double[] baselineKnobs() {
+        return new double[]{base.getControlBase(), base.getBallContactBase(), 1.0, 1.0, 1.0, 1.0,
+                base.getDoublePlayChance()};
+    }
+
+    private static double[] normalize(double[] knobs) {
+        double[] normalized = new double[KNOBS];
+        for (int k = 0; k < KNOBS; k++) {
+            normalized[k] = clamp01((knobs[k] - KNOB_MIN[k]) / (KNOB_MAX[k] - KNOB_MIN[k]));
+        }
+        return normalized;
+    }
+
+    static double[] denormalize(double[] normalized) {
+        double[] knobs = new double[KNOBS];
+        for (int k = 0; k < KNOBS; k++) {
+            knobs[k] = KNOB_MIN[k] + normalized[k] * (KNOB_MAX[k] - KNOB_MIN[k]);
+        }
+        return knobs;
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller (SplittableRandom에는 nextGaussian이 없음)
+        double u = 1.0 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * v);
+    }
+
+    private static double clamp01(double value) {
+        return Math.max(0.0, Math.min(1.0, value));
+    }
+
+    private static double[] invokeAll(ForkJoinPool pool, List<Callable<Double>> tasks) {
+        double[] results = new double[tasks.size()];
+        try {
+            List<Future<Double>> futures = pool.invokeAll(tasks);
+            for (int i = 0; i < results.length; i++) {
+                results[i] = futures.get(i).get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("파라미터 보정이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("파라미터 보정 중 오류가 발생했습니다.", e.getCause());
+        }
+        return results;
+    }
+}
@@ -0,0 +1,49 @@
+package com.baseball.game.simulation;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 투구 하나의 결과 (규칙 엔진 전이 표의 열)
+ * 실제 게임의 판정 문자열(GameLogicUtil 결과)은 {@link #fromResult(String)}로 변환합니다.
+ */
+public enum PitchEvent {
+    BALL,
+    STRIKE, // 루킹/헛스윙 스트라이크 (삼진 여부는 규칙의 스트라이크 수로 판정)
+    FOUL,
+    STRIKEOUT, // 카운트와 관계없이 삼진
+    SINGLE,
+    DOUBLE,
+    TRIPLE,
+    HOME_RUN,
+    GROUND_OUT,
+    FLY_OUT,
+    DOUBLE_PLAY;
+
+    private static final Map<String, PitchEvent> RESULTS = new HashMap<>();
+
+    static {
+        RESULTS.put("볼", BALL);
+        RESULTS.put("스트라이크", STRIKE);
+        RESULTS.put("헛스윙", STRIKE);
+        RESULTS.put("파울", FOUL);
+        RESULTS.put("삼진 아웃", STRIKEOUT);
+        RESULTS.put("헛스윙 삼진", STRIKEOUT);
+        RESULTS.put("안타", SINGLE);
+        RESULTS.put("2루타", DOUBLE);
+        RESULTS.put("3루타", TRIPLE);
+        RESULTS.put("홈런", HOME_RUN);
+        RESULTS.put("홈런!", HOME_RUN);
+        RESULTS.put("땅볼 아웃", GROUND_OUT);
+        RESULTS.put("뜬공 아웃", FLY_OUT);
+        RESULTS.put("병살타!", DOUBLE_PLAY);
+    }
+
+    public static PitchEvent fromResult(String result) {
+        PitchEvent event = RESULTS.get(result);
+        if (event == null) {
+            throw new IllegalArgumentException("알 수 없는 투구 결과입니다: " + result);
+        }
+        return event;
+    }
+}
@@ -0,0 +1,172 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+import com.baseball.game.util.GameLogicUtil;
+import com.baseball.game.util.GameModelParameters;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 타석 단위 빠른 경기 엔진 (대량 예측용)
+ *
+ * 투구마다 전략과 판정을 거치는 대신, (타자, 투수)별 타석 결과 분포를 BattingProfile.of로 한 번 계산해 두고
+ * 타석당 난수 하나로 결과(삼진, 볼넷, 안타, 2루타, 3루타, 홈런, 땅볼, 뜬공, 병살)를 뽑습니다.
+ * 분포는 기본 전략(RatingBasedPlayStrategy) 투구 단위 모델의 정확한 타석 결과 확률이므로 경기 결과의 분포는
+ * GameSimulator와 같고, 같은 시드의 개별 경기 결과만 다릅니다.
+ *
+ * 타순별 누적 확률 표는 (타순 배열, 투수) 조합마다 캐시하므로, 시즌처럼 같은 라인업이 반복되는 작업 단위로
+ * 인스턴스를 만들어 씁니다. 게임 모델 파라미터는 생성 시점 값을 씁니다. 여러 스레드에서 공유해도 됩니다.
+ */
+public class PlateAppearanceEngine implements GameEngine {
+
+    private static final PlateAppearanceOutcome[] OUTCOMES = PlateAppearanceOutcome.values();
+
+    private static final int OUTCOME_COUNT = OUTCOMES.length;
+
+    /**
+     * [상태 * 타석 결과 수 + 결과] -> runs * 32 + 다음 상태
+     */
+    private static final int[] TRANSITIONS = new int[BaseOutState.STATES * OUTCOME_COUNT];
+
+    static {
+        for (int state = 0; state < BaseOutState.STATES; state++) {
+            for (PlateAppearanceOutcome outcome : OUTCOMES) {
+                TRANSITIONS[state * OUTCOME_COUNT + outcome.ordinal()] = BaseOutState.transition(state, outcome);
+            }
+        }
+    }
+
+    private final int extraInningLimit;
+    private final GameModelParameters parameters;
+    private final ConcurrentHashMap<Matchup, double[]> tables = new ConcurrentHashMap<>();
+
+    public PlateAppearanceEngine() {
+        this(GameSimulator.DEFAULT_EXTRA_INNING_LIMIT);
+    }
+
+    public PlateAppearanceEngine(int extraInningLimit) {
+        this.extraInningLimit = Math.max(0, extraInningLimit);
+        this.parameters = GameLogicUtil.getParameters();
+    }
+
+    @Override
+    public SimulatedGame simulate(SimulationLineup home, SimulationLineup away, int maxInning, long seed) {
+        double[] awayTable = table(away.getBattingOrder(), home.getPitcher());
+        double[] homeTable = table(home.getBattingOrder(), away.getPitcher());
+        int awaySize = away.getBattingOrder().length;
+        int homeSize = home.getBattingOrder().length;
+        SplittableRandom rng = new SplittableRandom(seed);
+        int[] awayCursor = {0};
+        int[] homeCursor = {0};
+        int awayScore = 0;
+        int homeScore = 0;
+        int lastInning = maxInning + extraInningLimit;
+
+        int inning = 1;
+        while (true) {
+            awayScore += playHalfInning(awayTable, awaySize, awayCursor, rng);
+            homeScore += playHalfInning(homeTable, homeSize, homeCursor, rng);
+            if (inning >= maxInning && (homeScore != awayScore || inning >= lastInning)) {
+                break;
+            }
+            inning++;
+        }
+        return new SimulatedGame(homeScore, awayScore, inning);
+    }
+
+    private static int playHalfInning(double[] table, int size, int[] cursor, SplittableRandom rng) {
+        int state = 0;
+        int runs = 0;
+        int slot = cursor[0];
+        while (!BaseOutState.isInningOver(state)) {
+            int outcome = sample(table, slot, state, rng.nextDouble());
+            slot = slot + 1 == size ? 0 : slot + 1;
+            int packed = TRANSITIONS[state * OUTCOME_COUNT + outcome];
+            runs += BaseOutState.runs(packed);
+            state = BaseOutState.state(packed);
+        }
+        cursor[0] = slot;
+        return runs;
+    }
+
+    /**
+     * 누적 확률 표에서 타석 결과 하나 뽑기
+     * @param u [0, 1) 균등 난수
+     * @return PlateAppearanceOutcome 순서 번호
+     */
+    static int sample(double[] table, int slot, int state, double u) {
+        boolean doublePlayPossible = BaseOutState.outs(state) < 2 && (state & BaseOutState.FIRST) != 0;
+        int row = (slot * 2 + (doublePlayPossible ? 1 : 0)) * OUTCOME_COUNT;
+        int outcome = 0;
+        while (outcome < OUTCOME_COUNT - 1 && u >= table[row + outcome]) {
+            outcome++;
+        }
+        return outcome;
+    }
+
+    private double[] table(Batter[] order, Pitcher pitcher) {
+        Matchup key = new Matchup(order, pitcher);
+        double[] table = tables.get(key);
+        return table != null ? table : tables.computeIfAbsent(key, k -> cumulativeTable(order, pitcher, parameters));
+    }
+
+    /**
+     * 타순별 누적 확률 표 [(타순 * 2 + 병살 가능 여부) * 결과 수 + 결과]
+     * 병살 가능 행(1루 주자, 2아웃 미만)은 땅볼을 병살 확률(GameModelParameters.getDoublePlayChance) 비율로 나눕니다.
+     */
+    static double[] cumulativeTable(Batter[] order, Pitcher pitcher, GameModelParameters parameters) {
+        double doublePlayChance = parameters.getDoublePlayChance();
+        double[] table = new double[order.length * 2 * OUTCOME_COUNT];
+        for (int slot = 0; slot < order.length; slot++) {
+            BattingProfile profile = BattingProfile.of(order[slot], pitcher, parameters);
+            for (int doublePlayRow = 0; doublePlayRow < 2; doublePlayRow++) {
+                int row = (slot * 2 + doublePlayRow) * OUTCOME_COUNT;
+                double sum = 0.0;
+                for (PlateAppearanceOutcome outcome : OUTCOMES) {
+                    double p = profile.probability(outcome);
+                    if (doublePlayRow == 1) {
+                        double groundBall = profile.probability(PlateAppearanceOutcome.GROUND_OUT);
+                        if (outcome == PlateAppearanceOutcome.GROUND_OUT) {
+                            p = groundBall * (1 - doublePlayChance);
+                        } else if (outcome == PlateAppearanceOutcome.DOUBLE_PLAY) {
+                            p = groundBall * doublePlayChance;
+                        }
+                    }
+                    sum += p;
+                    table[row + outcome.ordinal()] = sum;
+                }
+                table[row + OUTCOME_COUNT - 1] = 1.0; // 반올림 오차로 마지막 구간이 비지 않도록
+            }
+        }
+        return table;
+    }
+
+    /**
+     * 표 캐시 키 (타순 배열과 투수 객체의 동일성 기준)
+     */
+    private static final class Matchup {
+        private final Batter[] order;
+        private final Pitcher pitcher;
+
+        Matchup(Batter[] order, Pitcher pitcher) {
+            this.order = order;
+            this.pitcher = pitcher;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Matchup)) {
+                return false;
+            }
+            Matchup matchup = (Matchup) other;
+            return order == matchup.order && pitcher == matchup.pitcher;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(order) + System.identityHashCode(pitcher);
+        }
+    }
+}
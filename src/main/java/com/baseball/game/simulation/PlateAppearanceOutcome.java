@@ -0,0 +1,34 @@
+package com.baseball.game.simulation;
+
+/**
+ * 타석 결과 (시뮬레이션 집계 단위)
+ */
+public enum PlateAppearanceOutcome {
+    STRIKEOUT, // 삼진
+    WALK, // 볼넷
+    SINGLE, // 안타
+    DOUBLE, // 2루타
+    TRIPLE, // 3루타
+    HOME_RUN, // 홈런
+    GROUND_OUT, // 땅볼 아웃
+    FLY_OUT, // 뜬공 아웃
+    DOUBLE_PLAY; // 병살타
+
+    /**
+     * 안타인 경우 타자가 진루하는 베이스 수 (안타가 아니면 0)
+     */
+    public int basesGained() {
+        switch (this) {
+            case SINGLE:
+                return 1;
+            case DOUBLE:
+                return 2;
+            case TRIPLE:
+                return 3;
+            case HOME_RUN:
+                return 4;
+            default:
+                return 0;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * 시뮬레이션에서 사용자 입력(투구 선택, 스윙 여부, 스윙 타이밍)을 대신 결정하는 전략
+ * 난수는 반드시 전달받은 random에서만 뽑아야 같은 시드로 같은 경기가 재현됩니다.
+ */
+public interface PlayStrategy {
+
+    /**
+     * 투구 선택 ("strike" 또는 "ball")
+     * @param state 현재 base-out 상태 ({@link BaseOutState})
+     */
+    String choosePitchType(Pitcher pitcher, Batter batter, int state, int balls, int strikes, DoubleSupplier random);
+
+    /**
+     * 스윙 여부 결정
+     * @param state 현재 base-out 상태 ({@link BaseOutState})
+     */
+    boolean decideSwing(Batter batter, Pitcher pitcher, String pitchType, int state, int balls, int strikes,
+            DoubleSupplier random);
+
+    /**
+     * 스윙 타이밍 결정 (0.0 ~ 1.0, 0.5가 정타)
+     */
+    double chooseTiming(Batter batter, Pitcher pitcher, DoubleSupplier random);
+}
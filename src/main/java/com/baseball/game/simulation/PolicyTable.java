@@ -0,0 +1,145 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 컴퓨터 투수/타자의 행동 확률 표
+ * 볼카운트(12) x base-out 상태(24) x 타자 등급(5) x 투수 등급(5) 칸마다
+ * 스트라이크 투구 확률, 스트라이크/볼에 대한 스윙 확률을 1바이트(0~255)로 저장합니다.
+ * 타이밍 분산은 타자 등급별로 저장합니다.
+ * 표는 PolicyTableGenerator로 미리 만들어 클래스패스(/ai/policy-table.bin)에 두고, 조회는 배열 인덱싱 한 번입니다.
+ */
+public class PolicyTable {
+
+    public static final String DEFAULT_RESOURCE = "/ai/policy-table.bin";
+
+    public static final int RATING_BUCKETS = 5;
+    public static final int COUNTS = 12; // 볼 0~3 x 스트라이크 0~2
+
+    private static final int MAGIC = 0x42504F4C; // "BPOL"
+    private static final int FORMAT_VERSION = 1;
+    private static final int CELLS = RATING_BUCKETS * RATING_BUCKETS * BaseOutState.STATES * COUNTS;
+
+    private final byte[] strikeIntent = new byte[CELLS];
+    private final byte[] swingAtStrike = new byte[CELLS];
+    private final byte[] swingAtBall = new byte[CELLS];
+    private final float[] timingSigma = new float[RATING_BUCKETS];
+
+    /**
+     * 타자 등급 (컨택과 선구안 평균 기준 0~4)
+     */
+    public static int batterBucket(Batter batter) {
+        return bucket((batter.getContact() + batter.getEye()) / 2);
+    }
+
+    /**
+     * 투수 등급 (제구와 구속 평균 기준 0~4)
+     */
+    public static int pitcherBucket(Pitcher pitcher) {
+        return bucket((pitcher.getControl() + pitcher.getSpeed()) / 2);
+    }
+
+    /**
+     * 등급의 대표 능력치 (10, 30, 50, 70, 90)
+     */
+    public static int representativeRating(int bucket) {
+        return 10 + bucket * 20;
+    }
+
+    private static int bucket(int rating) {
+        return Math.max(0, Math.min(RATING_BUCKETS - 1, rating / 20));
+    }
+
+    public static int cell(int batterBucket, int pitcherBucket, int state, int balls, int strikes) {
+        int count = Math.min(balls, 3) * 3 + Math.min(strikes, 2);
+        return ((batterBucket * RATING_BUCKETS + pitcherBucket) * BaseOutState.STATES + state) * COUNTS + count;
+    }
+
+    public double strikeProbability(int cell) {
+        return toProbability(strikeIntent[cell]);
+    }
+
+    public double swingProbability(int cell, String pitchType) {
+        return toProbability("strike".equals(pitchType) ? swingAtStrike[cell] : swingAtBall[cell]);
+    }
+
+    public double timingSigma(int batterBucket) {
+        return timingSigma[batterBucket];
+    }
+
+    public void setStrikeProbability(int cell, double probability) {
+        strikeIntent[cell] = toByte(probability);
+    }
+
+    public void setSwingProbability(int cell, String pitchType, double probability) {
+        if ("strike".equals(pitchType)) {
+            swingAtStrike[cell] = toByte(probability);
+        } else {
+            swingAtBall[cell] = toByte(probability);
+        }
+    }
+
+    public void setTimingSigma(int batterBucket, double sigma) {
+        timingSigma[batterBucket] = (float) sigma;
+    }
+
+    private static double toProbability(byte value) {
+        return (value & 0xFF) / 255.0;
+    }
+
+    private static byte toByte(double probability) {
+        return (byte) Math.round(Math.max(0.0, Math.min(1.0, probability)) * 255);
+    }
+
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.writeInt(RATING_BUCKETS);
+        data.writeInt(BaseOutState.STATES);
+        data.writeInt(COUNTS);
+        for (float sigma : timingSigma) {
+            data.writeFloat(sigma);
+        }
+        data.write(strikeIntent);
+        data.write(swingAtStrike);
+        data.write(swingAtBall);
+        data.flush();
+    }
+
+    public static PolicyTable read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC || data.readInt() != FORMAT_VERSION) {
+            throw new IOException("정책 표 형식이 올바르지 않습니다.");
+        }
+        if (data.readInt() != RATING_BUCKETS || data.readInt() != BaseOutState.STATES || data.readInt() != COUNTS) {
+            throw new IOException("정책 표 크기가 현재 버전과 다릅니다.");
+        }
+        PolicyTable table = new PolicyTable();
+        for (int i = 0; i < RATING_BUCKETS; i++) {
+            table.timingSigma[i] = data.readFloat();
+        }
+        data.readFully(table.strikeIntent);
+        data.readFully(table.swingAtStrike);
+        data.readFully(table.swingAtBall);
+        return table;
+    }
+
+    /**
+     * 클래스패스 리소스에서 표를 읽음 (없으면 null)
+     */
+    public static PolicyTable loadResource(String resource) throws IOException {
+        try (InputStream in = PolicyTable.class.getResourceAsStream(resource)) {
+            return in == null ? null : read(in);
+        }
+    }
+}
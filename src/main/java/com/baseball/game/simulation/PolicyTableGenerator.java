@@ -0,0 +1,158 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * 컴퓨터 정책 표를 시뮬레이션으로 미리 계산하는 오프라인 도구
+ *
+ * 각 칸(볼카운트, base-out 상태, 타자/투수 등급)에서 가능한 행동마다 이닝 끝까지의 득점을 롤아웃으로 추정합니다.
+ * 첫 투구만 해당 행동으로 고정하고 이후는 RatingBasedPlayStrategy를 따르며, 행동 간 비교는 같은 시드(공통 난수)를 씁니다.
+ * 기대 득점 차이를 소프트맥스로 확률로 바꾸어 저장하므로, 컴퓨터가 항상 같은 행동만 하지는 않습니다.
+ *
+ * 실행: java ... PolicyTableGenerator [출력 경로] [행동당 롤아웃 수] [시드]
+ * 기본 출력 경로는 src/main/resources/ai/policy-table.bin 입니다.
+ */
+public class PolicyTableGenerator {
+
+    private static final String DEFAULT_OUTPUT = "src/main/resources" + PolicyTable.DEFAULT_RESOURCE;
+    private static final int DEFAULT_ROLLOUTS = 2000;
+    private static final long DEFAULT_SEED = 20240601L;
+
+    /**
+     * 소프트맥스 온도 (득점 단위, 작을수록 더 좋은 행동을 확정적으로 선택)
+     */
+    private static final double TEMPERATURE = 0.05;
+
+    private static final double MIN_PROBABILITY = 0.03;
+
+    private static final String[] PITCH_TYPES = {"strike", "ball"};
+
+    private final int rollouts;
+    private final long seed;
+
+    public PolicyTableGenerator(int rollouts, long seed) {
+        this.rollouts = rollouts;
+        this.seed = seed;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path output = Paths.get(args.length > 0 ? args[0] : DEFAULT_OUTPUT);
+        int rollouts = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROLLOUTS;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+
+        long start = System.nanoTime();
+        PolicyTable table = new PolicyTableGenerator(rollouts, seed).generate(ForkJoinPool.commonPool());
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (OutputStream out = Files.newOutputStream(output)) {
+            table.write(out);
+        }
+        System.out.printf("정책 표 생성 완료: %s (롤아웃 %d, 시드 %d, %.1f초)%n",
+                output, rollouts, seed, (System.nanoTime() - start) / 1e9);
+    }
+
+    public PolicyTable generate(ForkJoinPool pool) throws InterruptedException, ExecutionException {
+        PolicyTable table = new PolicyTable();
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int batterBucket = 0; batterBucket < PolicyTable.RATING_BUCKETS; batterBucket++) {
+            table.setTimingSigma(batterBucket, RatingBasedPlayStrategy.timingSigma(representativeBatter(batterBucket)));
+            for (int pitcherBucket = 0; pitcherBucket < PolicyTable.RATING_BUCKETS; pitcherBucket++) {
+                int b = batterBucket;
+                int p = pitcherBucket;
+                tasks.add(pool.submit(() -> fillMatchup(table, b, p)));
+            }
+        }
+        for (Future<?> task : tasks) {
+            task.get();
+        }
+        return table;
+    }
+
+    /**
+     * 한 매치업(타자 등급 x 투수 등급)의 모든 칸 계산 (칸이 겹치지 않으므로 매치업끼리 병렬 실행 가능)
+     */
+    private void fillMatchup(PolicyTable table, int batterBucket, int pitcherBucket) {
+        Batter batter = representativeBatter(batterBucket);
+        Pitcher pitcher = representativePitcher(pitcherBucket);
+        for (int state = 0; state < BaseOutState.STATES; state++) {
+            for (int balls = 0; balls <= 3; balls++) {
+                for (int strikes = 0; strikes <= 2; strikes++) {
+                    int cell = PolicyTable.cell(batterBucket, pitcherBucket, state, balls, strikes);
+                    long cellSeed = GameSimulator.seedFor(seed, cell, 0L);
+
+                    // 투수: 실점이 적은 쪽을 선호
+                    double runsIfStrike = rollout(batter, pitcher, state, balls, strikes, "strike", null, cellSeed);
+                    double runsIfBall = rollout(batter, pitcher, state, balls, strikes, "ball", null, cellSeed);
+                    table.setStrikeProbability(cell, softmax(runsIfBall - runsIfStrike));
+
+                    // 타자: 득점이 많은 쪽을 선호 (투구 유형별)
+                    for (String pitchType : PITCH_TYPES) {
+                        double runsIfSwing = rollout(batter, pitcher, state, balls, strikes, pitchType, true, cellSeed);
+                        double runsIfTake = rollout(batter, pitcher, state, balls, strikes, pitchType, false, cellSeed);
+                        table.setSwingProbability(cell, pitchType, softmax(runsIfSwing - runsIfTake));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 첫 투구의 투구 유형(과 스윙 여부)을 고정하고 이닝 끝까지 진행한 평균 득점
+     * @param swing null이면 스윙 여부도 기본 전략이 결정
+     */
+    private double rollout(Batter batter, Pitcher pitcher, int state, int balls, int strikes, String pitchType,
+            Boolean swing, long cellSeed) {
+        long runs = 0;
+        for (int i = 0; i < rollouts; i++) {
+            SplittableRandom rng = new SplittableRandom(GameSimulator.seedFor(cellSeed, i, 0L));
+            GameSimulator simulator = new GameSimulator(
+                    new FirstPitchOverride(RatingBasedPlayStrategy.INSTANCE, pitchType, swing, null), 0);
+            runs += simulator.simulateRestOfInning(batter, pitcher, state, balls, strikes, rng::nextDouble);
+        }
+        return runs / (double) rollouts;
+    }
+
+    /**
+     * 값 차이(득점)를 첫 번째 행동의 선택 확률로 변환
+     */
+    private static double softmax(double advantage) {
+        double probability = 1.0 / (1.0 + Math.exp(-advantage / TEMPERATURE));
+        return Math.max(MIN_PROBABILITY, Math.min(1.0 - MIN_PROBABILITY, probability));
+    }
+
+    static Batter representativeBatter(int bucket) {
+        int rating = PolicyTable.representativeRating(bucket);
+        Batter batter = new Batter();
+        batter.setName("대표타자" + bucket);
+        batter.setContact(rating);
+        batter.setEye(rating);
+        batter.setPower(rating);
+        batter.setSpeed(rating);
+        return batter;
+    }
+
+    static Pitcher representativePitcher(int bucket) {
+        int rating = PolicyTable.representativeRating(bucket);
+        Pitcher pitcher = new Pitcher();
+        pitcher.setName("대표투수" + bucket);
+        pitcher.setControl(rating);
+        pitcher.setSpeed(rating);
+        pitcher.setMovement(rating);
+        pitcher.setStamina(rating);
+        return pitcher;
+    }
+}
@@ -0,0 +1,41 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * 미리 계산한 정책 표를 조회하여 행동을 결정하는 컴퓨터 전략 (결정마다 O(1))
+ */
+public class PolicyTablePlayStrategy implements PlayStrategy {
+
+    private final PolicyTable table;
+
+    public PolicyTablePlayStrategy(PolicyTable table) {
+        this.table = table;
+    }
+
+    @Override
+    public String choosePitchType(Pitcher pitcher, Batter batter, int state, int balls, int strikes,
+            DoubleSupplier random) {
+        int cell = PolicyTable.cell(PolicyTable.batterBucket(batter), PolicyTable.pitcherBucket(pitcher), state,
+                balls, strikes);
+        return random.getAsDouble() < table.strikeProbability(cell) ? "strike" : "ball";
+    }
+
+    @Override
+    public boolean decideSwing(Batter batter, Pitcher pitcher, String pitchType, int state, int balls, int strikes,
+            DoubleSupplier random) {
+        int cell = PolicyTable.cell(PolicyTable.batterBucket(batter), PolicyTable.pitcherBucket(pitcher), state,
+                balls, strikes);
+        return random.getAsDouble() < table.swingProbability(cell, pitchType);
+    }
+
+    @Override
+    public double chooseTiming(Batter batter, Pitcher pitcher, DoubleSupplier random) {
+        double sigma = table.timingSigma(PolicyTable.batterBucket(batter));
+        double timing = 0.5 + RatingBasedPlayStrategy.gaussian(random) * sigma;
+        return Math.max(0.0, Math.min(1.0, timing));
+    }
+}
@@ -0,0 +1,80 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * 선수 능력치 기반 기본 전략
+ * - 투구: 볼카운트가 몰리면 스트라이크, 유리하면 유인구 비율을 높임
+ * - 스윙: 선구안(eye)이 높을수록 스트라이크에 더 치고 볼에 덜 침, 2스트라이크 이후 적극적
+ * - 타이밍: 0.5를 중심으로 한 정규분포, 컨택이 높을수록 분산이 작음
+ */
+public class RatingBasedPlayStrategy implements PlayStrategy {
+
+    public static final RatingBasedPlayStrategy INSTANCE = new RatingBasedPlayStrategy();
+
+    @Override
+    public String choosePitchType(Pitcher pitcher, Batter batter, int state, int balls, int strikes,
+            DoubleSupplier random) {
+        return random.getAsDouble() < strikeIntent(balls, strikes) ? "strike" : "ball";
+    }
+
+    @Override
+    public boolean decideSwing(Batter batter, Pitcher pitcher, String pitchType, int state, int balls, int strikes,
+            DoubleSupplier random) {
+        return random.getAsDouble() < swingChance(batter, pitchType, strikes);
+    }
+
+    @Override
+    public double chooseTiming(Batter batter, Pitcher pitcher, DoubleSupplier random) {
+        double timing = 0.5 + gaussian(random) * timingSigma(batter);
+        return Math.max(0.0, Math.min(1.0, timing));
+    }
+
+    /**
+     * 스트라이크를 던질 확률 (기본 0.55, 3볼이면 +0.25, 2스트라이크면 -0.15)
+     */
+    static double strikeIntent(int balls, int strikes) {
+        double strikeIntent = 0.55;
+        if (balls == 3) {
+            strikeIntent += 0.25;
+        }
+        if (strikes == 2) {
+            strikeIntent -= 0.15;
+        }
+        return strikeIntent;
+    }
+
+    /**
+     * 스윙할 확률 (선구안 50 기준 스트라이크 0.55, 볼 0.30, 2스트라이크 이후 적극적, 0.02~0.98로 제한)
+     */
+    static double swingChance(Batter batter, String pitchType, int strikes) {
+        double eye = (batter.getEye() - 50) * 0.004;
+        double swingChance;
+        if ("strike".equals(pitchType)) {
+            swingChance = 0.55 + eye + (strikes == 2 ? 0.2 : 0.0);
+        } else {
+            swingChance = 0.30 - eye + (strikes == 2 ? 0.1 : 0.0);
+        }
+        return Math.max(0.02, Math.min(0.98, swingChance));
+    }
+
+    /**
+     * 스윙 타이밍의 표준편차 (컨택 50: 0.22, 100: 0.12)
+     */
+    static double timingSigma(Batter batter) {
+        double sigma = 0.22 - (batter.getContact() - 50) * 0.002;
+        return Math.max(0.05, Math.min(0.35, sigma));
+    }
+
+    /**
+     * Box-Muller 변환으로 표준정규분포 난수 생성
+     */
+    static double gaussian(DoubleSupplier random) {
+        double u1 = 1.0 - random.getAsDouble(); // (0, 1] 범위로 맞춰 log(0) 방지
+        double u2 = random.getAsDouble();
+        return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+    }
+}
@@ -0,0 +1,96 @@
+package com.baseball.game.simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 라운드 로빈 시즌 일정 (서클 방식)
+ * 하루(day)에는 각 팀이 최대 한 경기만 치르므로, 같은 날의 경기는 서로 독립적으로 병렬 실행할 수 있습니다.
+ * 라운드마다 홈/원정을 뒤집어 모든 팀 쌍이 홈과 원정을 번갈아 갖습니다.
+ */
+public class RoundRobinSchedule {
+
+    private final int teamCount;
+    private final List<int[][]> days; // day -> games -> {home, away}
+    private final int[] firstGameIndexOfDay; // 전체 일정에서 해당 날 첫 경기의 번호 (경기별 시드용)
+    private final int totalGames;
+
+    private RoundRobinSchedule(int teamCount, List<int[][]> days) {
+        this.teamCount = teamCount;
+        this.days = Collections.unmodifiableList(days);
+        this.firstGameIndexOfDay = new int[days.size()];
+        int index = 0;
+        for (int d = 0; d < days.size(); d++) {
+            firstGameIndexOfDay[d] = index;
+            index += days.get(d).length;
+        }
+        this.totalGames = index;
+    }
+
+    /**
+     * @param teamCount 팀 수 (홀수면 매일 한 팀은 휴식)
+     * @param rounds 모든 팀 쌍이 맞붙는 횟수
+     */
+    public static RoundRobinSchedule build(int teamCount, int rounds) {
+        if (teamCount < 2) {
+            throw new IllegalArgumentException("팀이 2개 이상 필요합니다.");
+        }
+        int slots = teamCount % 2 == 0 ? teamCount : teamCount + 1; // 홀수면 휴식(bye) 자리 추가
+        int[] rotation = new int[slots];
+        for (int i = 0; i < slots; i++) {
+            rotation[i] = i;
+        }
+
+        List<int[][]> days = new ArrayList<>();
+        for (int round = 0; round < rounds; round++) {
+            for (int day = 0; day < slots - 1; day++) {
+                List<int[]> games = new ArrayList<>(slots / 2);
+                for (int i = 0; i < slots / 2; i++) {
+                    int a = rotation[i];
+                    int b = rotation[slots - 1 - i];
+                    if (a >= teamCount || b >= teamCount) {
+                        continue; // 휴식
+                    }
+                    // 라운드마다 홈/원정을 뒤집음
+                    boolean aHome = (day + i) % 2 == 0 ^ round % 2 == 1;
+                    games.add(aHome ? new int[]{a, b} : new int[]{b, a});
+                }
+                days.add(games.toArray(new int[0][]));
+
+                // 0번은 고정하고 나머지를 한 칸씩 회전
+                int last = rotation[slots - 1];
+                System.arraycopy(rotation, 1, rotation, 2, slots - 2);
+                rotation[1] = last;
+            }
+        }
+        return new RoundRobinSchedule(teamCount, days);
+    }
+
+    public int getTeamCount() {
+        return teamCount;
+    }
+
+    public int getDayCount() {
+        return days.size();
+    }
+
+    public int[][] getGames(int day) {
+        return days.get(day);
+    }
+
+    public int getFirstGameIndex(int day) {
+        return firstGameIndexOfDay[day];
+    }
+
+    public int getTotalGames() {
+        return totalGames;
+    }
+
+    /**
+     * 팀당 경기 수
+     */
+    public int getGamesPerTeam() {
+        return totalGames * 2 / teamCount;
+    }
+}
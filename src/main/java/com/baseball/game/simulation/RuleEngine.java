@@ -0,0 +1,362 @@
+package com.baseball.game.simulation;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 경기 규칙(GameRules)과 정규 이닝 수를 미리 컴파일한 전이 표
+ *
+ * 투구 하나는 (볼, 스트라이크, 아웃, 주자) 상태와 투구 결과로 표를 한 번 조회해서 처리합니다.
+ * 표의 값에는 다음 상태, 타석 종료 여부, 득점, 타자와 각 주자가 이동할 베이스가 함께 들어 있으므로
+ * 호출하는 쪽은 분기 없이 값을 풀어서 게임 상태에 반영하기만 하면 됩니다.
+ * 이닝/경기 종료(연장, 무승부, 콜드게임, 끝내기)와 승부치기 주자는 이닝별 규칙 표를 한 번 더 조회하여 판정합니다.
+ *
+ * 상태 인코딩: ((볼 * 3 + 스트라이크) * 4 + 아웃) * 8 + 주자 (주자 비트: 1루=1, 2루=2, 3루=4)
+ * 아웃이 3인 상태는 하프 이닝 종료이며 더 이상 전이하지 않습니다.
+ */
+public final class RuleEngine {
+
+    public static final int MAX_BALLS = 4;
+    public static final int MAX_STRIKES = 3;
+    public static final int MAX_MERCY_RUNS = 99;
+
+    public static final int STATES = MAX_BALLS * MAX_STRIKES * 4 * 8;
+
+    /** 이동 위치: 0 = 아웃(베이스에서 제거), 1~3 = 해당 루, 4 = 득점 */
+    public static final int OUT = 0;
+    public static final int HOME = 4;
+    /** 이동 위치를 조회할 대상: 0 = 타자, 1~3 = 해당 루의 주자 */
+    public static final int BATTER = 0;
+
+    public static final int IN_PROGRESS = 0;
+    public static final int HOME_WIN = 1;
+    public static final int AWAY_WIN = 2;
+    public static final int TIE = 3;
+
+    private static final int INVALID = -1;
+    private static final int EVENTS = PitchEvent.values().length;
+    private static final PitchEvent[] EVENT_VALUES = PitchEvent.values();
+
+    // 전이 표 값: 다음 상태(9비트) | 타석 종료(1비트) | 득점(3비트) | 타자·1루·2루·3루 주자 이동 위치(각 3비트)
+    private static final int STATE_MASK = 0x1FF;
+    private static final int PLATE_APPEARANCE_OVER = 1 << 9;
+    private static final int RUNS_SHIFT = 10;
+    private static final int MOVE_SHIFT = 13;
+
+    // 이닝별 규칙 값: 정규 이닝 이후(1비트) | 동점 종료(1비트) | 승부치기 주자(3비트) | 콜드게임 점수 차
+    private static final int REGULATION = 1;
+    private static final int TIE_ENDS = 2;
+    private static final int GHOST_SHIFT = 2;
+    private static final int MERCY_SHIFT = 8;
+
+    private static final ConcurrentHashMap<String, RuleEngine> CACHE = new ConcurrentHashMap<>();
+
+    private final GameRules rules;
+    private final int maxInning;
+    private final int[] pitchTable;
+    private final int[] advanceTable;
+    private final int[] inningTable;
+    private final int lastInning;
+
+    private RuleEngine(GameRules rules, int maxInning) {
+        if (maxInning < 1) {
+            throw new IllegalArgumentException("정규 이닝 수는 1 이상이어야 합니다.");
+        }
+        this.rules = rules;
+        this.maxInning = maxInning;
+        this.pitchTable = compilePitchTable(rules);
+        this.advanceTable = compileAdvanceTable();
+        this.lastInning = rules.getExtraInnings() == GameRules.UNLIMITED_EXTRA_INNINGS
+                ? maxInning + 1 : maxInning + rules.getExtraInnings();
+        this.inningTable = compileInningTable(rules, maxInning, lastInning);
+    }
+
+    public static RuleEngine compile(GameRules rules, int maxInning) {
+        return new RuleEngine(rules, maxInning);
+    }
+
+    /**
+     * 미리 정의된 규칙 이름과 정규 이닝 수로 컴파일된 엔진 조회 (한 번 컴파일한 표는 모든 게임이 공유)
+     */
+    public static RuleEngine forGame(String ruleSet, int maxInning) {
+        GameRules rules = GameRules.of(ruleSet);
+        String key = rules.getName() + ":" + maxInning;
+        RuleEngine engine = CACHE.get(key);
+        return engine != null ? engine : CACHE.computeIfAbsent(key, k -> new RuleEngine(rules, maxInning));
+    }
+
+    public GameRules getRules() {
+        return rules;
+    }
+
+    public int getMaxInning() {
+        return maxInning;
+    }
+
+    public static int state(int balls, int strikes, int outs, int bases) {
+        return ((balls * MAX_STRIKES + strikes) * 4 + outs) * 8 + bases;
+    }
+
+    public static int balls(int state) {
+        return (state >> 5) / MAX_STRIKES;
+    }
+
+    public static int strikes(int state) {
+        return (state >> 5) % MAX_STRIKES;
+    }
+
+    public static int outs(int state) {
+        return (state >> 3) & 3;
+    }
+
+    public static int bases(int state) {
+        return state & 7;
+    }
+
+    /**
+     * 투구 결과 적용
+     * @return 전이 값 ({@link #nextState}, {@link #isPlateAppearanceOver}, {@link #runs}, {@link #destination}로 분리)
+     */
+    public int apply(int state, PitchEvent event) {
+        int entry = pitchTable[state * EVENTS + event.ordinal()];
+        if (entry == INVALID) {
+            throw new IllegalStateException("이닝이 끝났거나 규칙에 맞지 않는 카운트입니다: 볼 " + balls(state)
+                    + ", 스트라이크 " + strikes(state) + ", 아웃 " + outs(state));
+        }
+        return entry;
+    }
+
+    /**
+     * 타자 없이 모든 주자를 같은 수만큼 진루 (도루, 폭투 등 수동 진루)
+     * @param count 진루할 베이스 수 (4 이상이면 모든 주자 득점)
+     */
+    public int advance(int bases, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("진루할 베이스 수는 1 이상이어야 합니다.");
+        }
+        return advanceTable[bases * 4 + Math.min(count, 4) - 1];
+    }
+
+    public static int nextState(int entry) {
+        return entry & STATE_MASK;
+    }
+
+    public static boolean isPlateAppearanceOver(int entry) {
+        return (entry & PLATE_APPEARANCE_OVER) != 0;
+    }
+
+    public static int runs(int entry) {
+        return (entry >> RUNS_SHIFT) & 7;
+    }
+
+    /**
+     * @param from {@link #BATTER} 또는 주자가 있던 루(1~3)
+     * @return {@link #OUT}, 1~3, {@link #HOME}
+     */
+    public static int destination(int entry, int from) {
+        return (entry >> (MOVE_SHIFT + from * 3)) & 7;
+    }
+
+    /**
+     * 경기 종료 판정
+     * @param halfInningOver 현재 하프 이닝이 3아웃으로 끝났는지 여부
+     * @return {@link #IN_PROGRESS}, {@link #HOME_WIN}, {@link #AWAY_WIN}, {@link #TIE}
+     */
+    public int gameStatus(int inning, boolean top, boolean halfInningOver, int homeScore, int awayScore) {
+        int flags = inningTable[Math.min(inning, lastInning)];
+        int diff = homeScore - awayScore;
+        int mercy = flags >>> MERCY_SHIFT;
+        boolean homeClinched = diff > 0 && ((flags & REGULATION) != 0 || (mercy > 0 && diff >= mercy));
+        if (top) {
+            // 초 공격이 끝났을 때 홈팀이 이미 이겼으면 말 공격 없이 종료
+            return halfInningOver && homeClinched ? HOME_WIN : IN_PROGRESS;
+        }
+        if (!halfInningOver) {
+            return homeClinched ? HOME_WIN : IN_PROGRESS; // 끝내기
+        }
+        if ((flags & REGULATION) != 0) {
+            if (diff != 0) {
+                return diff > 0 ? HOME_WIN : AWAY_WIN;
+            }
+            return (flags & TIE_ENDS) != 0 ? TIE : IN_PROGRESS;
+        }
+        if (mercy > 0 && Math.abs(diff) >= mercy) {
+            return diff > 0 ? HOME_WIN : AWAY_WIN;
+        }
+        return IN_PROGRESS;
+    }
+
+    /**
+     * 하프 이닝을 시작할 때 미리 채울 베이스 (승부치기, 없으면 0)
+     */
+    public int ghostRunnerBases(int inning) {
+        return (inningTable[Math.min(inning, lastInning)] >> GHOST_SHIFT) & 7;
+    }
+
+    private static int[] compilePitchTable(GameRules rules) {
+        int[] table = new int[STATES * EVENTS];
+        for (int state = 0; state < STATES; state++) {
+            int balls = balls(state);
+            int strikes = strikes(state);
+            int outs = outs(state);
+            boolean valid = balls < rules.getBallsForWalk() && strikes < rules.getStrikesForOut() && outs < 3;
+            for (PitchEvent event : EVENT_VALUES) {
+                table[state * EVENTS + event.ordinal()] = valid
+                        ? resolve(rules, balls, strikes, outs, bases(state), event) : INVALID;
+            }
+        }
+        return table;
+    }
+
+    private static int resolve(GameRules rules, int balls, int strikes, int outs, int bases, PitchEvent event) {
+        int[] moves = stayingRunners(bases);
+        switch (event) {
+            case BALL:
+                if (balls + 1 < rules.getBallsForWalk()) {
+                    return pitch(balls + 1, strikes, outs, bases);
+                }
+                forceAdvance(bases, moves);
+                moves[BATTER] = 1;
+                return plateAppearance(outs, bases, moves);
+            case STRIKE:
+                if (strikes + 1 < rules.getStrikesForOut()) {
+                    return pitch(balls, strikes + 1, outs, bases);
+                }
+                return plateAppearance(outs + 1, bases, moves);
+            case FOUL:
+                // 삼진 직전의 파울은 카운트를 올리지 않음
+                return pitch(balls, Math.min(strikes + 1, rules.getStrikesForOut() - 1), outs, bases);
+            case STRIKEOUT:
+            case FLY_OUT:
+                return plateAppearance(outs + 1, bases, moves);
+            case GROUND_OUT:
+                // 3아웃이 아니고 1루 주자가 있으면 포스 상황의 주자만 한 베이스씩 진루 (BaseOutState와 같은 규칙)
+                if (outs + 1 < 3 && (bases & BaseOutState.FIRST) != 0) {
+                    forceAdvance(bases, moves);
+                }
+                return plateAppearance(outs + 1, bases, moves);
+            case DOUBLE_PLAY:
+                if (outs + 2 > 3 || (bases & BaseOutState.FIRST) == 0) {
+                    return resolve(rules, balls, strikes, outs, bases, PitchEvent.GROUND_OUT);
+                }
+                moves[1] = OUT;
+                return plateAppearance(outs + 2, bases, moves);
+            case HOME_RUN:
+                for (int base = 1; base <= 3; base++) {
+                    moves[base] = HOME;
+                }
+                moves[BATTER] = HOME;
+                return plateAppearance(outs, bases, moves);
+            default: {
+                // 안타/2루타/3루타: 모든 주자가 타자와 같은 수만큼 진루
+                int gained = event.ordinal() - PitchEvent.SINGLE.ordinal() + 1;
+                for (int base = 1; base <= 3; base++) {
+                    moves[base] = Math.min(base + gained, HOME);
+                }
+                moves[BATTER] = gained;
+                return plateAppearance(outs, bases, moves);
+            }
+        }
+    }
+
+    private static int[] compileAdvanceTable() {
+        int[] table = new int[8 * 4];
+        for (int bases = 0; bases < 8; bases++) {
+            for (int count = 1; count <= 4; count++) {
+                int[] moves = new int[4];
+                for (int base = 1; base <= 3; base++) {
+                    moves[base] = Math.min(base + count, HOME);
+                }
+                table[bases * 4 + count - 1] = encode(0, 0, 0, bases, moves, false);
+            }
+        }
+        return table;
+    }
+
+    private static int[] compileInningTable(GameRules rules, int maxInning, int lastInning) {
+        int[] table = new int[lastInning + 1];
+        for (int inning = 1; inning <= lastInning; inning++) {
+            int flags = 0;
+            if (inning >= maxInning) {
+                flags |= REGULATION;
+            }
+            if (rules.getExtraInnings() != GameRules.UNLIMITED_EXTRA_INNINGS && inning == lastInning) {
+                flags |= TIE_ENDS;
+            }
+            if (inning > maxInning) {
+                flags |= rules.getGhostRunnerBases() << GHOST_SHIFT;
+            }
+            if (rules.getMercyRuns() > 0 && inning >= rules.getMercyInning()) {
+                flags |= rules.getMercyRuns() << MERCY_SHIFT;
+            }
+            table[inning] = flags;
+        }
+        return table;
+    }
+
+    /**
+     * 타석이 이어지는 투구 (카운트만 변경, 주자는 그대로)
+     */
+    private static int pitch(int balls, int strikes, int outs, int bases) {
+        return encode(balls, strikes, outs, bases, stayingRunners(bases), false);
+    }
+
+    /**
+     * 타석이 끝나는 투구 (카운트 초기화)
+     */
+    private static int plateAppearance(int outs, int bases, int[] moves) {
+        return encode(0, 0, outs, bases, moves, true);
+    }
+
+    private static int encode(int balls, int strikes, int outs, int bases, int[] moves, boolean plateAppearanceOver) {
+        int runs = 0;
+        int nextBases = 0;
+        if (outs >= 3) {
+            // 3아웃이면 득점 없이 주자를 모두 정리 (포스 아웃 우선)
+            outs = 3;
+            balls = 0;
+            strikes = 0;
+            moves = new int[4];
+        } else {
+            for (int from = 0; from <= 3; from++) {
+                boolean occupied = from == BATTER ? plateAppearanceOver : (bases & (1 << (from - 1))) != 0;
+                if (!occupied) {
+                    moves[from] = OUT;
+                } else if (moves[from] == HOME) {
+                    runs++;
+                } else if (moves[from] != OUT) {
+                    nextBases |= 1 << (moves[from] - 1);
+                }
+            }
+        }
+        int entry = state(balls, strikes, outs, nextBases) | runs << RUNS_SHIFT;
+        for (int from = 0; from <= 3; from++) {
+            entry |= moves[from] << (MOVE_SHIFT + from * 3);
+        }
+        return plateAppearanceOver ? entry | PLATE_APPEARANCE_OVER : entry;
+    }
+
+    private static int[] stayingRunners(int bases) {
+        int[] moves = new int[4];
+        for (int base = 1; base <= 3; base++) {
+            moves[base] = (bases & (1 << (base - 1))) != 0 ? base : OUT;
+        }
+        return moves;
+    }
+
+    /**
+     * 타자가 1루로 나갈 때 밀려나는 주자만 진루 (볼넷 규칙)
+     */
+    private static void forceAdvance(int bases, int[] moves) {
+        if ((bases & BaseOutState.FIRST) == 0) {
+            return;
+        }
+        moves[1] = 2;
+        if ((bases & BaseOutState.SECOND) == 0) {
+            return;
+        }
+        moves[2] = 3;
+        if ((bases & BaseOutState.THIRD) != 0) {
+            moves[3] = HOME;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.baseball.game.simulation;
+
+/**
+ * 타순의 기대 득점 표 (MarkovRunEstimator.solve 결과)
+ * - 타순 위치별 RE24: (base-out 상태, 타석에 선 타자)에서 이닝 종료까지의 기대 득점
+ * - 선두타자별 이닝 기대 득점과 다음 이닝 선두타자 확률
+ * 경기 기대 득점은 선두타자 분포를 이닝마다 전이시켜 계산합니다.
+ */
+public class RunExpectancy {
+
+    private final int size;
+    private final double[] values; // [상태 * size + 타자]
+    private final double[] nextLeadoff; // [선두타자 * size + 다음 이닝 선두타자]
+
+    RunExpectancy(int size, double[] values, double[] nextLeadoff) {
+        this.size = size;
+        this.values = values;
+        this.nextLeadoff = nextLeadoff;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @param state base-out 상태 (0~23)
+     * @param batter 타석에 선 타자의 타순 인덱스 (0부터)
+     * @return 이닝 종료까지의 기대 득점
+     */
+    public double getExpectedRuns(int state, int batter) {
+        return values[state * size + batter];
+    }
+
+    /**
+     * 선두타자가 leadoff인 이닝의 기대 득점
+     */
+    public double getInningRuns(int leadoff) {
+        return values[leadoff];
+    }
+
+    /**
+     * 선두타자가 leadoff인 이닝이 끝난 뒤 다음 이닝 선두타자가 next일 확률
+     */
+    public double getNextLeadoffProbability(int leadoff, int next) {
+        return nextLeadoff[leadoff * size + next];
+    }
+
+    /**
+     * 1번 타자부터 시작해 innings 이닝을 공격할 때의 기대 득점
+     */
+    public double perGame(int innings) {
+        double[] leadoffProbability = new double[size];
+        leadoffProbability[0] = 1.0;
+        double total = 0.0;
+        for (int inning = 0; inning < innings; inning++) {
+            double[] next = new double[size];
+            for (int leadoff = 0; leadoff < size; leadoff++) {
+                double p = leadoffProbability[leadoff];
+                if (p == 0.0) {
+                    continue;
+                }
+                total += p * getInningRuns(leadoff);
+                for (int k = 0; k < size; k++) {
+                    next[k] += p * nextLeadoff[leadoff * size + k];
+                }
+            }
+            leadoffProbability = next;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,94 @@
+package com.baseball.game.simulation;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 라운드 로빈 일정 한 시즌을 fork/join 풀에서 병렬로 시뮬레이션
+ * 일정의 날짜 구간을 반으로 나누어 fork 하고, 각 날짜의 경기는 경기별 시드로 독립 실행한 뒤 성적을 병합합니다.
+ * 경기 시드는 (기준 시드, 반복 번호, 경기 번호)로만 정해지므로 스레드 수나 실행 순서와 관계없이 결과가 재현됩니다.
+ */
+public class SeasonSimulator {
+
+    /**
+     * 한 작업이 직접 처리할 최대 날짜 수 (이보다 크면 분할)
+     */
+    private static final int DAYS_PER_TASK = 2;
+
+    private final GameEngine gameEngine;
+    private final RoundRobinSchedule schedule;
+    private final List<List<SimulationLineup>> rotations; // 팀 -> 선발 로테이션 순서의 라인업
+    private final int maxInning;
+
+    /**
+     * @param rotations 팀 번호 순서의 선발 로테이션 (날짜마다 다음 투수가 선발)
+     */
+    public SeasonSimulator(GameEngine gameEngine, RoundRobinSchedule schedule,
+            List<List<SimulationLineup>> rotations, int maxInning) {
+        if (rotations.size() != schedule.getTeamCount()) {
+            throw new IllegalArgumentException("일정의 팀 수와 라인업 수가 다릅니다.");
+        }
+        this.gameEngine = gameEngine;
+        this.schedule = schedule;
+        this.rotations = rotations;
+        this.maxInning = maxInning;
+    }
+
+    public SeasonTally simulate(ForkJoinPool pool, long baseSeed, int iteration) {
+        return pool.invoke(new DayRangeTask(baseSeed, iteration, 0, schedule.getDayCount()));
+    }
+
+    public RoundRobinSchedule getSchedule() {
+        return schedule;
+    }
+
+    private SeasonTally simulateDays(long baseSeed, int iteration, int fromDay, int toDay) {
+        SeasonTally tally = new SeasonTally(schedule.getTeamCount());
+        for (int day = fromDay; day < toDay; day++) {
+            int[][] games = schedule.getGames(day);
+            int gameIndex = schedule.getFirstGameIndex(day);
+            for (int[] game : games) {
+                SimulationLineup home = starter(game[0], day);
+                SimulationLineup away = starter(game[1], day);
+                long seed = GameSimulator.seedFor(baseSeed, iteration, gameIndex++);
+                tally.record(game[0], game[1], gameEngine.simulate(home, away, maxInning, seed));
+            }
+        }
+        return tally;
+    }
+
+    private SimulationLineup starter(int team, int day) {
+        List<SimulationLineup> rotation = rotations.get(team);
+        return rotation.get(day % rotation.size());
+    }
+
+    private final class DayRangeTask extends RecursiveTask<SeasonTally> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long baseSeed;
+        private final int iteration;
+        private final int fromDay;
+        private final int toDay;
+
+        DayRangeTask(long baseSeed, int iteration, int fromDay, int toDay) {
+            this.baseSeed = baseSeed;
+            this.iteration = iteration;
+            this.fromDay = fromDay;
+            this.toDay = toDay;
+        }
+
+        @Override
+        protected SeasonTally compute() {
+            if (toDay - fromDay <= DAYS_PER_TASK) {
+                return simulateDays(baseSeed, iteration, fromDay, toDay);
+            }
+            int mid = (fromDay + toDay) >>> 1;
+            DayRangeTask left = new DayRangeTask(baseSeed, iteration, fromDay, mid);
+            left.fork();
+            SeasonTally right = new DayRangeTask(baseSeed, iteration, mid, toDay).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.dto.SeasonProjection;
+import com.baseball.game.dto.TeamSeasonProjection;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 반복 시즌 결과를 누적하여 팀별 승수 분포와 포스트시즌 진출 확률을 계산
+ * 순위는 승수, 득실차 순으로 정하고 그래도 같으면 시즌별 시드로 추첨합니다.
+ * 반복마다 한 스레드(시뮬레이션 진행 스레드)에서만 호출한다고 가정합니다.
+ */
+public class SeasonStandingsAccumulator {
+
+    private final List<String> teamNames;
+    private final int gamesPerTeam;
+    private final int playoffSpots;
+
+    private final long[][] winHistogram; // 팀 -> 승수 -> 시즌 수
+    private final long[] totalWins;
+    private final long[] totalLosses;
+    private final long[] totalTies;
+    private final long[] playoffAppearances;
+    private final long[] firstPlaceFinishes;
+    private int iterations;
+
+    public SeasonStandingsAccumulator(List<String> teamNames, int gamesPerTeam, int playoffSpots) {
+        int teamCount = teamNames.size();
+        this.teamNames = teamNames;
+        this.gamesPerTeam = gamesPerTeam;
+        this.playoffSpots = Math.min(playoffSpots, teamCount);
+        this.winHistogram = new long[teamCount][gamesPerTeam + 1];
+        this.totalWins = new long[teamCount];
+        this.totalLosses = new long[teamCount];
+        this.totalTies = new long[teamCount];
+        this.playoffAppearances = new long[teamCount];
+        this.firstPlaceFinishes = new long[teamCount];
+    }
+
+    public void add(SeasonTally season, long tiebreakSeed) {
+        int teamCount = teamNames.size();
+        SplittableRandom tiebreak = new SplittableRandom(tiebreakSeed);
+        long[] tiebreakKeys = new long[teamCount];
+        List<Integer> ranking = new ArrayList<>(teamCount);
+        for (int team = 0; team < teamCount; team++) {
+            int wins = season.getWins(team);
+            winHistogram[team][wins]++;
+            totalWins[team] += wins;
+            totalLosses[team] += season.getLosses(team);
+            totalTies[team] += season.getTies(team);
+            tiebreakKeys[team] = tiebreak.nextLong();
+            ranking.add(team);
+        }
+
+        ranking.sort(Comparator.<Integer>comparingInt(season::getWins).reversed()
+                .thenComparing(Comparator.<Integer>comparingInt(season::getRunDifferential).reversed())
+                .thenComparingLong(team -> tiebreakKeys[team]));
+        for (int rank = 0; rank < playoffSpots; rank++) {
+            playoffAppearances[ranking.get(rank)]++;
+        }
+        firstPlaceFinishes[ranking.get(0)]++;
+        iterations++;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * 현재까지 누적된 분포의 스냅샷 (평균 승수 내림차순)
+     */
+    public SeasonProjection snapshot(long seed, int iterationsRequested, boolean finished) {
+        double n = Math.max(1, iterations);
+        List<TeamSeasonProjection> teams = new ArrayList<>(teamNames.size());
+        for (int team = 0; team < teamNames.size(); team++) {
+            TeamSeasonProjection projection = new TeamSeasonProjection();
+            projection.setTeamName(teamNames.get(team));
+            projection.setAverageWins(totalWins[team] / n);
+            projection.setAverageLosses(totalLosses[team] / n);
+            projection.setAverageTies(totalTies[team] / n);
+            projection.setPlayoffOdds(playoffAppearances[team] / n);
+            projection.setFirstPlaceOdds(firstPlaceFinishes[team] / n);
+            projection.setWinDistribution(winHistogram[team].clone());
+            teams.add(projection);
+        }
+        teams.sort(Comparator.comparingDouble(TeamSeasonProjection::getAverageWins).reversed());
+
+        SeasonProjection projection = new SeasonProjection();
+        projection.setSeed(seed);
+        projection.setIterationsCompleted(iterations);
+        projection.setIterationsRequested(iterationsRequested);
+        projection.setGamesPerTeam(gamesPerTeam);
+        projection.setFinished(finished);
+        projection.setTeams(teams);
+        return projection;
+    }
+}
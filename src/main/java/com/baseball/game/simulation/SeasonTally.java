@@ -0,0 +1,68 @@
+package com.baseball.game.simulation;
+
+/**
+ * 한 시즌(또는 일부 일정)의 팀별 성적 합계
+ */
+public class SeasonTally {
+
+    private final int[] wins;
+    private final int[] losses;
+    private final int[] ties;
+    private final int[] runDifferential;
+
+    public SeasonTally(int teamCount) {
+        this.wins = new int[teamCount];
+        this.losses = new int[teamCount];
+        this.ties = new int[teamCount];
+        this.runDifferential = new int[teamCount];
+    }
+
+    public void record(int home, int away, SimulatedGame game) {
+        if (game.isHomeWin()) {
+            wins[home]++;
+            losses[away]++;
+        } else if (game.isAwayWin()) {
+            wins[away]++;
+            losses[home]++;
+        } else {
+            ties[home]++;
+            ties[away]++;
+        }
+        int diff = game.getHomeScore() - game.getAwayScore();
+        runDifferential[home] += diff;
+        runDifferential[away] -= diff;
+    }
+
+    /**
+     * 다른 합계를 더함 (fork/join 결과 병합용)
+     */
+    public SeasonTally merge(SeasonTally other) {
+        for (int i = 0; i < wins.length; i++) {
+            wins[i] += other.wins[i];
+            losses[i] += other.losses[i];
+            ties[i] += other.ties[i];
+            runDifferential[i] += other.runDifferential[i];
+        }
+        return this;
+    }
+
+    public int getTeamCount() {
+        return wins.length;
+    }
+
+    public int getWins(int team) {
+        return wins[team];
+    }
+
+    public int getLosses(int team) {
+        return losses[team];
+    }
+
+    public int getTies(int team) {
+        return ties[team];
+    }
+
+    public int getRunDifferential(int team) {
+        return runDifferential[team];
+    }
+}
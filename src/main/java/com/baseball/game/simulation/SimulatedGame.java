@@ -0,0 +1,41 @@
+package com.baseball.game.simulation;
+
+/**
+ * 시뮬레이션 경기 결과
+ */
+public class SimulatedGame {
+
+    private final int homeScore;
+    private final int awayScore;
+    private final int innings;
+
+    public SimulatedGame(int homeScore, int awayScore, int innings) {
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+        this.innings = innings;
+    }
+
+    public int getHomeScore() {
+        return homeScore;
+    }
+
+    public int getAwayScore() {
+        return awayScore;
+    }
+
+    public int getInnings() {
+        return innings;
+    }
+
+    public boolean isHomeWin() {
+        return homeScore > awayScore;
+    }
+
+    public boolean isAwayWin() {
+        return awayScore > homeScore;
+    }
+
+    public boolean isTie() {
+        return homeScore == awayScore;
+    }
+}
@@ -0,0 +1,48 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 시뮬레이션용 팀 구성 (타순 + 선발투수)
+ */
+public class SimulationLineup {
+
+    private final String teamName;
+    private final Batter[] battingOrder;
+    private final Pitcher pitcher;
+
+    public SimulationLineup(String teamName, List<Batter> battingOrder, Pitcher pitcher) {
+        if (battingOrder == null || battingOrder.isEmpty()) {
+            throw new IllegalArgumentException("타순이 비어 있습니다: " + teamName);
+        }
+        if (pitcher == null) {
+            throw new IllegalArgumentException("선발투수가 없습니다: " + teamName);
+        }
+        this.teamName = teamName;
+        this.battingOrder = battingOrder.toArray(new Batter[0]);
+        this.pitcher = pitcher;
+    }
+
+    /**
+     * 같은 타순으로 선발투수만 바꾼 구성 (로테이션용)
+     */
+    public SimulationLineup withPitcher(Pitcher startingPitcher) {
+        return new SimulationLineup(teamName, Arrays.asList(battingOrder), startingPitcher);
+    }
+
+    public String getTeamName() {
+        return teamName;
+    }
+
+    public Batter[] getBattingOrder() {
+        return battingOrder;
+    }
+
+    public Pitcher getPitcher() {
+        return pitcher;
+    }
+}
@@ -4,15 +4,65 @@ import com.baseball.game.dto.Batter;
 import com.baseball.game.dto.Pitcher;
 import com.baseball.game.dto.GameDto;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.function.DoubleSupplier;
+
 public class GameLogicUtil {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameLogicUtil.class);
+
+    private static final String[] HIT_RESULTS = {"땅볼 아웃", "뜬공 아웃", "안타", "2루타", "3루타", "홈런"};
+
+    /**
+     * 확률 상수 (시작 시 클래스패스의 GameModelParameters.DEFAULT_RESOURCE를 읽고, 없거나 잘못되면 기본값)
+     */
+    private static volatile GameModelParameters parameters = loadDefaultParameters();
+
+    /**
+     * 기본 난수원 (실제 게임 진행용)
+     * 시뮬레이션에서는 게임별 시드 난수원을 넘겨 같은 결과를 재현할 수 있습니다.
+     */
+    private static final DoubleSupplier DEFAULT_RANDOM = Math::random;
+
+    public static GameModelParameters getParameters() {
+        return parameters;
+    }
+
+    /**
+     * 확률 상수 교체 (이후 시작하는 판정과 시뮬레이션부터 적용)
+     */
+    public static void setParameters(GameModelParameters newParameters) {
+        if (newParameters == null) {
+            throw new IllegalArgumentException("게임 모델 파라미터가 없습니다.");
+        }
+        parameters = newParameters;
+    }
+
+    private static GameModelParameters loadDefaultParameters() {
+        try {
+            GameModelParameters loaded = GameModelParameters.loadResource(GameModelParameters.DEFAULT_RESOURCE);
+            if (loaded != null) {
+                return loaded;
+            }
+        } catch (IOException e) {
+            logger.warn("게임 모델 파라미터를 읽지 못해 기본값을 사용합니다: {}", e.getMessage());
+        }
+        return GameModelParameters.DEFAULT;
+    }
+
     /**
      * 투수의 제구력에 따라 실제 결과가 바뀌는 투구 결과 결정
      */
     public static String determinePitchResult(Pitcher pitcher, String pitchType) {
-        int control = pitcher.getControl();
-        double baseProb = 0.7 + (control - 50) * 0.006; // 제구력 50: 70%, 100: 100%, 0: 40%
-        baseProb = Math.max(0.4, Math.min(1.0, baseProb));
-        double rand = Math.random();
+        return determinePitchResult(pitcher, pitchType, DEFAULT_RANDOM);
+    }
+
+    public static String determinePitchResult(Pitcher pitcher, String pitchType, DoubleSupplier random) {
+        double baseProb = parameters.strikeAccuracy(pitcher.getControl()); // 기본값: 제구력 50: 70%, 100: 100%, 0: 40%
+        double rand = random.getAsDouble();
         if (rand < baseProb) {
             return pitchType.equals("strike") ? "스트라이크" : "볼";
         } else {
@@ -54,19 +104,24 @@ public class GameLogicUtil {
      */
     public static String determineHitResultWithTiming(boolean swing, Pitcher pitcher, String pitchType, double timing,
             Batter batter) {
+        return determineHitResultWithTiming(swing, pitcher, pitchType, timing, batter, DEFAULT_RANDOM);
+    }
+
+    public static String determineHitResultWithTiming(boolean swing, Pitcher pitcher, String pitchType, double timing,
+            Batter batter, DoubleSupplier random) {
         if (!swing) {
-            return determinePitchResult(pitcher, pitchType);
+            return determinePitchResult(pitcher, pitchType, random);
         }
+        GameModelParameters model = parameters;
 
         // 투수가 볼을 던졌을 때 컨택 능력치에 따른 처리
         if ("ball".equals(pitchType)) {
             // 컨택 능력치에 따라 볼을 맞출 확률 계산
-            double contactChance = 0.1 + (batter.getContact() - 50) * 0.01; // 컨택 50: 10%, 100: 60%
-            contactChance = Math.max(0.05, Math.min(0.8, contactChance)); // 5%~80% 범위
+            double contactChance = model.ballContactChance(batter.getContact()); // 기본값: 컨택 50: 10%, 100: 60% (5%~80% 범위)
 
-            if (Math.random() < contactChance) {
+            if (random.getAsDouble() < contactChance) {
                 // 볼을 맞췄으면 타격 결과로 처리
-                return determineHitResultByTiming(timing);
+                return determineHitResultByTiming(model, timing, random);
             } else {
                 // 볼을 못 맞췄으면 헛스윙
                 return "헛스윙";
@@ -76,80 +131,48 @@ public class GameLogicUtil {
         // 스트라이크 존 공에 대한 헛스윙 확률 계산 (타이밍이 나쁠수록 헛스윙 확률 증가)
         double missChance = 0.0;
         if (timing < 0.3 || timing > 0.7) {
-            missChance = 0.4; // 매우 나쁜 타이밍: 40% 헛스윙
+            missChance = model.getMissChance(3); // 매우 나쁜 타이밍 (기본 40% 헛스윙)
         } else if (timing < 0.4 || timing > 0.6) {
-            missChance = 0.2; // 나쁜 타이밍: 20% 헛스윙
+            missChance = model.getMissChance(2); // 나쁜 타이밍 (기본 20% 헛스윙)
         } else if (timing < 0.45 || timing > 0.55) {
-            missChance = 0.1; // 준정타: 10% 헛스윙
+            missChance = model.getMissChance(1); // 준정타 (기본 10% 헛스윙)
         } else {
-            missChance = 0.05; // 정타: 5% 헛스윙
+            missChance = model.getMissChance(0); // 정타 (기본 5% 헛스윙)
         }
 
         // 헛스윙 체크
-        if (Math.random() < missChance) {
+        if (random.getAsDouble() < missChance) {
             return "헛스윙";
         }
 
-        return determineHitResultByTiming(timing);
+        return determineHitResultByTiming(model, timing, random);
     }
 
     /**
      * 타이밍에 따른 타격 결과 결정 (볼 스윙 처리 후 사용)
      */
-    private static String determineHitResultByTiming(double timing) {
-        double rand = Math.random();
+    private static String determineHitResultByTiming(GameModelParameters model, double timing,
+            DoubleSupplier random) {
+        double rand = random.getAsDouble();
+        int level;
         if (timing >= 0.45 && timing <= 0.55) {
-            // 정타: 장타 확률 증가
-            if (rand < 0.10) {
-                return "땅볼 아웃";
-            } else if (rand < 0.30) {
-                return "뜬공 아웃";
-            } else if (rand < 0.55) {
-                return "안타";
-            } else if (rand < 0.75) {
-                return "2루타";
-            } else if (rand < 0.90) {
-                return "3루타";
-            } else {
-                return "홈런";
-            }
+            level = 0; // 정타: 장타 확률 증가
         } else if (timing >= 0.35 && timing <= 0.65) {
-            // 준정타: 기본 확률
-            if (rand < 0.15) {
-                return "땅볼 아웃";
-            } else if (rand < 0.55) {
-                return "뜬공 아웃";
-            } else if (rand < 0.75) {
-                return "안타";
-            } else if (rand < 0.85) {
-                return "2루타";
-            } else if (rand < 0.95) {
-                return "3루타";
-            } else {
-                return "홈런";
-            }
+            level = 1; // 준정타: 기본 확률
         } else {
-            // 헛스윙: 아웃 확률 증가
-            if (rand < 0.20) {
-                return "땅볼 아웃";
-            } else if (rand < 0.70) {
-                return "뜬공 아웃";
-            } else if (rand < 0.80) {
-                return "안타";
-            } else if (rand < 0.90) {
-                return "2루타";
-            } else if (rand < 0.97) {
-                return "3루타";
-            } else {
-                return "홈런";
-            }
+            level = 2; // 빗맞음: 아웃 확률 증가
         }
+        return HIT_RESULTS[model.sampleHit(level, rand)];
     }
 
     /**
      * 땅볼 처리: 병살/진루/아웃
      */
     public static String processGroundBall(GameDto game, Batter batter) {
+        return processGroundBall(game, batter, DEFAULT_RANDOM);
+    }
+
+    public static String processGroundBall(GameDto game, Batter batter, DoubleSupplier random) {
         Batter[] bases = game.getBases();
         int out = game.getOut();
         // 2아웃이면 병살 불가, 타자만 아웃
@@ -159,7 +182,7 @@ public class GameLogicUtil {
         }
         // 1루에 주자 있는 경우
         if (bases[1] != null) {
-            if (Math.random() < 0.3) { // 30% 병살
+            if (random.getAsDouble() < parameters.getDoublePlayChance()) { // 기본 30% 병살
                 game.setOut(out + 2);
                 bases[1] = null;
                 return "병살타!";
@@ -205,4 +228,4 @@ public class GameLogicUtil {
             }
         }
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,277 @@
+package com.baseball.game.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * GameLogicUtil의 확률 상수 묶음 (버전이 있는 불변 객체)
+ * 기본값은 수작업으로 정한 원래 상수이고, ModelCalibrator가 리그 평균 기록에 맞춘 값을 properties 파일로 만듭니다.
+ * 버전 문자열은 결과 캐시 키에 들어가므로, 값이 바뀌면 버전도 바꿔야 합니다.
+ */
+public final class GameModelParameters {
+
+    /**
+     * 클래스패스 기본 파라미터 파일 (GameLogicUtil이 시작할 때 읽음)
+     */
+    public static final String DEFAULT_RESOURCE = "/simulation/game-model.properties";
+
+    /**
+     * 헛스윙 확률 구간 수 (정타, 준정타, 나쁜 타이밍, 매우 나쁜 타이밍)
+     */
+    public static final int MISS_LEVELS = 4;
+
+    /**
+     * 타구 분포 구간 수 (정타, 준정타, 빗맞음)
+     */
+    public static final int HIT_LEVELS = 3;
+
+    /**
+     * 타구 결과 수 (땅볼, 뜬공, 안타, 2루타, 3루타, 홈런)
+     */
+    public static final int HIT_OUTCOMES = 6;
+
+    private static final String[] HIT_LEVEL_NAMES = {"perfect", "semi", "poor"};
+
+    private static final MathContext SIGNIFICANT_DIGITS = new MathContext(6);
+
+    public static final GameModelParameters DEFAULT = new GameModelParameters("baseline-1",
+            0.7, 0.006, 0.1, 0.01,
+            new double[]{0.05, 0.10, 0.20, 0.40},
+            new double[][]{
+                    {0.10, 0.20, 0.25, 0.20, 0.15, 0.10},
+                    {0.15, 0.40, 0.20, 0.10, 0.10, 0.05},
+                    {0.20, 0.50, 0.10, 0.10, 0.07, 0.03},
+            },
+            0.3);
+
+    private final String version;
+    private final double controlBase; // 제구력 50일 때 의도대로 들어갈 확률
+    private final double controlSlope; // 제구력 1당 증가량
+    private final double ballContactBase; // 컨택 50일 때 볼을 맞출 확률
+    private final double ballContactSlope; // 컨택 1당 증가량
+    private final double[] missChance;
+    private final double[][] hitDistribution;
+    private final double[][] hitCumulative;
+    private final double doublePlayChance;
+
+    public GameModelParameters(String version, double controlBase, double controlSlope, double ballContactBase,
+            double ballContactSlope, double[] missChance, double[][] hitDistribution, double doublePlayChance) {
+        if (version == null || version.trim().isEmpty()) {
+            throw new IllegalArgumentException("파라미터 버전은 필수입니다.");
+        }
+        if (missChance.length != MISS_LEVELS || hitDistribution.length != HIT_LEVELS) {
+            throw new IllegalArgumentException("헛스윙/타구 분포 구간 수가 맞지 않습니다.");
+        }
+        for (double chance : missChance) {
+            requireProbability(chance, "헛스윙 확률");
+        }
+        requireProbability(doublePlayChance, "병살 확률");
+        this.version = version.trim();
+        this.controlBase = controlBase;
+        this.controlSlope = controlSlope;
+        this.ballContactBase = ballContactBase;
+        this.ballContactSlope = ballContactSlope;
+        this.missChance = missChance.clone();
+        this.hitDistribution = new double[HIT_LEVELS][];
+        this.hitCumulative = new double[HIT_LEVELS][HIT_OUTCOMES];
+        for (int level = 0; level < HIT_LEVELS; level++) {
+            double[] distribution = hitDistribution[level];
+            if (distribution.length != HIT_OUTCOMES) {
+                throw new IllegalArgumentException("타구 결과 수가 맞지 않습니다.");
+            }
+            double sum = 0.0;
+            for (int k = 0; k < HIT_OUTCOMES; k++) {
+                requireProbability(distribution[k], "타구 확률");
+                sum += distribution[k];
+                hitCumulative[level][k] = sum;
+            }
+            if (Math.abs(sum - 1.0) > 1e-6) {
+                throw new IllegalArgumentException("타구 분포의 합이 1이 아닙니다: " + HIT_LEVEL_NAMES[level]);
+            }
+            hitCumulative[level][HIT_OUTCOMES - 1] = 1.0;
+            this.hitDistribution[level] = distribution.clone();
+        }
+        this.doublePlayChance = doublePlayChance;
+    }
+
+    private static void requireProbability(double value, String name) {
+        if (!(value >= 0.0 && value <= 1.0)) {
+            throw new IllegalArgumentException(name + "은(는) 0~1 사이여야 합니다: " + value);
+        }
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * 투구가 의도대로(스트라이크/볼) 들어갈 확률 (40% ~ 100%)
+     */
+    public double strikeAccuracy(int control) {
+        return Math.max(0.4, Math.min(1.0, controlBase + (control - 50) * controlSlope));
+    }
+
+    /**
+     * 볼에 스윙했을 때 맞출 확률 (5% ~ 80%)
+     */
+    public double ballContactChance(int contact) {
+        return Math.max(0.05, Math.min(0.8, ballContactBase + (contact - 50) * ballContactSlope));
+    }
+
+    /**
+     * @param level 0: 정타, 1: 준정타, 2: 나쁜 타이밍, 3: 매우 나쁜 타이밍
+     */
+    public double getMissChance(int level) {
+        return missChance[level];
+    }
+
+    /**
+     * @param level 0: 정타, 1: 준정타, 2: 빗맞음
+     * @return 땅볼, 뜬공, 안타, 2루타, 3루타, 홈런 확률 (복사본)
+     */
+    public double[] getHitDistribution(int level) {
+        return hitDistribution[level].clone();
+    }
+
+    /**
+     * 타구 분포에서 결과 하나 뽑기
+     * @return 0: 땅볼, 1: 뜬공, 2: 안타, 3: 2루타, 4: 3루타, 5: 홈런
+     */
+    public int sampleHit(int level, double rand) {
+        double[] cumulative = hitCumulative[level];
+        int outcome = 0;
+        while (outcome < HIT_OUTCOMES - 1 && rand >= cumulative[outcome]) {
+            outcome++;
+        }
+        return outcome;
+    }
+
+    public double getDoublePlayChance() {
+        return doublePlayChance;
+    }
+
+    public double getControlBase() {
+        return controlBase;
+    }
+
+    public double getControlSlope() {
+        return controlSlope;
+    }
+
+    public double getBallContactBase() {
+        return ballContactBase;
+    }
+
+    public double getBallContactSlope() {
+        return ballContactSlope;
+    }
+
+    /**
+     * properties 형식으로 저장
+     * @param comment 파일 머리 주석 (보정 목표/결과 등, null 가능)
+     */
+    public void write(OutputStream out, String comment) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("version", version);
+        properties.setProperty("control.base", format(controlBase));
+        properties.setProperty("control.slope", format(controlSlope));
+        properties.setProperty("contact.ballBase", format(ballContactBase));
+        properties.setProperty("contact.ballSlope", format(ballContactSlope));
+        properties.setProperty("miss.chance", join(missChance));
+        for (int level = 0; level < HIT_LEVELS; level++) {
+            properties.setProperty("hit." + HIT_LEVEL_NAMES[level], join(hitDistribution[level]));
+        }
+        properties.setProperty("doublePlay.chance", format(doublePlayChance));
+        properties.store(out, comment);
+    }
+
+    public static GameModelParameters read(InputStream in) throws IOException {
+        Properties properties = new Properties();
+        properties.load(in);
+        try {
+            double[][] hits = new double[HIT_LEVELS][];
+            for (int level = 0; level < HIT_LEVELS; level++) {
+                hits[level] = split(required(properties, "hit." + HIT_LEVEL_NAMES[level]));
+            }
+            return new GameModelParameters(required(properties, "version"),
+                    Double.parseDouble(required(properties, "control.base")),
+                    Double.parseDouble(required(properties, "control.slope")),
+                    Double.parseDouble(required(properties, "contact.ballBase")),
+                    Double.parseDouble(required(properties, "contact.ballSlope")),
+                    split(required(properties, "miss.chance")),
+                    hits,
+                    Double.parseDouble(required(properties, "doublePlay.chance")));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("게임 모델 파라미터 형식이 올바르지 않습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 클래스패스 리소스에서 읽음 (없으면 null)
+     */
+    public static GameModelParameters loadResource(String resource) throws IOException {
+        try (InputStream in = GameModelParameters.class.getResourceAsStream(resource)) {
+            return in == null ? null : read(in);
+        }
+    }
+
+    private static String required(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            throw new IllegalArgumentException("항목이 없습니다: " + key);
+        }
+        return value.trim();
+    }
+
+    private static double[] split(String value) {
+        String[] parts = value.split(",");
+        double[] values = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Double.parseDouble(parts[i].trim());
+        }
+        return values;
+    }
+
+    private static String join(double[] values) {
+        StringBuilder out = new StringBuilder();
+        for (double value : values) {
+            if (out.length() > 0) {
+                out.append(',');
+            }
+            out.append(format(value));
+        }
+        return out.toString();
+    }
+
+    private static String format(double value) {
+        // 보정 결과도 사람이 읽기 쉽도록 유효숫자 6자리로 저장
+        return BigDecimal.valueOf(value).round(SIGNIFICANT_DIGITS).stripTrailingZeros().toPlainString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof GameModelParameters)) {
+            return false;
+        }
+        GameModelParameters that = (GameModelParameters) other;
+        return version.equals(that.version) && controlBase == that.controlBase && controlSlope == that.controlSlope
+                && ballContactBase == that.ballContactBase && ballContactSlope == that.ballContactSlope
+                && Arrays.equals(missChance, that.missChance) && Arrays.deepEquals(hitDistribution, that.hitDistribution)
+                && doublePlayChance == that.doublePlayChance;
+    }
+
+    @Override
+    public int hashCode() {
+        return version.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "GameModelParameters[" + version + "]";
+    }
+}
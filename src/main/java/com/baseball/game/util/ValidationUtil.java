@@ -9,11 +9,35 @@ public class ValidationUtil {
             throw new ValidationException("게임 ID는 필수입니다.");
         }
 
-        if (!gameId.matches("^[a-zA-Z0-9-]+$")) {
+        if (!isValidGameIdFormat(gameId)) {
             throw new ValidationException("게임 ID는 영문자, 숫자, 하이픈만 허용됩니다.");
         }
     }
 
+    /**
+     * 게임 ID 형식 검사 (^[a-zA-Z0-9-]+$와 동일, 매 호출 정규식 컴파일/Matcher 할당 없이 문자 단위로 검사)
+     */
+    public static boolean isValidGameIdFormat(String gameId) {
+        if (gameId == null || gameId.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < gameId.length(); i++) {
+            char c = gameId.charAt(i);
+            boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-';
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 투구 타입 검사 ("strike" 또는 "ball")
+     */
+    public static boolean isValidPitchType(String pitchType) {
+        return "strike".equals(pitchType) || "ball".equals(pitchType);
+    }
+
     public static void validateTiming(Double timing) {
         if (timing == null) {
             throw new ValidationException("타이밍 값은 필수입니다.");
@@ -35,7 +59,7 @@ public class ValidationUtil {
             throw new ValidationException("투구 타입은 필수입니다.");
         }
 
-        if (!pitchType.equals("strike") && !pitchType.equals("ball")) {
+        if (!isValidPitchType(pitchType)) {
             throw new ValidationException("투구 타입은 'strike' 또는 'ball'이어야 합니다.");
         }
     }
@@ -79,4 +103,4 @@ public class ValidationUtil {
             throw new ValidationException("최대 이닝 수는 3에서 9사이여야 합니다.");
         }
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
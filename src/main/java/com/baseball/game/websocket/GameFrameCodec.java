@@ -0,0 +1,195 @@
+package com.baseball.game.websocket;
+
+import com.baseball.game.dto.CompactGameState;
+import com.baseball.game.dto.GameCommandRequest;
+import com.baseball.game.exception.ValidationException;
+import com.baseball.game.simulation.PitchEvent;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * WebSocket 바이너리 프레임 변환 (모바일 클라이언트용 고정 길이 프레임, 빅 엔디언)
+ *
+ * 명령 프레임 (클라이언트 -> 서버, 6바이트)
+ * <pre>
+ * [0]    명령 (1: 투구, 2: 스윙, 3: 다음 이닝)
+ * [1..2] 요청 번호 (응답 프레임에 그대로 담아 돌려줌)
+ * [3]    인자 (투구: 0=볼, 1=스트라이크 / 스윙: 0=노스윙, 1=스윙)
+ * [4..5] 스윙 타이밍 (0 ~ 10000 = 0.0 ~ 1.0, 노스윙이면 0xFFFF)
+ * </pre>
+ *
+ * 상태 프레임 (서버 -> 클라이언트, 14바이트)
+ * <pre>
+ * [0]      0x80
+ * [1..2]   요청 번호 (접속 직후 상태는 0)
+ * [3]      판정 (0: 없음, 그 외 PitchEvent 순서 + 1)
+ * [4]      볼(2비트) &lt;&lt; 4 | 스트라이크(2비트) &lt;&lt; 2 | 아웃(2비트)
+ * [5]      주자 비트(1루=1, 2루=2, 3루=4) | 초 공격 &lt;&lt; 3 | 게임 종료 &lt;&lt; 4 | 승리 팀(0: 없음, 1: 홈, 2: 원정, 3: 무승부) &lt;&lt; 5
+ * [6]      이닝
+ * [7]      원정팀 점수 (최대 255)
+ * [8]      홈팀 점수 (최대 255)
+ * [9]      현재 타순 인덱스
+ * [10..13] 상태 버전 (하위 32비트)
+ * </pre>
+ *
+ * 오류 프레임 (서버 -> 클라이언트): [0] 0x81, [1..2] 요청 번호, [3..] UTF-8 메시지 (최대 MAX_ERROR_BYTES바이트)
+ */
+public final class GameFrameCodec {
+
+    public static final int COMMAND_FRAME_LENGTH = 6;
+    public static final int STATE_FRAME_LENGTH = 14;
+    public static final int MAX_ERROR_BYTES = 200;
+
+    public static final byte OP_PITCH = 1;
+    public static final byte OP_SWING = 2;
+    public static final byte OP_NEXT_INNING = 3;
+
+    public static final byte FRAME_STATE = (byte) 0x80;
+    public static final byte FRAME_ERROR = (byte) 0x81;
+
+    public static final int NO_TIMING = 0xFFFF;
+    public static final int TIMING_SCALE = 10_000;
+
+    public static final int WINNER_NONE = 0;
+    public static final int WINNER_HOME = 1;
+    public static final int WINNER_AWAY = 2;
+    public static final int WINNER_TIE = 3;
+
+    private GameFrameCodec() {
+    }
+
+    /**
+     * 요청 번호 읽기 (프레임이 잘못되어도 오류 응답에 담을 수 있도록 명령 해석과 분리)
+     */
+    public static int sequence(ByteBuffer frame) {
+        return frame.remaining() >= 3 ? frame.getShort(frame.position() + 1) & 0xFFFF : 0;
+    }
+
+    /**
+     * 명령 프레임을 일괄 명령과 같은 GameCommandRequest로 변환
+     * @throws ValidationException 프레임 길이, 명령, 인자가 잘못된 경우
+     */
+    public static GameCommandRequest decodeCommand(String gameId, ByteBuffer frame) {
+        if (frame.remaining() != COMMAND_FRAME_LENGTH) {
+            throw new ValidationException("명령 프레임은 " + COMMAND_FRAME_LENGTH + "바이트여야 합니다.");
+        }
+        int start = frame.position();
+        byte opcode = frame.get(start);
+        int argument = frame.get(start + 3) & 0xFF;
+        int timing = frame.getShort(start + 4) & 0xFFFF;
+
+        GameCommandRequest command = new GameCommandRequest();
+        command.setGameId(gameId);
+        switch (opcode) {
+            case OP_PITCH:
+                command.setType("pitch");
+                command.setPitchType(flag(argument) ? "strike" : "ball");
+                break;
+            case OP_SWING:
+                command.setType("swing");
+                command.setSwing(flag(argument));
+                if (timing != NO_TIMING) {
+                    if (timing > TIMING_SCALE) {
+                        throw new ValidationException("타이밍 값은 0에서 " + TIMING_SCALE + " 사이여야 합니다.");
+                    }
+                    command.setTiming(timing / (double) TIMING_SCALE);
+                }
+                break;
+            case OP_NEXT_INNING:
+                command.setType("next-inning");
+                break;
+            default:
+                throw new ValidationException("알 수 없는 명령 코드입니다: " + opcode);
+        }
+        return command;
+    }
+
+    /**
+     * 명령 프레임 생성 (클라이언트 구현과 테스트용)
+     * @param timing 스윙 타이밍 (노스윙이거나 없으면 null)
+     */
+    public static ByteBuffer encodeCommand(byte opcode, int sequence, boolean argument, Double timing) {
+        ByteBuffer frame = ByteBuffer.allocate(COMMAND_FRAME_LENGTH);
+        frame.put(opcode);
+        frame.putShort((short) sequence);
+        frame.put((byte) (argument ? 1 : 0));
+        frame.putShort((short) (timing != null ? (int) Math.round(timing * TIMING_SCALE) : NO_TIMING));
+        frame.flip();
+        return frame;
+    }
+
+    /**
+     * 상태 프레임 생성
+     * @param result 판정 문자열 (없으면 null)
+     */
+    public static ByteBuffer encodeState(int sequence, String result, CompactGameState state) {
+        ByteBuffer frame = ByteBuffer.allocate(STATE_FRAME_LENGTH);
+        frame.put(FRAME_STATE);
+        frame.putShort((short) sequence);
+        frame.put((byte) resultCode(result));
+        frame.put((byte) (bits(state.getBall(), 3) << 4 | bits(state.getStrike(), 3) << 2 | bits(state.getOut(), 3)));
+        frame.put((byte) (bits(state.getBases(), 7) | (state.isTop() ? 1 : 0) << 3
+                | (state.isGameOver() ? 1 : 0) << 4 | winner(state) << 5));
+        frame.put((byte) bits(state.getInning(), 0xFF));
+        frame.put((byte) bits(state.getAwayScore(), 0xFF));
+        frame.put((byte) bits(state.getHomeScore(), 0xFF));
+        frame.put((byte) bits(state.getBattingSlot(), 0xFF));
+        frame.putInt((int) state.getVersion());
+        frame.flip();
+        return frame;
+    }
+
+    /**
+     * 오류 프레임 생성 (메시지가 길면 UTF-8 문자 경계에서 자름)
+     */
+    public static ByteBuffer encodeError(int sequence, String message) {
+        byte[] text = (message != null ? message : "").getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(text.length, MAX_ERROR_BYTES);
+        while (length < text.length && length > 0 && (text[length] & 0xC0) == 0x80) {
+            length--; // 다음 바이트가 이어지는 바이트이면 문자 중간이므로 한 칸씩 당김
+        }
+        ByteBuffer frame = ByteBuffer.allocate(3 + length);
+        frame.put(FRAME_ERROR);
+        frame.putShort((short) sequence);
+        frame.put(Arrays.copyOf(text, length));
+        frame.flip();
+        return frame;
+    }
+
+    /**
+     * 판정 문자열 -> 판정 코드 (다음 이닝 등 투구 판정이 아니면 0)
+     */
+    public static int resultCode(String result) {
+        if (result == null) {
+            return 0;
+        }
+        try {
+            return PitchEvent.fromResult(result).ordinal() + 1;
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+    }
+
+    private static int winner(CompactGameState state) {
+        if (!state.isGameOver()) {
+            return WINNER_NONE;
+        }
+        if (state.getHomeScore() == state.getAwayScore()) {
+            return WINNER_TIE;
+        }
+        return state.getHomeScore() > state.getAwayScore() ? WINNER_HOME : WINNER_AWAY;
+    }
+
+    private static boolean flag(int argument) {
+        if (argument > 1) {
+            throw new ValidationException("명령 인자는 0 또는 1이어야 합니다.");
+        }
+        return argument == 1;
+    }
+
+    private static int bits(int value, int max) {
+        return Math.max(0, Math.min(value, max));
+    }
+}
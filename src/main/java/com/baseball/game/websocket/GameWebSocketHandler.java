@@ -0,0 +1,187 @@
+package com.baseball.game.websocket;
+
+import com.baseball.game.config.RateLimiter;
+import com.baseball.game.dto.CompactGameState;
+import com.baseball.game.dto.GameCommandRequest;
+import com.baseball.game.dto.GameCommandResult;
+import com.baseball.game.exception.ValidationException;
+import com.baseball.game.metrics.MetricsRegistry;
+import com.baseball.game.service.GameCommandExecutor;
+import com.baseball.game.service.GameService;
+import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게임 WebSocket 핸들러 (/ws/game?gameId=..., 바이너리 프레임 형식은 GameFrameCodec 참고)
+ * 명령은 HTTP 일괄 명령과 같은 GameService 명령으로 게임별 실행기에 제출하고, 처리가 끝나면 상태 프레임을 보냅니다.
+ * 수신 스레드는 명령을 제출만 하고 바로 돌아가므로 연결마다 스레드를 잡아두지 않으며,
+ * 응답 전송은 ConcurrentWebSocketSessionDecorator로 직렬화합니다. (느린 클라이언트는 버퍼 한도를 넘으면 연결 종료)
+ * 명령 프레임은 HTTP 게임 명령과 같은 요청 제한기(gameRateLimiter)로 회원/접속 IP별 한도를 적용합니다.
+ */
+@Component
+public class GameWebSocketHandler extends BinaryWebSocketHandler implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameWebSocketHandler.class);
+
+    private static final int SEND_TIME_LIMIT_MILLIS = 5_000;
+    private static final int SEND_BUFFER_LIMIT_BYTES = 64 * 1024;
+    private static final int MAX_PENDING_COMMANDS = 32; // 연결 하나가 처리 대기시킬 수 있는 명령 수
+
+    private static final String GAME_ID = "gameId";
+    private static final String SENDER = "sender";
+    private static final String PENDING = "pending";
+
+    @Setter(onMethod_ = @Autowired)
+    private GameService service;
+
+    @Setter(onMethod_ = @Autowired)
+    private GameCommandExecutor commandExecutor;
+
+    @Setter(onMethod_ = @Autowired)
+    private MetricsRegistry metrics;
+
+    @Setter(onMethod_ = {@Autowired, @Qualifier("gameRateLimiter")})
+    private RateLimiter rateLimiter;
+
+    private final AtomicInteger openSessions = new AtomicInteger();
+
+    @Override
+    public void afterPropertiesSet() {
+        metrics.gauge("websocket.sessions", openSessions::get);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        String gameId = session.getUri() != null
+                ? UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams().getFirst(GAME_ID)
+                : null;
+        if (gameId == null || gameId.trim().isEmpty()) {
+            session.close(CloseStatus.BAD_DATA.withReason("게임 ID는 필수입니다."));
+            return;
+        }
+        WebSocketSession sender = new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MILLIS, SEND_BUFFER_LIMIT_BYTES);
+        session.getAttributes().put(GAME_ID, gameId);
+        session.getAttributes().put(SENDER, sender);
+        session.getAttributes().put(PENDING, new AtomicInteger());
+        openSessions.incrementAndGet();
+        logger.info("게임 {}: WebSocket 연결 ({})", gameId, session.getId());
+
+        // 접속 직후 현재 상태 전송 (진행 중인 명령 뒤에 조회하도록 같은 게임별 실행기 사용)
+        commandExecutor.submit(gameId, () -> CompactGameState.of(service.getGame(gameId)))
+                .whenComplete((state, error) -> {
+                    if (error != null) {
+                        send(sender, GameFrameCodec.encodeError(0, "게임 정보를 찾을 수 없습니다: " + rootMessage(error)));
+                    } else {
+                        send(sender, GameFrameCodec.encodeState(0, null, state));
+                    }
+                });
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
+        String gameId = (String) session.getAttributes().get(GAME_ID);
+        WebSocketSession sender = (WebSocketSession) session.getAttributes().get(SENDER);
+        AtomicInteger pending = (AtomicInteger) session.getAttributes().get(PENDING);
+        if (sender == null) {
+            return; // 연결 수립 단계에서 거부된 세션
+        }
+        ByteBuffer frame = message.getPayload();
+        int sequence = GameFrameCodec.sequence(frame);
+        metrics.increment("websocket.commands");
+        if (rateLimiter.acquire(clientKey(session)) > 0) {
+            send(sender, GameFrameCodec.encodeError(sequence, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+            return;
+        }
+
+        GameCommandRequest command;
+        try {
+            command = GameFrameCodec.decodeCommand(gameId, frame);
+        } catch (ValidationException e) {
+            send(sender, GameFrameCodec.encodeError(sequence, e.getMessage()));
+            return;
+        }
+        if (pending.incrementAndGet() > MAX_PENDING_COMMANDS) {
+            pending.decrementAndGet();
+            send(sender, GameFrameCodec.encodeError(sequence, "처리 대기 중인 명령이 너무 많습니다. 응답을 받은 뒤 다시 보내주세요."));
+            return;
+        }
+
+        service.submitCommand(sequence, command).whenComplete((result, error) -> {
+            pending.decrementAndGet();
+            send(sender, encodeResult(sequence, result, error));
+        });
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        logger.warn("게임 {}: WebSocket 전송 오류 ({}): {}", session.getAttributes().get(GAME_ID), session.getId(), exception.getMessage());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        if (session.getAttributes().remove(SENDER) != null) {
+            openSessions.decrementAndGet();
+            logger.info("게임 {}: WebSocket 연결 종료 ({}, {})", session.getAttributes().get(GAME_ID), session.getId(), status);
+        }
+    }
+
+    /**
+     * 요청 제한 키 (RateLimitInterceptor.clientKey와 같은 형식: 인증된 회원이면 "u:회원ID", 아니면 "ip:접속IP")
+     */
+    static String clientKey(WebSocketSession session) {
+        if (session.getPrincipal() != null) {
+            return "u:" + session.getPrincipal().getName();
+        }
+        InetSocketAddress remote = session.getRemoteAddress();
+        if (remote == null) {
+            return "ip:unknown";
+        }
+        return "ip:" + (remote.getAddress() != null ? remote.getAddress().getHostAddress() : remote.getHostString());
+    }
+
+    private static ByteBuffer encodeResult(int sequence, GameCommandResult result, Throwable error) {
+        if (error != null) {
+            return GameFrameCodec.encodeError(sequence, "명령 처리 중 오류가 발생했습니다: " + rootMessage(error));
+        }
+        if (!result.isSuccess()) {
+            return GameFrameCodec.encodeError(sequence, result.getMessage());
+        }
+        return GameFrameCodec.encodeState(sequence, result.getResult(), result.getState());
+    }
+
+    private void send(WebSocketSession sender, ByteBuffer frame) {
+        if (!sender.isOpen()) {
+            return;
+        }
+        try {
+            sender.sendMessage(new BinaryMessage(frame));
+        } catch (IOException | RuntimeException e) {
+            // 전송 한도 초과 시 데코레이터가 세션을 닫으므로 여기서는 기록만 함
+            logger.warn("WebSocket 응답 전송 실패 ({}): {}", sender.getId(), e.getMessage());
+        }
+    }
+
+    private static String rootMessage(Throwable error) {
+        Throwable cause = error;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+}
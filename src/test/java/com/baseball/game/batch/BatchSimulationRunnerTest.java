@@ -0,0 +1,83 @@
+package com.baseball.game.batch;
+
+import com.baseball.game.simulation.GameSimulator;
+import com.baseball.game.simulation.SimulationLineup;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchSimulationRunnerTest {
+
+    private static final String ROSTER = String.join("\n",
+            "# 테스트 로스터",
+            "batter,TEAM1,TEAM1-타자1,70,60,50",
+            "batter,TEAM1,TEAM1-타자2,40,80,45",
+            "pitcher,TEAM1,TEAM1-투수1,60,70",
+            "pitcher,TEAM1,TEAM1-투수2,50,50",
+            "",
+            "batter,TEAM2,TEAM2-타자1,55,55,55",
+            "pitcher,TEAM2,TEAM2-투수1,65,60");
+
+    /**
+     * 같은 시드면 스레드 수와 관계없이 출력이 같아야 하고, 블록 경계를 넘어도 경기 번호가 이어져야 합니다.
+     */
+    @Test
+    void run_스레드수무관_같은출력() throws Exception {
+        List<List<SimulationLineup>> rotations = RosterFileReader.read(
+                new BufferedReader(new StringReader(ROSTER)), "test");
+        BatchSimulationRunner runner = new BatchSimulationRunner(new GameSimulator(), rotations, 9);
+        long games = BatchSimulationRunner.BLOCK_SIZE * 2 + 5;
+
+        String single = run(runner, games, 1);
+        String parallel = run(runner, games, 4);
+
+        assertEquals(single, parallel);
+        String[] lines = single.split("\n");
+        assertEquals(games + 1, lines.length);
+        assertEquals("game,home,away,home_score,away_score,innings,result", lines[0]);
+        assertTrue(lines[lines.length - 1].startsWith((games - 1) + ",TEAM1,TEAM2,"));
+    }
+
+    /**
+     * 로스터 파일에서 팀별 타순과 선발 로테이션을 읽습니다.
+     */
+    @Test
+    void read_타순과_로테이션() throws Exception {
+        List<List<SimulationLineup>> rotations = RosterFileReader.read(
+                new BufferedReader(new StringReader(ROSTER)), "test");
+
+        assertEquals(2, rotations.size());
+        assertEquals(2, rotations.get(0).size());
+        assertEquals("TEAM1-타자2", rotations.get(0).get(1).getBattingOrder()[1].getName());
+        assertEquals("TEAM1-투수2", rotations.get(0).get(1).getPitcher().getName());
+        assertThrows(IllegalArgumentException.class, () -> RosterFileReader.read(
+                new BufferedReader(new StringReader("batter,TEAM1,타자,높음,50,50")), "test"));
+    }
+
+    /**
+     * CSV 형식은 쉼표가 들어간 팀 이름을 따옴표로 감쌉니다.
+     */
+    @Test
+    void quote_CSV_쉼표() {
+        assertEquals("\"TEAM,2\"", BatchOutputFormat.CSV.quote("TEAM,2"));
+        assertEquals("\"A\\\"B\"", BatchOutputFormat.NDJSON.quote("A\"B"));
+    }
+
+    private static String run(BatchSimulationRunner runner, long games, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            StringWriter out = new StringWriter();
+            assertEquals(games, runner.run(games, 42L, BatchOutputFormat.CSV, out, executor, threads * 2));
+            return out.toString();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
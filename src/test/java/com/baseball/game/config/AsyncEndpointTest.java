@@ -0,0 +1,95 @@
+package com.baseball.game.config;
+
+import com.baseball.game.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncEndpointTest {
+
+    /**
+     * 서비스 호출 결과는 전용 실행기 스레드에서 DeferredResult로 전달되어야 합니다.
+     */
+    @Test
+    void supply_성공결과전달() throws Exception {
+        AsyncEndpoint endpoint = new AsyncEndpoint("test-ok", 2, 4, 5_000, new MetricsRegistry());
+        try {
+            DeferredResult<String> result = endpoint.supply(() -> Thread.currentThread().getName(), () -> "혼잡");
+            awaitResult(result);
+            assertTrue(((String) result.getResult()).startsWith("async-test-ok-"));
+        } finally {
+            endpoint.shutdown();
+        }
+    }
+
+    /**
+     * 서비스 예외는 fallback이 아닌 오류 결과로 전달되어야 합니다. (GlobalExceptionHandler가 처리)
+     */
+    @Test
+    void supply_서비스예외_오류결과() throws Exception {
+        AsyncEndpoint endpoint = new AsyncEndpoint("test-error", 1, 1, 5_000, new MetricsRegistry());
+        try {
+            IllegalStateException failure = new IllegalStateException("DB 오류");
+            DeferredResult<String> result = endpoint.supply(() -> {
+                throw failure;
+            }, () -> "혼잡");
+            awaitResult(result);
+            assertSame(failure, result.getResult());
+        } finally {
+            endpoint.shutdown();
+        }
+    }
+
+    /**
+     * 스레드와 대기열이 모두 차면 실행하지 않고 즉시 fallback 응답을 돌려줘야 합니다.
+     */
+    @Test
+    void supply_대기열초과_즉시fallback() throws Exception {
+        AsyncEndpoint endpoint = new AsyncEndpoint("test-full", 1, 1, 5_000, new MetricsRegistry());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            DeferredResult<String> running = endpoint.supply(() -> {
+                started.countDown();
+                await(release);
+                return "실행";
+            }, () -> "혼잡");
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            DeferredResult<String> queued = endpoint.supply(() -> "대기 후 실행", () -> "혼잡");
+            DeferredResult<String> rejected = endpoint.supply(() -> "실행되면 안 됨", () -> "혼잡");
+
+            assertTrue(rejected.hasResult());
+            assertEquals("혼잡", rejected.getResult());
+            assertFalse(queued.hasResult());
+
+            release.countDown();
+            awaitResult(running);
+            awaitResult(queued);
+            assertEquals("실행", running.getResult());
+            assertEquals("대기 후 실행", queued.getResult());
+        } finally {
+            release.countDown();
+            endpoint.shutdown();
+        }
+    }
+
+    private static void awaitResult(DeferredResult<?> result) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!result.hasResult() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertTrue(result.hasResult());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.baseball.game.config;
+
+import com.baseball.game.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimitInterceptorTest {
+
+    /**
+     * 같은 IP에서 X-User-Id 헤더를 바꿔가며 보내도 IP 한도를 넘으면 429로 거절해야 합니다.
+     */
+    @Test
+    void preHandle_헤더변경해도_IP한도적용() throws Exception {
+        RateLimitInterceptor interceptor = new RateLimitInterceptor("test", 2, 0.001, 100, new MetricsRegistry());
+
+        assertTrue(interceptor.preHandle(request("10.0.0.1", "user-1"), new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(request("10.0.0.1", "user-2"), new MockHttpServletResponse(), null));
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(request("10.0.0.1", "user-3"), rejected, null));
+        assertEquals(429, rejected.getStatus());
+        assertNotNull(rejected.getHeader("Retry-After"));
+
+        assertTrue(interceptor.preHandle(request("10.0.0.2", "user-3"), new MockHttpServletResponse(), null)); // 다른 IP는 별도 버킷
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String userIdHeader) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/baseball/game/g1/pitch");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("X-User-Id", userIdHeader);
+        return request;
+    }
+}
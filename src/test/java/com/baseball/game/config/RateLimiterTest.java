@@ -0,0 +1,112 @@
+package com.baseball.game.config;
+
+import com.baseball.game.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    /**
+     * 버킷 크기만큼 몰아 보낸 뒤에는 거부하고, 토큰이 다시 생길 때까지 남은 시간을 돌려줘야 합니다.
+     */
+    @Test
+    void acquire_버킷소진후_거부와대기시간() {
+        AtomicLong now = new AtomicLong(-5 * SECOND); // nanoTime은 음수일 수 있음
+        RateLimiter limiter = new RateLimiter("test", 3, 2.0, 100, now::get, new MetricsRegistry());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.acquire("u:1"));
+        }
+        assertEquals(SECOND / 2, limiter.acquire("u:1"));
+        assertEquals(0, limiter.acquire("u:2")); // 다른 키는 별도 버킷
+
+        now.addAndGet(SECOND / 2);
+        assertEquals(0, limiter.acquire("u:1"));
+        assertTrue(limiter.acquire("u:1") > 0);
+
+        now.addAndGet(10 * SECOND); // 오래 쉬어도 버킷 크기 이상 쌓이지 않음
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.acquire("u:1"));
+        }
+        assertTrue(limiter.acquire("u:1") > 0);
+    }
+
+    /**
+     * 일괄 요청의 추가 비용은 거부 없이 청구하고, 한도를 넘긴 만큼 같은 키의 다음 요청을 기다리게 해야 합니다.
+     */
+    @Test
+    void charge_한도초과분_다음요청대기() {
+        AtomicLong now = new AtomicLong(0);
+        RateLimiter limiter = new RateLimiter("test", 20, 10.0, 100, now::get, new MetricsRegistry());
+        assertEquals(0, limiter.acquire("ip:1"));
+        limiter.charge("ip:1", 99); // 명령 100개짜리 일괄 요청: 토큰 20개를 넘긴 80개는 8초 빚
+
+        assertEquals(8 * SECOND + SECOND / 10, limiter.acquire("ip:1"));
+        assertEquals(0, limiter.acquire("ip:2")); // 다른 키는 영향 없음
+
+        now.set(8 * SECOND + SECOND / 10);
+        assertEquals(0, limiter.acquire("ip:1"));
+        assertTrue(limiter.acquire("ip:1") > 0);
+    }
+
+    /**
+     * 키 표가 가득 차면 가득 찬 버킷부터 지우고, 모두 사용 중이면 새 키는 공용 버킷을 나눠 써야 합니다.
+     */
+    @Test
+    void acquire_키표가득참_정리후공용버킷() {
+        AtomicLong now = new AtomicLong(0);
+        RateLimiter limiter = new RateLimiter("test", 1, 1.0, 2, now::get, new MetricsRegistry());
+        assertEquals(0, limiter.acquire("a"));
+        assertEquals(0, limiter.acquire("b"));
+        assertEquals(2, limiter.size());
+
+        // a, b 모두 토큰을 다 쓴 상태라 지울 수 없음 -> c, d는 공용 버킷 하나를 나눠 씀
+        assertEquals(0, limiter.acquire("c"));
+        assertTrue(limiter.acquire("d") > 0);
+        assertEquals(2, limiter.size());
+
+        now.set(SECOND); // a, b 버킷이 다시 가득 참 -> 정리 후 새 키 등록
+        assertEquals(0, limiter.acquire("e"));
+        assertEquals(1, limiter.size());
+    }
+
+    /**
+     * 여러 스레드가 같은 키로 동시에 요청해도 정확히 버킷 크기만큼만 허용해야 합니다.
+     */
+    @Test
+    void acquire_동시요청_버킷크기만큼만허용() throws InterruptedException {
+        RateLimiter limiter = new RateLimiter("test", 100, 1.0, 100, () -> 0L, new MetricsRegistry());
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    ready.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 100; i++) {
+                    if (limiter.acquire("ip:127.0.0.1") == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        ready.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(100, allowed.get());
+    }
+}
@@ -0,0 +1,87 @@
+package com.baseball.game.controller;
+
+import com.baseball.game.dto.GameDto;
+import com.baseball.game.metrics.MetricsRegistry;
+import com.baseball.game.service.GameCommandExecutor;
+import com.baseball.game.service.GameService;
+import com.baseball.game.service.IdempotencyCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+public class GameControllerETagTest {
+
+    private GameService gameService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        gameService = mock(GameService.class);
+        GameController controller = new GameController();
+        controller.setService(gameService);
+        controller.setCommandExecutor(new GameCommandExecutor(Runnable::run));
+        controller.setIdempotency(new IdempotencyCache(new MetricsRegistry()));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        GameDto game = new GameDto();
+        game.setGameId("testId");
+        when(gameService.getGame("testId")).thenReturn(game);
+        when(gameService.getGameStats("testId")).thenReturn("게임 ID: testId");
+    }
+
+    /**
+     * 게임 조회는 상태 버전을 ETag로 내려주고, 같은 버전으로 If-None-Match 요청하면 게임을 조회/직렬화하지 않고 304를 반환해야 합니다.
+     */
+    @Test
+    void getGame_같은버전_304() throws Exception {
+        when(gameService.getGameVersion("testId")).thenReturn(7L);
+
+        MockHttpServletResponse first = mockMvc.perform(get("/api/baseball/game/testId")).andReturn().getResponse();
+        assertEquals(200, first.getStatus());
+        assertEquals("\"game-7\"", first.getHeader("ETag"));
+
+        MockHttpServletResponse cached = mockMvc.perform(get("/api/baseball/game/testId").header("If-None-Match", "\"game-7\""))
+                .andReturn().getResponse();
+        assertEquals(304, cached.getStatus());
+        assertEquals("", cached.getContentAsString());
+        verify(gameService, times(1)).getGame("testId"); // 304 응답에서는 게임을 조회하지 않음
+    }
+
+    /**
+     * 명령으로 버전이 바뀌면 예전 ETag로 요청해도 새 상태와 새 ETag를 받아야 합니다.
+     */
+    @Test
+    void getGame_버전변경_새상태() throws Exception {
+        when(gameService.getGameVersion("testId")).thenReturn(8L);
+
+        MockHttpServletResponse response = mockMvc.perform(get("/api/baseball/game/testId").header("If-None-Match", "\"game-7\""))
+                .andReturn().getResponse();
+        assertEquals(200, response.getStatus());
+        assertEquals("\"game-8\"", response.getHeader("ETag"));
+        assertTrue(response.getContentAsString().contains("\"gameId\":\"testId\""));
+    }
+
+    /**
+     * 통계 조회는 게임 조회와 다른 접두사의 ETag를 쓰므로 게임 조회의 ETag로는 304가 되지 않아야 합니다.
+     */
+    @Test
+    void getGameStats_표현별ETag() throws Exception {
+        when(gameService.getGameVersion("testId")).thenReturn(7L);
+
+        MockHttpServletResponse other = mockMvc.perform(get("/api/baseball/game/testId/stats").header("If-None-Match", "\"game-7\""))
+                .andReturn().getResponse();
+        assertEquals(200, other.getStatus());
+        assertEquals("\"stats-7\"", other.getHeader("ETag"));
+
+        MockHttpServletResponse cached = mockMvc.perform(get("/api/baseball/game/testId/stats").header("If-None-Match", "\"stats-7\""))
+                .andReturn().getResponse();
+        assertEquals(304, cached.getStatus());
+        verify(gameService, times(1)).getGameStats("testId");
+    }
+}
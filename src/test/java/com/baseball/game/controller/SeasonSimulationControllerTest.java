@@ -0,0 +1,44 @@
+package com.baseball.game.controller;
+
+import com.baseball.game.exception.GlobalExceptionHandler;
+import com.baseball.game.service.SeasonSimulationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+public class SeasonSimulationControllerTest {
+
+    /**
+     * 시즌 실행기 대기열이 가득 차면 SSE 요청이어도 success: false와 메시지를 담은 JSON을 503으로 응답해야 합니다.
+     */
+    @Test
+    void simulateSeason_대기열초과_503() throws Exception {
+        SeasonSimulationService service = mock(SeasonSimulationService.class);
+        when(service.simulateSeason(any(), any()))
+                .thenThrow(new RejectedExecutionException("진행 중인 시즌 시뮬레이션이 많습니다. 잠시 후 다시 시도해 주세요."));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new SeasonSimulationController(service))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        MockHttpServletResponse response = mockMvc.perform(post("/api/season/simulate")
+                .contentType("application/json")
+                .accept("text/event-stream")
+                .content("{\"iterations\":100,\"rounds\":1}"))
+                .andReturn().getResponse();
+
+        assertEquals(503, response.getStatus());
+        assertTrue(response.getContentType().startsWith("application/json"));
+        String body = response.getContentAsString(StandardCharsets.UTF_8);
+        assertTrue(body.contains("\"success\":false"));
+        assertTrue(body.contains("잠시 후 다시 시도해 주세요"));
+    }
+}
@@ -0,0 +1,319 @@
+package com.baseball.game.loadtest;
+
+import com.baseball.game.config.AsyncEndpoint;
+import com.baseball.game.config.VirtualThreads;
+import com.baseball.game.controller.GameController;
+import com.baseball.game.exception.GlobalExceptionHandler;
+import com.baseball.game.metrics.LatencyHistogram;
+import com.baseball.game.metrics.MetricsRegistry;
+import com.baseball.game.service.GameCommandExecutor;
+import com.baseball.game.service.GameServiceImpl;
+import com.baseball.game.service.IdempotencyCache;
+import com.baseball.game.service.RosterCache;
+import com.baseball.game.service.ScoreboardIndex;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * GameController 종단 간 부하 테스트 하네스 (MockMvc + 실제 GameServiceImpl)
+ * 동시 클라이언트 수를 단계적으로 늘리면서 각 클라이언트가 게임 생성 → 양 팀 라인업 설정 →
+ * 종료까지 투구/스윙을 반복합니다. 단계마다 처리량, 엔드포인트별 지연시간 분위수, 오류율,
+ * 힙 사용량을 출력하고, 투구 p99가 SLO를 넘으면 그 직전 단계를 수용 가능한 동시 게임 수로 보고합니다.
+ *
+ * 실행 예: java -Dload.stages=500,1000,2000,4000 -Dload.sloP99Ms=50 ... GameLoadHarness
+ * 설정 (시스템 프로퍼티):
+ *  load.stages        단계별 동시 클라이언트 수 (기본 250,500,1000,2000)
+ *  load.stageSeconds  단계별 실행 시간 (기본 60)
+ *  load.thinkMs       요청 간 평균 생각 시간, 지수 분포 (기본 300)
+ *  load.sloP99Ms      투구/스윙 p99 SLO (기본 50)
+ *  load.dbDelayMicros 매퍼 호출당 모의 DB 지연 (기본 500)
+ *  load.teams         시드 로스터 팀 수 (기본 10)
+ *  load.maxInning     게임 이닝 수 (기본 9)
+ */
+public class GameLoadHarness {
+
+    private static final int MAX_ACTIONS_PER_GAME = 2_000; // 진행이 막힌 게임의 무한 루프 방지
+    private static final int REPORT_INTERVAL_SECONDS = 5;
+
+    private final MockMvc mockMvc;
+    private final SeededRoster roster;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final long thinkMs;
+    private final int maxInning;
+
+    public GameLoadHarness(SeededRoster roster, long thinkMs, int maxInning) {
+        this.roster = roster;
+        this.thinkMs = thinkMs;
+        this.maxInning = maxInning;
+
+        GameServiceImpl service = new GameServiceImpl();
+        service.setBatterMapper(roster.batterMapper());
+        service.setPitcherMapper(roster.pitcherMapper());
+        MetricsRegistry metrics = new MetricsRegistry();
+        service.setMetrics(metrics);
+        GameCommandExecutor commandExecutor = new GameCommandExecutor(
+                VirtualThreads.newExecutor("game-command", Runtime.getRuntime().availableProcessors() * 2));
+        service.setCommandExecutor(commandExecutor);
+        IdempotencyCache idempotency = new IdempotencyCache(metrics);
+        service.setIdempotency(idempotency);
+        service.setScoreboard(new ScoreboardIndex(metrics));
+        service.setRosterCache(new RosterCache(metrics));
+        GameController controller = new GameController();
+        controller.setService(service);
+        controller.setCommandExecutor(commandExecutor);
+        controller.setIdempotency(idempotency);
+        controller.setAsync(AsyncEndpoint.game(metrics));
+        this.mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        List<Integer> stages = new ArrayList<>();
+        for (String stage : System.getProperty("load.stages", "250,500,1000,2000").split(",")) {
+            stages.add(Integer.parseInt(stage.trim()));
+        }
+        long stageSeconds = Long.getLong("load.stageSeconds", 60);
+        long thinkMs = Long.getLong("load.thinkMs", 300);
+        double sloP99Ms = Double.parseDouble(System.getProperty("load.sloP99Ms", "50"));
+        long dbDelayMicros = Long.getLong("load.dbDelayMicros", 500);
+        int teams = Integer.getInteger("load.teams", 10);
+        int maxInning = Integer.getInteger("load.maxInning", 9);
+
+        GameLoadHarness harness = new GameLoadHarness(new SeededRoster(teams, 42L, dbDelayMicros), thinkMs, maxInning);
+
+        int sustained = 0;
+        for (int clients : stages) {
+            StageStats stats = harness.runStage(clients, stageSeconds);
+            stats.printSummary(clients, stageSeconds);
+            double pitchP99Ms = stats.pitchP99Millis();
+            if (pitchP99Ms > sloP99Ms) {
+                System.out.printf(Locale.ROOT, "SLO 초과: 동시 %d게임에서 투구 p99 %.2fms > %.2fms%n", clients, pitchP99Ms, sloP99Ms);
+                break;
+            }
+            sustained = clients;
+        }
+        System.out.printf(Locale.ROOT, "SLO(p99 %.2fms) 이내 최대 동시 게임 수: %d%n", sloP99Ms, sustained);
+    }
+
+    /**
+     * 한 단계 실행: clients개의 클라이언트가 stageSeconds 동안 게임을 반복 진행
+     */
+    public StageStats runStage(int clients, long stageSeconds) throws InterruptedException {
+        StageStats stats = new StageStats();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(stageSeconds);
+        CountDownLatch done = new CountDownLatch(clients);
+
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        reporter.scheduleAtFixedRate(stats::printProgress, REPORT_INTERVAL_SECONDS, REPORT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+
+        for (int i = 0; i < clients; i++) {
+            Thread client = new Thread(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        playGame(stats, deadline);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "load-client-" + i);
+            client.setDaemon(true);
+            client.start();
+        }
+
+        done.await();
+        reporter.shutdownNow();
+        return stats;
+    }
+
+    private void playGame(StageStats stats, long deadline) {
+        List<String> teams = roster.getTeams();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String homeTeam = teams.get(random.nextInt(teams.size()));
+        String awayTeam;
+        do {
+            awayTeam = teams.get(random.nextInt(teams.size()));
+        } while (awayTeam.equals(homeTeam));
+
+        Map<String, Object> createBody = new HashMap<>();
+        createBody.put("homeTeam", homeTeam);
+        createBody.put("awayTeam", awayTeam);
+        createBody.put("maxInning", maxInning);
+        createBody.put("isUserOffense", random.nextBoolean());
+        JsonNode response = call(stats, "createGame", post("/api/baseball/game"), createBody);
+        if (response == null) {
+            return;
+        }
+        String gameId = response.path("game").path("gameId").asText();
+
+        for (String team : new String[]{homeTeam, awayTeam}) {
+            think();
+            Map<String, Object> lineupBody = new HashMap<>();
+            lineupBody.put("teamName", team);
+            lineupBody.put("battingOrder", roster.battingOrder(team));
+            lineupBody.put("startingPitcher", roster.startingPitcher(team));
+            response = call(stats, "setTeamLineup", post("/api/baseball/game/{gameId}/lineup", gameId), lineupBody);
+            if (response == null) {
+                return;
+            }
+        }
+
+        JsonNode game = response.path("game");
+        for (int action = 0; action < MAX_ACTIONS_PER_GAME && System.nanoTime() < deadline; action++) {
+            if (game.path("gameOver").asBoolean()) {
+                stats.gamesCompleted.increment();
+                return;
+            }
+            think();
+            if (game.path("out").asInt() >= 3) {
+                response = call(stats, "nextInning", post("/api/baseball/game/{gameId}/next-inning", gameId), null);
+            } else if (random.nextInt(4) == 0) {
+                // 관전/폴링 트래픽
+                response = call(stats, "getGame", get("/api/baseball/game/{gameId}", gameId), null);
+            } else if (random.nextBoolean()) {
+                Map<String, Object> swingBody = new HashMap<>();
+                boolean swing = random.nextInt(3) != 0;
+                swingBody.put("swing", swing);
+                if (swing) {
+                    swingBody.put("timing", random.nextDouble());
+                }
+                response = call(stats, "batterSwing", post("/api/baseball/game/{gameId}/swing", gameId), swingBody);
+            } else {
+                Map<String, Object> pitchBody = new HashMap<>();
+                pitchBody.put("pitchType", random.nextBoolean() ? "strike" : "ball");
+                response = call(stats, "pitcherThrow", post("/api/baseball/game/{gameId}/pitch", gameId), pitchBody);
+            }
+            if (response == null) {
+                return; // 오류 발생 시 새 게임으로 재시작
+            }
+            if (response.has("game")) {
+                game = response.path("game");
+            }
+        }
+        stats.gamesAbandoned.increment();
+    }
+
+    /**
+     * 요청 1건 실행 및 지연시간/오류 기록
+     * @return 성공 응답의 JSON, 실패(HTTP 오류, success=false, 예외) 시 null
+     */
+    private JsonNode call(StageStats stats, String endpoint, MockHttpServletRequestBuilder request, Object body) {
+        stats.requests.increment();
+        long start = System.nanoTime();
+        try {
+            RequestBuilder builder = body == null ? request
+                    : request.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsBytes(body));
+            MockHttpServletResponse response = mockMvc.perform(builder).andReturn().getResponse();
+            stats.histogram(endpoint).recordSince(start);
+            JsonNode json = objectMapper.readTree(response.getContentAsByteArray());
+            if (response.getStatus() >= 400 || !json.path("success").asBoolean()) {
+                stats.errors.increment();
+                return null;
+            }
+            return json;
+        } catch (Exception e) {
+            stats.histogram(endpoint).recordSince(start);
+            stats.errors.increment();
+            return null;
+        }
+    }
+
+    private void think() {
+        if (thinkMs <= 0) {
+            return;
+        }
+        double u = ThreadLocalRandom.current().nextDouble();
+        long sleepMs = (long) (-thinkMs * Math.log(1.0 - u));
+        try {
+            Thread.sleep(Math.min(sleepMs, thinkMs * 10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 단계별 집계 (엔드포인트별 히스토그램, 요청/오류/게임 수, 힙 사용량 추이)
+     */
+    static class StageStats {
+        private final Map<String, LatencyHistogram> histograms = new LinkedHashMap<>();
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder gamesCompleted = new LongAdder();
+        private final LongAdder gamesAbandoned = new LongAdder();
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final long startNanos = System.nanoTime();
+        private long lastRequests;
+        private long maxHeapUsed;
+
+        StageStats() {
+            for (String endpoint : new String[]{"createGame", "setTeamLineup", "pitcherThrow", "batterSwing", "nextInning", "getGame"}) {
+                histograms.put(endpoint, new LatencyHistogram());
+            }
+        }
+
+        LatencyHistogram histogram(String endpoint) {
+            return histograms.get(endpoint);
+        }
+
+        /**
+         * 투구와 스윙을 합친 p99 (둘 중 큰 값)
+         */
+        double pitchP99Millis() {
+            long p99 = Math.max(histograms.get("pitcherThrow").getValueAtQuantile(0.99),
+                    histograms.get("batterSwing").getValueAtQuantile(0.99));
+            return p99 / 1_000_000.0;
+        }
+
+        synchronized void printProgress() {
+            long heapUsed = memory.getHeapMemoryUsage().getUsed();
+            maxHeapUsed = Math.max(maxHeapUsed, heapUsed);
+            long total = requests.sum();
+            double elapsed = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+            System.out.printf(Locale.ROOT, "[%6.1fs] %8.1f req/s, 누적 요청 %d, 오류 %d, 완료 게임 %d, 투구 p99 %.2fms, 힙 %dMB%n",
+                    elapsed, (total - lastRequests) / (double) REPORT_INTERVAL_SECONDS, total, errors.sum(),
+                    gamesCompleted.sum(), pitchP99Millis(), heapUsed / (1024 * 1024));
+            lastRequests = total;
+        }
+
+        void printSummary(int clients, long stageSeconds) {
+            long total = requests.sum();
+            long heapUsed = memory.getHeapMemoryUsage().getUsed();
+            System.out.printf(Locale.ROOT, "=== 동시 클라이언트 %d: %.1f req/s, 오류율 %.3f%%, 완료 게임 %d, 중단 게임 %d, 최대 힙 %dMB ===%n",
+                    clients, total / (double) stageSeconds, total == 0 ? 0.0 : errors.sum() * 100.0 / total,
+                    gamesCompleted.sum(), gamesAbandoned.sum(), Math.max(maxHeapUsed, heapUsed) / (1024 * 1024));
+            for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+                LatencyHistogram histogram = entry.getValue();
+                System.out.printf(Locale.ROOT, "  %-14s count=%-9d p50=%8.3fms p99=%8.3fms p999=%8.3fms max=%8.3fms%n",
+                        entry.getKey(), histogram.getCount(),
+                        histogram.getValueAtQuantile(0.5) / 1_000_000.0,
+                        histogram.getValueAtQuantile(0.99) / 1_000_000.0,
+                        histogram.getValueAtQuantile(0.999) / 1_000_000.0,
+                        histogram.getMaxNanos() / 1_000_000.0);
+            }
+        }
+    }
+}
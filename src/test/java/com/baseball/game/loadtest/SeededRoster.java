@@ -0,0 +1,132 @@
+package com.baseball.game.loadtest;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+import com.baseball.game.mapper.BatterMapper;
+import com.baseball.game.mapper.PitcherMapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트용 로컬 DB 대체 (player 테이블을 흉내낸 고정 시드 로스터)
+ * 매퍼 호출마다 설정된 지연시간을 주어 MySQL 왕복 시간을 대략 재현할 수 있습니다.
+ */
+public class SeededRoster {
+
+    private final List<String> teams = new ArrayList<>();
+    private final Map<String, Batter> batters = new ConcurrentHashMap<>();
+    private final Map<String, Pitcher> pitchers = new ConcurrentHashMap<>();
+    private final long queryDelayMicros;
+
+    public SeededRoster(int teamCount, long seed, long queryDelayMicros) {
+        this.queryDelayMicros = queryDelayMicros;
+        Random random = new Random(seed);
+        for (int t = 1; t <= teamCount; t++) {
+            String team = "TEAM" + t;
+            teams.add(team);
+            for (int i = 1; i <= 9; i++) {
+                Batter batter = new Batter();
+                batter.setName(team + "-타자" + i);
+                batter.setTeam(team);
+                batter.setContact(30 + random.nextInt(60));
+                batter.setPower(30 + random.nextInt(60));
+                batter.setSpeed(30 + random.nextInt(60));
+                batter.setEye(30 + random.nextInt(60));
+                batter.setBattingOrder(i);
+                batters.put(batter.getName(), batter);
+            }
+            Pitcher pitcher = new Pitcher();
+            pitcher.setName(team + "-투수");
+            pitcher.setTeam(team);
+            pitcher.setControl(30 + random.nextInt(60));
+            pitcher.setSpeed(30 + random.nextInt(60));
+            pitcher.setStamina(30 + random.nextInt(60));
+            pitcher.setMovement(30 + random.nextInt(60));
+            pitchers.put(pitcher.getName(), pitcher);
+        }
+    }
+
+    public List<String> getTeams() {
+        return Collections.unmodifiableList(teams);
+    }
+
+    public List<String> battingOrder(String team) {
+        List<String> names = new ArrayList<>();
+        for (int i = 1; i <= 9; i++) {
+            names.add(team + "-타자" + i);
+        }
+        return names;
+    }
+
+    public String startingPitcher(String team) {
+        return team + "-투수";
+    }
+
+    public BatterMapper batterMapper() {
+        return new BatterMapper() {
+            @Override
+            public List<Batter> findByTeam(String team) {
+                simulateQuery();
+                return batters.values().stream().filter(b -> team.equals(b.getTeam())).collect(Collectors.toList());
+            }
+
+            @Override
+            public List<Batter> findByNames(List<String> names) {
+                simulateQuery();
+                return names.stream().map(batters::get).filter(b -> b != null).collect(Collectors.toList());
+            }
+
+            @Override
+            public List<Batter> findByTeams(List<String> teams) {
+                simulateQuery();
+                return batters.values().stream().filter(b -> teams.contains(b.getTeam())).collect(Collectors.toList());
+            }
+        };
+    }
+
+    public PitcherMapper pitcherMapper() {
+        return new PitcherMapper() {
+            @Override
+            public List<Pitcher> findByTeam(String team) {
+                simulateQuery();
+                return pitchers.values().stream().filter(p -> team.equals(p.getTeam())).collect(Collectors.toList());
+            }
+
+            @Override
+            public Pitcher findByName(String name) {
+                simulateQuery();
+                return pitchers.get(name);
+            }
+
+            @Override
+            public List<Pitcher> findByNames(List<String> names) {
+                simulateQuery();
+                return names.stream().map(pitchers::get).filter(p -> p != null).collect(Collectors.toList());
+            }
+
+            @Override
+            public List<Pitcher> findByTeams(List<String> teams) {
+                simulateQuery();
+                return pitchers.values().stream().filter(p -> teams.contains(p.getTeam())).collect(Collectors.toList());
+            }
+        };
+    }
+
+    private void simulateQuery() {
+        if (queryDelayMicros <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MICROSECONDS.sleep(queryDelayMicros);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
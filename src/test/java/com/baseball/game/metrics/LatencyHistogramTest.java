@@ -0,0 +1,48 @@
+package com.baseball.game.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    /**
+     * 버킷 인덱스와 버킷 상한값이 서로 일관되는지 확인합니다.
+     * 모든 값은 자신이 속한 버킷의 상한값 이하여야 하고, 상대 오차는 2% 미만이어야 합니다.
+     */
+    @Test
+    void indexOf_상한값_일관성() {
+        long[] samples = {0, 1, 127, 128, 129, 255, 256, 1_000, 65_535, 1_000_000, 123_456_789L, 10_000_000_000L};
+        for (long value : samples) {
+            int index = LatencyHistogram.indexOf(value);
+            long upper = LatencyHistogram.highestEquivalentValue(index);
+            assertTrue(value <= upper, "value=" + value + ", upper=" + upper);
+            assertTrue(upper - value <= Math.max(1, value / 50), "value=" + value + ", upper=" + upper);
+        }
+    }
+
+    /**
+     * 균등 분포 1~10000ns를 기록했을 때 분위수가 기대값 근처인지 확인합니다.
+     */
+    @Test
+    void getValueAtQuantile_균등분포() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10_000; i++) {
+            histogram.record(i);
+        }
+
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(10_000, histogram.getMaxNanos());
+        assertEquals(5_000, histogram.getValueAtQuantile(0.5), 5_000 * 0.02);
+        assertEquals(9_900, histogram.getValueAtQuantile(0.99), 9_900 * 0.02);
+        assertEquals(10_000, histogram.getValueAtQuantile(1.0));
+    }
+
+    /**
+     * 기록이 없으면 분위수는 0입니다.
+     */
+    @Test
+    void getValueAtQuantile_기록없음() {
+        assertEquals(0, new LatencyHistogram().getValueAtQuantile(0.99));
+    }
+}
@@ -0,0 +1,56 @@
+package com.baseball.game.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+public class MetricsHandlerInterceptorTest {
+
+    private static final long DELAY_MILLIS = 50;
+
+    /**
+     * 비동기 요청은 처음 요청부터 ASYNC 디스패치 완료까지를 한 번만 기록해야 합니다.
+     */
+    @Test
+    void 비동기요청_처음요청부터_한번기록() throws Exception {
+        MetricsRegistry metrics = new MetricsRegistry();
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new AsyncProbeController())
+                .addInterceptors(new MetricsHandlerInterceptor(metrics))
+                .build();
+
+        MvcResult started = mockMvc.perform(get("/probe/delayed")).andReturn();
+        assertEquals(1, metrics.counter("http.asyncprobe.delayed.async").sum());
+        assertEquals(0, metrics.histogram("http.asyncprobe.delayed").getCount()); // 비동기 시작 시점에는 기록하지 않음
+
+        started.getAsyncResult(5_000);
+        assertEquals(200, mockMvc.perform(asyncDispatch(started)).andReturn().getResponse().getStatus());
+
+        LatencyHistogram histogram = metrics.histogram("http.asyncprobe.delayed");
+        assertEquals(1, histogram.getCount());
+        assertEquals(1, metrics.counter("http.asyncprobe.delayed.requests").sum());
+        assertTrue(histogram.getMaxNanos() >= TimeUnit.MILLISECONDS.toNanos(DELAY_MILLIS));
+    }
+
+    @RestController
+    static class AsyncProbeController {
+
+        @GetMapping("/probe/delayed")
+        public DeferredResult<String> delayed() {
+            DeferredResult<String> result = new DeferredResult<>();
+            CompletableFuture.runAsync(() -> result.setResult("ok"),
+                    CompletableFuture.delayedExecutor(DELAY_MILLIS, TimeUnit.MILLISECONDS));
+            return result;
+        }
+    }
+}
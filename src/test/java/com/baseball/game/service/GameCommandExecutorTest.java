@@ -0,0 +1,140 @@
+package com.baseball.game.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameCommandExecutorTest {
+
+    /**
+     * 같은 게임의 명령은 제출 순서대로 하나씩 실행되어야 합니다. (동시에 두 명령이 실행되면 안 됨)
+     */
+    @Test
+    void submit_같은게임_순서대로실행() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            GameCommandExecutor executor = new GameCommandExecutor(pool);
+            List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+            AtomicInteger running = new AtomicInteger();
+            List<CompletableFuture<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                int command = i;
+                futures.add(executor.submit("game-1", () -> {
+                    assertEquals(1, running.incrementAndGet());
+                    order.add(command);
+                    running.decrementAndGet();
+                    return command;
+                }));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                assertEquals(i, (int) futures.get(i).get(5, TimeUnit.SECONDS));
+            }
+            for (int i = 0; i < order.size(); i++) {
+                assertEquals(i, (int) order.get(i));
+            }
+            waitUntilIdle(executor);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * 다른 게임의 명령은 병렬로 실행되어야 합니다. (한 게임이 막혀도 다른 게임은 진행)
+     */
+    @Test
+    void submit_다른게임_병렬실행() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            GameCommandExecutor executor = new GameCommandExecutor(pool);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<String> blocked = executor.submit("slow", () -> {
+                await(release);
+                return "slow";
+            });
+            CompletableFuture<String> other = executor.submit("fast", () -> "fast");
+
+            assertEquals("fast", other.get(5, TimeUnit.SECONDS));
+            assertFalse(blocked.isDone());
+            assertEquals(1, executor.activeGames());
+            release.countDown();
+            assertEquals("slow", blocked.get(5, TimeUnit.SECONDS));
+            waitUntilIdle(executor);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * 앞선 명령이 실패해도 그 실패는 해당 명령에만 전달되고, 같은 게임의 다음 명령은 실행되어야 합니다.
+     */
+    @Test
+    void submit_앞선명령실패_다음명령실행() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            GameCommandExecutor executor = new GameCommandExecutor(pool);
+            CompletableFuture<String> failed = executor.submit("game-1", () -> {
+                throw new IllegalStateException("실패");
+            });
+            CompletableFuture<String> next = executor.submit("game-1", () -> "다음");
+
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+            assertTrue(exception.getCause() instanceof IllegalStateException);
+            assertEquals("다음", next.get(5, TimeUnit.SECONDS));
+            waitUntilIdle(executor);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * 명령 안에서 같은 게임의 명령을 다시 실행하면 기다리지 않고 바로 실행하고, 실행 결과의 예외는 그대로 전달되어야 합니다.
+     */
+    @Test
+    void execute_명령안에서_같은게임_바로실행() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(1);
+        try {
+            GameCommandExecutor executor = new GameCommandExecutor(pool);
+            String result = executor.submit("game-1", () -> executor.execute("game-1", () -> "안쪽") + "-바깥")
+                    .get(5, TimeUnit.SECONDS);
+            assertEquals("안쪽-바깥", result);
+
+            IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> executor.execute("game-1", () -> {
+                throw new IllegalStateException("실패");
+            }));
+            assertEquals("실패", thrown.getMessage());
+            waitUntilIdle(executor);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 대기 중인 명령이 없으면 게임별 항목이 제거되어야 합니다. (완료 콜백은 비동기로 실행될 수 있으므로 잠시 대기)
+     */
+    private static void waitUntilIdle(GameCommandExecutor executor) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.activeGames() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(0, executor.activeGames());
+    }
+}
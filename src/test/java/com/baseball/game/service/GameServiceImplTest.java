@@ -0,0 +1,176 @@
+package com.baseball.game.service;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.GameDto;
+import com.baseball.game.dto.GameStartRequest;
+import com.baseball.game.dto.Pitcher;
+import com.baseball.game.dto.TeamLineup;
+import com.baseball.game.exception.InvalidGameStateException;
+import com.baseball.game.mapper.BatterMapper;
+import com.baseball.game.mapper.PitcherMapper;
+import com.baseball.game.mapper.TeamLineupMapper;
+import com.baseball.game.metrics.MetricsRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class GameServiceImplTest {
+
+    private TeamLineupMapper teamLineupMapper;
+    private BatterMapper batterMapper;
+    private PitcherMapper pitcherMapper;
+    private GameServiceImpl service;
+
+    private String home;
+    private String away;
+
+    @BeforeEach
+    void setUp() {
+        teamLineupMapper = mock(TeamLineupMapper.class);
+        batterMapper = mock(BatterMapper.class);
+        pitcherMapper = mock(PitcherMapper.class);
+        service = new GameServiceImpl();
+        service.setTeamLineupMapper(teamLineupMapper);
+        service.setBatterMapper(batterMapper);
+        service.setPitcherMapper(pitcherMapper);
+        MetricsRegistry metrics = new MetricsRegistry();
+        service.setMetrics(metrics);
+        service.setCommandExecutor(new GameCommandExecutor(Runnable::run));
+        service.setIdempotency(new IdempotencyCache(metrics));
+        service.setScoreboard(new ScoreboardIndex(metrics));
+        service.setRosterCache(new RosterCache(metrics));
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        home = "HOME-" + suffix;
+        away = "AWAY-" + suffix;
+        List<TeamLineup> lineups = new ArrayList<>();
+        List<Batter> batters = new ArrayList<>();
+        List<Pitcher> pitchers = new ArrayList<>();
+        for (String team : Arrays.asList(home, away)) {
+            for (int i = 1; i <= 10; i++) {
+                batters.add(batter(team, team + "-B" + i));
+            }
+            for (int i = 1; i <= 9; i++) {
+                lineups.add(lineup(team, i, team + "-B" + i));
+            }
+            pitchers.add(pitcher(team, team + "-P1"));
+            pitchers.add(pitcher(team, team + "-P2"));
+        }
+        when(teamLineupMapper.findDefaultLineupByTeams(anyList())).thenReturn(lineups);
+        when(batterMapper.findByTeams(anyList())).thenReturn(batters);
+        when(pitcherMapper.findByTeams(anyList())).thenReturn(pitchers);
+    }
+
+    /**
+     * 양 팀 기본 라인업, 타자, 투수를 각각 IN 조회 한 번으로 읽고, 첫 타자와 투수까지 설정된 게임을 돌려줘야 합니다.
+     * 같은 팀으로 다시 시작하면 캐시된 명단을 사용해 DB를 조회하지 않아야 합니다.
+     */
+    @Test
+    void startGame_양팀명단_한번에조회() {
+        GameDto game = service.startGame(request());
+
+        assertEquals(9, game.getHomeBattingOrder().size());
+        assertEquals(home + "-B1", game.getHomeBattingOrder().get(0).getName());
+        assertEquals(home + "-B9", game.getHomeBattingOrder().get(8).getName());
+        assertEquals(away + "-B1", game.getCurrentBatter().getName()); // 1회 초: 원정팀 공격
+        assertEquals(home + "-P1", game.getCurrentPitcher().getName()); // 홈팀 로테이션 1번
+        assertEquals(away + "-P1", game.getAwayStartingPitcher().getName());
+        assertSame(game, service.getGame(game.getGameId()));
+
+        List<String> teams = Arrays.asList(home, away);
+        verify(teamLineupMapper, times(1)).findDefaultLineupByTeams(teams);
+        verify(batterMapper, times(1)).findByTeams(teams);
+        verify(pitcherMapper, times(1)).findByTeams(teams);
+        verifyNoMoreInteractions(teamLineupMapper, batterMapper, pitcherMapper);
+
+        GameDto again = service.startGame(request());
+        assertNotEquals(game.getGameId(), again.getGameId());
+        assertNotSame(game.getCurrentBatter(), again.getCurrentBatter()); // 게임마다 선수 기록을 따로 가짐
+        verifyNoMoreInteractions(teamLineupMapper, batterMapper, pitcherMapper);
+    }
+
+    /**
+     * 사용자 ID가 있으면 커스텀 라인업 조회 한 번이 더해지고, 저장된 팀의 타순은 커스텀 라인업을 따라야 합니다.
+     */
+    @Test
+    void startGame_사용자커스텀라인업() {
+        List<TeamLineup> custom = new ArrayList<>();
+        for (int i = 1; i <= 9; i++) {
+            custom.add(lineup(home, i, home + "-B" + (11 - i))); // B10, B9, ..., B2
+        }
+        when(teamLineupMapper.findAllCustomLineupsByUser("user1")).thenReturn(custom);
+        GameStartRequest request = request();
+        request.setUserId("user1");
+
+        GameDto game = service.startGame(request);
+
+        assertEquals(home + "-B10", game.getHomeBattingOrder().get(0).getName());
+        assertEquals(away + "-B1", game.getAwayBattingOrder().get(0).getName()); // 원정팀은 기본 라인업
+        verify(teamLineupMapper, times(1)).findAllCustomLineupsByUser("user1");
+        verify(batterMapper, times(1)).findByTeams(anyList());
+        verify(batterMapper, never()).findByNames(anyList());
+    }
+
+    /**
+     * 게임 상태를 바꾸는 명령마다 버전이 1씩 올라야 하고(조회 ETag), 실패한 명령과 조회는 버전을 바꾸지 않아야 합니다.
+     */
+    @Test
+    void 상태변경명령마다_버전증가() {
+        String gameId = service.startGame(request()).getGameId();
+        long version = service.getGameVersion(gameId);
+
+        service.pitcherThrow(gameId, "ball");
+        assertEquals(++version, service.getGameVersion(gameId));
+        service.batterSwing(gameId, false, null);
+        assertEquals(++version, service.getGameVersion(gameId));
+        service.advanceRunners(gameId, 1);
+        assertEquals(++version, service.getGameVersion(gameId));
+
+        assertThrows(InvalidGameStateException.class, () -> service.nextInning(gameId)); // 아직 3아웃이 아님
+        service.getGame(gameId);
+        service.getGameStats(gameId);
+        assertEquals(version, service.getGameVersion(gameId));
+
+        service.endGame(gameId);
+        assertEquals(++version, service.getGameVersion(gameId));
+    }
+
+    private GameStartRequest request() {
+        GameStartRequest request = new GameStartRequest();
+        request.setHomeTeam(home);
+        request.setAwayTeam(away);
+        request.setMaxInning(9);
+        request.setIsUserOffense(true);
+        return request;
+    }
+
+    private static Batter batter(String team, String name) {
+        Batter batter = new Batter();
+        batter.setName(name);
+        batter.setTeam(team);
+        return batter;
+    }
+
+    private static Pitcher pitcher(String team, String name) {
+        Pitcher pitcher = new Pitcher();
+        pitcher.setName(name);
+        pitcher.setTeam(team);
+        return pitcher;
+    }
+
+    private static TeamLineup lineup(String team, int position, String playerName) {
+        TeamLineup lineup = new TeamLineup();
+        lineup.setTeamName(team);
+        lineup.setLineupType("DEFAULT");
+        lineup.setPosition(position);
+        lineup.setPlayerName(playerName);
+        return lineup;
+    }
+}
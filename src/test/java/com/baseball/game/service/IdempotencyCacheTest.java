@@ -0,0 +1,163 @@
+package com.baseball.game.service;
+
+import com.baseball.game.exception.ValidationException;
+import com.baseball.game.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdempotencyCacheTest {
+
+    /**
+     * 같은 키로 다시 보내면 명령을 다시 실행하지 않고 처음 응답을 그대로 돌려줘야 합니다.
+     */
+    @Test
+    void execute_중복키_처음응답재사용() {
+        IdempotencyCache cache = new IdempotencyCache(4, new MetricsRegistry());
+        AtomicInteger pitches = new AtomicInteger();
+
+        String first = cache.execute("game-1", "key-1", "pitch", () -> "투구 " + pitches.incrementAndGet());
+        String retry = cache.execute("game-1", "key-1", "pitch", () -> "투구 " + pitches.incrementAndGet());
+        String otherGame = cache.execute("game-2", "key-1", "pitch", () -> "투구 " + pitches.incrementAndGet());
+
+        assertEquals("투구 1", first);
+        assertSame(first, retry);
+        assertEquals("투구 2", otherGame);
+        assertEquals(2, pitches.get());
+        // 키가 없으면 매번 실행
+        cache.execute("game-1", null, "pitch", pitches::incrementAndGet);
+        cache.execute("game-1", null, "pitch", pitches::incrementAndGet);
+        assertEquals(4, pitches.get());
+    }
+
+    /**
+     * 같은 키를 다른 명령에 쓰거나 키 길이가 잘못되면 거부해야 합니다.
+     */
+    @Test
+    void execute_다른명령_잘못된키_거부() {
+        IdempotencyCache cache = new IdempotencyCache(4, new MetricsRegistry());
+        cache.execute("game-1", "key-1", "swing", () -> "스윙");
+
+        assertThrows(ValidationException.class, () -> cache.execute("game-1", "key-1", "pitch", () -> "투구"));
+        assertThrows(ValidationException.class, () -> cache.execute("game-1", "", "pitch", () -> "투구"));
+        StringBuilder tooLong = new StringBuilder();
+        for (int i = 0; i <= IdempotencyCache.MAX_KEY_LENGTH; i++) {
+            tooLong.append('k');
+        }
+        assertThrows(ValidationException.class, () -> cache.execute("game-1", tooLong.toString(), "pitch", () -> "투구"));
+    }
+
+    /**
+     * 보관 개수를 넘으면 가장 오래된 키부터 잊어야 합니다. (게임당 메모리 제한)
+     */
+    @Test
+    void execute_보관개수초과_오래된키제거() {
+        IdempotencyCache cache = new IdempotencyCache(3, new MetricsRegistry());
+        AtomicInteger runs = new AtomicInteger();
+        for (int i = 0; i < 4; i++) {
+            cache.execute("game-1", "key-" + i, "pitch", runs::incrementAndGet);
+        }
+        assertEquals(4, runs.get());
+
+        assertEquals(4, (int) cache.execute("game-1", "key-3", "pitch", runs::incrementAndGet));
+        assertEquals(2, (int) cache.execute("game-1", "key-1", "pitch", runs::incrementAndGet));
+        assertEquals(5, (int) cache.execute("game-1", "key-0", "pitch", runs::incrementAndGet));
+        assertEquals(5, runs.get());
+    }
+
+    /**
+     * 처음 실행이 예외로 끝나면 키를 풀어서 재시도가 다시 실행되어야 합니다.
+     */
+    @Test
+    void execute_실패_키해제() {
+        IdempotencyCache cache = new IdempotencyCache(2, new MetricsRegistry());
+        assertThrows(IllegalStateException.class, () -> cache.execute("game-1", "key-1", "pitch", () -> {
+            throw new IllegalStateException("일시적 오류");
+        }));
+        assertEquals("투구", cache.execute("game-1", "key-1", "pitch", () -> "투구"));
+
+        // 풀린 키가 다시 등록된 뒤 예전 자리가 재사용되어도 새 항목은 남아 있어야 함
+        cache.execute("game-1", "key-2", "pitch", () -> "다른 투구");
+        assertEquals("투구", cache.execute("game-1", "key-1", "pitch", () -> "재실행"));
+    }
+
+    /**
+     * 처음 요청이 처리 중일 때 같은 키로 동시에 들어온 요청은 기다렸다가 같은 응답을 받아야 합니다.
+     */
+    @Test
+    void execute_동시중복요청_한번만실행() throws Exception {
+        IdempotencyCache cache = new IdempotencyCache(8, new MetricsRegistry());
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            AtomicInteger runs = new AtomicInteger();
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() ->
+                    cache.execute("game-1", "hedged", "swing", () -> {
+                        started.countDown();
+                        await(release);
+                        return runs.incrementAndGet();
+                    }), pool);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            CompletableFuture<?>[] retries = new CompletableFuture<?>[16];
+            for (int i = 0; i < retries.length; i++) {
+                retries[i] = CompletableFuture.supplyAsync(() ->
+                        cache.execute("game-1", "hedged", "swing", runs::incrementAndGet), pool);
+            }
+            release.countDown();
+
+            assertEquals(1, (int) first.get(5, TimeUnit.SECONDS));
+            for (CompletableFuture<?> retry : retries) {
+                assertEquals(1, retry.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, runs.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * 게임 수가 한도에 이르면 오래 쉬던 게임의 창부터, 없으면 가장 오래 쓰지 않은 창을 지우고, 끝난 게임의 창은 바로 지워야 합니다.
+     */
+    @Test
+    void execute_게임수한도_정리와제거() {
+        AtomicLong now = new AtomicLong(0);
+        IdempotencyCache cache = new IdempotencyCache(4, 2, 1_000, now::get, new MetricsRegistry());
+        cache.execute("game-1", "key-1", "pitch", () -> "1");
+        now.set(10);
+        cache.execute("game-2", "key-1", "pitch", () -> "2");
+        now.set(20);
+        cache.execute("game-1", "key-2", "pitch", () -> "1");
+
+        // 쉬던 창이 없으므로 가장 오래 쓰지 않은 game-2를 지움
+        cache.execute("game-3", "key-1", "pitch", () -> "3");
+        assertEquals(2, cache.size());
+        assertEquals("다시", cache.execute("game-2", "key-1", "pitch", () -> "다시"));
+        assertEquals("1", cache.execute("game-1", "key-1", "pitch", () -> "다시"));
+
+        // game-1, game-2가 보관 시간 동안 쉬면 새 게임을 위해 함께 정리
+        now.set(2_000);
+        cache.execute("game-4", "key-1", "pitch", () -> "4");
+        assertEquals(1, cache.size());
+
+        cache.remove("game-4");
+        assertEquals(0, cache.size());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.baseball.game.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MatchmakerTest {
+
+    private static final List<String> LINEUP = Collections.emptyList();
+
+    /**
+     * 비슷한 레이팅의 상대가 기다리고 있으면 등록 즉시 매칭되고, 먼저 기다린 쪽이 홈팀이어야 합니다.
+     */
+    @Test
+    void enqueue_비슷한레이팅_즉시매칭() {
+        List<Matchmaker.Ticket[]> matches = new ArrayList<>();
+        AtomicLong now = new AtomicLong(1_000);
+        Matchmaker matchmaker = new Matchmaker(4, (home, away) -> matches.add(new Matchmaker.Ticket[]{home, away}), now::get);
+
+        Matchmaker.Ticket first = matchmaker.enqueue("u1", "LG", 1_010, LINEUP, null);
+        assertEquals(Matchmaker.WAITING, first.getState());
+        assertEquals(1, matchmaker.waiting());
+
+        now.set(1_500);
+        Matchmaker.Ticket second = matchmaker.enqueue("u2", "두산", 1_040, LINEUP, null);
+        assertEquals(Matchmaker.MATCHED, first.getState());
+        assertEquals(Matchmaker.MATCHED, second.getState());
+        assertSame(second, first.getOpponent());
+        assertTrue(first.isHome());
+        assertFalse(second.isHome());
+        assertEquals(1, matches.size());
+        assertSame(first, matches.get(0)[0]);
+        assertEquals(0, matchmaker.waiting());
+    }
+
+    /**
+     * 같은 팀이나 같은 사용자끼리는 매칭되지 않아야 하고, 같은 사용자의 재등록은 기존 대기표를 돌려줘야 합니다.
+     */
+    @Test
+    void enqueue_같은팀_같은사용자_매칭안함() {
+        Matchmaker matchmaker = new Matchmaker(2, (home, away) -> fail("매칭되면 안 됨"), () -> 0L);
+        Matchmaker.Ticket first = matchmaker.enqueue("u1", "LG", 1_000, LINEUP, null);
+        Matchmaker.Ticket again = matchmaker.enqueue("u1", "두산", 1_000, LINEUP, null);
+        Matchmaker.Ticket sameTeam = matchmaker.enqueue("u2", "LG", 1_000, LINEUP, null);
+        matchmaker.sweep();
+
+        assertSame(first, again);
+        assertEquals(Matchmaker.WAITING, first.getState());
+        assertEquals(Matchmaker.WAITING, sameTeam.getState());
+        assertEquals(2, matchmaker.waiting());
+    }
+
+    /**
+     * 레이팅 차이가 크면 바로 매칭되지 않고, 기다린 시간만큼 범위가 넓어진 뒤 sweep에서 매칭되어야 합니다.
+     */
+    @Test
+    void sweep_대기시간에따라범위확장() {
+        AtomicLong now = new AtomicLong(0);
+        Matchmaker matchmaker = new Matchmaker(2, (home, away) -> { }, now::get);
+        Matchmaker.Ticket low = matchmaker.enqueue("u1", "LG", 1_000, LINEUP, null);
+        Matchmaker.Ticket high = matchmaker.enqueue("u2", "두산", 1_200, LINEUP, null); // 4구간 차이
+        assertEquals(Matchmaker.WAITING, high.getState());
+
+        now.set(Matchmaker.WIDEN_MILLIS * 2);
+        matchmaker.sweep();
+        assertEquals(Matchmaker.WAITING, low.getState());
+
+        now.set(Matchmaker.WIDEN_MILLIS * 3);
+        matchmaker.sweep();
+        assertEquals(Matchmaker.MATCHED, low.getState());
+        assertSame(high, low.getOpponent());
+    }
+
+    /**
+     * 여러 스레드가 동시에 등록해도 모든 대기표가 정확히 한 번씩만 매칭되어야 합니다.
+     */
+    @Test
+    void enqueue_동시등록_한번씩만매칭() throws InterruptedException {
+        int users = 400;
+        List<Matchmaker.Ticket> matched = Collections.synchronizedList(new ArrayList<>());
+        Matchmaker matchmaker = new Matchmaker(4, (home, away) -> {
+            matched.add(home);
+            matched.add(away);
+        }, () -> 0L);
+
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int offset = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    ready.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = offset; i < users; i += 8) {
+                    matchmaker.enqueue("u" + i, i % 2 == 0 ? "LG" : "두산", 1_000 + i % 40, LINEUP, null);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        ready.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        matchmaker.sweep();
+        matchmaker.sweep();
+
+        assertEquals(users, matched.size());
+        assertEquals(users, matched.stream().distinct().count());
+        for (Matchmaker.Ticket ticket : matched) {
+            assertSame(ticket, ticket.getOpponent().getOpponent());
+            assertNotEquals(ticket.getTeam(), ticket.getOpponent().getTeam());
+        }
+        assertEquals(0, matchmaker.waiting());
+    }
+
+    /**
+     * 취소한 대기표는 매칭되지 않고, 오래 기다린 대기표는 만료되어야 합니다.
+     */
+    @Test
+    void cancel_expire() {
+        AtomicLong now = new AtomicLong(0);
+        Matchmaker matchmaker = new Matchmaker(1, (home, away) -> fail("매칭되면 안 됨"), now::get);
+        Matchmaker.Ticket cancelled = matchmaker.enqueue("u1", "LG", 1_000, LINEUP, null);
+        assertTrue(matchmaker.cancel(cancelled.getId()));
+        assertEquals(Matchmaker.CANCELLED, cancelled.getState());
+
+        Matchmaker.Ticket expired = matchmaker.enqueue("u2", "LG", 1_000, LINEUP, null);
+        now.set(Matchmaker.MAX_WAIT_MILLIS);
+        matchmaker.sweep();
+        assertEquals(Matchmaker.EXPIRED, expired.getState());
+        assertFalse(matchmaker.cancel(expired.getId()));
+        assertEquals(0, matchmaker.waiting());
+
+        now.set(Matchmaker.MAX_WAIT_MILLIS + Matchmaker.FINISHED_RETENTION_MILLIS);
+        matchmaker.sweep();
+        assertNull(matchmaker.find(cancelled.getId()));
+        assertNull(matchmaker.find(expired.getId()));
+    }
+}
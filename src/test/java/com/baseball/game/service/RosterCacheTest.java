@@ -0,0 +1,88 @@
+package com.baseball.game.service;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+import com.baseball.game.exception.ValidationException;
+import com.baseball.game.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RosterCacheTest {
+
+    /**
+     * 타순은 요청한 이름 순서대로, 게임 중 기록이 바뀌어도 캐시 원본에 영향이 없도록 복사본으로 나와야 합니다.
+     */
+    @Test
+    void battingOrder_이름순서_복사본() {
+        RosterCache cache = new RosterCache(60_000, () -> 0L, new MetricsRegistry());
+        RosterCache.TeamRoster roster = cache.put("LG", Arrays.asList("B1", "B2"), batters("LG", "B1", "B2", "B3"),
+                Collections.singletonList(pitcher("LG", "P1")));
+
+        List<Batter> order = roster.battingOrder(Arrays.asList("B3", "B1"));
+        assertEquals("B3", order.get(0).getName());
+        assertEquals("B1", order.get(1).getName());
+        assertEquals(70, order.get(0).getContact());
+
+        order.get(0).setHomeRuns(2);
+        assertEquals(0, roster.battingOrder(Collections.singletonList("B3")).get(0).getHomeRuns());
+        assertNotSame(roster.startingPitcher(null), roster.startingPitcher(null));
+    }
+
+    /**
+     * 다른 팀 타자나 없는 투수를 지정하면 검증 오류, 선발 투수를 지정하지 않으면 로테이션 1번이어야 합니다.
+     */
+    @Test
+    void 다른팀선수_검증오류_기본선발() {
+        RosterCache cache = new RosterCache(60_000, () -> 0L, new MetricsRegistry());
+        RosterCache.TeamRoster roster = cache.put("LG", Collections.emptyList(), batters("LG", "B1"),
+                Arrays.asList(pitcher("LG", "P1"), pitcher("LG", "P2")));
+
+        assertThrows(ValidationException.class, () -> roster.battingOrder(Arrays.asList("B1", "두산타자")));
+        assertThrows(ValidationException.class, () -> roster.startingPitcher("두산투수"));
+        assertEquals("P1", roster.startingPitcher(null).getName());
+        assertEquals("P2", roster.startingPitcher("P2").getName());
+    }
+
+    /**
+     * 보관 시간이 지나면 다시 읽도록 null을 돌려주고, 타자가 없는 팀은 보관하지 않아야 합니다.
+     */
+    @Test
+    void get_보관시간만료() {
+        AtomicLong now = new AtomicLong(0);
+        RosterCache cache = new RosterCache(1_000, now::get, new MetricsRegistry());
+        cache.put("LG", Collections.emptyList(), batters("LG", "B1"), Collections.emptyList());
+        cache.put("없는팀", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+
+        now.set(999);
+        assertNotNull(cache.get("LG"));
+        assertNull(cache.get("없는팀"));
+        now.set(1_000);
+        assertNull(cache.get("LG"));
+    }
+
+    private static List<Batter> batters(String team, String... names) {
+        List<Batter> batters = new ArrayList<>();
+        for (String name : names) {
+            Batter batter = new Batter();
+            batter.setName(name);
+            batter.setTeam(team);
+            batter.setContact(70);
+            batters.add(batter);
+        }
+        return batters;
+    }
+
+    private static Pitcher pitcher(String team, String name) {
+        Pitcher pitcher = new Pitcher();
+        pitcher.setName(name);
+        pitcher.setTeam(team);
+        return pitcher;
+    }
+}
@@ -0,0 +1,132 @@
+package com.baseball.game.service;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.GameDto;
+import com.baseball.game.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScoreboardIndexTest {
+
+    /**
+     * 갱신 전까지는 이전 전광판을 그대로 돌려주고, 갱신하면 게임별 기록이 JSON에 반영되어야 합니다.
+     */
+    @Test
+    void refresh_변경반영() {
+        AtomicLong now = new AtomicLong(1_000);
+        ScoreboardIndex index = new ScoreboardIndex(60_000, now::get, new MetricsRegistry());
+        GameDto game = game("g1", "LG \"트윈스\"", "두산");
+        index.update(game);
+        assertEquals("{\"version\":0,\"generatedAt\":1000,\"games\":[]}", json(index));
+
+        index.refresh();
+        assertEquals(1, index.snapshot().getVersion());
+        assertEquals("{\"version\":1,\"generatedAt\":1000,\"games\":[{\"id\":1,\"homeTeam\":\"LG \\\"트윈스\\\"\","
+                + "\"awayTeam\":\"두산\",\"homeScore\":0,\"awayScore\":0,\"inning\":1,\"top\":true,\"out\":0,\"gameOver\":false}]}",
+                json(index));
+
+        game.setAwayScore(3);
+        game.setOut(2);
+        index.update(game);
+        index.refresh();
+        assertTrue(json(index).contains("\"awayScore\":3,\"inning\":1,\"top\":true,\"out\":2"));
+        assertEquals(2, index.snapshot().getVersion());
+    }
+
+    /**
+     * 전광판에 보이는 값이 그대로면 다시 직렬화하지 않아야 합니다. (같은 스냅샷 객체 유지)
+     */
+    @Test
+    void refresh_변경없음_스냅샷재사용() {
+        ScoreboardIndex index = new ScoreboardIndex(60_000, () -> 0L, new MetricsRegistry());
+        GameDto game = game("g1", "LG", "두산");
+        index.update(game);
+        index.refresh();
+        ScoreboardIndex.Snapshot before = index.snapshot();
+
+        game.setStrike(2); // 볼카운트와 상태 버전은 전광판 항목이 아님
+        game.setVersion(game.getVersion() + 1);
+        index.update(game);
+        index.refresh();
+        assertSame(before, index.snapshot());
+    }
+
+    /**
+     * 종료된 게임은 보관 시간 동안 결과를 보여준 뒤 목록에서 빠져야 합니다.
+     */
+    @Test
+    void refresh_종료게임_보관시간후제거() {
+        AtomicLong now = new AtomicLong(0);
+        ScoreboardIndex index = new ScoreboardIndex(10_000, now::get, new MetricsRegistry());
+        GameDto finished = game("g1", "LG", "두산");
+        index.update(finished);
+        index.update(game("g2", "KIA", "SSG"));
+
+        finished.setHomeScore(5);
+        finished.setGameOver(true);
+        index.update(finished);
+        now.set(9_999);
+        index.refresh();
+        assertEquals(2, index.size());
+        assertTrue(json(index).contains("\"homeScore\":5,\"awayScore\":0,\"inning\":1,\"top\":true,\"out\":0,\"gameOver\":true"));
+
+        now.set(10_000);
+        index.refresh();
+        assertEquals(1, index.size());
+        assertFalse(json(index).contains("\"LG\""));
+        assertTrue(json(index).contains("{\"id\":2,\"homeTeam\":\"KIA\""));
+    }
+
+    /**
+     * 라인업이 정해지기 전(타자 없음)에는 등록하지 않고, 게임 ID는 전광판에 나오지 않아야 합니다.
+     */
+    @Test
+    void update_타자없음_미등록_게임ID비공개() {
+        ScoreboardIndex index = new ScoreboardIndex(60_000, () -> 0L, new MetricsRegistry());
+        GameDto game = game("secret-game-id", "LG", "두산");
+        game.setCurrentBatter(null);
+        index.update(game);
+        index.refresh();
+        assertEquals(0, index.size());
+
+        game.setCurrentBatter(new Batter());
+        index.update(game);
+        index.refresh();
+        assertEquals(1, index.size());
+        assertFalse(json(index).contains("secret-game-id"));
+        assertTrue(json(index).contains("{\"id\":1,\"homeTeam\":\"LG\""));
+    }
+
+    /**
+     * 점수와 이닝은 비트 폭을 넘으면 최댓값으로 고정되어 다른 항목을 침범하지 않아야 합니다.
+     */
+    @Test
+    void pack_비트폭초과_최댓값고정() {
+        GameDto game = game("g1", "LG", "두산");
+        game.setHomeScore(10_000);
+        game.setInning(300);
+        GameDto normal = game("g1", "LG", "두산");
+        normal.setHomeScore(4095);
+        normal.setInning(255);
+        assertEquals(ScoreboardIndex.pack(normal), ScoreboardIndex.pack(game));
+    }
+
+    private static GameDto game(String gameId, String homeTeam, String awayTeam) {
+        GameDto game = new GameDto();
+        game.setGameId(gameId);
+        game.setHomeTeam(homeTeam);
+        game.setAwayTeam(awayTeam);
+        game.setInning(1);
+        game.setTop(true);
+        game.setCurrentBatter(new Batter());
+        return game;
+    }
+
+    private static String json(ScoreboardIndex index) {
+        return new String(index.snapshot().getJson(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,124 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+import com.baseball.game.util.GameLogicUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.function.DoubleSupplier;
+
+import static com.baseball.game.simulation.SimulationFixtures.lineup;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchGameEngineTest {
+
+    /**
+     * 미리 계산한 투구 결과 분포가 기본 전략 + GameLogicUtil로 직접 뽑은 빈도와 일치해야 합니다.
+     */
+    @Test
+    void pitchDistribution_GameLogicUtil_빈도와_일치() {
+        Batter batter = lineup("HOME", 1).getBattingOrder()[0];
+        Pitcher pitcher = lineup("AWAY", 2).getPitcher();
+        SplittableRandom rng = new SplittableRandom(3);
+        DoubleSupplier random = rng::nextDouble;
+        int samples = 200_000;
+
+        for (int balls : new int[]{0, 3}) {
+            for (int strikes : new int[]{0, 2}) {
+                double[] expected = BatchGameEngine.pitchDistribution(batter, pitcher, balls == 3, strikes == 2);
+                int[] counts = new int[BatchGameEngine.PITCH_OUTCOMES];
+                for (int i = 0; i < samples; i++) {
+                    RatingBasedPlayStrategy strategy = RatingBasedPlayStrategy.INSTANCE;
+                    String pitchType = strategy.choosePitchType(pitcher, batter, 0, balls, strikes, random);
+                    boolean swing = strategy.decideSwing(batter, pitcher, pitchType, 0, balls, strikes, random);
+                    double timing = swing ? strategy.chooseTiming(batter, pitcher, random) : 0.5;
+                    counts[code(GameLogicUtil.determineHitResultWithTiming(swing, pitcher, pitchType, timing, batter,
+                            random))]++;
+                }
+                for (int k = 0; k < counts.length; k++) {
+                    assertEquals(expected[k], counts[k] / (double) samples, 0.005,
+                            "balls=" + balls + ", strikes=" + strikes + ", outcome=" + k);
+                }
+            }
+        }
+    }
+
+    /**
+     * 배치 엔진과 경기별 엔진의 점수 분포(평균 득점, 홈 승률, 평균 이닝)가 통계적으로 같아야 합니다.
+     */
+    @Test
+    void simulate_경기별엔진과_같은분포() {
+        SimulationLineup home = lineup("HOME", 1);
+        SimulationLineup away = lineup("AWAY", 2);
+        int games = 20_000;
+
+        double[] perObject = new double[4];
+        GameSimulator simulator = new GameSimulator();
+        for (int game = 0; game < games; game++) {
+            SimulatedGame result = simulator.simulate(home, away, 9, GameSimulator.seedFor(11L, 0L, game));
+            accumulate(perObject, result.getHomeScore(), result.getAwayScore(), result.getInnings());
+        }
+
+        double[] batch = new double[4];
+        BatchGameResult result = new BatchGameEngine().simulate(home, away, 9, games, 12L);
+        for (int game = 0; game < games; game++) {
+            accumulate(batch, result.getHomeScore(game), result.getAwayScore(game), result.getInnings(game));
+        }
+
+        assertEquals(perObject[0] / games, batch[0] / games, 0.2, "홈 평균 득점");
+        assertEquals(perObject[1] / games, batch[1] / games, 0.2, "원정 평균 득점");
+        assertEquals(perObject[2] / games, batch[2] / games, 0.03, "홈 승률");
+        assertEquals(perObject[3] / games, batch[3] / games, 0.05, "평균 이닝");
+    }
+
+    /**
+     * 같은 시드면 같은 결과여야 합니다.
+     */
+    @Test
+    void simulate_같은시드_같은결과() {
+        SimulationLineup home = lineup("HOME", 1);
+        SimulationLineup away = lineup("AWAY", 2);
+        BatchGameEngine engine = new BatchGameEngine();
+
+        BatchGameResult first = engine.simulate(home, away, 9, 500, 7L);
+        BatchGameResult second = engine.simulate(home, away, 9, 500, 7L);
+        for (int game = 0; game < 500; game++) {
+            assertEquals(first.getHomeScore(game), second.getHomeScore(game));
+            assertEquals(first.getAwayScore(game), second.getAwayScore(game));
+            assertTrue(first.getInnings(game) >= 9
+                    && first.getInnings(game) <= 9 + GameSimulator.DEFAULT_EXTRA_INNING_LIMIT);
+        }
+    }
+
+    private static void accumulate(double[] totals, int homeScore, int awayScore, int innings) {
+        totals[0] += homeScore;
+        totals[1] += awayScore;
+        totals[2] += homeScore > awayScore ? 1 : 0;
+        totals[3] += innings;
+    }
+
+    private static int code(String result) {
+        switch (result) {
+            case "스트라이크":
+            case "헛스윙":
+                return BatchGameEngine.STRIKE;
+            case "볼":
+                return BatchGameEngine.BALL;
+            case "땅볼 아웃":
+                return BatchGameEngine.GROUND;
+            case "뜬공 아웃":
+                return BatchGameEngine.FLY;
+            case "안타":
+                return BatchGameEngine.SINGLE;
+            case "2루타":
+                return BatchGameEngine.DOUBLE;
+            case "3루타":
+                return BatchGameEngine.TRIPLE;
+            case "홈런":
+                return BatchGameEngine.HOME_RUN;
+            default:
+                throw new IllegalStateException(result);
+        }
+    }
+}
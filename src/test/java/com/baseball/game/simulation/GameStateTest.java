@@ -0,0 +1,72 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.dto.Batter;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.baseball.game.simulation.SimulationFixtures.lineup;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameStateTest {
+
+    /**
+     * 분기한 상태를 진행해도 원래 상태는 그대로여야 하고, 주자 정보는 BaseOutState와 일치해야 합니다.
+     */
+    @Test
+    void afterPlateAppearance_원래상태_불변() {
+        GameState root = GameState.start(lineup("HOME", 1), lineup("AWAY", 2), 9, 3);
+        Batter leadOff = root.currentBatter();
+
+        GameState single = root.fork().afterPlateAppearance(PlateAppearanceOutcome.SINGLE);
+        GameState homeRun = single.fork().afterPlateAppearance(PlateAppearanceOutcome.HOME_RUN);
+
+        assertEquals(0, root.baseOutState());
+        assertSame(leadOff, root.currentBatter());
+        assertSame(leadOff, single.getRunner(1));
+        assertEquals(BaseOutState.FIRST, single.baseOutState());
+        assertEquals(0, single.getAwayScore());
+        assertEquals(2, homeRun.getAwayScore());
+        assertEquals(0, homeRun.baseOutState());
+    }
+
+    /**
+     * 경기 시작 상태에서 분기 시뮬레이션하면 같은 시드의 일반 경기 시뮬레이션과 결과가 같아야 합니다.
+     */
+    @Test
+    void simulateFrom_시작상태_일반시뮬레이션과_같은결과() {
+        SimulationLineup home = lineup("HOME", 1);
+        SimulationLineup away = lineup("AWAY", 2);
+        GameSimulator simulator = new GameSimulator();
+        GameState start = GameState.start(home, away, 9, GameSimulator.DEFAULT_EXTRA_INNING_LIMIT);
+
+        for (long seed = 0; seed < 200; seed++) {
+            SimulatedGame expected = simulator.simulate(home, away, 9, seed);
+            SplittableRandom random = new SplittableRandom(seed);
+            SimulatedGame actual = simulator.simulateFrom(start, random::nextDouble);
+            assertEquals(expected.getHomeScore(), actual.getHomeScore(), "seed=" + seed);
+            assertEquals(expected.getAwayScore(), actual.getAwayScore(), "seed=" + seed);
+            assertEquals(expected.getInnings(), actual.getInnings(), "seed=" + seed);
+        }
+    }
+
+    /**
+     * 같은 시드면 병렬도와 관계없이 분기 집계 결과가 같아야 합니다.
+     */
+    @Test
+    void branchSimulator_병렬도무관_같은결과() {
+        GameState root = GameState.start(lineup("HOME", 1), lineup("AWAY", 2), 9, 3);
+
+        BranchSummary single = new BranchSimulator(new ForkJoinPool(1))
+                .simulate(root, 1000, 7L, () -> RatingBasedPlayStrategy.INSTANCE, 3);
+        BranchSummary parallel = new BranchSimulator(new ForkJoinPool(4))
+                .simulate(root, 1000, 7L, () -> RatingBasedPlayStrategy.INSTANCE, 3);
+
+        assertEquals(1000, single.getBranches());
+        assertEquals(single.getHomeWinProbability(), parallel.getHomeWinProbability());
+        assertEquals(single.getAverageAwayScore(), parallel.getAverageAwayScore());
+        assertEquals(1.0, single.getHomeWinProbability() + single.getAwayWinProbability()
+                + single.getTieProbability(), 1e-9);
+    }
+}
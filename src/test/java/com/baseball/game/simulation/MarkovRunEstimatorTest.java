@@ -0,0 +1,147 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MarkovRunEstimatorTest {
+
+    /**
+     * 홈런 50%, 삼진 50% 타자만 있으면 이닝당 득점은 3아웃 전 홈런 수(음이항분포)로 평균 3점입니다.
+     */
+    @Test
+    void expectedRuns_홈런삼진_해석해와일치() {
+        double[] probabilities = new double[PlateAppearanceOutcome.values().length];
+        probabilities[PlateAppearanceOutcome.HOME_RUN.ordinal()] = 0.5;
+        probabilities[PlateAppearanceOutcome.STRIKEOUT.ordinal()] = 0.5;
+        BattingProfile[] order = new BattingProfile[9];
+        Arrays.fill(order, BattingProfile.of(probabilities));
+
+        assertEquals(27.0, MarkovRunEstimator.expectedRuns(order, 9), 1e-6);
+    }
+
+    /**
+     * 볼카운트 체인으로 계산한 타석 결과 확률이 타석 시뮬레이션 빈도와 일치해야 합니다.
+     */
+    @Test
+    void battingProfile_해석해_시뮬레이션과일치() {
+        Batter[] order = batters(1);
+        Pitcher pitcher = pitcher(2);
+        GameSimulator simulator = new GameSimulator();
+        for (int i = 0; i < 3; i++) {
+            BattingProfile exact = BattingProfile.of(order[i], pitcher);
+            BattingProfile estimated = BattingProfile.estimate(simulator, order[i], pitcher, 200_000, i);
+            double total = 0.0;
+            for (PlateAppearanceOutcome outcome : PlateAppearanceOutcome.values()) {
+                total += exact.probability(outcome);
+                assertEquals(estimated.probability(outcome), exact.probability(outcome), 0.005,
+                        "batter=" + i + ", outcome=" + outcome);
+            }
+            assertEquals(1.0, total, 1e-9);
+        }
+    }
+
+    /**
+     * 마르코프 기대 득점이 같은 타순의 공격 시뮬레이션 평균 득점과 일치해야 합니다.
+     */
+    @Test
+    void expectedRuns_시뮬레이션평균과일치() {
+        Batter[] order = batters(3);
+        Pitcher pitcher = pitcher(4);
+        BattingProfile[] profiles = new BattingProfile[order.length];
+        for (int i = 0; i < order.length; i++) {
+            profiles[i] = BattingProfile.of(order[i], pitcher);
+        }
+
+        GameSimulator simulator = new GameSimulator();
+        int games = 20_000;
+        double sum = 0.0;
+        for (int game = 0; game < games; game++) {
+            SplittableRandom rng = new SplittableRandom(GameSimulator.seedFor(5L, 0L, game));
+            sum += simulator.simulateOffense(order, pitcher, 9, rng::nextDouble);
+        }
+
+        assertEquals(sum / games, MarkovRunEstimator.expectedRuns(profiles, 9), 0.1);
+    }
+
+    /**
+     * RE24 표의 무사 주자 없음 값은 이닝 기대 득점과 같고, 다음 이닝 선두타자 확률의 합은 1이어야 합니다.
+     */
+    @Test
+    void solve_기대득점표_일관성() {
+        Batter[] order = batters(6);
+        Pitcher pitcher = pitcher(7);
+        BattingProfile[] profiles = new BattingProfile[order.length];
+        for (int i = 0; i < order.length; i++) {
+            profiles[i] = BattingProfile.of(order[i], pitcher);
+        }
+
+        RunExpectancy expectancy = MarkovRunEstimator.solve(profiles);
+        for (int leadoff = 0; leadoff < order.length; leadoff++) {
+            assertEquals(expectancy.getInningRuns(leadoff), expectancy.getExpectedRuns(0, leadoff), 1e-12);
+            double total = 0.0;
+            for (int next = 0; next < order.length; next++) {
+                total += expectancy.getNextLeadoffProbability(leadoff, next);
+            }
+            assertEquals(1.0, total, 1e-9);
+            // 2사 만루가 무사 주자 없음보다 기대 득점이 높음
+            assertTrue(expectancy.getExpectedRuns(BaseOutState.encode(2, 7), leadoff)
+                    > expectancy.getExpectedRuns(BaseOutState.encode(2, 0), leadoff));
+        }
+    }
+
+    /**
+     * 아웃 확률이 0이면 기대 득점이 무한대이므로 예외가 발생해야 합니다.
+     */
+    @Test
+    void solve_아웃없는타순_예외() {
+        double[] probabilities = new double[PlateAppearanceOutcome.values().length];
+        probabilities[PlateAppearanceOutcome.WALK.ordinal()] = 1.0;
+        BattingProfile[] order = {BattingProfile.of(probabilities)};
+
+        assertThrows(IllegalArgumentException.class, () -> MarkovRunEstimator.solve(order));
+    }
+
+    /**
+     * 모든 순열 번호가 서로 다른 순열로 변환되고, 키 변환이 왕복되는지 확인합니다.
+     */
+    @Test
+    void permutation_키변환_왕복() {
+        int[] order = new int[9];
+        BattingOrderOptimizer.permutation(0, order);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8}, order);
+        BattingOrderOptimizer.permutation(362_879, order);
+        assertArrayEquals(new int[]{8, 7, 6, 5, 4, 3, 2, 1, 0}, order);
+
+        BattingOrderOptimizer.permutation(123_456, order);
+        assertArrayEquals(order, BattingOrderOptimizer.decode(BattingOrderOptimizer.encode(order)));
+    }
+
+    private static Batter[] batters(long seed) {
+        Random random = new Random(seed);
+        Batter[] order = new Batter[9];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = new Batter();
+            order[i].setName("타자" + i);
+            order[i].setContact(40 + random.nextInt(40));
+            order[i].setPower(40 + random.nextInt(40));
+            order[i].setEye(40 + random.nextInt(40));
+        }
+        return order;
+    }
+
+    private static Pitcher pitcher(long seed) {
+        Random random = new Random(seed);
+        Pitcher pitcher = new Pitcher();
+        pitcher.setName("투수");
+        pitcher.setControl(40 + random.nextInt(40));
+        pitcher.setSpeed(40 + random.nextInt(40));
+        return pitcher;
+    }
+}
@@ -0,0 +1,75 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MatchupDistributionCacheTest {
+
+    /**
+     * 키는 능력치와 이닝 수로만 정해지고, 능력치 하나만 달라도 다른 키가 되어야 합니다.
+     */
+    @Test
+    void keyOf_능력치기반() {
+        SimulationLineup home = lineup("HOME", 60);
+        SimulationLineup away = lineup("AWAY", 50);
+        long key = MatchupDistributionCache.keyOf(home, away, 9, 3);
+
+        assertEquals(key, MatchupDistributionCache.keyOf(lineup("다른이름", 60), lineup("AWAY", 50), 9, 3));
+        assertNotEquals(key, MatchupDistributionCache.keyOf(away, home, 9, 3));
+        assertNotEquals(key, MatchupDistributionCache.keyOf(home, away, 7, 3));
+        home.getBattingOrder()[4].setContact(61);
+        assertNotEquals(key, MatchupDistributionCache.keyOf(home, away, 9, 3));
+    }
+
+    /**
+     * 용량을 넘으면 가장 오래 사용하지 않은 항목부터 빠지고, 저장/복원 후에도 LRU 순서가 유지되어야 합니다.
+     */
+    @Test
+    void lru_저장복원() throws Exception {
+        MatchupDistribution distribution = MatchupDistribution.of(
+                new BatchGameEngine().simulate(lineup("HOME", 60), lineup("AWAY", 50), 9, 200, 1L));
+        MatchupDistributionCache cache = new MatchupDistributionCache(2, null);
+        cache.put(1L, distribution);
+        cache.put(2L, distribution);
+        assertNotNull(cache.get(1L)); // 1이 가장 최근 사용
+        cache.put(3L, distribution); // 2가 빠짐
+
+        assertNull(cache.get(2L));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cache.write(out);
+
+        MatchupDistributionCache restored = new MatchupDistributionCache(2, null);
+        assertEquals(2, restored.read(new ByteArrayInputStream(out.toByteArray())));
+        restored.put(4L, distribution); // 복원 순서상 가장 오래된 1이 빠져야 함
+        assertNull(restored.get(1L));
+        MatchupDistribution copy = restored.get(3L);
+        assertEquals(distribution.getGames(), copy.getGames());
+        assertEquals(distribution.getHomeWinProbability(), copy.getHomeWinProbability());
+        assertArrayEquals(distribution.getAwayRunDistribution(), copy.getAwayRunDistribution(), 0.0);
+    }
+
+    private static SimulationLineup lineup(String teamName, int rating) {
+        List<Batter> battingOrder = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            Batter batter = new Batter();
+            batter.setName(teamName + "-타자" + i);
+            batter.setContact(rating + i);
+            batter.setPower(rating - i);
+            batter.setEye(rating);
+            battingOrder.add(batter);
+        }
+        Pitcher pitcher = new Pitcher();
+        pitcher.setName(teamName + "-투수");
+        pitcher.setControl(rating);
+        pitcher.setSpeed(rating);
+        return new SimulationLineup(teamName, battingOrder, pitcher);
+    }
+}
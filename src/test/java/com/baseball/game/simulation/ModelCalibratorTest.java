@@ -0,0 +1,93 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.util.GameModelParameters;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.baseball.game.simulation.SimulationFixtures.lineup;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ModelCalibratorTest {
+
+    /**
+     * 기준 손잡이 값을 적용하면 기준 파라미터와 같은 분포가 나와야 합니다.
+     */
+    @Test
+    void apply_기준손잡이_기준파라미터재현() {
+        ModelCalibrator calibrator = new ModelCalibrator(rotations(), GameModelParameters.DEFAULT, 10, 8, 1);
+        GameModelParameters applied = calibrator.apply(calibrator.baselineKnobs(), GameModelParameters.DEFAULT.getVersion());
+
+        for (int level = 0; level < GameModelParameters.MISS_LEVELS; level++) {
+            assertEquals(GameModelParameters.DEFAULT.getMissChance(level), applied.getMissChance(level), 1e-12);
+        }
+        for (int level = 0; level < GameModelParameters.HIT_LEVELS; level++) {
+            assertArrayEquals(GameModelParameters.DEFAULT.getHitDistribution(level), applied.getHitDistribution(level), 1e-12);
+        }
+        assertEquals(GameModelParameters.DEFAULT.getDoublePlayChance(), applied.getDoublePlayChance(), 1e-12);
+        assertEquals(GameModelParameters.DEFAULT.strikeAccuracy(70), applied.strikeAccuracy(70), 1e-12);
+    }
+
+    /**
+     * 알려진 손잡이 값으로 측정한 기록을 목표로 주면 그 기록을 다시 찾아내야 하고,
+     * 같은 시드면 스레드 수와 관계없이 같은 결과가 나와야 합니다.
+     */
+    @Test
+    void calibrate_알려진파라미터_기록복원() {
+        ModelCalibrator calibrator = new ModelCalibrator(rotations(), GameModelParameters.DEFAULT, 1500, 16, 12);
+        GameModelParameters truth = calibrator.apply(new double[]{0.75, 0.12, 1.3, 1.4, 0.7, 0.6, 0.25}, "truth");
+        LeagueRates target = calibrator.measure(truth, 20_000, 99);
+        double baselineError = calibrator.measure(GameModelParameters.DEFAULT, 20_000, 99).relativeError(target);
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool parallel = new ForkJoinPool(4);
+        try {
+            CalibrationResult result = calibrator.calibrate(target, "test", 7, single, null);
+            CalibrationResult again = calibrator.calibrate(target, "test", 7, parallel, null);
+
+            assertEquals("test", result.getParameters().getVersion());
+            assertTrue(result.getError() < 0.02, "error=" + result.getError() + ", rates=" + result.getRates());
+            assertTrue(result.getError() < baselineError / 50, "baseline=" + baselineError + ", error=" + result.getError());
+            assertEquals(target.getBattingAverage(), result.getRates().getBattingAverage(), target.getBattingAverage() * 0.05);
+            assertEquals(target.getStrikeoutRate(), result.getRates().getStrikeoutRate(), target.getStrikeoutRate() * 0.05);
+            assertEquals(result.getParameters(), again.getParameters());
+            assertEquals(result.getError(), again.getError(), 0.0);
+        } finally {
+            single.shutdownNow();
+            parallel.shutdownNow();
+        }
+    }
+
+    /**
+     * 파라미터 파일로 저장하고 다시 읽으면 같은 파라미터여야 하고, 기본 리소스는 기준 파라미터와 같아야 합니다.
+     */
+    @Test
+    void write_read_왕복() throws Exception {
+        ModelCalibrator calibrator = new ModelCalibrator(rotations(), GameModelParameters.DEFAULT, 10, 8, 1);
+        GameModelParameters parameters = calibrator.apply(new double[]{0.8, 0.15, 1.1, 1.2, 0.9, 0.7, 0.2}, "round-trip");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        parameters.write(out, "왕복 테스트");
+
+        GameModelParameters read = GameModelParameters.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals("round-trip", read.getVersion());
+        for (int level = 0; level < GameModelParameters.HIT_LEVELS; level++) {
+            assertArrayEquals(parameters.getHitDistribution(level), read.getHitDistribution(level), 1e-6);
+        }
+        assertEquals(parameters.getDoublePlayChance(), read.getDoublePlayChance(), 1e-6);
+        assertEquals(GameModelParameters.DEFAULT, GameModelParameters.loadResource(GameModelParameters.DEFAULT_RESOURCE));
+    }
+
+    private static List<List<SimulationLineup>> rotations() {
+        List<List<SimulationLineup>> rotations = new ArrayList<>();
+        for (int team = 0; team < 4; team++) {
+            rotations.add(Arrays.asList(lineup("TEAM" + team, team * 2 + 1), lineup("TEAM" + team, team * 2 + 2)));
+        }
+        return rotations;
+    }
+}
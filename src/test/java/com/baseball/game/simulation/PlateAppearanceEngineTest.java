@@ -0,0 +1,94 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+import com.baseball.game.util.GameLogicUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static com.baseball.game.simulation.SimulationFixtures.lineup;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlateAppearanceEngineTest {
+
+    /**
+     * 타석 결과 비율(삼진, 볼넷, 안타 종류, 땅볼, 뜬공, 병살)이 투구 단위 타석 시뮬레이션과 일치해야 합니다.
+     * 병살이 가능한 상황(무사 1루)과 불가능한 상황(주자 없음)을 모두 확인합니다.
+     */
+    @Test
+    void sample_투구단위모델과_타석결과비율일치() {
+        SimulationLineup offense = lineup("HOME", 1);
+        Pitcher pitcher = lineup("AWAY", 2).getPitcher();
+        double[] table = PlateAppearanceEngine.cumulativeTable(offense.getBattingOrder(), pitcher,
+                GameLogicUtil.getParameters());
+        GameSimulator simulator = new GameSimulator();
+        int samples = 200_000;
+
+        for (int state : new int[]{0, BaseOutState.FIRST}) {
+            Batter batter = offense.getBattingOrder()[0];
+            SplittableRandom pitchRng = new SplittableRandom(3);
+            SplittableRandom fastRng = new SplittableRandom(4);
+            int[] pitchLevel = new int[PlateAppearanceOutcome.values().length];
+            int[] fast = new int[PlateAppearanceOutcome.values().length];
+            for (int i = 0; i < samples; i++) {
+                pitchLevel[simulator.simulatePlateAppearance(batter, pitcher, state, pitchRng::nextDouble).ordinal()]++;
+                fast[PlateAppearanceEngine.sample(table, 0, state, fastRng.nextDouble())]++;
+            }
+            for (PlateAppearanceOutcome outcome : PlateAppearanceOutcome.values()) {
+                int index = outcome.ordinal();
+                assertEquals(pitchLevel[index] / (double) samples, fast[index] / (double) samples, 0.005,
+                        "state=" + state + ", outcome=" + outcome);
+            }
+        }
+    }
+
+    /**
+     * 타석 단위 엔진과 투구 단위 엔진의 경기 결과 분포(평균 득점, 홈 승률, 평균 이닝)가 통계적으로 같아야 합니다.
+     */
+    @Test
+    void simulate_투구단위엔진과_같은분포() {
+        SimulationLineup home = lineup("HOME", 1);
+        SimulationLineup away = lineup("AWAY", 2);
+        int games = 20_000;
+
+        double[] pitchLevel = new double[4];
+        double[] fast = new double[4];
+        GameSimulator simulator = new GameSimulator();
+        PlateAppearanceEngine engine = new PlateAppearanceEngine();
+        for (int game = 0; game < games; game++) {
+            accumulate(pitchLevel, simulator.simulate(home, away, 9, GameSimulator.seedFor(11L, 0L, game)));
+            accumulate(fast, engine.simulate(home, away, 9, GameSimulator.seedFor(12L, 0L, game)));
+        }
+
+        assertEquals(pitchLevel[0] / games, fast[0] / games, 0.2, "홈 평균 득점");
+        assertEquals(pitchLevel[1] / games, fast[1] / games, 0.2, "원정 평균 득점");
+        assertEquals(pitchLevel[2] / games, fast[2] / games, 0.03, "홈 승률");
+        assertEquals(pitchLevel[3] / games, fast[3] / games, 0.05, "평균 이닝");
+    }
+
+    /**
+     * 같은 시드면 같은 결과여야 합니다.
+     */
+    @Test
+    void simulate_같은시드_같은결과() {
+        SimulationLineup home = lineup("HOME", 1);
+        SimulationLineup away = lineup("AWAY", 2);
+        PlateAppearanceEngine engine = new PlateAppearanceEngine();
+
+        for (int game = 0; game < 500; game++) {
+            SimulatedGame first = engine.simulate(home, away, 9, game);
+            SimulatedGame second = new PlateAppearanceEngine().simulate(home, away, 9, game);
+            assertEquals(first.getHomeScore(), second.getHomeScore());
+            assertEquals(first.getAwayScore(), second.getAwayScore());
+            assertEquals(first.getInnings(), second.getInnings());
+        }
+    }
+
+    private static void accumulate(double[] totals, SimulatedGame game) {
+        totals[0] += game.getHomeScore();
+        totals[1] += game.getAwayScore();
+        totals[2] += game.isHomeWin() ? 1 : 0;
+        totals[3] += game.getInnings();
+    }
+}
@@ -0,0 +1,45 @@
+package com.baseball.game.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PolicyTableTest {
+
+    /**
+     * 저장한 표를 다시 읽으면 1바이트 양자화 오차(1/255) 안에서 같은 확률이어야 합니다.
+     */
+    @Test
+    void writeRead_왕복() throws IOException {
+        PolicyTable table = new PolicyTable();
+        int cell = PolicyTable.cell(4, 0, 23, 3, 2);
+        table.setStrikeProbability(cell, 0.8);
+        table.setSwingProbability(cell, "strike", 0.9);
+        table.setSwingProbability(cell, "ball", 0.1);
+        table.setTimingSigma(4, 0.14);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        table.write(out);
+        PolicyTable read = PolicyTable.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(0.8, read.strikeProbability(cell), 1.0 / 255);
+        assertEquals(0.9, read.swingProbability(cell, "strike"), 1.0 / 255);
+        assertEquals(0.1, read.swingProbability(cell, "ball"), 1.0 / 255);
+        assertEquals(0.14, read.timingSigma(4), 1e-6);
+        assertEquals(0.0, read.strikeProbability(0));
+    }
+
+    /**
+     * 배포되는 기본 정책 표가 클래스패스에 있고, 3볼 0스트라이크에서는 투수가 스트라이크를 더 많이 던져야 합니다.
+     */
+    @Test
+    void loadResource_기본정책표() throws IOException {
+        PolicyTable table = PolicyTable.loadResource(PolicyTable.DEFAULT_RESOURCE);
+        assertNotNull(table);
+        assertTrue(table.strikeProbability(PolicyTable.cell(2, 2, 0, 3, 0)) > 0.5);
+    }
+}
@@ -0,0 +1,162 @@
+package com.baseball.game.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RuleEngineTest {
+
+    /**
+     * 기본 규칙에서 타석을 끝내는 결과는 BaseOutState(시뮬레이션 엔진)와 같은 아웃, 주자, 득점이 나와야 합니다.
+     */
+    @Test
+    void apply_타석결과_BaseOutState와일치() {
+        RuleEngine engine = RuleEngine.compile(GameRules.STANDARD, 9);
+        Map<PitchEvent, PlateAppearanceOutcome> outcomes = new EnumMap<>(PitchEvent.class);
+        outcomes.put(PitchEvent.STRIKEOUT, PlateAppearanceOutcome.STRIKEOUT);
+        outcomes.put(PitchEvent.SINGLE, PlateAppearanceOutcome.SINGLE);
+        outcomes.put(PitchEvent.DOUBLE, PlateAppearanceOutcome.DOUBLE);
+        outcomes.put(PitchEvent.TRIPLE, PlateAppearanceOutcome.TRIPLE);
+        outcomes.put(PitchEvent.HOME_RUN, PlateAppearanceOutcome.HOME_RUN);
+        outcomes.put(PitchEvent.GROUND_OUT, PlateAppearanceOutcome.GROUND_OUT);
+        outcomes.put(PitchEvent.FLY_OUT, PlateAppearanceOutcome.FLY_OUT);
+        outcomes.put(PitchEvent.DOUBLE_PLAY, PlateAppearanceOutcome.DOUBLE_PLAY);
+
+        for (int state = 0; state < BaseOutState.STATES; state++) {
+            int outs = BaseOutState.outs(state);
+            int bases = BaseOutState.bases(state);
+            for (Map.Entry<PitchEvent, PlateAppearanceOutcome> entry : outcomes.entrySet()) {
+                if (entry.getKey() == PitchEvent.DOUBLE_PLAY && (outs == 2 || (bases & BaseOutState.FIRST) == 0)) {
+                    continue; // 병살이 불가능한 상황은 규칙 엔진에서 땅볼 아웃으로 처리
+                }
+                int result = engine.apply(RuleEngine.state(1, 2, outs, bases), entry.getKey());
+                assertMatches(state, BaseOutState.transition(state, entry.getValue()), result, entry.getKey());
+            }
+            // 3볼에서 볼 하나면 볼넷
+            int walk = engine.apply(RuleEngine.state(3, 1, outs, bases), PitchEvent.BALL);
+            assertMatches(state, BaseOutState.transition(state, PlateAppearanceOutcome.WALK), walk, PitchEvent.BALL);
+        }
+    }
+
+    /**
+     * 볼카운트 규칙: 2스트라이크 파울은 카운트 유지, 규칙에 따라 볼넷/삼진 기준이 달라짐
+     */
+    @Test
+    void apply_볼카운트규칙() {
+        RuleEngine standard = RuleEngine.compile(GameRules.STANDARD, 9);
+        int foul = standard.apply(RuleEngine.state(0, 2, 0, 0), PitchEvent.FOUL);
+        assertFalse(RuleEngine.isPlateAppearanceOver(foul));
+        assertEquals(2, RuleEngine.strikes(RuleEngine.nextState(foul)));
+        int ball = standard.apply(RuleEngine.state(2, 0, 0, 0), PitchEvent.BALL);
+        assertFalse(RuleEngine.isPlateAppearanceOver(ball));
+        assertEquals(3, RuleEngine.balls(RuleEngine.nextState(ball)));
+
+        RuleEngine quick = RuleEngine.compile(GameRules.QUICK, 9);
+        int walk = quick.apply(RuleEngine.state(2, 0, 0, 0), PitchEvent.BALL);
+        assertTrue(RuleEngine.isPlateAppearanceOver(walk));
+        assertEquals(BaseOutState.FIRST, RuleEngine.bases(RuleEngine.nextState(walk)));
+        int strikeout = quick.apply(RuleEngine.state(0, 1, 0, 0), PitchEvent.STRIKE);
+        assertTrue(RuleEngine.isPlateAppearanceOver(strikeout));
+        assertEquals(1, RuleEngine.outs(RuleEngine.nextState(strikeout)));
+        assertThrows(IllegalStateException.class, () -> quick.apply(RuleEngine.state(3, 0, 0, 0), PitchEvent.BALL));
+    }
+
+    /**
+     * 주자별 이동 위치: 1·3루 볼넷은 3루 주자가 그대로, 만루 볼넷은 3루 주자 득점
+     */
+    @Test
+    void destination_주자별이동() {
+        RuleEngine engine = RuleEngine.compile(GameRules.STANDARD, 9);
+        int cornersWalk = engine.apply(RuleEngine.state(3, 0, 0, BaseOutState.FIRST | BaseOutState.THIRD), PitchEvent.BALL);
+        assertEquals(1, RuleEngine.destination(cornersWalk, RuleEngine.BATTER));
+        assertEquals(2, RuleEngine.destination(cornersWalk, 1));
+        assertEquals(3, RuleEngine.destination(cornersWalk, 3));
+        assertEquals(0, RuleEngine.runs(cornersWalk));
+
+        int loadedWalk = engine.apply(RuleEngine.state(3, 0, 0, 7), PitchEvent.BALL);
+        assertEquals(RuleEngine.HOME, RuleEngine.destination(loadedWalk, 3));
+        assertEquals(1, RuleEngine.runs(loadedWalk));
+
+        int doublePlay = engine.apply(RuleEngine.state(0, 0, 0, BaseOutState.FIRST | BaseOutState.SECOND), PitchEvent.DOUBLE_PLAY);
+        assertEquals(RuleEngine.OUT, RuleEngine.destination(doublePlay, 1));
+        assertEquals(2, RuleEngine.destination(doublePlay, 2));
+        assertEquals(2, RuleEngine.outs(RuleEngine.nextState(doublePlay)));
+
+        int steal = engine.advance(BaseOutState.SECOND | BaseOutState.THIRD, 1);
+        assertEquals(1, RuleEngine.runs(steal));
+        assertEquals(3, RuleEngine.destination(steal, 2));
+    }
+
+    /**
+     * 경기 종료 판정: 연장, 연장 제한 무승부, 말 공격 생략, 끝내기, 콜드게임
+     */
+    @Test
+    void gameStatus_규칙별종료판정() {
+        RuleEngine standard = RuleEngine.compile(GameRules.STANDARD, 9);
+        assertEquals(RuleEngine.IN_PROGRESS, standard.gameStatus(8, false, true, 5, 1));
+        assertEquals(RuleEngine.HOME_WIN, standard.gameStatus(9, true, true, 3, 2));
+        assertEquals(RuleEngine.IN_PROGRESS, standard.gameStatus(9, true, true, 2, 3));
+        assertEquals(RuleEngine.AWAY_WIN, standard.gameStatus(9, false, true, 2, 3));
+        assertEquals(RuleEngine.IN_PROGRESS, standard.gameStatus(9, false, true, 3, 3));
+        assertEquals(RuleEngine.IN_PROGRESS, standard.gameStatus(30, false, true, 3, 3));
+        assertEquals(RuleEngine.HOME_WIN, standard.gameStatus(11, false, false, 4, 3)); // 끝내기
+        assertEquals(RuleEngine.IN_PROGRESS, standard.gameStatus(8, false, false, 4, 3));
+
+        RuleEngine kbo = RuleEngine.compile(GameRules.KBO, 9);
+        assertEquals(RuleEngine.IN_PROGRESS, kbo.gameStatus(11, false, true, 3, 3));
+        assertEquals(RuleEngine.TIE, kbo.gameStatus(12, false, true, 3, 3));
+
+        RuleEngine amateur = RuleEngine.compile(GameRules.AMATEUR, 7);
+        assertEquals(RuleEngine.IN_PROGRESS, amateur.gameStatus(4, false, true, 10, 0));
+        assertEquals(RuleEngine.HOME_WIN, amateur.gameStatus(5, true, true, 10, 0));
+        assertEquals(RuleEngine.IN_PROGRESS, amateur.gameStatus(5, true, true, 0, 10)); // 홈팀 말 공격은 진행
+        assertEquals(RuleEngine.AWAY_WIN, amateur.gameStatus(5, false, true, 0, 10));
+        assertEquals(RuleEngine.HOME_WIN, amateur.gameStatus(6, false, false, 12, 2));
+        assertEquals(RuleEngine.TIE, amateur.gameStatus(7, false, true, 1, 1));
+    }
+
+    /**
+     * 승부치기 주자는 연장 이닝에만 규칙에 정한 베이스에 배치됩니다.
+     */
+    @Test
+    void ghostRunnerBases_연장이닝만() {
+        RuleEngine mlb = RuleEngine.compile(GameRules.MLB, 9);
+        assertEquals(0, mlb.ghostRunnerBases(9));
+        assertEquals(BaseOutState.SECOND, mlb.ghostRunnerBases(10));
+        assertEquals(BaseOutState.SECOND, mlb.ghostRunnerBases(17));
+        assertEquals(BaseOutState.FIRST | BaseOutState.SECOND, RuleEngine.compile(GameRules.WBSC, 9).ghostRunnerBases(10));
+        assertEquals(0, RuleEngine.compile(GameRules.STANDARD, 9).ghostRunnerBases(10));
+    }
+
+    /**
+     * 규칙 이름 조회와 컴파일된 표 공유
+     */
+    @Test
+    void forGame_이름조회_표공유() {
+        assertSame(GameRules.STANDARD, GameRules.of(null));
+        assertSame(GameRules.KBO, GameRules.of("kbo"));
+        assertThrows(IllegalArgumentException.class, () -> GameRules.of("없는규칙"));
+        assertSame(RuleEngine.forGame("mlb", 9), RuleEngine.forGame("mlb", 9));
+        assertNotSame(RuleEngine.forGame("mlb", 9), RuleEngine.forGame("mlb", 7));
+        assertEquals(PitchEvent.STRIKE, PitchEvent.fromResult("헛스윙"));
+        assertEquals(PitchEvent.HOME_RUN, PitchEvent.fromResult("홈런!"));
+    }
+
+    private static void assertMatches(int state, int expected, int result, PitchEvent event) {
+        String message = "state=" + state + ", event=" + event;
+        assertTrue(RuleEngine.isPlateAppearanceOver(result), message);
+        int next = RuleEngine.nextState(result);
+        assertEquals(0, RuleEngine.balls(next), message);
+        assertEquals(0, RuleEngine.strikes(next), message);
+        if (BaseOutState.isInningOver(BaseOutState.state(expected))) {
+            assertEquals(3, RuleEngine.outs(next), message);
+            return;
+        }
+        assertEquals(BaseOutState.runs(expected), RuleEngine.runs(result), message);
+        assertEquals(BaseOutState.state(expected),
+                BaseOutState.encode(RuleEngine.outs(next), RuleEngine.bases(next)), message);
+    }
+}
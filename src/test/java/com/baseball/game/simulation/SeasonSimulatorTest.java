@@ -0,0 +1,83 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SeasonSimulatorTest {
+
+    /**
+     * 2라운드 일정에서 모든 팀 쌍이 홈/원정으로 한 번씩 만나고, 하루에 두 경기를 치르는 팀이 없는지 확인합니다.
+     */
+    @Test
+    void roundRobin_홈원정_균형() {
+        int teams = 5;
+        RoundRobinSchedule schedule = RoundRobinSchedule.build(teams, 2);
+        int[][] meetings = new int[teams][teams];
+        for (int day = 0; day < schedule.getDayCount(); day++) {
+            boolean[] playing = new boolean[teams];
+            for (int[] game : schedule.getGames(day)) {
+                assertFalse(playing[game[0]] || playing[game[1]], "하루에 두 경기: day=" + day);
+                playing[game[0]] = true;
+                playing[game[1]] = true;
+                meetings[game[0]][game[1]]++;
+            }
+        }
+        for (int home = 0; home < teams; home++) {
+            for (int away = 0; away < teams; away++) {
+                assertEquals(home == away ? 0 : 1, meetings[home][away], home + " vs " + away);
+            }
+        }
+        assertEquals(8, schedule.getGamesPerTeam());
+    }
+
+    /**
+     * 같은 시드면 fork/join 병렬도와 관계없이 시즌 결과가 같아야 합니다.
+     */
+    @Test
+    void simulate_같은시드_병렬도무관_같은결과() {
+        SeasonSimulator simulator = new SeasonSimulator(new GameSimulator(), RoundRobinSchedule.build(4, 2),
+                league(4), 9);
+
+        SeasonTally single = simulator.simulate(new ForkJoinPool(1), 42L, 0);
+        SeasonTally parallel = simulator.simulate(new ForkJoinPool(4), 42L, 0);
+
+        int games = 0;
+        for (int team = 0; team < 4; team++) {
+            assertEquals(single.getWins(team), parallel.getWins(team));
+            assertEquals(single.getRunDifferential(team), parallel.getRunDifferential(team));
+            games += single.getWins(team) + single.getLosses(team) + single.getTies(team);
+        }
+        assertEquals(4 * 6, games);
+    }
+
+    private static List<List<SimulationLineup>> league(int teams) {
+        Random random = new Random(1);
+        List<List<SimulationLineup>> rotations = new ArrayList<>();
+        for (int team = 0; team < teams; team++) {
+            List<Batter> battingOrder = new ArrayList<>();
+            for (int i = 0; i < 9; i++) {
+                Batter batter = new Batter();
+                batter.setName("TEAM" + team + "-타자" + i);
+                batter.setContact(40 + random.nextInt(40));
+                batter.setPower(40 + random.nextInt(40));
+                batter.setEye(40 + random.nextInt(40));
+                battingOrder.add(batter);
+            }
+            Pitcher pitcher = new Pitcher();
+            pitcher.setName("TEAM" + team + "-투수");
+            pitcher.setControl(40 + random.nextInt(40));
+            pitcher.setSpeed(40 + random.nextInt(40));
+            rotations.add(Collections.singletonList(new SimulationLineup("TEAM" + team, battingOrder, pitcher)));
+        }
+        return rotations;
+    }
+}
@@ -0,0 +1,38 @@
+package com.baseball.game.simulation;
+
+import com.baseball.game.dto.Batter;
+import com.baseball.game.dto.Pitcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 시뮬레이션 테스트 공용 라인업
+ */
+public final class SimulationFixtures {
+
+    private SimulationFixtures() {
+    }
+
+    /**
+     * 시드로 능력치(40~79)를 정한 9명 타순과 선발 투수 (투수 이름에 시드를 붙여 같은 팀의 로테이션끼리 구분)
+     */
+    public static SimulationLineup lineup(String teamName, long seed) {
+        Random random = new Random(seed);
+        List<Batter> battingOrder = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            Batter batter = new Batter();
+            batter.setName(teamName + "-타자" + i);
+            batter.setContact(40 + random.nextInt(40));
+            batter.setPower(40 + random.nextInt(40));
+            batter.setEye(40 + random.nextInt(40));
+            battingOrder.add(batter);
+        }
+        Pitcher pitcher = new Pitcher();
+        pitcher.setName(teamName + "-투수" + seed);
+        pitcher.setControl(40 + random.nextInt(40));
+        pitcher.setSpeed(40 + random.nextInt(40));
+        return new SimulationLineup(teamName, battingOrder, pitcher);
+    }
+}
@@ -0,0 +1,116 @@
+package com.baseball.game.websocket;
+
+import com.baseball.game.dto.CompactGameState;
+import com.baseball.game.dto.GameCommandRequest;
+import com.baseball.game.exception.ValidationException;
+import com.baseball.game.simulation.BaseOutState;
+import com.baseball.game.simulation.PitchEvent;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameFrameCodecTest {
+
+    /**
+     * 명령 프레임은 일괄 명령과 같은 GameCommandRequest로 변환되어야 합니다.
+     */
+    @Test
+    void decodeCommand_명령별변환() {
+        ByteBuffer swing = GameFrameCodec.encodeCommand(GameFrameCodec.OP_SWING, 65535, true, 0.4321);
+        assertEquals(GameFrameCodec.COMMAND_FRAME_LENGTH, swing.remaining());
+        assertEquals(65535, GameFrameCodec.sequence(swing));
+        GameCommandRequest command = GameFrameCodec.decodeCommand("game-1", swing);
+        assertEquals("game-1", command.getGameId());
+        assertEquals("swing", command.getType());
+        assertTrue(command.getSwing());
+        assertEquals(0.4321, command.getTiming(), 1e-9);
+
+        GameCommandRequest take = GameFrameCodec.decodeCommand("game-1",
+                GameFrameCodec.encodeCommand(GameFrameCodec.OP_SWING, 1, false, null));
+        assertFalse(take.getSwing());
+        assertNull(take.getTiming());
+
+        GameCommandRequest pitch = GameFrameCodec.decodeCommand("game-1",
+                GameFrameCodec.encodeCommand(GameFrameCodec.OP_PITCH, 2, true, null));
+        assertEquals("pitch", pitch.getType());
+        assertEquals("strike", pitch.getPitchType());
+
+        assertEquals("next-inning", GameFrameCodec.decodeCommand("game-1",
+                GameFrameCodec.encodeCommand(GameFrameCodec.OP_NEXT_INNING, 3, false, null)).getType());
+    }
+
+    /**
+     * 길이, 명령 코드, 인자, 타이밍 범위가 잘못된 프레임은 거부해야 합니다.
+     */
+    @Test
+    void decodeCommand_잘못된프레임_거부() {
+        assertThrows(ValidationException.class, () -> GameFrameCodec.decodeCommand("game-1", ByteBuffer.allocate(5)));
+        assertThrows(ValidationException.class, () -> GameFrameCodec.decodeCommand("game-1",
+                GameFrameCodec.encodeCommand((byte) 9, 1, false, null)));
+        ByteBuffer badArgument = GameFrameCodec.encodeCommand(GameFrameCodec.OP_PITCH, 1, false, null);
+        badArgument.put(3, (byte) 2);
+        assertThrows(ValidationException.class, () -> GameFrameCodec.decodeCommand("game-1", badArgument));
+        ByteBuffer badTiming = GameFrameCodec.encodeCommand(GameFrameCodec.OP_SWING, 1, true, null);
+        badTiming.putShort(4, (short) (GameFrameCodec.TIMING_SCALE + 1));
+        assertThrows(ValidationException.class, () -> GameFrameCodec.decodeCommand("game-1", badTiming));
+        assertEquals(0, GameFrameCodec.sequence(ByteBuffer.allocate(1)));
+    }
+
+    /**
+     * 상태 프레임은 14바이트 고정 길이로 볼카운트, 주자, 점수, 타순, 버전을 담아야 합니다.
+     */
+    @Test
+    void encodeState_고정길이배치() {
+        CompactGameState state = new CompactGameState();
+        state.setInning(10);
+        state.setTop(false);
+        state.setBall(3);
+        state.setStrike(2);
+        state.setOut(1);
+        state.setBases(BaseOutState.FIRST | BaseOutState.THIRD);
+        state.setAwayScore(4);
+        state.setHomeScore(300); // 255 초과는 255로 고정
+        state.setBattingSlot(8);
+        state.setGameOver(true);
+        state.setVersion(0x1_0000_0007L);
+
+        ByteBuffer frame = GameFrameCodec.encodeState(513, "홈런!", state);
+        assertEquals(GameFrameCodec.STATE_FRAME_LENGTH, frame.remaining());
+        assertEquals(GameFrameCodec.FRAME_STATE, frame.get(0));
+        assertEquals(513, GameFrameCodec.sequence(frame));
+        assertEquals(PitchEvent.HOME_RUN.ordinal() + 1, frame.get(3));
+        assertEquals(3 << 4 | 2 << 2 | 1, frame.get(4) & 0xFF);
+        assertEquals(5 | 1 << 4 | GameFrameCodec.WINNER_HOME << 5, frame.get(5) & 0xFF);
+        assertEquals(10, frame.get(6));
+        assertEquals(4, frame.get(7) & 0xFF);
+        assertEquals(255, frame.get(8) & 0xFF);
+        assertEquals(8, frame.get(9));
+        assertEquals(7, frame.getInt(10));
+
+        assertEquals(0, GameFrameCodec.encodeState(0, "1회 말", state).get(3));
+    }
+
+    /**
+     * 오류 메시지가 길면 UTF-8 문자 중간에서 자르지 않아야 합니다.
+     */
+    @Test
+    void encodeError_문자경계에서자름() {
+        StringBuilder message = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            message.append("가"); // 3바이트 문자
+        }
+        ByteBuffer frame = GameFrameCodec.encodeError(7, message.toString());
+        assertEquals(GameFrameCodec.FRAME_ERROR, frame.get(0));
+        assertEquals(7, GameFrameCodec.sequence(frame));
+        int length = frame.remaining() - 3;
+        assertTrue(length <= GameFrameCodec.MAX_ERROR_BYTES);
+        assertEquals(0, length % 3);
+        byte[] text = new byte[length];
+        frame.position(3);
+        frame.get(text);
+        assertEquals(message.substring(0, length / 3), new String(text, StandardCharsets.UTF_8));
+    }
+}